@@ -0,0 +1,29 @@
+package io.github.habatoo.autoconfigurations;
+
+import io.github.habatoo.controllers.CommentController;
+import io.github.habatoo.controllers.PostController;
+import io.github.habatoo.dispatcher.BatchRequestDispatcher;
+import io.github.habatoo.dispatcher.impl.BatchRequestDispatcherImpl;
+import io.github.habatoo.handlers.GlobalExceptionHandler;
+import io.github.habatoo.property.BatchProperties;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Автоматическая конфигурация пакетного endpoint для Spring Boot 3 через AutoConfiguration.
+ * Регистрирует диспетчер пакетных запросов с настройками из {@link BatchProperties}.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(BatchProperties.class)
+public class BatchAutoConfiguration {
+
+    @Bean
+    public BatchRequestDispatcher batchRequestDispatcher(
+            BatchProperties batchProperties,
+            PostController postController,
+            CommentController commentController,
+            GlobalExceptionHandler globalExceptionHandler) {
+        return new BatchRequestDispatcherImpl(batchProperties, postController, commentController, globalExceptionHandler);
+    }
+}
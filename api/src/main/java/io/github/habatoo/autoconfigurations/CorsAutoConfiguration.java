@@ -4,6 +4,7 @@ import io.github.habatoo.property.CorsProperties;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.config.annotation.CorsRegistration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -20,12 +21,15 @@ public class CorsAutoConfiguration {
         return new WebMvcConfigurer() {
             @Override
             public void addCorsMappings(CorsRegistry registry) {
-                registry.addMapping(corsProperties.pathPattern())
+                CorsRegistration registration = registry.addMapping(corsProperties.pathPattern())
                         .allowedOriginPatterns(corsProperties.allowedOriginPatterns().toArray(new String[0]))
                         .allowedMethods(corsProperties.allowedMethods().toArray(new String[0]))
                         .allowedHeaders(corsProperties.allowedHeaders())
                         .allowCredentials(corsProperties.allowCredentials())
                         .maxAge(corsProperties.maxAge());
+                if (corsProperties.exposedHeaders() != null) {
+                    registration.exposedHeaders(corsProperties.exposedHeaders().toArray(new String[0]));
+                }
             }
         };
     }
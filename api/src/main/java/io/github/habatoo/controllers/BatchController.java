@@ -0,0 +1,54 @@
+package io.github.habatoo.controllers;
+
+import io.github.habatoo.dispatcher.BatchRequestDispatcher;
+import io.github.habatoo.dto.request.BatchRequestDto;
+import io.github.habatoo.dto.response.BatchResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для выполнения пакетных запросов.
+ *
+ * <p>Позволяет клиенту отправить несколько GET запросов к API постов и комментариев
+ * одним HTTP запросом. Подзапросы выполняются параллельно, ответ содержит статус
+ * и тело каждого подзапроса в порядке их следования в пакете.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    private final BatchRequestDispatcher batchRequestDispatcher;
+
+    /**
+     * Конструктор контроллера пакетных запросов.
+     *
+     * @param batchRequestDispatcher диспетчер для выполнения подзапросов пакета
+     */
+    public BatchController(BatchRequestDispatcher batchRequestDispatcher) {
+        this.batchRequestDispatcher = batchRequestDispatcher;
+    }
+
+    /**
+     * Выполняет пакет GET подзапросов.
+     *
+     * <p>Ошибка отдельного подзапроса не прерывает выполнение пакета: она возвращается
+     * в виде статуса и тела ошибки соответствующего элемента ответа.</p>
+     *
+     * @param batchRequest пакет подзапросов
+     * @return ответ со статусом 200 OK и результатами всех подзапросов
+     * @throws IllegalArgumentException если пакет пуст или превышает допустимый размер
+     */
+    @PostMapping
+    public ResponseEntity<BatchResponseDto> executeBatch(@RequestBody BatchRequestDto batchRequest) {
+        log.info("Запрос на выполнение пакета из {} подзапросов",
+                batchRequest.requests() == null ? 0 : batchRequest.requests().size());
+        BatchResponseDto result = batchRequestDispatcher.dispatch(batchRequest);
+
+        return ResponseEntity.ok(result);
+    }
+}
@@ -3,8 +3,10 @@ package io.github.habatoo.controllers;
 import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.request.CommentRequestDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
 import io.github.habatoo.handlers.GlobalExceptionHandler;
 import io.github.habatoo.service.CommentService;
+import io.github.habatoo.service.dto.CommentPage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -24,6 +26,7 @@ import java.util.List;
  * @see CommentService
  * @see CommentResponseDto
  * @see CommentCreateRequestDto
+ * @see ThreadedCommentResponseDto
  * @see GlobalExceptionHandler
  */
 @Slf4j
@@ -31,6 +34,11 @@ import java.util.List;
 @RequestMapping("/api/posts")
 public class CommentController {
 
+    /**
+     * Заголовок ответа с курсором следующей страницы комментариев.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CommentService commentService;
 
     /**
@@ -43,22 +51,81 @@ public class CommentController {
     }
 
     /**
-     * Получает все комментарии для указанного поста.
+     * Получает страницу комментариев для указанного поста.
      *
      * <p>Обрабатывает GET запросы по пути {@code /api/posts/{postId}/comments}
-     * и возвращает список всех комментариев, связанных с указанным постом,
-     * в формате JSON. Комментарии возвращаются в порядке их создания.</p>
+     * и возвращает комментарии, связанные с указанным постом, в формате JSON.
+     * Комментарии возвращаются в порядке их создания. Если страница заполнена полностью, курсор
+     * следующей страницы возвращается в заголовке {@value #NEXT_CURSOR_HEADER}; его значение
+     * передаётся в параметре {@code after} следующего запроса.</p>
      *
      * @param postId идентификатор поста, для которого запрашиваются комментарии. Должен быть положительным числом
+     * @param after  идентификатор последнего комментария предыдущей страницы; не указывается для первой страницы
+     * @param limit  количество комментариев на странице; если не указано, используется значение по умолчанию
      * @return список комментариев к посту в формате JSON. Пустой список если комментарии отсутствуют
-     * @throws IllegalArgumentException если идентификатор поста невалиден
+     * @throws IllegalArgumentException если идентификатор поста или limit невалидны
      * @throws DataAccessException      при ошибках доступа к данным
      */
     @GetMapping("/{postId}/comments")
-    public List<CommentResponseDto> getCommentsByPostId(@PathVariable("postId") Long postId) {
-        log.info("Запрос на получение комментариев для поста id={}", postId);
+    public ResponseEntity<List<CommentResponseDto>> getCommentsByPostId(
+            @PathVariable("postId") Long postId,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        log.info("Запрос на получение комментариев для поста id={}: after={}, limit={}", postId, after, limit);
+        CommentPage page = commentService.getCommentsByPostId(postId, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+
+        return response.body(page.comments());
+    }
+
+    /**
+     * Получает страницу веток комментариев для указанного поста.
+     *
+     * <p>Обрабатывает GET запросы по пути {@code /api/posts/{postId}/comments/threads}.
+     * Возвращает комментарии верхнего уровня вместе со всеми ответами на них плоским списком
+     * в порядке обхода в глубину; дерево восстанавливается по {@code parentId}. Для получения
+     * следующей страницы в параметре {@code after} передаётся идентификатор последнего
+     * комментария верхнего уровня текущей.</p>
+     *
+     * @param postId идентификатор поста, для которого запрашиваются ветки
+     * @param after  идентификатор последнего комментария верхнего уровня предыдущей страницы; не указывается для первой страницы
+     * @param limit  количество комментариев верхнего уровня на странице; если не указано, используется значение по умолчанию
+     * @return список комментариев веток в формате JSON. Пустой список если комментарии отсутствуют
+     * @throws IllegalArgumentException если limit невалиден
+     * @throws DataAccessException      при ошибках доступа к данным
+     */
+    @GetMapping("/{postId}/comments/threads")
+    public List<ThreadedCommentResponseDto> getCommentThreads(
+            @PathVariable("postId") Long postId,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        log.info("Запрос на получение веток комментариев для поста id={}: after={}, limit={}", postId, after, limit);
+
+        return commentService.getCommentThreads(postId, after, limit);
+    }
+
+    /**
+     * Получает комментарий вместе со всеми ответами на него.
+     *
+     * <p>Обрабатывает GET запросы по пути {@code /api/posts/{postId}/comments/{commentId}/thread}.
+     * Первым в списке идёт сам комментарий, за ним ответы в порядке обхода в глубину.</p>
+     *
+     * @param postId    идентификатор поста, к которому принадлежит комментарий
+     * @param commentId идентификатор комментария, с которого начинается ветка
+     * @return список комментариев ветки в формате JSON
+     * @throws EmptyResultDataAccessException если комментарий не найден или не принадлежит посту
+     * @throws DataAccessException            при ошибках доступа к данным
+     */
+    @GetMapping("/{postId}/comments/{commentId}/thread")
+    public List<ThreadedCommentResponseDto> getCommentThread(
+            @PathVariable("postId") Long postId,
+            @PathVariable("commentId") Long commentId) {
+        log.info("Запрос на получение ветки комментария id={} для поста id={}", commentId, postId);
 
-        return commentService.getCommentsByPostId(postId);
+        return commentService.getCommentThread(postId, commentId);
     }
 
     /**
@@ -109,6 +176,30 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Создает ответ на комментарий.
+     *
+     * <p>Обрабатывает POST запросы по пути {@code /api/posts/{postId}/comments/{commentId}/replies}.
+     * Ответ на комментарий максимальной глубины сохраняется рядом с ним.</p>
+     *
+     * @param postId               идентификатор поста, к которому принадлежит комментарий
+     * @param commentId            идентификатор комментария, на который дан ответ
+     * @param commentCreateRequest DTO с данными ответа. Текст ответа обязателен
+     * @return ResponseEntity с созданным ответом и статусом 201 Created
+     * @throws EmptyResultDataAccessException если комментарий не найден или не принадлежит посту
+     * @throws DataAccessException            при ошибках сохранения данных
+     */
+    @PostMapping("/{postId}/comments/{commentId}/replies")
+    public ResponseEntity<ThreadedCommentResponseDto> createReply(
+            @PathVariable("postId") Long postId,
+            @PathVariable("commentId") Long commentId,
+            @RequestBody CommentCreateRequestDto commentCreateRequest) {
+        log.info("Запрос на создание ответа на комментарий id={} к посту id={}", commentId, postId);
+        ThreadedCommentResponseDto result = commentService.createReply(commentId, commentCreateRequest);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * Обновляет существующий комментарий к посту.
      *
@@ -135,7 +226,7 @@ public class CommentController {
     }
 
     /**
-     * Удаляет комментарий у указанного поста.
+     * Удаляет комментарий у указанного поста вместе со всеми ответами на него.
      *
      * <p>Обрабатывает DELETE запросы по пути {@code /api/posts/{postId}/comments/{commentId}}
      * для удаления комментария. Проверяет существование комментария и его принадлежность посту
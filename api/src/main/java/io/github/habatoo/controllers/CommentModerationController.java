@@ -0,0 +1,59 @@
+package io.github.habatoo.controllers;
+
+import io.github.habatoo.dto.request.CommentBatchDeleteRequestDto;
+import io.github.habatoo.dto.response.CommentBatchDeleteResponseDto;
+import io.github.habatoo.service.CommentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для модерации комментариев.
+ *
+ * <p>Позволяет удалить пакет комментариев одним HTTP запросом и одной транзакцией
+ * вместо отдельного запроса на каждый комментарий.</p>
+ *
+ * @see CommentService
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/comments")
+public class CommentModerationController {
+
+    private final CommentService commentService;
+
+    /**
+     * Конструктор контроллера модерации комментариев.
+     *
+     * @param commentService сервис для бизнес-логики работы с комментариями
+     */
+    public CommentModerationController(CommentService commentService) {
+        this.commentService = commentService;
+    }
+
+    /**
+     * Удаляет пакет комментариев вместе со всеми ответами на них.
+     *
+     * <p>Комментарии выбираются списком идентификаторов {@code ids} либо подстрокой текста
+     * {@code textContains}, которую можно ограничить постом {@code postId}. Счётчики комментариев
+     * затронутых постов исправляются тем же запросом, что удаляет комментарии.</p>
+     *
+     * @param request идентификаторы комментариев или фильтр по тексту и посту
+     * @return ответ со статусом 200 OK и количеством удалённых комментариев, всего и по постам
+     * @throws IllegalArgumentException если не указаны ни идентификаторы, ни фильтр, указаны оба
+     *                                  или количество идентификаторов превышает допустимое
+     * @throws DataAccessException      при ошибках удаления данных
+     */
+    @PostMapping("/batch-delete")
+    public ResponseEntity<CommentBatchDeleteResponseDto> deleteComments(
+            @RequestBody CommentBatchDeleteRequestDto request) {
+        log.info("Запрос на пакетное удаление комментариев");
+        CommentBatchDeleteResponseDto result = commentService.deleteComments(request);
+
+        return ResponseEntity.ok(result);
+    }
+}
@@ -1,11 +1,17 @@
 package io.github.habatoo.controllers;
 
 import io.github.habatoo.handlers.GlobalExceptionHandler;
+import io.github.habatoo.properties.ImageHttpProperties;
 import io.github.habatoo.service.ImageService;
+import io.github.habatoo.service.dto.ImageMetadata;
 import io.github.habatoo.service.dto.ImageResponseDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,7 +22,11 @@ import org.springframework.web.multipart.MultipartFile;
  * <p>Предоставляет REST API для загрузки и получения изображений, связанных с постами.
  * Поддерживает операции обновления и получения изображений в формате multipart/form-data.</p>
  *
+ * <p>Ответы с изображением содержат строгий ETag, Last-Modified и Cache-Control. Условный запрос
+ * с совпадающим If-None-Match получает ответ 304 по метаданным из кэша, без обращения к диску.</p>
+ *
  * @see ImageService
+ * @see ImageHttpProperties
  * @see GlobalExceptionHandler
  */
 @Slf4j
@@ -24,10 +34,16 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/api/posts")
 public class ImageController {
 
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
     private final ImageService imageService;
+    private final CacheControl cacheControl;
 
-    public ImageController(ImageService imageService) {
+    public ImageController(ImageService imageService, ImageHttpProperties imageHttpProperties) {
         this.imageService = imageService;
+        this.cacheControl = imageHttpProperties.maxAge().isPositive()
+                ? CacheControl.maxAge(imageHttpProperties.maxAge()).cachePublic()
+                : CacheControl.noCache().cachePublic();
     }
 
     /**
@@ -60,24 +76,96 @@ public class ImageController {
      * Получает изображение для указанного поста.
      *
      * <p>Обрабатывает GET запросы по пути {@code /api/posts/{postId}/image}
-     * для получения изображения, связанного с постом. Возвращает массив байт
-     * изображения с соответствующим Content-Type.</p>
+     * для получения изображения, связанного с постом. Файл изображения не читается
+     * в память: он записывается в ответ потоком с соответствующими Content-Type и Content-Length.</p>
+     *
+     * <p>Сервис вызывается один раз: ресурс строится по метаданным изображения и открывается только
+     * при записи тела. Если If-None-Match совпадает с тегом версии изображения, возвращается 304
+     * без чтения файла. If-Modified-Since и заголовок Range обрабатываются Spring MVC для ответа
+     * с ресурсом: в первом случае возвращается 304, во втором 206 с запрошенными частями файла.</p>
      *
      * <p><strong>Тип ответа:</strong> image/* (зависит от формата сохраненного изображения)</p>
      *
-     * @param postId идентификатор поста, для которого запрашивается изображение
-     * @return ResponseEntity с массивом байт изображения и соответствующим Content-Type
+     * @param postId         идентификатор поста, для которого запрашивается изображение
+     * @param requestHeaders заголовки запроса
+     * @return ResponseEntity с файлом изображения и соответствующим Content-Type
      * @throws EmptyResultDataAccessException если пост с указанным ID не найден
      * @throws EmptyResultDataAccessException если изображение для поста не найдено
      * @throws DataAccessException            при ошибках доступа к базе данных
      */
     @GetMapping("/{postId}/image")
-    public ResponseEntity<byte[]> getPostImage(@PathVariable("postId") Long postId) {
+    public ResponseEntity<Resource> getPostImage(
+            @PathVariable("postId") Long postId,
+            @RequestHeader HttpHeaders requestHeaders) {
         log.info("Запрос на получение изображения для поста id={}", postId);
         ImageResponseDto imageResponse = imageService.getPostImage(postId);
+        if (isNotModified(requestHeaders, imageResponse.metadata())) {
+            return notModified(imageResponse.metadata());
+        }
         return ResponseEntity.ok()
+                .headers(cacheHeaders(imageResponse.metadata()))
                 .contentType(imageResponse.mediaType())
-                .body(imageResponse.data());
+                .body(imageResponse.image());
+    }
+
+    /**
+     * Возвращает заголовки изображения для указанного поста без его содержимого.
+     *
+     * <p>Обрабатывает HEAD запросы по пути {@code /api/posts/{postId}/image}. Размер, тип
+     * и тег версии берутся из метаданных изображения, файл изображения не читается.</p>
+     *
+     * @param postId         идентификатор поста, для которого запрашивается изображение
+     * @param requestHeaders заголовки запроса
+     * @return ResponseEntity с заголовками изображения без тела
+     * @throws EmptyResultDataAccessException если пост с указанным ID не найден
+     * @throws DataAccessException            при ошибках доступа к базе данных
+     */
+    @RequestMapping(path = "/{postId}/image", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> headPostImage(
+            @PathVariable("postId") Long postId,
+            @RequestHeader HttpHeaders requestHeaders) {
+        log.debug("Запрос на получение заголовков изображения для поста id={}", postId);
+        ImageMetadata metadata = imageService.getPostImageMetadata(postId);
+        if (isNotModified(requestHeaders, metadata)) {
+            return notModified(metadata);
+        }
+        return ResponseEntity.ok()
+                .headers(cacheHeaders(metadata))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(metadata.mediaType())
+                .contentLength(metadata.size())
+                .build();
+    }
+
+    private <T> ResponseEntity<T> notModified(ImageMetadata metadata) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .headers(cacheHeaders(metadata))
+                .build();
+    }
+
+    private HttpHeaders cacheHeaders(ImageMetadata metadata) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(metadata.eTag());
+        headers.setCacheControl(cacheControl);
+        if (metadata.lastModified() != null) {
+            headers.setLastModified(metadata.lastModified());
+        }
+
+        return headers;
+    }
+
+    /**
+     * Проверяет If-None-Match слабым сравнением тегов, как того требует RFC 9110 для этого заголовка.
+     */
+    private static boolean isNotModified(HttpHeaders requestHeaders, ImageMetadata metadata) {
+        for (String tag : requestHeaders.getIfNoneMatch()) {
+            String opaqueTag = tag.startsWith(WEAK_ETAG_PREFIX) ? tag.substring(WEAK_ETAG_PREFIX.length()) : tag;
+            if ("*".equals(tag) || metadata.eTag().equals(opaqueTag)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
 }
@@ -0,0 +1,52 @@
+package io.github.habatoo.controllers;
+
+import io.github.habatoo.dto.request.LikeBatchRequestDto;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
+import io.github.habatoo.service.LikeBatchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для пакетной записи лайков.
+ *
+ * <p>Позволяет клиенту накапливать лайки нескольких постов и отправлять их одним HTTP запросом
+ * вместо отдельного запроса на каждый лайк.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/likes")
+public class LikeController {
+
+    private final LikeBatchService likeBatchService;
+
+    /**
+     * Конструктор контроллера лайков.
+     *
+     * @param likeBatchService сервис пакетной записи лайков
+     */
+    public LikeController(LikeBatchService likeBatchService) {
+        this.likeBatchService = likeBatchService;
+    }
+
+    /**
+     * Применяет пакет лайков.
+     *
+     * <p>Повторная отправка пакета с тем же ключом идемпотентности не увеличивает счётчики
+     * повторно и возвращает их текущие значения.</p>
+     *
+     * @param likeBatchRequest пакет лайков с ключом идемпотентности
+     * @return ответ со статусом 200 OK и количеством лайков постов пакета
+     * @throws IllegalArgumentException если ключ пуст, пакет пуст или превышает допустимый размер
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<LikeBatchResponseDto> applyLikes(@RequestBody LikeBatchRequestDto likeBatchRequest) {
+        log.info("Запрос на применение пакета лайков key={}", likeBatchRequest.idempotencyKey());
+        LikeBatchResponseDto result = likeBatchService.applyLikes(likeBatchRequest);
+
+        return ResponseEntity.ok(result);
+    }
+}
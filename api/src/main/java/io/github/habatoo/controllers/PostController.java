@@ -12,6 +12,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 /**
  * Контроллер для управления постами блога.
  *
@@ -114,6 +116,30 @@ public class PostController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Частично обновляет пост.
+     *
+     * <p>Принимает документ JSON Merge Patch (RFC 7396): изменяются только переданные поля,
+     * {@code "tags": null} удаляет все теги поста. Поле {@code textDiff} позволяет передать правки
+     * текста вместо нового текста целиком; если текст поста изменился после получения клиентом,
+     * возвращается 409 Conflict.</p>
+     *
+     * @param id    идентификатор обновляемого поста
+     * @param patch документ JSON Merge Patch
+     * @return обновленный пост
+     * @throws IllegalArgumentException                                   если документ невалиден
+     * @throws EmptyResultDataAccessException                             если пост с указанным ID не найден
+     * @throws org.springframework.dao.OptimisticLockingFailureException если правки относятся к устаревшей версии текста
+     */
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    public ResponseEntity<PostResponseDto> patchPost(
+            @PathVariable("id") Long id,
+            @RequestBody Map<String, Object> patch) {
+        log.info("Запрос на частичное обновление поста id={}", id);
+        PostResponseDto result = postService.patchPost(id, patch);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Удаляет пост по идентификатору.
      *
@@ -0,0 +1,102 @@
+package io.github.habatoo.controllers;
+
+import io.github.habatoo.dto.response.PostEventDto;
+import io.github.habatoo.properties.PostEventProperties;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Контроллер потока событий поста.
+ *
+ * <p>Вместо периодического запроса комментариев и поста клиент открывает одно соединение
+ * Server-Sent Events и получает создание, изменение и удаление комментариев и новое количество
+ * лайков. Соединение обслуживается асинхронно: пока событий нет, оно не занимает поток сервера.</p>
+ *
+ * @see PostEventBroadcaster
+ * @see PostEventProperties
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/posts")
+public class PostEventController {
+
+    private final PostService postService;
+    private final PostEventBroadcaster postEventBroadcaster;
+    private final PostEventProperties postEventProperties;
+
+    /**
+     * Конструктор контроллера событий поста.
+     *
+     * @param postService          сервис для проверки существования поста
+     * @param postEventBroadcaster рассылка событий поста
+     * @param postEventProperties  настройки потока событий
+     */
+    public PostEventController(
+            PostService postService,
+            PostEventBroadcaster postEventBroadcaster,
+            PostEventProperties postEventProperties) {
+        this.postService = postService;
+        this.postEventBroadcaster = postEventBroadcaster;
+        this.postEventProperties = postEventProperties;
+    }
+
+    /**
+     * Открывает поток событий поста.
+     *
+     * <p>Обрабатывает GET запросы по пути {@code /api/posts/{id}/events}. Имя каждого события
+     * совпадает с его типом, данные содержат событие целиком в формате JSON. Количество лайков
+     * отправляется не чаще одного раза за интервал. Служебные события отправляются SSE-комментарием.
+     * После удаления поста поток закрывается.</p>
+     *
+     * @param id идентификатор поста
+     * @return поток событий поста
+     * @throws EmptyResultDataAccessException если пост не найден
+     */
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@PathVariable("id") Long id) {
+        log.info("Запрос на подписку на события поста id={}", id);
+        if (postService.getPostById(id).isEmpty()) {
+            throw new EmptyResultDataAccessException("Пост не найден", 1);
+        }
+
+        SseEmitter emitter = new SseEmitter(postEventProperties.timeout().toMillis());
+        Runnable unsubscribe = postEventBroadcaster.subscribe(id, new SseSubscriber(emitter));
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        return emitter;
+    }
+
+    /**
+     * Получатель событий поста, записывающий их в соединение Server-Sent Events.
+     */
+    private record SseSubscriber(SseEmitter emitter) implements PostEventBroadcaster.Subscriber {
+
+        @Override
+        public void send(PostEventDto event) throws IOException {
+            if (PostEventBroadcaster.HEARTBEAT.equals(event.type())) {
+                emitter.send(SseEmitter.event().comment(PostEventBroadcaster.HEARTBEAT));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .name(event.type())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
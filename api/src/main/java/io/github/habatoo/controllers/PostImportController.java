@@ -0,0 +1,51 @@
+package io.github.habatoo.controllers;
+
+import io.github.habatoo.dto.response.PostImportResultDto;
+import io.github.habatoo.service.PostImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * Контроллер для массового импорта постов.
+ *
+ * <p>Принимает тело запроса в формате NDJSON и передаёт его в сервис импорта потоком,
+ * не загружая весь файл в память.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/posts/import")
+public class PostImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final PostImportService postImportService;
+
+    /**
+     * Конструктор контроллера импорта постов.
+     *
+     * @param postImportService сервис массового импорта постов
+     */
+    public PostImportController(PostImportService postImportService) {
+        this.postImportService = postImportService;
+    }
+
+    /**
+     * Импортирует посты из тела запроса.
+     *
+     * @param ndjson тело запроса, по одному посту в строке
+     * @return ответ со статусом 200 OK и итогами импорта
+     * @throws IllegalArgumentException если тело запроса содержит невалидный JSON
+     */
+    @PostMapping(consumes = NDJSON)
+    public ResponseEntity<PostImportResultDto> importPosts(InputStream ndjson) {
+        log.info("Запрос на импорт постов");
+        PostImportResultDto result = postImportService.importPosts(ndjson);
+
+        return ResponseEntity.ok(result);
+    }
+}
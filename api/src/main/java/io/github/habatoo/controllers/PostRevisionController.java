@@ -0,0 +1,67 @@
+package io.github.habatoo.controllers;
+
+import io.github.habatoo.dto.response.PostRevisionResponseDto;
+import io.github.habatoo.dto.response.PostRevisionSummaryDto;
+import io.github.habatoo.service.PostRevisionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Контроллер истории версий постов.
+ *
+ * <p>Позволяет просмотреть список сохранённых версий поста и восстановить текст любой из них.</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/posts/{postId}/revisions")
+public class PostRevisionController {
+
+    private final PostRevisionService postRevisionService;
+
+    /**
+     * Конструктор контроллера истории версий постов.
+     *
+     * @param postRevisionService сервис истории версий постов
+     */
+    public PostRevisionController(PostRevisionService postRevisionService) {
+        this.postRevisionService = postRevisionService;
+    }
+
+    /**
+     * Возвращает список версий поста.
+     *
+     * <p>Для каждой версии указаны размер текста и размер хранимых данных, по которым видна
+     * экономия от хранения дельт.</p>
+     *
+     * @param postId идентификатор поста
+     * @return версии поста в порядке убывания номера
+     */
+    @GetMapping
+    public ResponseEntity<List<PostRevisionSummaryDto>> getRevisions(@PathVariable("postId") Long postId) {
+        log.debug("Запрос списка версий поста id={}", postId);
+        return ResponseEntity.ok(postRevisionService.getRevisions(postId));
+    }
+
+    /**
+     * Возвращает версию поста.
+     *
+     * @param postId   идентификатор поста
+     * @param revision номер версии
+     * @return заголовок и текст поста в указанной версии
+     * @throws EmptyResultDataAccessException если версия не найдена
+     */
+    @GetMapping("/{revision}")
+    public ResponseEntity<PostRevisionResponseDto> getRevision(
+            @PathVariable("postId") Long postId,
+            @PathVariable("revision") int revision) {
+        log.debug("Запрос версии {} поста id={}", revision, postId);
+        return ResponseEntity.ok(postRevisionService.getRevision(postId, revision));
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.habatoo.dispatcher;
+
+import io.github.habatoo.dto.request.BatchRequestDto;
+import io.github.habatoo.dto.response.BatchResponseDto;
+
+/**
+ * Интерфейс для выполнения пакетных запросов.
+ *
+ * <p>Разбирает подзапросы пакета, сопоставляет их с GET endpoints контроллеров
+ * и выполняет внутри процесса, без повторного прохождения HTTP стека.</p>
+ */
+public interface BatchRequestDispatcher {
+
+    /**
+     * Выполняет все подзапросы пакета и собирает результаты в один ответ.
+     *
+     * @param batchRequest пакет подзапросов
+     * @return ответ со статусом и телом каждого подзапроса в порядке запроса
+     * @throws IllegalArgumentException если пакет пуст или превышает допустимый размер
+     */
+    BatchResponseDto dispatch(BatchRequestDto batchRequest);
+}
@@ -0,0 +1,276 @@
+package io.github.habatoo.dispatcher.impl;
+
+import io.github.habatoo.controllers.CommentController;
+import io.github.habatoo.controllers.PostController;
+import io.github.habatoo.dispatcher.BatchRequestDispatcher;
+import io.github.habatoo.dto.request.BatchItemRequestDto;
+import io.github.habatoo.dto.request.BatchRequestDto;
+import io.github.habatoo.dto.response.BatchItemResponseDto;
+import io.github.habatoo.dto.response.BatchResponseDto;
+import io.github.habatoo.handlers.GlobalExceptionHandler;
+import io.github.habatoo.property.BatchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Реализация выполнения пакетных запросов.
+ *
+ * <p>Каждый подзапрос выполняется в отдельном виртуальном потоке. Количество одновременно
+ * выполняемых подзапросов ограничено общим для всех пакетов семафором, чтобы пакетные
+ * запросы не занимали весь пул соединений с базой данных. Ошибки подзапросов преобразуются
+ * в статус и тело ответа через {@link GlobalExceptionHandler}, так же как для обычных запросов.</p>
+ *
+ * @see BatchProperties
+ * @see PostController
+ * @see CommentController
+ */
+@Slf4j
+public class BatchRequestDispatcherImpl implements BatchRequestDispatcher, DisposableBean {
+
+    private static final String GET = "GET";
+
+    private final BatchProperties batchProperties;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final Map<PathPattern, BatchRoute> routes = new LinkedHashMap<>();
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BatchRequestDispatcherImpl(
+            BatchProperties batchProperties,
+            PostController postController,
+            CommentController commentController,
+            GlobalExceptionHandler exceptionHandler) {
+        this.batchProperties = batchProperties;
+        this.exceptionHandler = exceptionHandler;
+        this.permits = new Semaphore(batchProperties.maxConcurrency());
+        registerRoutes(postController, commentController);
+        log.info("BatchRequestDispatcher инициализирован: maxRequests={}, maxConcurrency={}, timeout={}",
+                batchProperties.maxRequests(), batchProperties.maxConcurrency(), batchProperties.timeout());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BatchResponseDto dispatch(BatchRequestDto batchRequest) {
+        List<BatchItemRequestDto> items = validate(batchRequest);
+        long deadline = System.nanoTime() + batchProperties.timeout().toNanos();
+
+        List<Future<BatchItemResponseDto>> futures = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BatchItemRequestDto item = items.get(i);
+            String itemId = resolveId(item, i);
+            futures.add(executor.submit(() -> executeWithPermit(itemId, item, deadline)));
+        }
+
+        List<BatchItemResponseDto> responses = new ArrayList<>(items.size());
+        for (int i = 0; i < futures.size(); i++) {
+            responses.add(awaitResponse(futures.get(i), resolveId(items.get(i), i), deadline));
+        }
+        log.debug("Пакет из {} подзапросов выполнен", items.size());
+
+        return new BatchResponseDto(responses);
+    }
+
+    /**
+     * Останавливает пул виртуальных потоков при остановке контекста.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private List<BatchItemRequestDto> validate(BatchRequestDto batchRequest) {
+        if (batchRequest == null || batchRequest.requests() == null || batchRequest.requests().isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one request");
+        }
+        if (batchRequest.requests().size() > batchProperties.maxRequests()) {
+            throw new IllegalArgumentException(
+                    "Batch size exceeds limit of " + batchProperties.maxRequests() + " requests");
+        }
+
+        return batchRequest.requests();
+    }
+
+    private String resolveId(BatchItemRequestDto item, int index) {
+        return item == null || item.id() == null ? String.valueOf(index) : item.id();
+    }
+
+    private BatchItemResponseDto awaitResponse(Future<BatchItemResponseDto> future, String itemId, long deadline) {
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Подзапрос id={} пакета не уложился в таймаут", itemId);
+            return errorResponse(itemId, HttpStatus.GATEWAY_TIMEOUT, "Batch sub-request timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return errorResponse(itemId, HttpStatus.SERVICE_UNAVAILABLE, "Batch sub-request interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            Exception exception = cause instanceof Exception ex ? ex : new IllegalStateException(cause);
+            return toItemResponse(itemId, handleException(exception));
+        }
+    }
+
+    private BatchItemResponseDto executeWithPermit(String itemId, BatchItemRequestDto item, long deadline) {
+        try {
+            if (!permits.tryAcquire(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                return errorResponse(itemId, HttpStatus.SERVICE_UNAVAILABLE, "Batch concurrency limit exceeded");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return errorResponse(itemId, HttpStatus.SERVICE_UNAVAILABLE, "Batch sub-request interrupted");
+        }
+
+        try {
+            return toItemResponse(itemId, execute(item));
+        } catch (Exception e) {
+            return toItemResponse(itemId, handleException(e));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private ResponseEntity<?> execute(BatchItemRequestDto item) {
+        if (item == null || item.path() == null || item.path().isBlank()) {
+            throw new IllegalArgumentException("Sub-request path cannot be empty");
+        }
+        String method = item.method() == null ? GET : item.method().toUpperCase(Locale.ROOT);
+        if (!GET.equals(method)) {
+            return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
+                    .body(Map.of("error", "Only GET sub-requests are supported"));
+        }
+
+        UriComponents uri = UriComponentsBuilder.fromUriString(item.path()).build();
+        PathContainer pathContainer = PathContainer.parsePath(uri.getPath() == null ? "" : uri.getPath());
+        for (Map.Entry<PathPattern, BatchRoute> route : routes.entrySet()) {
+            PathPattern.PathMatchInfo matchInfo = route.getKey().matchAndExtract(pathContainer);
+            if (matchInfo != null) {
+                return route.getValue().handle(matchInfo.getUriVariables(), uri.getQueryParams());
+            }
+        }
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Unsupported batch path: " + item.path()));
+    }
+
+    /**
+     * Сопоставляет исключение подзапроса с обработчиком {@link GlobalExceptionHandler}.
+     */
+    private ResponseEntity<?> handleException(Exception e) {
+        if (e instanceof EmptyResultDataAccessException notFound) {
+            return exceptionHandler.handleNotFound(notFound);
+        }
+        if (e instanceof IllegalArgumentException badRequest) {
+            return exceptionHandler.handleBadRequest(badRequest);
+        }
+        if (e instanceof DataAccessException dataAccess) {
+            return exceptionHandler.handleDataAccessException(dataAccess);
+        }
+
+        return exceptionHandler.handleGenericException(e);
+    }
+
+    private BatchItemResponseDto toItemResponse(String itemId, ResponseEntity<?> response) {
+        return new BatchItemResponseDto(itemId, response.getStatusCode().value(), response.getBody(),
+                response.getHeaders().toSingleValueMap());
+    }
+
+    private BatchItemResponseDto errorResponse(String itemId, HttpStatus status, String message) {
+        return new BatchItemResponseDto(itemId, status.value(), Map.of("error", message), Map.of());
+    }
+
+    /**
+     * Регистрирует GET endpoints, доступные для пакетного выполнения.
+     */
+    private void registerRoutes(PostController postController, CommentController commentController) {
+        routes.put(parsePattern("/api/posts"), (variables, params) -> postController.getPosts(
+                queryParam(params, "search"),
+                intQueryParam(params, "pageNumber"),
+                intQueryParam(params, "pageSize")));
+        routes.put(parsePattern("/api/posts/{id}"), (variables, params) ->
+                postController.getPostById(longVariable(variables, "id")));
+        routes.put(parsePattern("/api/posts/{postId}/comments"), (variables, params) ->
+                commentController.getCommentsByPostId(
+                        longVariable(variables, "postId"),
+                        optionalLongQueryParam(params, "after"),
+                        optionalIntQueryParam(params, "limit")));
+        routes.put(parsePattern("/api/posts/{postId}/comments/{commentId}"), (variables, params) ->
+                commentController.getCommentByPostIdAndId(
+                        longVariable(variables, "postId"),
+                        longVariable(variables, "commentId")));
+    }
+
+    private static PathPattern parsePattern(String pattern) {
+        return PathPatternParser.defaultInstance.parse(pattern);
+    }
+
+    private static String queryParam(MultiValueMap<String, String> params, String name) {
+        String value = params.getFirst(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Required request parameter '" + name + "' is not present");
+        }
+
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static int intQueryParam(MultiValueMap<String, String> params, String name) {
+        String value = queryParam(params, name);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid path or query parameter: " + value);
+        }
+    }
+
+    private static Long optionalLongQueryParam(MultiValueMap<String, String> params, String name) {
+        if (!params.containsKey(name)) {
+            return null;
+        }
+        String value = queryParam(params, name);
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid path or query parameter: " + value);
+        }
+    }
+
+    private static Integer optionalIntQueryParam(MultiValueMap<String, String> params, String name) {
+        return params.containsKey(name) ? intQueryParam(params, name) : null;
+    }
+
+    private static Long longVariable(Map<String, String> variables, String name) {
+        String value = variables.get(name);
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid path or query parameter: " + value);
+        }
+    }
+
+    /**
+     * Обработчик подзапроса, сопоставленного с шаблоном пути.
+     */
+    @FunctionalInterface
+    private interface BatchRoute {
+
+        ResponseEntity<?> handle(Map<String, String> uriVariables, MultiValueMap<String, String> queryParams);
+    }
+}
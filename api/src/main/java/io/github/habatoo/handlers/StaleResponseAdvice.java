@@ -0,0 +1,52 @@
+package io.github.habatoo.handlers;
+
+import io.github.habatoo.service.StaleResponseContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Добавляет заголовки устаревшего ответа, если данные были отданы из сохранённого результата
+ * из-за медленной или недоступной базы данных.
+ *
+ * <p>Выставляет {@code Warning: 110 - "Response is Stale"} и {@code Age} в секундах
+ * по признаку из {@link StaleResponseContext}. Признак очищается при записи каждого ответа,
+ * а для ответов без тела и ошибок — {@link StaleResponseContextFilter}.</p>
+ */
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    /**
+     * Применяется ко всем ответам контроллеров.
+     */
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    /**
+     * Добавляет заголовки {@code Warning} и {@code Age}, если ответ устаревший.
+     */
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        StaleResponseContext.consume().ifPresent(age -> {
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(age.toSeconds()));
+        });
+
+        return body;
+    }
+}
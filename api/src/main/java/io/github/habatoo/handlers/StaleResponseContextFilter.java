@@ -0,0 +1,37 @@
+package io.github.habatoo.handlers;
+
+import io.github.habatoo.service.StaleResponseContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Очищает признак устаревшего ответа {@link StaleResponseContext} после обработки каждого запроса.
+ *
+ * <p>{@link StaleResponseAdvice} читает признак только при записи тела ответа, поэтому без фильтра
+ * признак, выставленный в запросе, завершившемся ошибкой или ответом без тела, остался бы
+ * в потоке сервлет-контейнера и попал бы в заголовки чужого ответа.</p>
+ */
+@Component
+public class StaleResponseContextFilter extends OncePerRequestFilter {
+
+    /**
+     * Выполняет цепочку фильтров и очищает признак в любом исходе.
+     */
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            StaleResponseContext.clear();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.habatoo.property;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.batch" из application.yml
+ * Содержит ограничения пакетного endpoint: максимальное число подзапросов в пакете,
+ * максимальное число одновременно выполняемых подзапросов и общий таймаут пакета.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.batch")
+public record BatchProperties(
+        @DefaultValue("20") int maxRequests,
+        @DefaultValue("8") int maxConcurrency,
+        @DefaultValue("5s") Duration timeout
+) {
+}
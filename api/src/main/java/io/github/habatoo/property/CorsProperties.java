@@ -9,7 +9,7 @@ import java.util.List;
  * <p>
  * Связывает свойства с префиксом "spring.web.cors" из application.yml
  * Содержит параметры для настройки паттерна, разрешённых источников, HTTP-методов, заголовков,
- * параметра allowCredentials и maxAge для CORS.
+ * доступных клиенту заголовков ответа, параметра allowCredentials и maxAge для CORS.
  * <p>
  */
 @ConfigurationProperties(prefix = "spring.web.cors")
@@ -18,6 +18,7 @@ public record CorsProperties(
         List<String> allowedOriginPatterns,
         List<String> allowedMethods,
         String allowedHeaders,
+        List<String> exposedHeaders,
         boolean allowCredentials,
         Long maxAge
 ) {
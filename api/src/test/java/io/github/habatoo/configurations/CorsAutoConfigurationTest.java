@@ -29,6 +29,7 @@ class CorsAutoConfigurationTest {
                     "spring.web.cors.allowed-methods[3]=DELETE",
                     "spring.web.cors.allowed-methods[4]=OPTIONS",
                     "spring.web.cors.allowed-headers=*",
+                    "spring.web.cors.exposed-headers[0]=X-Next-Cursor",
                     "spring.web.cors.allow-credentials=true",
                     "spring.web.cors.max-age=3600"
             );
@@ -49,6 +50,7 @@ class CorsAutoConfigurationTest {
             assertThat(corsProps.allowedOriginPatterns()).contains("http://localhost");
             assertThat(corsProps.allowedMethods()).containsExactly("GET", "POST", "PUT", "DELETE", "OPTIONS");
             assertThat(corsProps.allowedHeaders()).contains("*");
+            assertThat(corsProps.exposedHeaders()).containsExactly("X-Next-Cursor");
             assertThat(corsProps.allowCredentials()).isTrue();
             assertThat(corsProps.maxAge()).isEqualTo(3600L);
         });
@@ -61,6 +63,7 @@ class CorsAutoConfigurationTest {
                 List.of("http://localhost"),
                 List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"),
                 "*",
+                List.of("X-Next-Cursor"),
                 true,
                 3600L
         );
@@ -83,5 +86,6 @@ class CorsAutoConfigurationTest {
         verify(registration).allowedHeaders(new String[]{"*"});
         verify(registration).allowCredentials(true);
         verify(registration).maxAge(3600L);
+        verify(registration).exposedHeaders(new String[]{"X-Next-Cursor"});
     }
 }
@@ -0,0 +1,69 @@
+package io.github.habatoo.controllers.batch;
+
+import io.github.habatoo.controllers.BatchController;
+import io.github.habatoo.dispatcher.BatchRequestDispatcher;
+import io.github.habatoo.dto.request.BatchItemRequestDto;
+import io.github.habatoo.dto.request.BatchRequestDto;
+import io.github.habatoo.dto.response.BatchItemResponseDto;
+import io.github.habatoo.dto.response.BatchResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты обработки пакетных запросов в BatchController.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты метода executeBatch в BatchController")
+class BatchControllerTest {
+
+    @Mock
+    private BatchRequestDispatcher batchRequestDispatcher;
+
+    private BatchController batchController;
+
+    @BeforeEach
+    void setUp() {
+        batchController = new BatchController(batchRequestDispatcher);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть результаты всех подзапросов пакета")
+    void shouldReturnDispatchedResponsesTest() {
+        BatchRequestDto request = new BatchRequestDto(List.of(
+                new BatchItemRequestDto("post", "GET", "/api/posts/1"),
+                new BatchItemRequestDto("comments", "GET", "/api/posts/1/comments")));
+        BatchResponseDto expected = new BatchResponseDto(List.of(
+                new BatchItemResponseDto("post", 200, Map.of("id", 1), Map.of()),
+                new BatchItemResponseDto("comments", 200, List.of(), Map.of())));
+        when(batchRequestDispatcher.dispatch(request)).thenReturn(expected);
+
+        ResponseEntity<BatchResponseDto> response = batchController.executeBatch(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+        verify(batchRequestDispatcher).dispatch(request);
+    }
+
+    @Test
+    @DisplayName("Должен пробросить исключение для невалидного пакета")
+    void shouldPropagateExceptionForInvalidBatchTest() {
+        BatchRequestDto request = new BatchRequestDto(List.of());
+        when(batchRequestDispatcher.dispatch(request))
+                .thenThrow(new IllegalArgumentException("Batch must contain at least one request"));
+
+        assertThrows(IllegalArgumentException.class, () -> batchController.executeBatch(request));
+    }
+}
@@ -8,6 +8,7 @@ import io.github.habatoo.dto.request.CommentRequestDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
 import io.github.habatoo.handlers.GlobalExceptionHandler;
 import io.github.habatoo.service.CommentService;
+import io.github.habatoo.service.dto.CommentPage;
 import org.junit.jupiter.api.*;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -81,12 +82,13 @@ class CommentControllerCachedTest {
     void getCommentsByPostIdWithValidPostIdTest() throws Exception {
         Long postId = 1L;
         List<CommentResponseDto> mockComments = Arrays.asList(mockComment1, mockComment2);
-        when(commentService.getCommentsByPostId(postId)).thenReturn(mockComments);
+        when(commentService.getCommentsByPostId(postId, null, null)).thenReturn(new CommentPage(mockComments, 2L));
 
         MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/{postId}/comments", postId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.header().string(CommentController.NEXT_CURSOR_HEADER, "2"))
                 .andReturn();
 
         String responseContent = result.getResponse().getContentAsString();
@@ -112,7 +114,7 @@ class CommentControllerCachedTest {
         assertEquals(1, secondComment.get("postId"));
         assertEquals("Второй комментарий", secondComment.get("text"));
 
-        verify(commentService, times(1)).getCommentsByPostId(postId);
+        verify(commentService, times(1)).getCommentsByPostId(postId, null, null);
     }
 
     /**
@@ -122,15 +124,16 @@ class CommentControllerCachedTest {
     @DisplayName("GET /api/posts/{postId}/comments - должен вернуть пустой список")
     void getCommentsByPostIdWithNoCommentsTest() throws Exception {
         Long postId = 2L;
-        when(commentService.getCommentsByPostId(postId)).thenReturn(Collections.emptyList());
+        when(commentService.getCommentsByPostId(postId, null, null)).thenReturn(new CommentPage(List.of(), null));
 
         mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/{postId}/comments", postId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(MockMvcResultMatchers.content().string("[]"));
+                .andExpect(MockMvcResultMatchers.content().string("[]"))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(CommentController.NEXT_CURSOR_HEADER));
 
-        verify(commentService, times(1)).getCommentsByPostId(postId);
+        verify(commentService, times(1)).getCommentsByPostId(postId, null, null);
     }
 
     /**
@@ -276,7 +279,7 @@ class CommentControllerCachedTest {
     @DisplayName("GET /api/posts/{postId}/comments - должен вернуть 500 при ошибке БД")
     void getCommentsByPostIdWithDataAccessErrorTest() throws Exception {
         Long postId = 1L;
-        when(commentService.getCommentsByPostId(postId))
+        when(commentService.getCommentsByPostId(postId, null, null))
                 .thenThrow(new org.springframework.dao.DataAccessException("Database error") {
                 });
 
@@ -284,7 +287,7 @@ class CommentControllerCachedTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.status().isInternalServerError());
 
-        verify(commentService, times(1)).getCommentsByPostId(postId);
+        verify(commentService, times(1)).getCommentsByPostId(postId, null, null);
     }
 
     /**
@@ -299,13 +302,13 @@ class CommentControllerCachedTest {
             List<CommentResponseDto> comments = Collections.singletonList(
                     new CommentResponseDto(1L, "Comment for post " + postId, postId));
 
-            when(commentService.getCommentsByPostId(postId)).thenReturn(comments);
+            when(commentService.getCommentsByPostId(postId, null, null)).thenReturn(new CommentPage(comments, null));
 
             mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/{postId}/comments", postId)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(MockMvcResultMatchers.status().isOk());
 
-            verify(commentService, times(1)).getCommentsByPostId(postId);
+            verify(commentService, times(1)).getCommentsByPostId(postId, null, null);
         }
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package io.github.habatoo.controllers.comment;
 
+import io.github.habatoo.controllers.CommentController;
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.service.dto.CommentPage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 
@@ -23,29 +26,30 @@ class CommentControllerGetCommentsTest extends CommentControllerTestBase {
     void shouldReturnCommentsListForExistingPostTest() {
         List<CommentResponseDto> expectedComments = createCommentList(VALID_POST_ID);
 
-        when(commentService.getCommentsByPostId(VALID_POST_ID))
-                .thenReturn(expectedComments);
+        when(commentService.getCommentsByPostId(VALID_POST_ID, null, null))
+                .thenReturn(new CommentPage(expectedComments, null));
 
         List<CommentResponseDto> actualComments = commentController
-                .getCommentsByPostId(VALID_POST_ID);
+                .getCommentsByPostId(VALID_POST_ID, null, null).getBody();
 
         assertNotNull(actualComments);
         assertEquals(expectedComments.size(), actualComments.size());
         assertEquals(expectedComments, actualComments);
-        verify(commentService).getCommentsByPostId(VALID_POST_ID);
+        verify(commentService).getCommentsByPostId(VALID_POST_ID, null, null);
     }
 
     @Test
     @DisplayName("Должен вернуть пустой список когда у поста нет комментариев")
     void shouldReturnEmptyListWhenPostHasNoCommentsTest() {
-        when(commentService.getCommentsByPostId(VALID_POST_ID)).thenReturn(List.of());
+        when(commentService.getCommentsByPostId(VALID_POST_ID, null, null)).thenReturn(new CommentPage(List.of(), null));
 
-        List<CommentResponseDto> actualComments = commentController
-                .getCommentsByPostId(VALID_POST_ID);
+        ResponseEntity<List<CommentResponseDto>> response = commentController
+                .getCommentsByPostId(VALID_POST_ID, null, null);
 
-        assertNotNull(actualComments);
-        assertTrue(actualComments.isEmpty());
-        verify(commentService).getCommentsByPostId(VALID_POST_ID);
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().isEmpty());
+        assertFalse(response.getHeaders().containsKey(CommentController.NEXT_CURSOR_HEADER));
+        verify(commentService).getCommentsByPostId(VALID_POST_ID, null, null);
     }
 
     @DisplayName("Должен корректно обработать различные идентификаторы постов")
@@ -54,12 +58,28 @@ class CommentControllerGetCommentsTest extends CommentControllerTestBase {
     void shouldHandleDifferentPostIdsTest(Long postId) {
         List<CommentResponseDto> expectedComments = createCommentList(postId);
 
-        when(commentService.getCommentsByPostId(postId))
-                .thenReturn(expectedComments);
+        when(commentService.getCommentsByPostId(postId, null, null))
+                .thenReturn(new CommentPage(expectedComments, null));
 
-        List<CommentResponseDto> actualComments = commentController.getCommentsByPostId(postId);
+        List<CommentResponseDto> actualComments = commentController.getCommentsByPostId(postId, null, null).getBody();
 
         assertEquals(expectedComments, actualComments);
-        verify(commentService).getCommentsByPostId(postId);
+        verify(commentService).getCommentsByPostId(postId, null, null);
+    }
+
+    @Test
+    @DisplayName("Должен передать курсор и размер страницы в сервис и вернуть курсор следующей страницы")
+    void shouldPassCursorAndLimitTest() {
+        List<CommentResponseDto> expectedComments = createCommentList(VALID_POST_ID);
+        Long nextCursor = expectedComments.getLast().id();
+
+        when(commentService.getCommentsByPostId(VALID_POST_ID, 10L, 2))
+                .thenReturn(new CommentPage(expectedComments, nextCursor));
+
+        ResponseEntity<List<CommentResponseDto>> response = commentController.getCommentsByPostId(VALID_POST_ID, 10L, 2);
+
+        assertEquals(expectedComments, response.getBody());
+        assertEquals(nextCursor.toString(), response.getHeaders().getFirst(CommentController.NEXT_CURSOR_HEADER));
+        verify(commentService).getCommentsByPostId(VALID_POST_ID, 10L, 2);
     }
 }
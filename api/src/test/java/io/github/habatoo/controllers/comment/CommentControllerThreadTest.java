@@ -0,0 +1,72 @@
+package io.github.habatoo.controllers.comment;
+
+import io.github.habatoo.dto.request.CommentCreateRequestDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты веток ответов на комментарии.
+ */
+@DisplayName("Тесты веток ответов на комментарии")
+class CommentControllerThreadTest extends CommentControllerTestBase {
+
+    private static final Long REPLY_ID = 3L;
+
+    @DisplayName("Должен вернуть страницу веток комментариев")
+    @Test
+    void shouldReturnCommentThreadsTest() {
+        List<ThreadedCommentResponseDto> threads = List.of(
+                new ThreadedCommentResponseDto(VALID_COMMENT_ID, COMMENT_TEXT, VALID_POST_ID, null, 0),
+                new ThreadedCommentResponseDto(REPLY_ID, COMMENT_TEXT, VALID_POST_ID, VALID_COMMENT_ID, 1));
+        when(commentService.getCommentThreads(VALID_POST_ID, null, 10)).thenReturn(threads);
+
+        assertEquals(threads, commentController.getCommentThreads(VALID_POST_ID, null, 10));
+    }
+
+    @DisplayName("Должен вернуть ветку комментария")
+    @Test
+    void shouldReturnCommentThreadTest() {
+        List<ThreadedCommentResponseDto> thread = List.of(
+                new ThreadedCommentResponseDto(VALID_COMMENT_ID, COMMENT_TEXT, VALID_POST_ID, null, 0));
+        when(commentService.getCommentThread(VALID_POST_ID, VALID_COMMENT_ID)).thenReturn(thread);
+
+        assertEquals(thread, commentController.getCommentThread(VALID_POST_ID, VALID_COMMENT_ID));
+    }
+
+    @DisplayName("Должен пробросить исключение, если комментарий ветки не найден")
+    @Test
+    void shouldPropagateNotFoundForThreadTest() {
+        when(commentService.getCommentThread(VALID_POST_ID, NON_EXISTENT_COMMENT_ID))
+                .thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThrows(EmptyResultDataAccessException.class,
+                () -> commentController.getCommentThread(VALID_POST_ID, NON_EXISTENT_COMMENT_ID));
+    }
+
+    @DisplayName("Должен создать ответ и вернуть 201 статус")
+    @Test
+    void shouldCreateReplyAndReturnCreatedStatusTest() {
+        CommentCreateRequestDto request = createCommentCreateRequest(COMMENT_TEXT, VALID_POST_ID);
+        ThreadedCommentResponseDto reply =
+                new ThreadedCommentResponseDto(REPLY_ID, COMMENT_TEXT, VALID_POST_ID, VALID_COMMENT_ID, 1);
+        when(commentService.createReply(VALID_COMMENT_ID, request)).thenReturn(reply);
+
+        ResponseEntity<ThreadedCommentResponseDto> response =
+                commentController.createReply(VALID_POST_ID, VALID_COMMENT_ID, request);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(reply, response.getBody());
+        verify(commentService).createReply(VALID_COMMENT_ID, request);
+    }
+}
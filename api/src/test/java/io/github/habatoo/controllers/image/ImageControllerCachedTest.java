@@ -2,9 +2,13 @@ package io.github.habatoo.controllers.image;
 
 import io.github.habatoo.controllers.ImageController;
 import io.github.habatoo.handlers.GlobalExceptionHandler;
+import io.github.habatoo.properties.ImageHttpProperties;
 import io.github.habatoo.service.ImageService;
+import io.github.habatoo.service.dto.ImageMetadata;
 import io.github.habatoo.service.dto.ImageResponseDto;
 import org.junit.jupiter.api.*;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -13,6 +17,9 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,7 +56,7 @@ class ImageControllerCachedTest {
     @BeforeAll
     void setUpAll() {
         imageService = mock(ImageService.class);
-        ImageController imageController = new ImageController(imageService);
+        ImageController imageController = new ImageController(imageService, new ImageHttpProperties(Duration.ZERO));
         mockMvc = MockMvcBuilders.standaloneSetup(imageController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -69,8 +76,8 @@ class ImageControllerCachedTest {
         );
 
         mockImageResponse = new ImageResponseDto(
-                imageData,
-                MediaType.IMAGE_JPEG
+                new ByteArrayResource(imageData),
+                metadata(imageData.length, MediaType.IMAGE_JPEG)
         );
     }
 
@@ -154,6 +161,7 @@ class ImageControllerCachedTest {
                 .andReturn();
 
         assertEquals(MediaType.IMAGE_JPEG_VALUE, result.getResponse().getContentType());
+        assertEquals("fake image data".length(), result.getResponse().getContentLength());
         assertNotNull(result.getResponse().getContentAsByteArray());
         assertEquals("fake image data", new String(result.getResponse().getContentAsByteArray()));
 
@@ -214,8 +222,8 @@ class ImageControllerCachedTest {
             reset(imageService);
             Long postId = postIds[i];
             ImageResponseDto imageResponse = new ImageResponseDto(
-                    imageData[i].getBytes(),
-                    mediaTypes[i]
+                    new ByteArrayResource(imageData[i].getBytes()),
+                    metadata(imageData[i].length(), mediaTypes[i])
             );
 
             when(imageService.getPostImage(postId)).thenReturn(imageResponse);
@@ -274,4 +282,66 @@ class ImageControllerCachedTest {
 
         verify(imageService, times(1)).updatePostImage(postId, emptyFile);
     }
+
+    /**
+     * Тест условного запроса с совпадающим тегом версии
+     */
+    @Test
+    @DisplayName("GET /api/posts/{postId}/image - должен вернуть 304 без тела при совпадении If-None-Match")
+    void getPostImageNotModifiedTest() throws Exception {
+        Long postId = 1L;
+        when(imageService.getPostImage(postId)).thenReturn(mockImageResponse);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/{postId}/image", postId)
+                        .header(HttpHeaders.IF_NONE_MATCH, mockImageResponse.metadata().eTag()))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, mockImageResponse.metadata().eTag()))
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+        verify(imageService, times(1)).getPostImage(postId);
+        verify(imageService, never()).getPostImageMetadata(postId);
+    }
+
+    /**
+     * Тест запроса части изображения
+     */
+    @Test
+    @DisplayName("GET /api/posts/{postId}/image - должен вернуть 206 с запрошенной частью изображения")
+    void getPostImageRangeTest() throws Exception {
+        Long postId = 1L;
+        when(imageService.getPostImage(postId)).thenReturn(mockImageResponse);
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/{postId}/image", postId)
+                        .header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andExpect(MockMvcResultMatchers.status().isPartialContent())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/15"))
+                .andReturn();
+
+        assertEquals("fake", new String(result.getResponse().getContentAsByteArray()));
+    }
+
+    /**
+     * Тест запроса HEAD
+     */
+    @Test
+    @DisplayName("HEAD /api/posts/{postId}/image - должен вернуть заголовки без загрузки изображения")
+    void headPostImageTest() throws Exception {
+        Long postId = 1L;
+        when(imageService.getPostImageMetadata(postId)).thenReturn(mockImageResponse.metadata());
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.head("/api/posts/{postId}/image", postId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().longValue(HttpHeaders.CONTENT_LENGTH, 15))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, mockImageResponse.metadata().eTag()))
+                .andReturn();
+
+        assertEquals(MediaType.IMAGE_JPEG_VALUE, result.getResponse().getContentType());
+        verify(imageService, never()).getPostImage(postId);
+    }
+
+    private static ImageMetadata metadata(long size, MediaType mediaType) {
+        return ImageMetadata.of("image.jpg", size, mediaType, Instant.parse("2025-01-01T00:00:00Z"));
+    }
 }
@@ -7,6 +7,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +17,10 @@ import org.springframework.http.ResponseEntity;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -30,10 +37,10 @@ class ImageControllerGetPostImageTest extends ImageControllerTestBase {
 
         when(imageService.getPostImage(VALID_POST_ID)).thenReturn(imageResponse);
 
-        ResponseEntity<byte[]> response = imageController.getPostImage(VALID_POST_ID);
+        ResponseEntity<Resource> response = imageController.getPostImage(VALID_POST_ID, new HttpHeaders());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(imageData, response.getBody());
+        assertEquals(imageResponse.image(), response.getBody());
         assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
     }
 
@@ -45,10 +52,10 @@ class ImageControllerGetPostImageTest extends ImageControllerTestBase {
 
         when(imageService.getPostImage(VALID_POST_ID)).thenReturn(imageResponse);
 
-        ResponseEntity<byte[]> response = imageController.getPostImage(VALID_POST_ID);
+        ResponseEntity<Resource> response = imageController.getPostImage(VALID_POST_ID, new HttpHeaders());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(imageData, response.getBody());
+        assertEquals(imageResponse.image(), response.getBody());
         assertEquals(MediaType.IMAGE_PNG, response.getHeaders().getContentType());
     }
 
@@ -60,13 +67,62 @@ class ImageControllerGetPostImageTest extends ImageControllerTestBase {
 
         when(imageService.getPostImage(VALID_POST_ID)).thenReturn(imageResponse);
 
-        ResponseEntity<byte[]> response = imageController.getPostImage(VALID_POST_ID);
+        ResponseEntity<Resource> response = imageController.getPostImage(VALID_POST_ID, new HttpHeaders());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(emptyData, response.getBody());
+        assertEquals(imageResponse.image(), response.getBody());
         assertEquals(MediaType.APPLICATION_OCTET_STREAM, response.getHeaders().getContentType());
     }
 
+    @Test
+    @DisplayName("Должен вернуть ETag, Last-Modified и Cache-Control вместе с изображением")
+    void shouldReturnCacheHeadersTest() {
+        ImageResponseDto imageResponse = createImageResponse(createJpegImageData(), MediaType.IMAGE_JPEG);
+
+        when(imageService.getPostImage(VALID_POST_ID)).thenReturn(imageResponse);
+
+        ResponseEntity<Resource> response = imageController.getPostImage(VALID_POST_ID, new HttpHeaders());
+
+        assertEquals(imageResponse.metadata().eTag(), response.getHeaders().getETag());
+        assertEquals(LAST_MODIFIED.toEpochMilli(), response.getHeaders().getLastModified());
+        assertEquals(CacheControl.noCache().cachePublic().getHeaderValue(), response.getHeaders().getCacheControl());
+    }
+
+    @DisplayName("Должен вернуть 304 без тела и с одним вызовом сервиса при совпадении If-None-Match")
+    @ParameterizedTest
+    @ValueSource(strings = {"%s", "W/%s", "\"other\", %s", "*"})
+    void shouldReturnNotModifiedWhenETagMatchesTest(String ifNoneMatch) {
+        ImageResponseDto imageResponse = createImageResponse(createJpegImageData(), MediaType.IMAGE_JPEG);
+        String eTag = imageResponse.metadata().eTag();
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch.formatted(eTag));
+
+        when(imageService.getPostImage(VALID_POST_ID)).thenReturn(imageResponse);
+
+        ResponseEntity<Resource> response = imageController.getPostImage(VALID_POST_ID, requestHeaders);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(eTag, response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(imageService, times(1)).getPostImage(VALID_POST_ID);
+        verify(imageService, never()).getPostImageMetadata(VALID_POST_ID);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть изображение, если If-None-Match содержит другой тег")
+    void shouldReturnImageWhenETagDiffersTest() {
+        ImageResponseDto imageResponse = createImageResponse(createJpegImageData(), MediaType.IMAGE_JPEG);
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch("\"stale\"");
+
+        when(imageService.getPostImage(VALID_POST_ID)).thenReturn(imageResponse);
+
+        ResponseEntity<Resource> response = imageController.getPostImage(VALID_POST_ID, requestHeaders);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(imageResponse.image(), response.getBody());
+    }
+
     @DisplayName("Должен корректно обработать различные идентификаторы постов")
     @ParameterizedTest
     @ValueSource(longs = {1L, 5L, 10L, 50L, 100L})
@@ -76,10 +132,10 @@ class ImageControllerGetPostImageTest extends ImageControllerTestBase {
 
         when(imageService.getPostImage(postId)).thenReturn(imageResponse);
 
-        ResponseEntity<byte[]> response = imageController.getPostImage(postId);
+        ResponseEntity<Resource> response = imageController.getPostImage(postId, new HttpHeaders());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(imageData, response.getBody());
+        assertEquals(imageResponse.image(), response.getBody());
     }
 
     @DisplayName("Должен обработать различные MediaType из сервиса")
@@ -91,7 +147,7 @@ class ImageControllerGetPostImageTest extends ImageControllerTestBase {
 
         when(imageService.getPostImage(VALID_POST_ID)).thenReturn(imageResponse);
 
-        ResponseEntity<byte[]> response = imageController.getPostImage(VALID_POST_ID);
+        ResponseEntity<Resource> response = imageController.getPostImage(VALID_POST_ID, new HttpHeaders());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(mediaType, response.getHeaders().getContentType());
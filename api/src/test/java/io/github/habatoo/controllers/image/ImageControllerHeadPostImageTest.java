@@ -0,0 +1,76 @@
+package io.github.habatoo.controllers.image;
+
+import io.github.habatoo.service.dto.ImageMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для получения заголовков изображения поста запросом HEAD.
+ */
+@DisplayName("Тесты метода headPostImage для получения заголовков изображения поста.")
+class ImageControllerHeadPostImageTest extends ImageControllerTestBase {
+
+    private static final ImageMetadata METADATA = ImageMetadata.of("image.jpg", 2048, MediaType.IMAGE_JPEG, LAST_MODIFIED);
+
+    @Test
+    @DisplayName("Должен вернуть заголовки изображения по метаданным без загрузки файла")
+    void shouldReturnHeadersFromMetadataTest() {
+        when(imageService.getPostImageMetadata(VALID_POST_ID)).thenReturn(METADATA);
+
+        ResponseEntity<Void> response = imageController.headPostImage(VALID_POST_ID, new HttpHeaders());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
+        assertEquals(2048, response.getHeaders().getContentLength());
+        assertEquals(METADATA.eTag(), response.getHeaders().getETag());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        verify(imageService, never()).getPostImage(VALID_POST_ID);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть 304 при совпадении If-None-Match")
+    void shouldReturnNotModifiedWhenETagMatchesTest() {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch(METADATA.eTag());
+
+        when(imageService.getPostImageMetadata(VALID_POST_ID)).thenReturn(METADATA);
+
+        ResponseEntity<Void> response = imageController.headPostImage(VALID_POST_ID, requestHeaders);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(METADATA.eTag(), response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть нулевую длину для поста без изображения")
+    void shouldReturnZeroLengthForPostWithoutImageTest() {
+        when(imageService.getPostImageMetadata(VALID_POST_ID)).thenReturn(ImageMetadata.NO_IMAGE);
+
+        ResponseEntity<Void> response = imageController.headPostImage(VALID_POST_ID, new HttpHeaders());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0, response.getHeaders().getContentLength());
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, response.getHeaders().getContentType());
+    }
+
+    @Test
+    @DisplayName("Должен пробросить исключение для несуществующего поста")
+    void shouldPropagateExceptionForMissingPostTest() {
+        when(imageService.getPostImageMetadata(NON_EXISTENT_POST_ID))
+                .thenThrow(new EmptyResultDataAccessException("Post not found", 1));
+
+        assertThrows(EmptyResultDataAccessException.class,
+                () -> imageController.headPostImage(NON_EXISTENT_POST_ID, new HttpHeaders()));
+    }
+}
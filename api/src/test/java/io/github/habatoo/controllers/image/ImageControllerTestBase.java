@@ -1,15 +1,21 @@
 package io.github.habatoo.controllers.image;
 
 import io.github.habatoo.controllers.ImageController;
+import io.github.habatoo.properties.ImageHttpProperties;
 import io.github.habatoo.service.ImageService;
+import io.github.habatoo.service.dto.ImageMetadata;
 import io.github.habatoo.service.dto.ImageResponseDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.time.Instant;
+
 /**
  * Настройки тестов на покрытие основных сценариев работы контроллера изображений,
  * включая успешные операции, обработку различных форматов изображений,
@@ -21,6 +27,7 @@ public abstract class ImageControllerTestBase {
 
     protected static final Long VALID_POST_ID = 1L;
     protected static final Long NON_EXISTENT_POST_ID = 999L;
+    protected static final Instant LAST_MODIFIED = Instant.parse("2025-01-01T00:00:00Z");
 
     @Mock
     protected ImageService imageService;
@@ -32,11 +39,12 @@ public abstract class ImageControllerTestBase {
 
     @BeforeEach
     void setUp() {
-        imageController = new ImageController(imageService);
+        imageController = new ImageController(imageService, new ImageHttpProperties(Duration.ZERO));
     }
 
     protected ImageResponseDto createImageResponse(byte[] data, MediaType mediaType) {
-        return new ImageResponseDto(data, mediaType);
+        return new ImageResponseDto(new ByteArrayResource(data),
+                ImageMetadata.of("image.jpg", data.length, mediaType, LAST_MODIFIED));
     }
 
     protected byte[] createJpegImageData() {
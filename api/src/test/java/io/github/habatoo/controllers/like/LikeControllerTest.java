@@ -0,0 +1,62 @@
+package io.github.habatoo.controllers.like;
+
+import io.github.habatoo.controllers.LikeController;
+import io.github.habatoo.dto.request.LikeBatchRequestDto;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
+import io.github.habatoo.service.LikeBatchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты пакетной записи лайков в LikeController.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты метода applyLikes в LikeController")
+class LikeControllerTest {
+
+    @Mock
+    private LikeBatchService likeBatchService;
+
+    private LikeController likeController;
+
+    @BeforeEach
+    void setUp() {
+        likeController = new LikeController(likeBatchService);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть количество лайков постов пакета")
+    void shouldReturnLikesCountsTest() {
+        LikeBatchRequestDto request = new LikeBatchRequestDto("key-1", Map.of(1L, 3, 2L, 1));
+        LikeBatchResponseDto expected = new LikeBatchResponseDto(Map.of(1L, 13, 2L, 5), false);
+        when(likeBatchService.applyLikes(request)).thenReturn(expected);
+
+        ResponseEntity<LikeBatchResponseDto> response = likeController.applyLikes(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+        verify(likeBatchService).applyLikes(request);
+    }
+
+    @Test
+    @DisplayName("Должен пробросить исключение для невалидного пакета")
+    void shouldPropagateExceptionForInvalidBatchTest() {
+        LikeBatchRequestDto request = new LikeBatchRequestDto("", Map.of(1L, 1));
+        when(likeBatchService.applyLikes(request))
+                .thenThrow(new IllegalArgumentException("Idempotency key cannot be empty"));
+
+        assertThrows(IllegalArgumentException.class, () -> likeController.applyLikes(request));
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.habatoo.controllers.moderation;
+
+import io.github.habatoo.controllers.CommentModerationController;
+import io.github.habatoo.dto.request.CommentBatchDeleteRequestDto;
+import io.github.habatoo.dto.response.CommentBatchDeleteResponseDto;
+import io.github.habatoo.service.CommentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты пакетного удаления комментариев в CommentModerationController.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты метода deleteComments в CommentModerationController")
+class CommentModerationControllerTest {
+
+    @Mock
+    private CommentService commentService;
+
+    private CommentModerationController commentModerationController;
+
+    @BeforeEach
+    void setUp() {
+        commentModerationController = new CommentModerationController(commentService);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть количество удалённых комментариев по постам")
+    void shouldReturnDeletedCountsTest() {
+        CommentBatchDeleteRequestDto request = new CommentBatchDeleteRequestDto(List.of(1L, 3L), null, null);
+        CommentBatchDeleteResponseDto expected = new CommentBatchDeleteResponseDto(3, Map.of(1L, 1, 2L, 2));
+        when(commentService.deleteComments(request)).thenReturn(expected);
+
+        ResponseEntity<CommentBatchDeleteResponseDto> response = commentModerationController.deleteComments(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+        verify(commentService).deleteComments(request);
+    }
+
+    @Test
+    @DisplayName("Должен пробросить исключение для запроса без идентификаторов и фильтра")
+    void shouldPropagateExceptionForEmptyRequestTest() {
+        CommentBatchDeleteRequestDto request = new CommentBatchDeleteRequestDto(null, null, null);
+        when(commentService.deleteComments(request))
+                .thenThrow(new IllegalArgumentException("Either ids or textContains must be specified"));
+
+        assertThrows(IllegalArgumentException.class, () -> commentModerationController.deleteComments(request));
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.habatoo.controllers.post;
+
+import io.github.habatoo.dto.response.PostResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты обработки частичного обновления постов.
+ */
+@DisplayName("Тесты метода patchPost для обработки частичного обновления постов.")
+class PostControllerPatchPostTest extends PostControllerTestBase {
+
+    @Test
+    @DisplayName("Должен частично обновить пост и вернуть 200 статус")
+    void shouldPatchPostAndReturnOkStatusTest() {
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("title", "Новый заголовок");
+        patch.put("tags", null);
+        PostResponseDto expectedResponse = createPostResponse(VALID_POST_ID, "Новый заголовок",
+                POST_TEXT, List.of(), 5, 3);
+
+        when(postService.patchPost(VALID_POST_ID, patch)).thenReturn(expectedResponse);
+
+        ResponseEntity<PostResponseDto> response = postController.patchPost(VALID_POST_ID, patch);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedResponse, response.getBody());
+        verify(postService).patchPost(VALID_POST_ID, patch);
+    }
+
+    @Test
+    @DisplayName("Должен пробросить конфликт версий текста")
+    void shouldPropagateConflictTest() {
+        Map<String, Object> patch = Map.of("textDiff", Map.of("baseMd5", "abc", "edits", List.of()));
+
+        when(postService.patchPost(VALID_POST_ID, patch))
+                .thenThrow(new OptimisticLockingFailureException("Post text has changed"));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> postController.patchPost(VALID_POST_ID, patch));
+    }
+}
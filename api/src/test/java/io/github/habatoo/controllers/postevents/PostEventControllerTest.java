@@ -0,0 +1,78 @@
+package io.github.habatoo.controllers.postevents;
+
+import io.github.habatoo.controllers.PostEventController;
+import io.github.habatoo.dto.response.PostEventDto;
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.properties.PostEventProperties;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты потока событий поста в PostEventController.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты метода streamEvents в PostEventController")
+class PostEventControllerTest {
+
+    private static final Long POST_ID = 1L;
+    private static final PostEventProperties POST_EVENT_PROPERTIES = new PostEventProperties(
+            Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(30), 64);
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private PostEventBroadcaster postEventBroadcaster;
+
+    private PostEventController postEventController;
+
+    @BeforeEach
+    void setUp() {
+        postEventController = new PostEventController(postService, postEventBroadcaster, POST_EVENT_PROPERTIES);
+    }
+
+    @Test
+    @DisplayName("Должен открыть поток событий и подписать его на события поста")
+    void shouldSubscribeEmitterTest() {
+        when(postService.getPostById(POST_ID))
+                .thenReturn(Optional.of(new PostResponseDto(POST_ID, "Заголовок", "Текст", List.of(), 0, 0)));
+        when(postEventBroadcaster.subscribe(eq(POST_ID), any())).thenReturn(() -> {
+        });
+
+        SseEmitter emitter = postEventController.streamEvents(POST_ID);
+
+        assertEquals(POST_EVENT_PROPERTIES.timeout().toMillis(), emitter.getTimeout());
+        ArgumentCaptor<PostEventBroadcaster.Subscriber> subscriber =
+                ArgumentCaptor.forClass(PostEventBroadcaster.Subscriber.class);
+        verify(postEventBroadcaster).subscribe(eq(POST_ID), subscriber.capture());
+        assertDoesNotThrow(() -> subscriber.getValue().send(
+                new PostEventDto(PostEventBroadcaster.LIKES, POST_ID, 5)));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть 404 для несуществующего поста без подписки")
+    void shouldRejectMissingPostTest() {
+        when(postService.getPostById(POST_ID)).thenReturn(Optional.empty());
+
+        assertThrows(EmptyResultDataAccessException.class, () -> postEventController.streamEvents(POST_ID));
+        verify(postEventBroadcaster, never()).subscribe(anyLong(), any());
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.habatoo.controllers.postimport;
+
+import io.github.habatoo.controllers.PostImportController;
+import io.github.habatoo.dto.response.PostImportResultDto;
+import io.github.habatoo.service.PostImportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты массового импорта постов в PostImportController.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты метода importPosts в PostImportController")
+class PostImportControllerTest {
+
+    @Mock
+    private PostImportService postImportService;
+
+    private PostImportController postImportController;
+
+    @BeforeEach
+    void setUp() {
+        postImportController = new PostImportController(postImportService);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть итоги импорта")
+    void shouldReturnImportResultTest() {
+        InputStream ndjson = new ByteArrayInputStream(
+                "{\"title\":\"t\",\"text\":\"x\"}\n".getBytes(StandardCharsets.UTF_8));
+        PostImportResultDto expected = new PostImportResultDto("id", 1, 0, 0, 0, 5);
+        when(postImportService.importPosts(ndjson)).thenReturn(expected);
+
+        ResponseEntity<PostImportResultDto> response = postImportController.importPosts(ndjson);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+        verify(postImportService).importPosts(ndjson);
+    }
+
+    @Test
+    @DisplayName("Должен пробросить исключение для невалидного NDJSON")
+    void shouldPropagateExceptionForInvalidNdjsonTest() {
+        InputStream ndjson = new ByteArrayInputStream("{".getBytes(StandardCharsets.UTF_8));
+        when(postImportService.importPosts(ndjson))
+                .thenThrow(new IllegalArgumentException("Invalid NDJSON at line 1"));
+
+        assertThrows(IllegalArgumentException.class, () -> postImportController.importPosts(ndjson));
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.habatoo.controllers.revision;
+
+import io.github.habatoo.controllers.PostRevisionController;
+import io.github.habatoo.dto.response.PostRevisionResponseDto;
+import io.github.habatoo.dto.response.PostRevisionSummaryDto;
+import io.github.habatoo.service.PostRevisionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты истории версий постов в PostRevisionController.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты методов getRevisions и getRevision в PostRevisionController")
+class PostRevisionControllerTest {
+
+    private static final Long POST_ID = 1L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private PostRevisionService postRevisionService;
+
+    private PostRevisionController postRevisionController;
+
+    @BeforeEach
+    void setUp() {
+        postRevisionController = new PostRevisionController(postRevisionService);
+    }
+
+    @Test
+    @DisplayName("Должен вернуть список версий поста и 200 статус")
+    void shouldReturnRevisionsTest() {
+        List<PostRevisionSummaryDto> revisions = List.of(
+                new PostRevisionSummaryDto(2, "Заголовок", false, 4096, 12, CREATED_AT),
+                new PostRevisionSummaryDto(1, "Заголовок", true, 4090, 4090, CREATED_AT));
+        when(postRevisionService.getRevisions(POST_ID)).thenReturn(revisions);
+
+        ResponseEntity<List<PostRevisionSummaryDto>> response = postRevisionController.getRevisions(POST_ID);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(revisions, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть версию поста и 200 статус")
+    void shouldReturnRevisionTest() {
+        PostRevisionResponseDto revision = new PostRevisionResponseDto(POST_ID, 1, "Заголовок", "Текст", CREATED_AT);
+        when(postRevisionService.getRevision(POST_ID, 1)).thenReturn(revision);
+
+        ResponseEntity<PostRevisionResponseDto> response = postRevisionController.getRevision(POST_ID, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(revision, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Должен пробросить исключение для несуществующей версии")
+    void shouldPropagateNotFoundTest() {
+        when(postRevisionService.getRevision(POST_ID, 5)).thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThrows(EmptyResultDataAccessException.class, () -> postRevisionController.getRevision(POST_ID, 5));
+    }
+}
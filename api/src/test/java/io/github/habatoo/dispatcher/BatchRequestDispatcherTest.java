@@ -0,0 +1,157 @@
+package io.github.habatoo.dispatcher;
+
+import io.github.habatoo.controllers.CommentController;
+import io.github.habatoo.controllers.PostController;
+import io.github.habatoo.dispatcher.impl.BatchRequestDispatcherImpl;
+import io.github.habatoo.dto.request.BatchItemRequestDto;
+import io.github.habatoo.dto.request.BatchRequestDto;
+import io.github.habatoo.dto.response.BatchItemResponseDto;
+import io.github.habatoo.dto.response.BatchResponseDto;
+import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.PostListResponseDto;
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.handlers.GlobalExceptionHandler;
+import io.github.habatoo.property.BatchProperties;
+import io.github.habatoo.service.CommentService;
+import io.github.habatoo.service.PostService;
+import io.github.habatoo.service.dto.CommentPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты выполнения пакетных запросов в BatchRequestDispatcherImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты BatchRequestDispatcherImpl")
+class BatchRequestDispatcherTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long COMMENT_ID = 2L;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private CommentService commentService;
+
+    private BatchRequestDispatcherImpl dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new BatchRequestDispatcherImpl(
+                new BatchProperties(3, 2, Duration.ofSeconds(2)),
+                new PostController(postService),
+                new CommentController(commentService),
+                new GlobalExceptionHandler());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    @DisplayName("Должен выполнить подзапросы и вернуть результаты в порядке запроса")
+    void shouldDispatchSubRequestsInOrderTest() {
+        PostResponseDto post = new PostResponseDto(POST_ID, "Заголовок", "Текст", List.of("tag"), 0, 1);
+        CommentResponseDto comment = new CommentResponseDto(COMMENT_ID, "Комментарий", POST_ID);
+        PostListResponseDto posts = new PostListResponseDto(List.of(post), false, false, 1);
+        when(postService.getPostById(POST_ID)).thenReturn(Optional.of(post));
+        when(commentService.getCommentsByPostId(POST_ID, null, null)).thenReturn(new CommentPage(List.of(comment), null));
+        when(postService.getPosts("java spring", 1, 10)).thenReturn(posts);
+
+        BatchResponseDto response = dispatcher.dispatch(new BatchRequestDto(List.of(
+                new BatchItemRequestDto("post", "GET", "/api/posts/1"),
+                new BatchItemRequestDto("comments", "get", "/api/posts/1/comments"),
+                new BatchItemRequestDto(null, null, "/api/posts?search=java%20spring&pageNumber=1&pageSize=10"))));
+
+        List<BatchItemResponseDto> items = response.responses();
+        assertEquals(3, items.size());
+        assertEquals(new BatchItemResponseDto("post", 200, post, Map.of()), items.get(0));
+        assertEquals(new BatchItemResponseDto("comments", 200, List.of(comment), Map.of()), items.get(1));
+        assertEquals(new BatchItemResponseDto("2", 200, posts, Map.of()), items.get(2));
+    }
+
+    @Test
+    @DisplayName("Должен декодировать плюс в строке запроса как пробел")
+    void shouldDecodePlusAsSpaceTest() {
+        PostListResponseDto posts = new PostListResponseDto(List.of(), false, false, 1);
+        when(postService.getPosts("java spring+boot", 1, 10)).thenReturn(posts);
+
+        BatchResponseDto response = dispatcher.dispatch(new BatchRequestDto(List.of(
+                new BatchItemRequestDto("search", "GET", "/api/posts?search=java+spring%2Bboot&pageNumber=1&pageSize=10"))));
+
+        assertEquals(new BatchItemResponseDto("search", 200, posts, Map.of()), response.responses().getFirst());
+    }
+
+    @Test
+    @DisplayName("Должен передать курсор и размер страницы комментариев и вернуть курсор следующей страницы")
+    void shouldPassCommentPageParametersTest() {
+        CommentResponseDto comment = new CommentResponseDto(COMMENT_ID, "Комментарий", POST_ID);
+        when(commentService.getCommentsByPostId(POST_ID, 5L, 1)).thenReturn(new CommentPage(List.of(comment), COMMENT_ID));
+
+        BatchResponseDto response = dispatcher.dispatch(new BatchRequestDto(List.of(
+                new BatchItemRequestDto("page", "GET", "/api/posts/1/comments?after=5&limit=1"))));
+
+        assertEquals(new BatchItemResponseDto("page", 200, List.of(comment),
+                        Map.of(CommentController.NEXT_CURSOR_HEADER, COMMENT_ID.toString())),
+                response.responses().getFirst());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть статус ошибки для отдельного подзапроса, не прерывая пакет")
+    void shouldMapSubRequestErrorsToStatusesTest() {
+        when(postService.getPostById(POST_ID)).thenReturn(Optional.empty());
+        when(commentService.getCommentByPostIdAndId(POST_ID, COMMENT_ID))
+                .thenThrow(new EmptyResultDataAccessException(1));
+
+        BatchResponseDto response = dispatcher.dispatch(new BatchRequestDto(List.of(
+                new BatchItemRequestDto("missing", "GET", "/api/posts/1"),
+                new BatchItemRequestDto("comment", "GET", "/api/posts/1/comments/2"),
+                new BatchItemRequestDto("invalid", "GET", "/api/posts/abc"))));
+
+        List<BatchItemResponseDto> items = response.responses();
+        assertEquals(404, items.get(0).status());
+        assertEquals(404, items.get(1).status());
+        assertEquals(Map.of("error", "Resource not found"), items.get(1).body());
+        assertEquals(400, items.get(2).status());
+        assertEquals(Map.of("error", "Invalid path or query parameter: abc"), items.get(2).body());
+    }
+
+    @Test
+    @DisplayName("Должен отклонить неподдерживаемые методы и пути")
+    void shouldRejectUnsupportedMethodsAndPathsTest() {
+        BatchResponseDto response = dispatcher.dispatch(new BatchRequestDto(List.of(
+                new BatchItemRequestDto("delete", "DELETE", "/api/posts/1"),
+                new BatchItemRequestDto("unknown", "GET", "/api/unknown"))));
+
+        assertEquals(405, response.responses().get(0).status());
+        assertEquals(404, response.responses().get(1).status());
+        verifyNoInteractions(postService, commentService);
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение для пустого пакета и пакета сверх лимита")
+    void shouldRejectInvalidBatchSizeTest() {
+        BatchItemRequestDto item = new BatchItemRequestDto("post", "GET", "/api/posts/1");
+
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.dispatch(new BatchRequestDto(List.of())));
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.dispatch(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> dispatcher.dispatch(new BatchRequestDto(List.of(item, item, item, item))));
+    }
+}
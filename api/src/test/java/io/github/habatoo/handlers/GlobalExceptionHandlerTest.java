@@ -85,6 +85,21 @@ class GlobalExceptionHandlerTest {
                 .andExpect(content().string("{\"error\":\"Resource not found\"}"));
     }
 
+    /**
+     * <p>
+     * Проверяет корректную обработку и возврат ответа для исключения
+     * {@link org.springframework.dao.OptimisticLockingFailureException}.
+     * Ожидется статус 409 и JSON с текстом исключения.
+     * </p>
+     */
+    @Test
+    @DisplayName("Тесты перехвата OptimisticLockingFailureException.")
+    void testConflict() throws Exception {
+        mockMvc.perform(get("/conflict").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("{\"error\":\"stale version\"}"));
+    }
+
     /**
      * <p>
      * Проверяет корректную обработку и возврат ответа для исключения {@link IllegalArgumentException}.
@@ -0,0 +1,54 @@
+package io.github.habatoo.handlers;
+
+import io.github.habatoo.service.StaleResponseContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты добавления заголовков устаревшего ответа {@link StaleResponseAdvice}.
+ */
+@DisplayName("Тесты StaleResponseAdvice")
+class StaleResponseAdviceTest {
+
+    private final StaleResponseAdvice advice = new StaleResponseAdvice();
+
+    @Test
+    @DisplayName("Устаревший ответ должен получить заголовки Warning и Age")
+    void shouldAddStaleHeadersTest() {
+        StaleResponseContext.markStale(Duration.ofSeconds(42));
+
+        ServletServerHttpResponse response = write("body");
+
+        assertEquals(StaleResponseAdvice.STALE_WARNING, response.getHeaders().getFirst(HttpHeaders.WARNING));
+        assertEquals("42", response.getHeaders().getFirst(HttpHeaders.AGE));
+        assertTrue(StaleResponseContext.consume().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Свежий ответ не должен получать заголовки устаревания")
+    void shouldNotAddHeadersToFreshResponseTest() {
+        ServletServerHttpResponse response = write("body");
+
+        assertNull(response.getHeaders().getFirst(HttpHeaders.WARNING));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.AGE));
+    }
+
+    private ServletServerHttpResponse write(Object body) {
+        ServletServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+        Object written = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(new MockHttpServletRequest()), response);
+        assertSame(body, written);
+
+        return response;
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.habatoo.handlers;
+
+import io.github.habatoo.service.StaleResponseContext;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты очистки признака устаревшего ответа {@link StaleResponseContextFilter}.
+ */
+@DisplayName("Тесты StaleResponseContextFilter")
+class StaleResponseContextFilterTest {
+
+    private final StaleResponseContextFilter filter = new StaleResponseContextFilter();
+
+    @Test
+    @DisplayName("Признак должен очищаться после запроса без записи тела")
+    void shouldClearStaleAgeAfterRequestTest() throws Exception {
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (request, response) -> StaleResponseContext.markStale(Duration.ofSeconds(5)));
+
+        assertTrue(StaleResponseContext.consume().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Признак должен очищаться после запроса, завершившегося ошибкой")
+    void shouldClearStaleAgeAfterFailedRequestTest() {
+        assertThrows(ServletException.class, () -> filter.doFilter(
+                new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) -> {
+                    StaleResponseContext.markStale(Duration.ofSeconds(5));
+                    throw new ServletException("failed");
+                }));
+
+        assertTrue(StaleResponseContext.consume().isEmpty());
+    }
+}
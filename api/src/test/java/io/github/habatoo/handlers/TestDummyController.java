@@ -3,6 +3,7 @@ package io.github.habatoo.handlers;
 import org.springframework.core.MethodParameter;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -51,6 +52,17 @@ public class TestDummyController {
         throw new EmptyResultDataAccessException(1);
     }
 
+    /**
+     * Метод, при вызове которого выбрасывается OptimisticLockingFailureException,
+     * имитирующее изменение, основанное на устаревшей версии данных.
+     *
+     * @throws OptimisticLockingFailureException всегда
+     */
+    @GetMapping("/conflict")
+    public void conflict() {
+        throw new OptimisticLockingFailureException("stale version");
+    }
+
     /**
      * Метод, при вызове которого выбрасывается IllegalArgumentException,
      * имитирующее ошибку при некорректном аргументе.
@@ -0,0 +1,40 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.CacheInvalidationProperties;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.CommentListCache;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.CacheInvalidationBusImpl;
+import io.github.habatoo.service.impl.CacheInvalidationListenerImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@AutoConfiguration
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
+public class CacheInvalidationAutoConfiguration {
+
+    @Bean
+    public CacheInvalidationBusImpl cacheInvalidationBus(
+            CacheInvalidationProperties cacheInvalidationProperties,
+            JdbcTemplate jdbcTemplate) {
+        return new CacheInvalidationBusImpl(cacheInvalidationProperties, jdbcTemplate);
+    }
+
+    @Bean
+    public CacheInvalidationListenerImpl cacheInvalidationListener(
+            CacheInvalidationProperties cacheInvalidationProperties,
+            JdbcConnectionDetails jdbcConnectionDetails,
+            CacheInvalidationBus cacheInvalidationBus,
+            PostIdFilter postIdFilter,
+            PostListPrefetcher postListPrefetcher,
+            ImageMetadataCache imageMetadataCache,
+            CommentListCache commentListCache) {
+        return new CacheInvalidationListenerImpl(cacheInvalidationProperties, jdbcConnectionDetails,
+                cacheInvalidationBus, postIdFilter, postListPrefetcher, imageMetadataCache, commentListCache);
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.CoalescingProperties;
+import io.github.habatoo.service.RequestCoalescer;
+import io.github.habatoo.service.impl.RequestCoalescerImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingAutoConfiguration {
+
+    @Bean
+    public RequestCoalescerImpl requestCoalescer(CoalescingProperties coalescingProperties) {
+        return new RequestCoalescerImpl(coalescingProperties);
+    }
+}
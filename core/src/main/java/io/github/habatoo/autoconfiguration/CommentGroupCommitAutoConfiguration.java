@@ -0,0 +1,21 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.CommentGroupCommitProperties;
+import io.github.habatoo.repositories.CommentRepository;
+import io.github.habatoo.service.CommentGroupCommitter;
+import io.github.habatoo.service.impl.CommentGroupCommitterImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(CommentGroupCommitProperties.class)
+public class CommentGroupCommitAutoConfiguration {
+
+    @Bean
+    public CommentGroupCommitter commentGroupCommitter(
+            CommentGroupCommitProperties commentGroupCommitProperties,
+            CommentRepository commentRepository) {
+        return new CommentGroupCommitterImpl(commentGroupCommitProperties, commentRepository);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.CommentListCacheProperties;
+import io.github.habatoo.service.impl.CommentListCacheImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(CommentListCacheProperties.class)
+public class CommentListCacheAutoConfiguration {
+
+    @Bean
+    public CommentListCacheImpl commentListCache(CommentListCacheProperties commentListCacheProperties) {
+        return new CommentListCacheImpl(commentListCacheProperties);
+    }
+}
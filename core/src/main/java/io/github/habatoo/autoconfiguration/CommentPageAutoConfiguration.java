@@ -0,0 +1,15 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.CommentModerationProperties;
+import io.github.habatoo.properties.CommentPageProperties;
+import io.github.habatoo.properties.CommentThreadProperties;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+@AutoConfiguration
+@EnableConfigurationProperties({
+        CommentPageProperties.class,
+        CommentThreadProperties.class,
+        CommentModerationProperties.class})
+public class CommentPageAutoConfiguration {
+}
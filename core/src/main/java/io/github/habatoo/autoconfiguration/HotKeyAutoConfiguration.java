@@ -0,0 +1,24 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.endpoint.HotKeysEndpoint;
+import io.github.habatoo.properties.HotKeyProperties;
+import io.github.habatoo.service.HotKeyTracker;
+import io.github.habatoo.service.impl.HotKeyTrackerImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(HotKeyProperties.class)
+public class HotKeyAutoConfiguration {
+
+    @Bean
+    public HotKeyTracker hotKeyTracker(HotKeyProperties hotKeyProperties) {
+        return new HotKeyTrackerImpl(hotKeyProperties);
+    }
+
+    @Bean
+    public HotKeysEndpoint hotKeysEndpoint(HotKeyTracker hotKeyTracker, HotKeyProperties hotKeyProperties) {
+        return new HotKeysEndpoint(hotKeyTracker, hotKeyProperties);
+    }
+}
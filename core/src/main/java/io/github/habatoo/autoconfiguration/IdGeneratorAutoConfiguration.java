@@ -0,0 +1,25 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.IdGeneratorProperties;
+import io.github.habatoo.service.IdGenerator;
+import io.github.habatoo.service.impl.SequenceIdGeneratorImpl;
+import io.github.habatoo.service.impl.SnowflakeIdGeneratorImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@AutoConfiguration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdGenerator idGenerator(IdGeneratorProperties idGeneratorProperties, JdbcTemplate jdbcTemplate) {
+        return switch (idGeneratorProperties.strategy()) {
+            case SNOWFLAKE -> new SnowflakeIdGeneratorImpl(idGeneratorProperties);
+            case SEQUENCE -> new SequenceIdGeneratorImpl(jdbcTemplate);
+        };
+    }
+}
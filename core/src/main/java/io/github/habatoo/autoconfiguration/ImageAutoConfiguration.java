@@ -1,18 +1,30 @@
 package io.github.habatoo.autoconfiguration;
 
+import io.github.habatoo.properties.ImageCacheProperties;
+import io.github.habatoo.properties.ImageHttpProperties;
 import io.github.habatoo.properties.ImageProperties;
 import io.github.habatoo.service.FileNameGenerator;
+import io.github.habatoo.service.HotKeyTracker;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.dto.HotKeyCategory;
 import io.github.habatoo.service.impl.FileNameGeneratorImpl;
+import io.github.habatoo.service.impl.ImageMetadataCacheImpl;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
 @AutoConfiguration
-@EnableConfigurationProperties(ImageProperties.class)
+@EnableConfigurationProperties({ImageProperties.class, ImageCacheProperties.class, ImageHttpProperties.class})
 public class ImageAutoConfiguration {
 
     @Bean
     public FileNameGenerator fileNameGenerator(ImageProperties imageProperties) {
         return new FileNameGeneratorImpl(imageProperties);
     }
+
+    @Bean
+    public ImageMetadataCache imageMetadataCache(ImageCacheProperties imageCacheProperties, HotKeyTracker hotKeyTracker) {
+        return new ImageMetadataCacheImpl(imageCacheProperties,
+                postId -> hotKeyTracker.isPinned(HotKeyCategory.IMAGE, Long.toString(postId)));
+    }
 }
@@ -0,0 +1,28 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.LikeBatchProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.LikeBatchService;
+import io.github.habatoo.service.LikeBuffer;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.LikeBatchServiceImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(LikeBatchProperties.class)
+public class LikeBatchAutoConfiguration {
+
+    @Bean
+    public LikeBatchService likeBatchService(
+            LikeBatchProperties likeBatchProperties,
+            PostRepository postRepository,
+            LikeBuffer likeBuffer,
+            PostListPrefetcher postListPrefetcher,
+            PostEventBroadcaster postEventBroadcaster) {
+        return new LikeBatchServiceImpl(
+                likeBatchProperties, postRepository, likeBuffer, postListPrefetcher, postEventBroadcaster);
+    }
+}
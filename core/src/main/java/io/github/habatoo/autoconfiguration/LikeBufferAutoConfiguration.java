@@ -0,0 +1,22 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.LikeBuffer;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.LikeBufferImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(LikeBufferProperties.class)
+public class LikeBufferAutoConfiguration {
+
+    @Bean
+    public LikeBuffer likeBuffer(LikeBufferProperties likeBufferProperties,
+                                 PostRepository postRepository,
+                                 PostListPrefetcher postListPrefetcher) {
+        return new LikeBufferImpl(likeBufferProperties, postRepository, postListPrefetcher);
+    }
+}
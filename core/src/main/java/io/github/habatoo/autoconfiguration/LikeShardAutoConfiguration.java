@@ -0,0 +1,22 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.properties.LikeShardProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.LikeShardCompactor;
+import io.github.habatoo.service.impl.LikeShardCompactorImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties({LikeShardProperties.class, LikeBufferProperties.class})
+public class LikeShardAutoConfiguration {
+
+    @Bean
+    public LikeShardCompactor likeShardCompactor(LikeShardProperties likeShardProperties,
+                                                 LikeBufferProperties likeBufferProperties,
+                                                 PostRepository postRepository) {
+        return new LikeShardCompactorImpl(likeShardProperties, likeBufferProperties, postRepository);
+    }
+}
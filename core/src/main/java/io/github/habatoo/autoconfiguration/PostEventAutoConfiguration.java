@@ -0,0 +1,17 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.PostEventProperties;
+import io.github.habatoo.service.impl.PostEventBroadcasterImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(PostEventProperties.class)
+public class PostEventAutoConfiguration {
+
+    @Bean
+    public PostEventBroadcasterImpl postEventBroadcaster(PostEventProperties postEventProperties) {
+        return new PostEventBroadcasterImpl(postEventProperties);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.PostFilterProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.impl.PostIdFilterImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(PostFilterProperties.class)
+public class PostFilterAutoConfiguration {
+
+    @Bean
+    public PostIdFilter postIdFilter(PostFilterProperties postFilterProperties, PostRepository postRepository) {
+        return new PostIdFilterImpl(postFilterProperties, postRepository);
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.PostImportProperties;
+import io.github.habatoo.repositories.PostImportRepository;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostImportService;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.PostImportServiceImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(PostImportProperties.class)
+public class PostImportAutoConfiguration {
+
+    @Bean
+    public PostImportService postImportService(
+            PostImportProperties postImportProperties,
+            PostImportRepository postImportRepository,
+            PostIdFilter postIdFilter,
+            PostListPrefetcher postListPrefetcher) {
+        return new PostImportServiceImpl(postImportProperties, postImportRepository, postIdFilter, postListPrefetcher);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.PostRevisionProperties;
+import io.github.habatoo.repositories.PostRevisionRepository;
+import io.github.habatoo.service.DeltaCodec;
+import io.github.habatoo.service.PostRevisionService;
+import io.github.habatoo.service.impl.DeltaCodecImpl;
+import io.github.habatoo.service.impl.PostRevisionServiceImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(PostRevisionProperties.class)
+public class PostRevisionAutoConfiguration {
+
+    @Bean
+    public DeltaCodec deltaCodec() {
+        return new DeltaCodecImpl();
+    }
+
+    @Bean
+    public PostRevisionService postRevisionService(
+            PostRevisionProperties postRevisionProperties,
+            PostRevisionRepository postRevisionRepository,
+            DeltaCodec deltaCodec) {
+        return new PostRevisionServiceImpl(postRevisionProperties, postRevisionRepository, deltaCodec);
+    }
+}
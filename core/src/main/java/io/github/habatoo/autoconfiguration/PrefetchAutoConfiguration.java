@@ -0,0 +1,20 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.PrefetchProperties;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.PostListPrefetcherImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+@AutoConfiguration
+@EnableConfigurationProperties(PrefetchProperties.class)
+public class PrefetchAutoConfiguration {
+
+    @Bean
+    public PostListPrefetcher postListPrefetcher(PrefetchProperties prefetchProperties, DataSource dataSource) {
+        return new PostListPrefetcherImpl(prefetchProperties, dataSource);
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.habatoo.autoconfiguration;
+
+import io.github.habatoo.properties.ResilienceProperties;
+import io.github.habatoo.service.StaleIfErrorExecutor;
+import io.github.habatoo.service.impl.StaleIfErrorExecutorImpl;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceAutoConfiguration {
+
+    @Bean
+    public StaleIfErrorExecutor staleIfErrorExecutor(ResilienceProperties resilienceProperties) {
+        return new StaleIfErrorExecutorImpl(resilienceProperties);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.habatoo.dto.request;
+
+/**
+ * DTO для одного подзапроса внутри пакетного запроса.
+ *
+ * @param id     идентификатор подзапроса, возвращается в ответе без изменений (если не задан - используется порядковый номер)
+ * @param method HTTP метод подзапроса (поддерживается только GET, по умолчанию GET)
+ * @param path   путь подзапроса вместе с query-параметрами, например {@code /api/posts/1/comments}
+ */
+public record BatchItemRequestDto(
+        String id,
+        String method,
+        String path
+) {
+}
@@ -0,0 +1,17 @@
+package io.github.habatoo.dto.request;
+
+import java.util.List;
+
+/**
+ * DTO для пакетного запроса.
+ * <p>
+ * Содержит набор GET подзапросов к API, которые сервер выполняет за один HTTP вызов.
+ * Используется как входящие данные для endpoint {@code POST /api/batch}.
+ * </p>
+ *
+ * @param requests список подзапросов (обязательное поле, не может быть null или пустым)
+ */
+public record BatchRequestDto(
+        List<BatchItemRequestDto> requests
+) {
+}
@@ -0,0 +1,21 @@
+package io.github.habatoo.dto.request;
+
+import java.util.List;
+
+/**
+ * DTO для пакетного удаления комментариев модератором.
+ * <p>
+ * Комментарии выбираются либо списком идентификаторов, либо фильтром по тексту,
+ * который можно ограничить одним постом. Вместе с каждым комментарием удаляются все ответы на него.
+ * </p>
+ *
+ * @param ids          идентификаторы удаляемых комментариев
+ * @param postId       идентификатор поста, которым ограничивается фильтр по тексту
+ * @param textContains подстрока текста удаляемых комментариев без учёта регистра
+ */
+public record CommentBatchDeleteRequestDto(
+        List<Long> ids,
+        Long postId,
+        String textContains
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.habatoo.dto.request;
+
+import java.util.Map;
+
+/**
+ * DTO для пакетного запроса лайков.
+ * <p>
+ * Содержит накопленные клиентом лайки нескольких постов. Повторная отправка пакета
+ * с тем же ключом идемпотентности не увеличивает счётчики повторно.
+ * </p>
+ *
+ * @param idempotencyKey ключ идемпотентности пакета, генерируется клиентом (обязательное поле)
+ * @param likes          количество добавляемых лайков по идентификаторам постов
+ */
+public record LikeBatchRequestDto(
+        String idempotencyKey,
+        Map<Long, Integer> likes
+) {
+}
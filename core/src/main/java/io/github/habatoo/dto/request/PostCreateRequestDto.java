@@ -18,4 +18,14 @@ public record PostCreateRequestDto(
         String text,
         List<String> tags
 ) {
+
+    /**
+     * Максимальная длина названия поста, соответствует столбцу {@code post.title}.
+     */
+    public static final int MAX_TITLE_LENGTH = 500;
+
+    /**
+     * Максимальная длина тега, соответствует столбцу {@code tag.name}.
+     */
+    public static final int MAX_TAG_LENGTH = 100;
 }
@@ -0,0 +1,25 @@
+package io.github.habatoo.dto.request;
+
+import java.util.List;
+
+/**
+ * DTO для частичного обновления поста.
+ * <p>
+ * Содержит только изменяемые поля поста: {@code null} означает, что поле не меняется.
+ * Текст меняется либо целиком через {@code text}, либо правками {@code textDiff}.
+ * </p>
+ *
+ * @param id       идентификатор поста
+ * @param title    новое название поста или {@code null}
+ * @param text     новый текст поста или {@code null}
+ * @param tags     новый набор тегов (пустой список удаляет все теги) или {@code null}
+ * @param textDiff правки текста поста относительно известной клиенту версии или {@code null}
+ */
+public record PostPatchRequestDto(
+        Long id,
+        String title,
+        String text,
+        List<String> tags,
+        PostTextDiffDto textDiff
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.habatoo.dto.request;
+
+import java.util.List;
+
+/**
+ * DTO правок текста поста.
+ * <p>
+ * Правки применяются по порядку к версии текста, MD5 которой передан в {@code baseMd5}.
+ * Если текст поста с тех пор изменился, правки не применяются.
+ * </p>
+ *
+ * @param baseMd5 MD5 текста поста в шестнадцатеричном виде, к которому относятся правки
+ * @param edits   правки в порядке применения
+ */
+public record PostTextDiffDto(
+        String baseMd5,
+        List<PostTextEditDto> edits
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.habatoo.dto.request;
+
+/**
+ * DTO одной правки текста поста.
+ * <p>
+ * Заменяет {@code delete} символов, начиная с позиции {@code offset}, строкой {@code insert}.
+ * Позиции считаются в символах Unicode от начала текста после предыдущих правок.
+ * </p>
+ *
+ * @param offset позиция начала правки, начиная с 0
+ * @param delete количество удаляемых символов
+ * @param insert вставляемая строка
+ */
+public record PostTextEditDto(
+        int offset,
+        int delete,
+        String insert
+) {
+}
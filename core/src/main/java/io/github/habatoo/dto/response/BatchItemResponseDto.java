@@ -0,0 +1,19 @@
+package io.github.habatoo.dto.response;
+
+import java.util.Map;
+
+/**
+ * DTO для результата одного подзапроса пакетного запроса.
+ *
+ * @param id      идентификатор подзапроса из запроса
+ * @param status  HTTP статус выполнения подзапроса
+ * @param body    тело ответа подзапроса (может быть null)
+ * @param headers заголовки ответа подзапроса, например курсор следующей страницы комментариев
+ */
+public record BatchItemResponseDto(
+        String id,
+        int status,
+        Object body,
+        Map<String, String> headers
+) {
+}
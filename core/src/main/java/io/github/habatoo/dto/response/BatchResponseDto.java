@@ -0,0 +1,17 @@
+package io.github.habatoo.dto.response;
+
+import java.util.List;
+
+/**
+ * DTO для ответа на пакетный запрос.
+ * <p>
+ * Объединяет результаты всех подзапросов в одном JSON ответе. Порядок элементов
+ * совпадает с порядком подзапросов в запросе.
+ * </p>
+ *
+ * @param responses список результатов подзапросов
+ */
+public record BatchResponseDto(
+        List<BatchItemResponseDto> responses
+) {
+}
@@ -0,0 +1,15 @@
+package io.github.habatoo.dto.response;
+
+import java.util.Map;
+
+/**
+ * DTO для ответа на пакетное удаление комментариев.
+ *
+ * @param deleted       общее количество удалённых комментариев вместе с ответами
+ * @param deletedByPost количество удалённых комментариев по идентификаторам постов
+ */
+public record CommentBatchDeleteResponseDto(
+        int deleted,
+        Map<Long, Integer> deletedByPost
+) {
+}
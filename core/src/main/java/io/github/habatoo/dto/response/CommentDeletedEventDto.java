@@ -0,0 +1,13 @@
+package io.github.habatoo.dto.response;
+
+/**
+ * DTO для данных события удаления комментариев поста.
+ *
+ * @param id      идентификатор удалённого комментария или {@code null} при пакетном удалении
+ * @param deleted количество удалённых комментариев вместе с ответами
+ */
+public record CommentDeletedEventDto(
+        Long id,
+        int deleted
+) {
+}
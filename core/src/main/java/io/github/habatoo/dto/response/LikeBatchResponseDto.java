@@ -0,0 +1,17 @@
+package io.github.habatoo.dto.response;
+
+import java.util.Map;
+
+/**
+ * DTO для ответа на пакетный запрос лайков.
+ *
+ * @param likes    количество лайков по идентификаторам постов после применения пакета;
+ *                 несуществующие посты в ответ не попадают
+ * @param replayed {@code true}, если пакет с таким ключом идемпотентности уже был применён ранее
+ *                 и счётчики не изменялись
+ */
+public record LikeBatchResponseDto(
+        Map<Long, Integer> likes,
+        boolean replayed
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.habatoo.dto.response;
+
+/**
+ * DTO для события поста, отправляемого подписчикам потока событий.
+ * <p>
+ * Тип события определяет содержимое {@code data}: созданный или изменённый комментарий,
+ * сведения об удалённых комментариях или количество лайков поста.
+ * </p>
+ *
+ * @param type   тип события, например {@code comment-created} или {@code likes}
+ * @param postId идентификатор поста
+ * @param data   данные события или {@code null}, если событие их не содержит
+ */
+public record PostEventDto(
+        String type,
+        Long postId,
+        Object data
+) {
+}
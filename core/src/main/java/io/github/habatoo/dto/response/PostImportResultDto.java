@@ -0,0 +1,21 @@
+package io.github.habatoo.dto.response;
+
+/**
+ * DTO для ответа на массовый импорт постов.
+ *
+ * @param importId       идентификатор запуска импорта
+ * @param imported       количество созданных постов
+ * @param skipped        количество пропущенных строк с невалидными постами
+ * @param tagsCreated    количество созданных новых тегов
+ * @param tagLinks       количество созданных связей постов с тегами
+ * @param durationMillis длительность импорта в миллисекундах
+ */
+public record PostImportResultDto(
+        String importId,
+        long imported,
+        long skipped,
+        long tagsCreated,
+        long tagLinks,
+        long durationMillis
+) {
+}
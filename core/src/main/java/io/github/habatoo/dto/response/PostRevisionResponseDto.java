@@ -0,0 +1,21 @@
+package io.github.habatoo.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO для ответа с восстановленной версией поста.
+ *
+ * @param postId    идентификатор поста
+ * @param revision  номер версии
+ * @param title     заголовок поста в этой версии
+ * @param text      текст поста в этой версии
+ * @param createdAt дата и время сохранения версии
+ */
+public record PostRevisionResponseDto(
+        Long postId,
+        int revision,
+        String title,
+        String text,
+        LocalDateTime createdAt
+) {
+}
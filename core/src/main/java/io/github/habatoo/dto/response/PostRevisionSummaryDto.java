@@ -0,0 +1,23 @@
+package io.github.habatoo.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO для ответа со списком версий поста.
+ *
+ * @param revision    номер версии
+ * @param title       заголовок поста в этой версии
+ * @param snapshot    {@code true}, если версия хранится полным снимком текста
+ * @param textBytes   размер текста версии в UTF-8 в байтах
+ * @param storedBytes размер хранимых данных версии в байтах: снимка или дельты
+ * @param createdAt   дата и время сохранения версии
+ */
+public record PostRevisionSummaryDto(
+        int revision,
+        String title,
+        boolean snapshot,
+        int textBytes,
+        int storedBytes,
+        LocalDateTime createdAt
+) {
+}
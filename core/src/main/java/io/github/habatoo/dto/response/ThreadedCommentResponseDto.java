@@ -0,0 +1,24 @@
+package io.github.habatoo.dto.response;
+
+/**
+ * DTO для ответа с комментарием в составе ветки ответов.
+ * <p>
+ * Ветка возвращается плоским списком в порядке обхода в глубину: каждый ответ следует
+ * за комментарием, на который он дан, и за ответами на предыдущие ответы того же комментария.
+ * Дерево восстанавливается на клиенте по {@code parentId}.
+ * </p>
+ *
+ * @param id       уникальный идентификатор комментария
+ * @param text     текст комментария
+ * @param postId   идентификатор связанного поста
+ * @param parentId идентификатор комментария, на который дан ответ, или {@code null} для комментария верхнего уровня
+ * @param depth    глубина вложенности, 0 для комментария верхнего уровня
+ */
+public record ThreadedCommentResponseDto(
+        Long id,
+        String text,
+        Long postId,
+        Long parentId,
+        int depth
+) {
+}
@@ -0,0 +1,81 @@
+package io.github.habatoo.endpoint;
+
+import io.github.habatoo.properties.HotKeyProperties;
+import io.github.habatoo.service.HotKeyTracker;
+import io.github.habatoo.service.dto.HotKey;
+import io.github.habatoo.service.dto.HotKeyCategory;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Actuator endpoint {@code /actuator/hotkeys} с самыми популярными постами,
+ * изображениями и поисковыми строками.
+ *
+ * <p>Параметр {@code window} задаёт длительность скользящего окна (например, {@code 5m}),
+ * по умолчанию используется всё настроенное окно. Параметр {@code limit} ограничивает
+ * число ключей в каждой категории.</p>
+ *
+ * <p>Ответ содержит поисковые строки пользователей, поэтому endpoint не входит в список
+ * {@code management.endpoints.web.exposure.include} по умолчанию. Публиковать его по HTTP
+ * следует только на закрытом порту управления или за аутентификацией.</p>
+ *
+ * @see HotKeyTracker
+ */
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+    private final HotKeyProperties hotKeyProperties;
+
+    public HotKeysEndpoint(HotKeyTracker hotKeyTracker, HotKeyProperties hotKeyProperties) {
+        this.hotKeyTracker = hotKeyTracker;
+        this.hotKeyProperties = hotKeyProperties;
+    }
+
+    /**
+     * Возвращает популярные ключи всех категорий.
+     */
+    @ReadOperation
+    public Map<String, List<HotKey>> hotKeys(@Nullable Duration window, @Nullable Integer limit) {
+        Map<String, List<HotKey>> result = new LinkedHashMap<>();
+        for (HotKeyCategory category : HotKeyCategory.values()) {
+            result.put(category.name().toLowerCase(Locale.ROOT), top(category, window, limit));
+        }
+
+        return result;
+    }
+
+    /**
+     * Возвращает популярные ключи одной категории: {@code post}, {@code search} или {@code image}.
+     */
+    @ReadOperation
+    public List<HotKey> hotKeysByCategory(
+            @Selector String category, @Nullable Duration window, @Nullable Integer limit) {
+        HotKeyCategory hotKeyCategory;
+        try {
+            hotKeyCategory = HotKeyCategory.valueOf(category.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(
+                    "Unknown hot key category: " + category, "Unknown hot key category");
+        }
+
+        return top(hotKeyCategory, window, limit);
+    }
+
+    private List<HotKey> top(HotKeyCategory category, Duration window, Integer limit) {
+        Duration effectiveWindow = window != null
+                ? window
+                : hotKeyProperties.bucketDuration().multipliedBy(hotKeyProperties.buckets());
+
+        return hotKeyTracker.top(category, effectiveWindow, limit != null ? limit : hotKeyProperties.defaultLimit());
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.cache-invalidation" из application.yml
+ * Содержит параметры сброса кэшей между узлами через LISTEN/NOTIFY PostgreSQL: флаг включения,
+ * имя канала, время ожидания уведомлений за один опрос соединения и паузу перед переподключением.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+public record CacheInvalidationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("blog_cache_invalidation") String channel,
+        @DefaultValue("1s") Duration pollTimeout,
+        @DefaultValue("5s") Duration reconnectDelay
+) {
+}
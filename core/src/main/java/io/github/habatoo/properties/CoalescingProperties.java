@@ -0,0 +1,21 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.coalescing" из application.yml
+ * Содержит флаг объединения одинаковых конкурентных запросов на чтение и максимальное время,
+ * которое присоединившийся запрос ждёт общий результат, прежде чем выполнить запрос самостоятельно.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5s") Duration timeout
+) {
+}
@@ -0,0 +1,24 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.comments.group-commit" из application.yml
+ * Содержит параметры групповой записи комментариев: флаг включения, максимальное время ожидания
+ * других комментариев перед записью, максимальное количество комментариев в одном INSERT
+ * и время, которое запрос ждёт записи своего комментария.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.comments.group-commit")
+public record CommentGroupCommitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5ms") Duration maxDelay,
+        @DefaultValue("100") int maxBatchSize,
+        @DefaultValue("5s") Duration writeTimeout
+) {
+}
@@ -0,0 +1,21 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.comments.cache" из application.yml
+ * Содержит параметры кэша первых страниц комментариев: флаг включения,
+ * количество первых комментариев поста, хранимых в кэше, и бюджет памяти кэша.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.comments.cache")
+public record CommentListCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") int commentsPerPost,
+        @DefaultValue("16MB") DataSize maxSize
+) {
+}
@@ -0,0 +1,18 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.comments.moderation" из application.yml
+ * Содержит параметры пакетного удаления комментариев: максимальное количество
+ * идентификаторов в одном запросе.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.comments.moderation")
+public record CommentModerationProperties(
+        @DefaultValue("10000") int maxBatchSize
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.comments.page" из application.yml
+ * Содержит параметры постраничной выдачи комментариев поста: количество комментариев
+ * на странице, если клиент его не указал, и максимально допустимое количество.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.comments.page")
+public record CommentPageProperties(
+        @DefaultValue("100") int defaultLimit,
+        @DefaultValue("500") int maxLimit
+) {
+}
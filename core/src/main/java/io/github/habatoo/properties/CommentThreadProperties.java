@@ -0,0 +1,18 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.comments.thread" из application.yml
+ * Содержит параметры веток ответов на комментарии: максимальную глубину вложенности.
+ * Ответ на комментарий максимальной глубины сохраняется рядом с ним.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.comments.thread")
+public record CommentThreadProperties(
+        @DefaultValue("8") int maxDepth
+) {
+}
@@ -0,0 +1,26 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.hot-keys" из application.yml
+ * Содержит параметры учёта самых популярных постов и поисковых запросов: флаг включения,
+ * число счётчиков Space-Saving на интервал, длительность и количество интервалов скользящего окна,
+ * число закрепляемых в кэшах ключей и размер выдачи по умолчанию.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.hot-keys")
+public record HotKeyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("256") int capacity,
+        @DefaultValue("1m") Duration bucketDuration,
+        @DefaultValue("15") int buckets,
+        @DefaultValue("32") int pinnedKeys,
+        @DefaultValue("10") int defaultLimit
+) {
+}
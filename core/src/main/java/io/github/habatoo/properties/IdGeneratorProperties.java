@@ -0,0 +1,37 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.ids" из application.yml
+ * Содержит способ выделения идентификаторов постов и комментариев и номер узла, который входит
+ * в идентификаторы Snowflake. У каждого экземпляра приложения номер узла должен быть своим,
+ * поэтому значения по умолчанию у него нет: при способе {@code snowflake} без номера узла
+ * приложение не запускается.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.ids")
+public record IdGeneratorProperties(
+        @DefaultValue("snowflake") Strategy strategy,
+        Integer nodeId
+) {
+
+    /**
+     * Способ выделения идентификаторов.
+     */
+    public enum Strategy {
+
+        /**
+         * Идентификаторы Snowflake, упорядоченные по времени, без обращения к базе данных.
+         */
+        SNOWFLAKE,
+
+        /**
+         * Значения identity последовательностей таблиц: компактные идентификаторы для одного узла.
+         */
+        SEQUENCE
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.image.cache" из application.yml
+ * Содержит параметры кэша метаданных изображений: флаг включения,
+ * максимальное количество записей и количество сегментов.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.image.cache")
+public record ImageCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("16") int segments
+) {
+}
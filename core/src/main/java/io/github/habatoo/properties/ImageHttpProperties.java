@@ -0,0 +1,21 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.image.http" из application.yml
+ * Содержит параметры HTTP кэширования изображений: время, в течение которого клиент
+ * использует изображение без повторной проверки. При нулевом значении клиент проверяет
+ * изображение при каждом показе условным запросом и получает ответ 304, если оно не изменилось.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.image.http")
+public record ImageHttpProperties(
+        @DefaultValue("0s") Duration maxAge
+) {
+}
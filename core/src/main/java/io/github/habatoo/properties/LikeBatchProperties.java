@@ -0,0 +1,24 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.likes.batch" из application.yml
+ * Содержит ограничения пакетного запроса лайков: максимальное количество постов в пакете,
+ * максимальное количество лайков одного поста в пакете, время хранения ключей идемпотентности
+ * и период удаления устаревших ключей.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.likes.batch")
+public record LikeBatchProperties(
+        @DefaultValue("500") int maxPosts,
+        @DefaultValue("1000") int maxDelta,
+        @DefaultValue("24h") Duration keyTtl,
+        @DefaultValue("1h") Duration purgeInterval
+) {
+}
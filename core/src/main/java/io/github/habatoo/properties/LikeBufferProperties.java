@@ -0,0 +1,29 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.likes.buffer" из application.yml
+ * Содержит параметры отложенной записи лайков: флаг включения, период сброса накопленных лайков
+ * в базу данных, количество постов в одном UPDATE и максимальное число незаписанных лайков,
+ * которые могут быть потеряны при аварийной остановке приложения.
+ * <p>
+ * По умолчанию отложенная запись выключена и лайк сразу записывается в шард счётчика
+ * ("app.likes.shards"): такой лайк не теряется при аварийной остановке. Отложенную запись
+ * стоит включать, когда горячие посты получают больше лайков, чем выдерживают шарды,
+ * а потеря до {@code maxPending} лайков при аварии допустима.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.likes.buffer")
+public record LikeBufferProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("10000") long maxPending
+) {
+}
@@ -0,0 +1,24 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.likes.shards" из application.yml
+ * Содержит количество шардов счётчика лайков поста, период сворачивания шардов
+ * в {@code post.likes_count} и количество строк шардов, сворачиваемых одним запросом.
+ * Шарды — путь записи лайков по умолчанию; они не используются, только если включена
+ * отложенная запись лайков ("app.likes.buffer.enabled").
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.likes.shards")
+public record LikeShardProperties(
+        @DefaultValue("16") int count,
+        @DefaultValue("30s") Duration compactionInterval,
+        @DefaultValue("1000") int compactionBatchSize
+) {
+}
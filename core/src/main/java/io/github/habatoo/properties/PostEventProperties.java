@@ -0,0 +1,24 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.events" из application.yml
+ * Содержит параметры потока событий поста: интервал, не чаще которого подписчик получает
+ * количество лайков поста, период служебных сообщений для обнаружения закрытых соединений,
+ * время жизни соединения и количество событий, ожидающих отправки медленному подписчику.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.events")
+public record PostEventProperties(
+        @DefaultValue("1s") Duration likesInterval,
+        @DefaultValue("30s") Duration heartbeatInterval,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("64") int maxQueuedEvents
+) {
+}
@@ -0,0 +1,23 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.post-filter" из application.yml
+ * Содержит параметры фильтра существующих идентификаторов постов: флаг включения,
+ * ожидаемое количество постов, допустимую долю ложноположительных ответов и период перестроения.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.post-filter")
+public record PostFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("1h") Duration rebuildInterval
+) {
+}
@@ -0,0 +1,18 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.import" из application.yml
+ * Содержит параметры массового импорта постов: через сколько загруженных постов
+ * записывается сообщение о ходе импорта.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.import")
+public record PostImportProperties(
+        @DefaultValue("10000") int progressInterval
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.revisions" из application.yml
+ * Содержит параметры хранения истории версий постов: через сколько версий вместо дельты
+ * сохраняется полный снимок текста. Чем реже снимки, тем меньше места занимает история
+ * и тем больше дельт применяется при восстановлении версии.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.revisions")
+public record PostRevisionProperties(
+        @DefaultValue("20") int snapshotInterval
+) {
+}
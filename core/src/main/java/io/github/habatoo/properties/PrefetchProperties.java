@@ -0,0 +1,28 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.prefetch" из application.yml
+ * Содержит параметры упреждающей загрузки следующей страницы списка постов: флаг включения,
+ * размер и время жизни кэша, порог доли попаданий с размером окна оценки и паузой после отключения,
+ * а также порог загрузки пула соединений и паузу при его превышении.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.prefetch")
+public record PrefetchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("256") int cacheSize,
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("0.3") double minHitRate,
+        @DefaultValue("50") int evaluationWindow,
+        @DefaultValue("5m") Duration disableDuration,
+        @DefaultValue("0.5") double maxPoolUsage,
+        @DefaultValue("1s") Duration backoffDuration
+) {
+}
@@ -0,0 +1,26 @@
+package io.github.habatoo.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Класс для биндинга настроек из файла конфигурации.
+ * <p>
+ * Связывает свойства с префиксом "app.resilience" из application.yml
+ * Содержит флаг режима stale-if-error для чтения постов и комментариев, бюджет задержки
+ * запроса к базе данных, число хранимых последних успешных ответов, параметры
+ * автоматического выключателя (число подряд идущих ошибок и время в открытом состоянии).
+ * Загрузка дольше бюджета задержки считается сбоем выключателя.
+ * <p>
+ */
+@ConfigurationProperties(prefix = "app.resilience")
+public record ResilienceProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2s") Duration latencyBudget,
+        @DefaultValue("1000") int maxEntries,
+        @DefaultValue("5") int failureThreshold,
+        @DefaultValue("30s") Duration openDuration
+) {
+}
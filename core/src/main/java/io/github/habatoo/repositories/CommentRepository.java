@@ -2,9 +2,11 @@ package io.github.habatoo.repositories;
 
 import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
 import org.springframework.dao.DataAccessException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,14 +18,20 @@ import java.util.Optional;
 public interface CommentRepository {
 
     /**
-     * Выполняет поиск всех комментариев, связанных с указанным постом.
-     * Результаты возвращаются в виде списка объектов CommentResponseDto.
+     * Выполняет поиск страницы комментариев, связанных с указанным постом.
+     * Комментарии упорядочены по времени создания и идентификатору; страница начинается
+     * после комментария {@code afterCommentId}, поэтому чтение следующей страницы не зависит
+     * от количества уже прочитанных комментариев. Если комментарий курсора уже удалён,
+     * страница начинается с комментариев с большим идентификатором: идентификаторы выдаются
+     * в порядке создания, поэтому клиент продолжает чтение с того же места.
      *
-     * @param postId идентификатор поста для поиска комментариев
+     * @param postId         идентификатор поста для поиска комментариев
+     * @param afterCommentId идентификатор последнего комментария предыдущей страницы или {@code null} для первой страницы
+     * @param limit          максимальное количество комментариев на странице
      * @return список комментариев для указанного поста, может быть пустым
      * @throws DataAccessException при ошибках доступа к базе данных
      */
-    List<CommentResponseDto> findByPostId(Long postId);
+    List<CommentResponseDto> findByPostId(Long postId, Long afterCommentId, int limit);
 
     /**
      * Выполняет поиск конкретного комментария по идентификаторам поста и комментария.
@@ -36,9 +44,34 @@ public interface CommentRepository {
      */
     Optional<CommentResponseDto> findByPostIdAndId(Long postId, Long commentId);
 
+    /**
+     * Выполняет поиск страницы веток комментариев поста: первых {@code limit} комментариев
+     * верхнего уровня после {@code afterRootId} вместе со всеми ответами на них.
+     * Ветки идут одна за другой, поэтому выбираются одним упорядоченным диапазоном по пути.
+     *
+     * @param postId      идентификатор поста
+     * @param afterRootId идентификатор последнего комментария верхнего уровня предыдущей страницы
+     *                    или {@code null} для первой страницы
+     * @param limit       максимальное количество комментариев верхнего уровня на странице
+     * @return комментарии веток в порядке обхода в глубину, может быть пустым
+     * @throws DataAccessException при ошибках доступа к базе данных
+     */
+    List<ThreadedCommentResponseDto> findThreads(Long postId, Long afterRootId, int limit);
+
+    /**
+     * Выполняет поиск комментария вместе со всеми ответами на него.
+     *
+     * @param postId    идентификатор поста
+     * @param commentId идентификатор комментария, с которого начинается ветка
+     * @return комментарий и ответы на него в порядке обхода в глубину; пустой список, если комментарий не найден
+     * @throws DataAccessException при ошибках доступа к базе данных
+     */
+    List<ThreadedCommentResponseDto> findSubtree(Long postId, Long commentId);
+
     /**
      * Сохраняет новый комментарий в базе данных и возвращает сгенерированный идентификатор.
-     * Автоматически устанавливает временные метки создания и обновления.
+     * Автоматически устанавливает временные метки создания и обновления и в том же запросе
+     * увеличивает счётчик комментариев поста.
      *
      * @param commentCreateRequest DTO с данными для создания комментария
      * @return сгенерированный идентификатор нового комментария
@@ -47,6 +80,30 @@ public interface CommentRepository {
      */
     CommentResponseDto save(CommentCreateRequestDto commentCreateRequest);
 
+    /**
+     * Сохраняет группу новых комментариев одним запросом и увеличивает счётчики
+     * комментариев их постов одним UPDATE на всю группу.
+     *
+     * @param commentCreateRequests DTO с данными для создания комментариев
+     * @return созданные комментарии в порядке переданных запросов
+     * @throws DataAccessException при ошибках сохранения, в том числе если пост одного из комментариев не существует
+     */
+    List<CommentResponseDto> saveAll(List<CommentCreateRequestDto> commentCreateRequests);
+
+    /**
+     * Сохраняет ответ на комментарий и в том же запросе увеличивает счётчик комментариев поста.
+     * Ответ на комментарий глубины {@code maxDepth} сохраняется рядом с ним, как ответ на его родителя,
+     * чтобы глубина веток не превышала {@code maxDepth}.
+     *
+     * @param parentId             идентификатор комментария, на который дан ответ
+     * @param commentCreateRequest DTO с данными ответа
+     * @param maxDepth             максимальная глубина вложенности ответов
+     * @return сохранённый ответ
+     * @throws org.springframework.dao.EmptyResultDataAccessException если комментарий не найден у поста
+     * @throws DataAccessException                                    при ошибках сохранения в базу данных
+     */
+    ThreadedCommentResponseDto saveReply(Long parentId, CommentCreateRequestDto commentCreateRequest, int maxDepth);
+
     /**
      * Обновляет текст существующего комментария и временную метку обновления.
      * Возвращает количество обновленных записей (0 или 1).
@@ -60,13 +117,34 @@ public interface CommentRepository {
     CommentResponseDto update(Long postId, Long commentId, String text);
 
     /**
-     * Удаляет комментарий по идентификатору.
-     * Возвращает количество удаленных записей (0 или 1).
+     * Удаляет комментарий по идентификатору вместе со всеми ответами на него
+     * и в том же запросе уменьшает счётчик комментариев поста на количество удалённых записей.
      *
      * @param commentId идентификатор удаляемого комментария
-     * @return количество удаленных записей
+     * @return количество удаленных записей: 0, если комментарий не найден
      * @throws DataAccessException при ошибках удаления из базы данных
      */
     int deleteById(Long commentId);
 
+    /**
+     * Удаляет комментарии по идентификаторам вместе со всеми ответами на них
+     * и в том же запросе уменьшает счётчики комментариев всех затронутых постов.
+     *
+     * @param commentIds идентификаторы удаляемых комментариев
+     * @return количество удалённых записей по идентификаторам постов; пустой, если ничего не удалено
+     * @throws DataAccessException при ошибках удаления из базы данных
+     */
+    Map<Long, Integer> deleteAllById(List<Long> commentIds);
+
+    /**
+     * Удаляет комментарии, текст которых содержит подстроку без учёта регистра, вместе со всеми
+     * ответами на них и в том же запросе уменьшает счётчики комментариев всех затронутых постов.
+     *
+     * @param postId       идентификатор поста, которым ограничивается поиск, или {@code null} для всех постов
+     * @param textContains подстрока текста удаляемых комментариев
+     * @return количество удалённых записей по идентификаторам постов; пустой, если ничего не удалено
+     * @throws DataAccessException при ошибках удаления из базы данных
+     */
+    Map<Long, Integer> deleteAllByText(Long postId, String textContains);
+
 }
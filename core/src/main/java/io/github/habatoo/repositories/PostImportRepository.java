@@ -0,0 +1,77 @@
+package io.github.habatoo.repositories;
+
+import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.repositories.impl.PostImportRepositoryImpl;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * Интерфейс репозитория массового импорта постов.
+ *
+ * <p>Посты сначала загружаются протоколом COPY в нежурналируемую промежуточную таблицу
+ * {@code post_import}, а затем переносятся в таблицы {@code post}, {@code tag} и {@code post_tag}
+ * несколькими запросами над всем набором строк импорта.</p>
+ *
+ * @see PostImportRepositoryImpl
+ */
+public interface PostImportRepository {
+
+    /**
+     * Загрузить посты в промежуточную таблицу протоколом COPY, выделив каждому идентификатор.
+     *
+     * @param importId идентификатор запуска импорта
+     * @param posts    посты в порядке входного потока; читаются по мере загрузки
+     * @return количество загруженных строк
+     */
+    long copyToStaging(UUID importId, Iterator<PostCreateRequestDto> posts);
+
+    /**
+     * Создать теги импорта, которых ещё нет в таблице tag.
+     *
+     * @param importId идентификатор запуска импорта
+     * @return количество созданных тегов
+     */
+    int createImportedTags(UUID importId);
+
+    /**
+     * Перенести посты импорта в таблицу post.
+     *
+     * @param importId идентификатор запуска импорта
+     * @return количество созданных постов
+     */
+    int insertImportedPosts(UUID importId);
+
+    /**
+     * Связать перенесённые посты импорта с их тегами.
+     *
+     * @param importId идентификатор запуска импорта
+     * @return количество созданных связей
+     */
+    int linkImportedTags(UUID importId);
+
+    /**
+     * Сохранить первую версию перенесённых постов импорта полным снимком текста.
+     *
+     * @param importId идентификатор запуска импорта
+     * @return количество сохранённых версий
+     */
+    int createImportedRevisions(UUID importId);
+
+    /**
+     * Перебрать идентификаторы постов, созданных импортом.
+     *
+     * @param importId идентификатор запуска импорта
+     * @param consumer получатель идентификаторов
+     */
+    void forEachImportedPostId(UUID importId, LongConsumer consumer);
+
+    /**
+     * Удалить строки импорта из промежуточной таблицы.
+     *
+     * @param importId идентификатор запуска импорта
+     * @return количество удалённых строк
+     */
+    int deleteStaging(UUID importId);
+}
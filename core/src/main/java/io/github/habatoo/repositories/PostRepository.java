@@ -1,13 +1,20 @@
 package io.github.habatoo.repositories;
 
 import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.dto.request.PostPatchRequestDto;
 import io.github.habatoo.dto.request.PostRequestDto;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
 import io.github.habatoo.dto.response.PostResponseDto;
 import io.github.habatoo.repositories.impl.PostRepositoryImpl;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.repository.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 
 /**
  * Интерфейс репозитория для работы с постами блога.
@@ -54,6 +61,8 @@ public interface PostRepository {
     /**
      * Создать новый пост.
      *
+     * <p>Пост, недостающие теги и связи поста с тегами создаются одним запросом.</p>
+     *
      * @param postCreateRequest объект с данными для создания поста: title, text, список тегов
      * @return созданный PostResponseDto с заполненными полями, включая сгенерированный id и список тегов
      * @throws IllegalStateException если пост не удалось создать
@@ -69,6 +78,19 @@ public interface PostRepository {
      */
     PostResponseDto updatePost(PostRequestDto postRequest);
 
+    /**
+     * Частично обновить пост.
+     *
+     * <p>Запрос изменяет только переданные поля, поэтому текст поста не перезаписывается,
+     * если в запросе его нет. Правки текста применяются в базе данных к текущей версии текста.</p>
+     *
+     * @param postPatchRequest изменяемые поля поста
+     * @return обновлённый PostResponseDto с актуальными данными поста и тегов
+     * @throws EmptyResultDataAccessException     если пост с указанным id не найден
+     * @throws OptimisticLockingFailureException если правки текста относятся к устаревшей версии текста
+     */
+    PostResponseDto patchPost(PostPatchRequestDto postPatchRequest);
+
     /**
      * Удалить пост по идентификатору.
      *
@@ -85,6 +107,53 @@ public interface PostRepository {
      */
     void incrementLikes(Long postId);
 
+    /**
+     * Получить количество лайков поста без загрузки остальных полей и тегов.
+     *
+     * @param postId идентификатор поста
+     * @return количество лайков поста
+     * @throws org.springframework.dao.EmptyResultDataAccessException если пост не найден
+     */
+    int getLikesCount(Long postId);
+
+    /**
+     * Увеличить счётчики лайков нескольких постов одним запросом.
+     *
+     * @param likeDeltas количество добавляемых лайков по идентификаторам постов
+     * @return новое количество лайков по идентификаторам обновлённых постов;
+     * несуществующие посты в результат не попадают
+     */
+    Map<Long, Integer> addLikes(Map<Long, Long> likeDeltas);
+
+    /**
+     * Свернуть накопленные шарды лайков в счётчик лайков постов.
+     *
+     * <p>Строки шардов, заблокированные конкурентными лайками, пропускаются.</p>
+     *
+     * @param batchSize максимальное количество строк шардов, сворачиваемых за один вызов
+     * @return количество свёрнутых строк шардов
+     */
+    int foldLikeShards(int batchSize);
+
+    /**
+     * Применить пакет лайков одним запросом, если пакет с таким ключом идемпотентности
+     * ещё не применялся.
+     *
+     * @param idempotencyKey ключ идемпотентности пакета
+     * @param likeDeltas     количество добавляемых лайков по идентификаторам постов
+     * @return количество лайков постов пакета и признак повторной отправки;
+     * несуществующие посты в результат не попадают
+     */
+    LikeBatchResponseDto applyLikeBatch(String idempotencyKey, Map<Long, Integer> likeDeltas);
+
+    /**
+     * Удалить ключи идемпотентности пакетов лайков, применённых раньше указанного момента.
+     *
+     * @param threshold момент, раньше которого ключи считаются устаревшими
+     * @return количество удалённых ключей
+     */
+    int deleteLikeBatchKeysBefore(LocalDateTime threshold);
+
     /**
      * Увеличить счётчик комментариев поста на 1.
      *
@@ -106,4 +175,11 @@ public interface PostRepository {
      * @return обновлённый PostResponseDto с актуальными данными поста и тегов
      */
     List<String> getTagsForPost(Long postId);
+
+    /**
+     * Передаёт идентификаторы всех постов в обработчик без загрузки их в память списком.
+     *
+     * @param consumer обработчик идентификаторов постов
+     */
+    void forEachPostId(LongConsumer consumer);
 }
@@ -0,0 +1,52 @@
+package io.github.habatoo.repositories;
+
+import io.github.habatoo.dto.response.PostRevisionSummaryDto;
+import io.github.habatoo.repositories.impl.PostRevisionRepositoryImpl;
+import io.github.habatoo.service.dto.PostRevision;
+
+import java.util.List;
+
+/**
+ * Интерфейс репозитория истории версий постов.
+ *
+ * <p>Версии хранятся в таблице {@code post_revision}: полный снимок текста либо дельта
+ * относительно предыдущей версии.</p>
+ *
+ * @see PostRevisionRepositoryImpl
+ */
+public interface PostRevisionRepository {
+
+    /**
+     * Заблокировать строку поста до конца текущей транзакции, чтобы версии одного поста
+     * сохранялись последовательно.
+     *
+     * @param postId идентификатор поста
+     * @return {@code true}, если пост существует
+     */
+    boolean lockPost(Long postId);
+
+    /**
+     * Получить цепочку версий, необходимую для восстановления указанной версии: ближайший
+     * снимок не новее неё и все последующие версии до неё включительно.
+     *
+     * @param postId   идентификатор поста
+     * @param revision номер версии; {@link Integer#MAX_VALUE} для последней версии
+     * @return версии в порядке возрастания номера или пустой список, если версий нет
+     */
+    List<PostRevision> findRevisionChain(Long postId, int revision);
+
+    /**
+     * Получить список версий поста без их данных.
+     *
+     * @param postId идентификатор поста
+     * @return версии в порядке убывания номера
+     */
+    List<PostRevisionSummaryDto> findRevisionSummaries(Long postId);
+
+    /**
+     * Сохранить версию поста.
+     *
+     * @param revision версия поста
+     */
+    void insertRevision(PostRevision revision);
+}
@@ -2,53 +2,141 @@ package io.github.habatoo.repositories.impl;
 
 import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
 import io.github.habatoo.repositories.CommentRepository;
 import io.github.habatoo.repositories.mapper.CommentRowMapper;
+import io.github.habatoo.repositories.mapper.ThreadedCommentRowMapper;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.IdGenerator;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Реализация репозитория для работы с комментариями блога.
  * Обеспечивает доступ к данным комментариев с использованием JDBC Template.
+ * Идентификаторы новых комментариев выделяет {@link IdGenerator} до записи в базу данных.
+ *
+ * <p>Ответы на комментарии хранятся с материализованным путём: путь комментария состоит из путей
+ * его предков и собственного идентификатора в 16 шестнадцатеричных цифрах. Все ответы на комментарий
+ * лежат в диапазоне {@code [path, path || '~')}, а сортировка по пути даёт порядок обхода в глубину.</p>
+ *
+ * <p>Об изменении комментариев поста сообщается другим узлам через {@link CacheInvalidationBus}.</p>
  *
  * @see CommentRepository
  * @see JdbcTemplate
  * @see CommentRowMapper
+ * @see ThreadedCommentRowMapper
+ * @see IdGenerator
+ * @see CacheInvalidationBus
  */
 @Slf4j
 @Repository
 public class CommentRepositoryImpl implements CommentRepository {
 
+    /**
+     * Удаляет комментарии, выбранные подзапросом {@code target}, вместе с ответами и одним
+     * сгруппированным UPDATE уменьшает счётчики комментариев затронутых постов.
+     * Если выбранные комментарии вложены друг в друга, каждая запись удаляется и учитывается один раз.
+     */
+    private static final String DELETE_SUBTREES = """
+            WITH target AS (
+                %s
+            ), deleted AS (
+                DELETE FROM comment c
+                USING target t
+                WHERE c.post_id = t.post_id
+                  AND c.path >= t.path
+                  AND c.path < t.path || '~'
+                RETURNING c.post_id
+            ), removed AS (
+                SELECT post_id, COUNT(*) AS removed FROM deleted GROUP BY post_id
+            ), counted AS (
+                UPDATE post p
+                SET comments_count = GREATEST(p.comments_count - r.removed, 0)
+                FROM removed r
+                WHERE p.id = r.post_id
+            )
+            SELECT post_id, removed FROM removed ORDER BY post_id
+            """;
+
+    private static final RowMapper<Map.Entry<Long, Integer>> REMOVED_ROW_MAPPER =
+            (rs, rowNum) -> Map.entry(rs.getLong("post_id"), rs.getInt("removed"));
+
     private final JdbcTemplate jdbcTemplate;
     private final CommentRowMapper commentRowMapper;
+    private final ThreadedCommentRowMapper threadedCommentRowMapper;
+    private final IdGenerator idGenerator;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public CommentRepositoryImpl(
             JdbcTemplate jdbcTemplate,
-            CommentRowMapper commentRowMapper) {
+            CommentRowMapper commentRowMapper,
+            ThreadedCommentRowMapper threadedCommentRowMapper,
+            IdGenerator idGenerator,
+            CacheInvalidationBus cacheInvalidationBus) {
         this.jdbcTemplate = jdbcTemplate;
         this.commentRowMapper = commentRowMapper;
+        this.threadedCommentRowMapper = threadedCommentRowMapper;
+        this.idGenerator = idGenerator;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<CommentResponseDto> findByPostId(Long postId) {
+    public List<CommentResponseDto> findByPostId(Long postId, Long afterCommentId, int limit) {
+        if (afterCommentId == null) {
+            return jdbcTemplate.query(
+                    """
+                            SELECT id, text, post_id
+                            FROM comment
+                            WHERE post_id = ?
+                            ORDER BY created_at, id
+                            LIMIT ?
+                            """,
+                    commentRowMapper,
+                    postId,
+                    limit
+            );
+        }
+
         return jdbcTemplate.query(
                 """
+                        WITH cursor_comment AS (
+                            SELECT c.created_at, c.id FROM comment c WHERE c.id = ? AND c.post_id = ?
+                        )
                         SELECT id, text, post_id
                         FROM comment
                         WHERE post_id = ?
-                        ORDER BY created_at ASC
+                          AND CASE
+                                  WHEN EXISTS (SELECT 1 FROM cursor_comment)
+                                      THEN (created_at, id) > (SELECT cc.created_at, cc.id FROM cursor_comment cc)
+                                  ELSE id > ?
+                              END
+                        ORDER BY created_at, id
+                        LIMIT ?
                         """,
                 commentRowMapper,
-                postId
+                afterCommentId,
+                postId,
+                postId,
+                afterCommentId,
+                limit
         );
     }
 
@@ -71,34 +159,205 @@ public class CommentRepositoryImpl implements CommentRepository {
         return comments.stream().findFirst();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Сначала по частичному индексу выбираются пути комментариев верхнего уровня страницы,
+     * затем все комментарии от первого до последнего из них читаются одним диапазоном по пути.</p>
+     */
+    @Override
+    public List<ThreadedCommentResponseDto> findThreads(Long postId, Long afterRootId, int limit) {
+        return jdbcTemplate.query(
+                """
+                        WITH roots AS (
+                            SELECT path
+                            FROM comment
+                            WHERE post_id = ? AND parent_id IS NULL AND path > ?
+                            ORDER BY path
+                            LIMIT ?
+                        )
+                        SELECT id, text, post_id, parent_id, path
+                        FROM comment
+                        WHERE post_id = ?
+                          AND path >= (SELECT MIN(path) FROM roots)
+                          AND path < (SELECT MAX(path) FROM roots) || '~'
+                        ORDER BY path
+                        """,
+                threadedCommentRowMapper,
+                postId,
+                afterRootId == null ? "" : pathSegment(afterRootId),
+                limit,
+                postId
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
+    public List<ThreadedCommentResponseDto> findSubtree(Long postId, Long commentId) {
+        return jdbcTemplate.query(
+                """
+                        WITH root AS (
+                            SELECT path FROM comment WHERE id = ? AND post_id = ?
+                        )
+                        SELECT c.id, c.text, c.post_id, c.parent_id, c.path
+                        FROM comment c, root r
+                        WHERE c.post_id = ?
+                          AND c.path >= r.path
+                          AND c.path < r.path || '~'
+                        ORDER BY c.path
+                        """,
+                threadedCommentRowMapper,
+                commentId,
+                postId,
+                postId
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
     public CommentResponseDto save(CommentCreateRequestDto commentCreateRequest) {
         LocalDateTime now = LocalDateTime.now();
+        long id = idGenerator.nextId("comment");
 
-        return jdbcTemplate.queryForObject(
+        CommentResponseDto comment = jdbcTemplate.queryForObject(
                 """
-                        INSERT INTO comment (post_id, text, created_at, updated_at)
-                        VALUES (?, ?, ?, ?)
-                        RETURNING id, text, post_id
+                        WITH new_comment AS (
+                            INSERT INTO comment (id, post_id, path, text, created_at, updated_at)
+                            VALUES (?, ?, ?, ?, ?, ?)
+                            RETURNING id, text, post_id
+                        ), counted AS (
+                            UPDATE post SET comments_count = comments_count + 1
+                            WHERE id = (SELECT post_id FROM new_comment)
+                        )
+                        SELECT id, text, post_id FROM new_comment
                         """,
                 commentRowMapper,
+                id,
                 commentCreateRequest.postId(),
+                pathSegment(id),
                 commentCreateRequest.text(),
                 Timestamp.valueOf(now),
                 Timestamp.valueOf(now)
         );
+        cacheInvalidationBus.publish(CacheInvalidationTopic.COMMENTS_CHANGED, commentCreateRequest.postId());
+
+        return comment;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Идентификаторы выделяются до вставки, поэтому результат сопоставляется с порядком
+     * запросов без опоры на порядок строк {@code RETURNING}.</p>
+     */
+    @Override
+    @Transactional
+    public List<CommentResponseDto> saveAll(List<CommentCreateRequestDto> commentCreateRequests) {
+        if (commentCreateRequests.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = Arrays.stream(idGenerator.nextIds("comment", commentCreateRequests.size()))
+                .boxed()
+                .toArray(Long[]::new);
+        Long[] postIds = commentCreateRequests.stream().map(CommentCreateRequestDto::postId).toArray(Long[]::new);
+        String[] texts = commentCreateRequests.stream().map(CommentCreateRequestDto::text).toArray(String[]::new);
+        String[] paths = Arrays.stream(ids).map(CommentRepositoryImpl::pathSegment).toArray(String[]::new);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<CommentResponseDto> comments = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    """
+                            WITH input AS (
+                                SELECT i.id, i.post_id, i.text, i.path, i.ord
+                                FROM unnest(?::bigint[], ?::bigint[], ?::text[], ?::text[])
+                                    WITH ORDINALITY AS i(id, post_id, text, path, ord)
+                            ), new_comment AS (
+                                INSERT INTO comment (id, post_id, text, path, created_at, updated_at)
+                                SELECT id, post_id, text, path, ?, ? FROM input
+                                RETURNING id
+                            ), counted AS (
+                                UPDATE post p SET comments_count = p.comments_count + d.added
+                                FROM (SELECT post_id, COUNT(*) AS added FROM input GROUP BY post_id) d
+                                WHERE p.id = d.post_id
+                            )
+                            SELECT i.id, i.text, i.post_id
+                            FROM input i
+                            JOIN new_comment c ON c.id = i.id
+                            ORDER BY i.ord
+                            """);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            ps.setArray(2, con.createArrayOf("bigint", postIds));
+            ps.setArray(3, con.createArrayOf("text", texts));
+            ps.setArray(4, con.createArrayOf("text", paths));
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, commentRowMapper);
+        cacheInvalidationBus.publish(CacheInvalidationTopic.COMMENTS_CHANGED, Arrays.asList(postIds));
+
+        return comments;
     }
 
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Если путь комментария уже соответствует максимальной глубине, ответ получает
+     * родителя и путь этого комментария без последнего сегмента.</p>
      */
     @Override
+    @Transactional
+    public ThreadedCommentResponseDto saveReply(Long parentId, CommentCreateRequestDto commentCreateRequest, int maxDepth) {
+        long id = idGenerator.nextId("comment");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        ThreadedCommentResponseDto reply = jdbcTemplate.queryForObject(
+                """
+                        WITH parent AS (
+                            SELECT CASE WHEN length(path) > ? THEN parent_id ELSE id END AS id,
+                                   CASE WHEN length(path) > ? THEN left(path, length(path) - ?) ELSE path END AS path
+                            FROM comment
+                            WHERE id = ? AND post_id = ?
+                        ), new_comment AS (
+                            INSERT INTO comment (id, post_id, parent_id, path, text, created_at, updated_at)
+                            SELECT ?, ?, parent.id, parent.path || ?, ?, ?, ? FROM parent
+                            RETURNING id, text, post_id, parent_id, path
+                        ), counted AS (
+                            UPDATE post SET comments_count = comments_count + 1
+                            WHERE id = (SELECT post_id FROM new_comment)
+                        )
+                        SELECT id, text, post_id, parent_id, path FROM new_comment
+                        """,
+                threadedCommentRowMapper,
+                maxDepth * ThreadedCommentRowMapper.PATH_SEGMENT_LENGTH,
+                maxDepth * ThreadedCommentRowMapper.PATH_SEGMENT_LENGTH,
+                ThreadedCommentRowMapper.PATH_SEGMENT_LENGTH,
+                parentId,
+                commentCreateRequest.postId(),
+                id,
+                commentCreateRequest.postId(),
+                pathSegment(id),
+                commentCreateRequest.text(),
+                now,
+                now
+        );
+        cacheInvalidationBus.publish(CacheInvalidationTopic.COMMENTS_CHANGED, commentCreateRequest.postId());
+
+        return reply;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
     public CommentResponseDto update(Long postId, Long commentId, String text) {
-        return jdbcTemplate.queryForObject(
+        CommentResponseDto comment = jdbcTemplate.queryForObject(
                 """
                         UPDATE comment
                         SET text = ?, updated_at = ?
@@ -110,18 +369,99 @@ public class CommentRepositoryImpl implements CommentRepository {
                 Timestamp.valueOf(LocalDateTime.now()),
                 commentId
         );
+        cacheInvalidationBus.publish(CacheInvalidationTopic.COMMENTS_CHANGED, comment.postId());
+
+        return comment;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Ответы выбираются диапазоном по пути удаляемого комментария.</p>
      */
     @Override
+    @Transactional
     public int deleteById(Long commentId) {
-        return jdbcTemplate.update(
+        Map.Entry<Long, Integer> removed = jdbcTemplate.queryForObject(
                 """
-                        DELETE FROM comment WHERE id = ?
+                        WITH target AS (
+                            SELECT post_id, path FROM comment WHERE id = ?
+                        ), deleted AS (
+                            DELETE FROM comment c
+                            USING target t
+                            WHERE c.post_id = t.post_id
+                              AND c.path >= t.path
+                              AND c.path < t.path || '~'
+                            RETURNING c.post_id
+                        ), counted AS (
+                            UPDATE post p
+                            SET comments_count = GREATEST(p.comments_count - d.removed, 0)
+                            FROM (SELECT post_id, COUNT(*) AS removed FROM deleted GROUP BY post_id) d
+                            WHERE p.id = d.post_id
+                        )
+                        SELECT MAX(post_id) AS post_id, COUNT(*) AS removed FROM deleted
                         """,
+                REMOVED_ROW_MAPPER,
                 commentId
         );
+        if (removed == null || removed.getValue() == 0) {
+            return 0;
+        }
+        cacheInvalidationBus.publish(CacheInvalidationTopic.COMMENTS_CHANGED, removed.getKey());
+
+        return removed.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public Map<Long, Integer> deleteAllById(List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Map.of();
+        }
+        Long[] ids = commentIds.toArray(Long[]::new);
+
+        return toRemovedByPost(jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_SUBTREES.formatted(
+                    "SELECT post_id, path FROM comment WHERE id = ANY(?::bigint[])"));
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            return ps;
+        }, REMOVED_ROW_MAPPER));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Символы шаблона {@code LIKE} в подстроке экранируются и сравниваются буквально.</p>
+     */
+    @Override
+    @Transactional
+    public Map<Long, Integer> deleteAllByText(Long postId, String textContains) {
+        return toRemovedByPost(jdbcTemplate.query(
+                DELETE_SUBTREES.formatted("SELECT post_id, path FROM comment"
+                        + " WHERE (?::bigint IS NULL OR post_id = ?) AND text ILIKE ? ESCAPE '\\'"),
+                REMOVED_ROW_MAPPER,
+                postId,
+                postId,
+                "%" + escapeLike(textContains) + "%"
+        ));
+    }
+
+    private Map<Long, Integer> toRemovedByPost(List<Map.Entry<Long, Integer>> rows) {
+        Map<Long, Integer> removedByPost = rows.stream().collect(Collectors.toMap(
+                Map.Entry::getKey, Map.Entry::getValue, Integer::sum, LinkedHashMap::new));
+        cacheInvalidationBus.publish(CacheInvalidationTopic.COMMENTS_CHANGED, removedByPost.keySet());
+
+        return removedByPost;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String pathSegment(long commentId) {
+        return String.format("%016x", commentId);
     }
 }
@@ -1,6 +1,8 @@
 package io.github.habatoo.repositories.impl;
 
 import io.github.habatoo.repositories.ImageRepository;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -13,16 +15,19 @@ import java.util.Optional;
  * Реализация репозитория для работы с метаданными изображений постов.
  *
  * <p>Использует JdbcTemplate для выполнения SQL-запросов к базе данных.
- * Предоставляет доступ к метаданным изображений, хранящимся в таблице постов.</p>
+ * Предоставляет доступ к метаданным изображений, хранящимся в таблице постов.
+ * О замене изображения сообщается другим узлам через {@link CacheInvalidationBus}.</p>
  */
 @Slf4j
 @Repository
 public class ImageRepositoryImpl implements ImageRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
-    public ImageRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    public ImageRepositoryImpl(JdbcTemplate jdbcTemplate, CacheInvalidationBus cacheInvalidationBus) {
         this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     /**
@@ -73,6 +78,7 @@ public class ImageRepositoryImpl implements ImageRepository {
             log.warn("Пост с id={} не найден при обновлении изображения", postId);
             throw new EmptyResultDataAccessException("Post not found with id: " + postId, 1);
         }
+        cacheInvalidationBus.publish(CacheInvalidationTopic.IMAGE_CHANGED, postId);
     }
 
     /**
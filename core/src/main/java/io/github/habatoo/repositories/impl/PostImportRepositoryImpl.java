@@ -0,0 +1,263 @@
+package io.github.habatoo.repositories.impl;
+
+import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.repositories.PostImportRepository;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.IdGenerator;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * Реализация репозитория массового импорта постов.
+ *
+ * <p>Строки передаются в {@code COPY ... FROM STDIN} в формате CSV порциями примерно по
+ * {@value #COPY_CHUNK_CHARS} символов, поэтому входной поток не накапливается в памяти целиком.
+ * Теги поста передаются в одном столбце литералом массива Postgres. Идентификаторы постов порции
+ * выделяет {@link IdGenerator} перед её {@code COPY}: пока {@code COPY} активен, соединение
+ * не может выполнять другие запросы, а генератор может обращаться к базе данных.</p>
+ *
+ * <p>Об импорте сообщается другим узлам через {@link CacheInvalidationBus} одним уведомлением
+ * без идентификаторов: узлы перестраивают фильтр постов целиком.</p>
+ *
+ * @see PostImportRepository
+ * @see IdGenerator
+ * @see CacheInvalidationBus
+ */
+@Slf4j
+@Repository
+public class PostImportRepositoryImpl implements PostImportRepository {
+
+    private static final int COPY_CHUNK_CHARS = 1024 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdGenerator idGenerator;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public PostImportRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                    IdGenerator idGenerator,
+                                    CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = idGenerator;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long copyToStaging(UUID importId, Iterator<PostCreateRequestDto> posts) {
+        List<PostCreateRequestDto> batch = new ArrayList<>();
+        long copied = 0;
+        long batchChars = 0;
+        while (posts.hasNext()) {
+            PostCreateRequestDto post = posts.next();
+            batch.add(post);
+            batchChars += post.title().length() + post.text().length();
+            if (batchChars >= COPY_CHUNK_CHARS) {
+                copied += copyBatch(importId, copied, batch);
+                batch.clear();
+                batchChars = 0;
+            }
+        }
+        if (!batch.isEmpty()) {
+            copied += copyBatch(importId, copied, batch);
+        }
+
+        return copied;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createImportedTags(UUID importId) {
+        return jdbcTemplate.update(
+                """
+                        INSERT INTO tag (name)
+                        SELECT DISTINCT unnest(tags) FROM post_import WHERE import_id = ?
+                        ON CONFLICT (name) DO NOTHING
+                        """,
+                importId
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int insertImportedPosts(UUID importId) {
+        int inserted = jdbcTemplate.update(
+                """
+                        INSERT INTO post (id, title, text, likes_count, comments_count, created_at, updated_at)
+                        SELECT post_id, title, text, 0, 0, now(), now() FROM post_import WHERE import_id = ?
+                        """,
+                importId
+        );
+        if (inserted > 0) {
+            cacheInvalidationBus.publish(CacheInvalidationTopic.POSTS_IMPORTED);
+        }
+
+        return inserted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int linkImportedTags(UUID importId) {
+        return jdbcTemplate.update(
+                """
+                        INSERT INTO post_tag (post_id, tag_id)
+                        SELECT DISTINCT i.post_id, t.id
+                        FROM post_import i
+                        CROSS JOIN LATERAL unnest(i.tags) AS n(name)
+                        JOIN tag t ON t.name = n.name
+                        WHERE i.import_id = ?
+                        ON CONFLICT (post_id, tag_id) DO NOTHING
+                        """,
+                importId
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createImportedRevisions(UUID importId) {
+        return jdbcTemplate.update(
+                """
+                        INSERT INTO post_revision (post_id, revision, title, snapshot, data, text_bytes)
+                        SELECT post_id, 1, title, TRUE, convert_to(text, 'UTF8'), octet_length(text)
+                        FROM post_import
+                        WHERE import_id = ?
+                        """,
+                importId
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachImportedPostId(UUID importId, LongConsumer consumer) {
+        jdbcTemplate.query(
+                """
+                        SELECT post_id FROM post_import WHERE import_id = ?
+                        """,
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1)),
+                importId
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteStaging(UUID importId) {
+        return jdbcTemplate.update(
+                """
+                        DELETE FROM post_import WHERE import_id = ?
+                        """,
+                importId
+        );
+    }
+
+    /**
+     * Выделяет идентификаторы постам порции и загружает её одним {@code COPY}.
+     *
+     * @return количество загруженных строк
+     */
+    private long copyBatch(UUID importId, long firstSeq, List<PostCreateRequestDto> batch) {
+        long[] ids = idGenerator.nextIds("post", batch.size());
+        StringBuilder chunk = new StringBuilder(COPY_CHUNK_CHARS + COPY_CHUNK_CHARS / 4);
+        for (int i = 0; i < batch.size(); i++) {
+            appendRow(chunk, importId, firstSeq + i, ids[i], batch.get(i));
+        }
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            CopyManager copyManager = con.unwrap(PGConnection.class).getCopyAPI();
+            CopyIn copyIn = copyManager.copyIn(
+                    "COPY post_import (import_id, seq, post_id, title, text, tags) FROM STDIN WITH (FORMAT csv)");
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+        log.debug("Загружена порция импорта {}: {} постов", importId, batch.size());
+
+        return copied == null ? 0 : copied;
+    }
+
+    /**
+     * Дописывает строку CSV с постом.
+     */
+    private static void appendRow(StringBuilder chunk, UUID importId, long seq, long postId, PostCreateRequestDto post) {
+        chunk.append(importId).append(',')
+                .append(seq).append(',')
+                .append(postId).append(',');
+        appendCsvField(chunk, post.title());
+        chunk.append(',');
+        appendCsvField(chunk, post.text());
+        chunk.append(',');
+        appendCsvField(chunk, toArrayLiteral(post.tags()));
+        chunk.append('\n');
+    }
+
+    /**
+     * Дописывает значение в кавычках CSV, удваивая кавычки внутри значения.
+     */
+    private static void appendCsvField(StringBuilder chunk, String value) {
+        chunk.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                chunk.append('"');
+            }
+            chunk.append(c);
+        }
+        chunk.append('"');
+    }
+
+    /**
+     * Формирует литерал массива Postgres из имён тегов.
+     */
+    private static String toArrayLiteral(List<String> tags) {
+        StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; tags != null && i < tags.size(); i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append('"');
+            String tag = tags.get(i);
+            for (int j = 0; j < tag.length(); j++) {
+                char c = tag.charAt(j);
+                if (c == '"' || c == '\\') {
+                    literal.append('\\');
+                }
+                literal.append(c);
+            }
+            literal.append('"');
+        }
+
+        return literal.append('}').toString();
+    }
+}
@@ -1,38 +1,91 @@
 package io.github.habatoo.repositories.impl;
 
 import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.dto.request.PostPatchRequestDto;
 import io.github.habatoo.dto.request.PostRequestDto;
+import io.github.habatoo.dto.request.PostTextEditDto;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
 import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.properties.LikeShardProperties;
 import io.github.habatoo.repositories.PostRepository;
 import io.github.habatoo.repositories.mapper.PostListRowMapper;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.IdGenerator;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Array;
+import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
 
 /**
  * Реализация репозитория для работы с постами блога.
  * Обеспечивает доступ к данным постов с использованием JDBC Template
  * (только CRUD операции).
  *
+ * <p>Лайки записываются в случайный шард таблицы {@code post_like_shard}, а не в строку поста,
+ * поэтому конкурентные лайки одного поста не ждут блокировку одной строки. Итоговое количество
+ * лайков при чтении складывается из {@code post.likes_count} и суммы шардов.</p>
+ *
+ * <p>При включённой отложенной записи лайков ({@link LikeBufferProperties#enabled()}) шарды не
+ * используются: буфер записывает лайки одним пишущим потоком прямо в {@code post.likes_count},
+ * поэтому чтение не складывает шарды. Шарды, оставшиеся от работы без буфера, сворачивает
+ * {@link io.github.habatoo.service.LikeShardCompactor} при старте приложения. Значение флага
+ * должно совпадать на всех экземплярах приложения.</p>
+ *
+ * <p>Идентификатор нового поста выделяет {@link IdGenerator} до записи в базу данных.
+ * О создании, изменении и удалении поста сообщается другим узлам через {@link CacheInvalidationBus};
+ * лайки не публикуются, их количество в кэшах обновляется по истечении срока хранения.</p>
+ *
  * @see PostListRowMapper
+ * @see LikeShardProperties
+ * @see LikeBufferProperties
+ * @see IdGenerator
+ * @see CacheInvalidationBus
  * @see JdbcTemplate
  */
 @Slf4j
 @Repository
 public class PostRepositoryImpl implements PostRepository {
 
+    private static final String LIKES_TOTAL = """
+            p.likes_count + COALESCE((SELECT SUM(s.count) FROM post_like_shard s WHERE s.post_id = p.id), 0)\
+            """;
+    private static final String LIKES_PERSISTED = "p.likes_count";
+
     private final JdbcTemplate jdbcTemplate;
     private final PostListRowMapper postListRowMapper;
+    private final LikeShardProperties likeShardProperties;
+    private final IdGenerator idGenerator;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final String likesTotal;
 
     public PostRepositoryImpl(JdbcTemplate jdbcTemplate,
-                              PostListRowMapper postListRowMapper) {
+                              PostListRowMapper postListRowMapper,
+                              LikeShardProperties likeShardProperties,
+                              LikeBufferProperties likeBufferProperties,
+                              IdGenerator idGenerator,
+                              CacheInvalidationBus cacheInvalidationBus) {
         this.jdbcTemplate = jdbcTemplate;
         this.postListRowMapper = postListRowMapper;
+        this.likeShardProperties = likeShardProperties;
+        this.idGenerator = idGenerator;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.likesTotal = likeBufferProperties.enabled() ? LIKES_PERSISTED : LIKES_TOTAL;
     }
 
     /**
@@ -45,9 +98,9 @@ public class PostRepositoryImpl implements PostRepository {
         List<Object> params = new ArrayList<>(sbResult.get(where));
 
         String sql = """
-                SELECT p.id, p.title, p.text, p.likes_count, p.comments_count
+                SELECT p.id, p.title, p.text, %s AS likes_count, p.comments_count
                 FROM post p
-                """ + where + " ORDER BY p.created_at DESC LIMIT ? OFFSET ?";
+                """.formatted(likesTotal) + where + " ORDER BY p.created_at DESC LIMIT ? OFFSET ?";
         params.add(pageSize);
         params.add((pageNumber - 1) * pageSize);
 
@@ -84,10 +137,10 @@ public class PostRepositoryImpl implements PostRepository {
         try {
             PostResponseDto post = jdbcTemplate.queryForObject(
                     """
-                                SELECT id, title, text, likes_count, comments_count
-                                FROM post
-                                WHERE id = ?
-                            """,
+                                SELECT p.id, p.title, p.text, %s AS likes_count, p.comments_count
+                                FROM post p
+                                WHERE p.id = ?
+                            """.formatted(likesTotal),
                     postListRowMapper,
                     postId
             );
@@ -104,45 +157,71 @@ public class PostRepositoryImpl implements PostRepository {
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public PostResponseDto createPost(PostCreateRequestDto postCreateRequest) {
-        LocalDateTime now = LocalDateTime.now();
-        PostResponseDto postResponse = createPost(
-                postCreateRequest.title(),
-                postCreateRequest.text(),
-                now);
-        Long postId = postResponse.id();
-        log.info("Пост успешно создан с id='{}'", postId);
-
-        List<String> tags = postCreateRequest.tags();
-        updatePostTagsInternal(postId, tags);
-        List<String> tagsForPost = getTagsForPost(postId);
-
-        return new PostResponseDto(
-                postResponse.id(),
-                postResponse.title(),
-                postResponse.text(),
-                tagsForPost,
-                postResponse.likesCount(),
-                postResponse.commentsCount()
-        );
+        long postId = idGenerator.nextId("post");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> tags = postCreateRequest.tags() == null ? List.of() : postCreateRequest.tags();
+        String[] tagNames = tags.toArray(new String[0]);
+
+        PostResponseDto createdPost = DataAccessUtils.requiredSingleResult(jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement("""
+                            WITH new_post AS (
+                                INSERT INTO post (id, title, text, likes_count, comments_count, created_at, updated_at)
+                                VALUES (?, ?, ?, 0, 0, ?, ?)
+                                RETURNING id, title, text, likes_count, comments_count
+                            ), input_tag AS (
+                                SELECT name, MIN(ord) AS ord
+                                FROM unnest(?::varchar[]) WITH ORDINALITY AS t(name, ord)
+                                GROUP BY name
+                            ), upserted_tag AS (
+                                INSERT INTO tag (name)
+                                SELECT name FROM input_tag
+                                ON CONFLICT (name) DO UPDATE SET name = EXCLUDED.name
+                                RETURNING id, name
+                            ), linked AS (
+                                INSERT INTO post_tag (post_id, tag_id)
+                                SELECT p.id, t.id FROM new_post p CROSS JOIN upserted_tag t
+                            )
+                            SELECT p.id, p.title, p.text, p.likes_count, p.comments_count,
+                                   ARRAY(
+                                       SELECT t.name FROM upserted_tag t JOIN input_tag i ON i.name = t.name
+                                       ORDER BY i.ord
+                                   ) AS tags
+                            FROM new_post p
+                            """);
+                    ps.setLong(1, postId);
+                    ps.setString(2, postCreateRequest.title());
+                    ps.setString(3, postCreateRequest.text());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                    ps.setArray(6, con.createArrayOf("varchar", tagNames));
+                    return ps;
+                },
+                postWithTagsRowMapper()
+        ));
+        cacheInvalidationBus.publish(CacheInvalidationTopic.POST_CREATED, createdPost.id());
+        log.info("Пост успешно создан с id='{}'", createdPost.id());
+
+        return createdPost;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public PostResponseDto updatePost(PostRequestDto postRequest) {
         Long postId = postRequest.id();
         PostResponseDto postResponse = updatePost(postRequest.title(),
                 postRequest.text(),
                 LocalDateTime.now(),
                 postId);
-        List<String> tags = postRequest.tags();
-        updatePostTagsInternal(postId, tags);
+        List<String> tagsForPost = updatePostTags(postId, postRequest.tags());
+        cacheInvalidationBus.publish(CacheInvalidationTopic.POST_CHANGED, postId);
         log.info("Пост id={} успешно обновлен", postId);
 
-        List<String> tagsForPost = getTagsForPost(postId);
-
         return new PostResponseDto(
                 postResponse.id(),
                 postResponse.title(),
@@ -153,10 +232,79 @@ public class PostRepositoryImpl implements PostRepository {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Список {@code SET} собирается только из переданных полей. Правки текста применяются
+     * вложенными {@code overlay} при условии, что MD5 текущего текста совпадает с версией правок.
+     * Обновление поста, замена тегов и уведомление об изменении выполняются в одной транзакции.</p>
+     */
+    @Override
+    @Transactional
+    public PostResponseDto patchPost(PostPatchRequestDto postPatchRequest) {
+        Long postId = postPatchRequest.id();
+        List<String> assignments = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (postPatchRequest.title() != null) {
+            assignments.add("title = ?");
+            params.add(postPatchRequest.title());
+        }
+        if (postPatchRequest.text() != null) {
+            assignments.add("text = ?");
+            params.add(postPatchRequest.text());
+        } else if (postPatchRequest.textDiff() != null) {
+            String text = "p.text";
+            for (PostTextEditDto edit : postPatchRequest.textDiff().edits()) {
+                text = "overlay(" + text + " PLACING ? FROM ? FOR ?)";
+                params.add(edit.insert() == null ? "" : edit.insert());
+                params.add(edit.offset() + 1);
+                params.add(edit.delete());
+            }
+            assignments.add("text = " + text);
+        }
+        assignments.add("updated_at = ?");
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.add(postId);
+        String versionCondition = "";
+        if (postPatchRequest.text() == null && postPatchRequest.textDiff() != null) {
+            versionCondition = " AND md5(p.text) = ?";
+            params.add(postPatchRequest.textDiff().baseMd5());
+        }
+
+        List<PostResponseDto> updated = jdbcTemplate.query(
+                """
+                        UPDATE post p
+                        SET %s
+                        WHERE p.id = ?%s
+                        RETURNING p.id, p.title, p.text, %s AS likes_count, p.comments_count
+                        """.formatted(String.join(", ", assignments), versionCondition, likesTotal),
+                postListRowMapper,
+                params.toArray()
+        );
+        if (updated.isEmpty()) {
+            if (!versionCondition.isEmpty() && existsById(postId)) {
+                log.warn("Правки текста поста id={} относятся к устаревшей версии", postId);
+                throw new OptimisticLockingFailureException("Post text has changed since version "
+                        + postPatchRequest.textDiff().baseMd5());
+            }
+            throw new EmptyResultDataAccessException("Post not found: " + postId, 1);
+        }
+        PostResponseDto post = updated.getFirst();
+        List<String> currentTags = selectTagsForPost(postId);
+        List<String> tags = postPatchRequest.tags() == null
+                ? currentTags
+                : replacePostTags(postId, currentTags, postPatchRequest.tags());
+        cacheInvalidationBus.publish(CacheInvalidationTopic.POST_CHANGED, postId);
+        log.info("Пост id={} частично обновлен: {}", postId, assignments);
+
+        return new PostResponseDto(post.id(), post.title(), post.text(), tags, post.likesCount(), post.commentsCount());
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public void deletePost(Long postId) {
         int deletedRows = jdbcTemplate.update(
                 """
@@ -166,6 +314,7 @@ public class PostRepositoryImpl implements PostRepository {
         );
         String msg = String.format("Пост не найден для удаления id==%d", postId);
         checkIfThrow(deletedRows, msg);
+        cacheInvalidationBus.publish(CacheInvalidationTopic.POST_DELETED, postId);
     }
 
     /**
@@ -173,16 +322,161 @@ public class PostRepositoryImpl implements PostRepository {
      */
     @Override
     public void incrementLikes(Long postId) {
+        int shard = ThreadLocalRandom.current().nextInt(Math.max(1, likeShardProperties.count()));
         int updatedRows = jdbcTemplate.update(
                 """
-                        UPDATE post SET likes_count = likes_count + 1 WHERE id = ?
+                        INSERT INTO post_like_shard (post_id, shard, count)
+                        SELECT id, ?, 1 FROM post WHERE id = ?
+                        ON CONFLICT (post_id, shard) DO UPDATE SET count = post_like_shard.count + 1
                         """,
+                shard,
                 postId
         );
         String msg = String.format("Пост не найден при увеличении лайков id=%d", postId);
         checkIfThrow(updatedRows, msg);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLikesCount(Long postId) {
+        Integer likes = jdbcTemplate.queryForObject(
+                """
+                        SELECT %s FROM post p WHERE p.id = ?
+                        """.formatted(likesTotal),
+                Integer.class,
+                postId
+        );
+
+        return likes == null ? 0 : likes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, Integer> addLikes(Map<Long, Long> likeDeltas) {
+        if (likeDeltas.isEmpty()) {
+            return Map.of();
+        }
+        String values = String.join(", ", Collections.nCopies(likeDeltas.size(), "(?::bigint, ?::integer)"));
+        List<Object> params = new ArrayList<>(likeDeltas.size() * 2);
+        likeDeltas.forEach((postId, delta) -> {
+            params.add(postId);
+            params.add(delta);
+        });
+
+        Map<Long, Integer> likes = new HashMap<>();
+        jdbcTemplate.query(
+                """
+                        UPDATE post p SET likes_count = p.likes_count + v.delta
+                        FROM (VALUES %s) AS v(id, delta)
+                        WHERE p.id = v.id
+                        RETURNING p.id, %s
+                        """.formatted(values, likesTotal),
+                (RowCallbackHandler) rs -> likes.put(rs.getLong(1), rs.getInt(2)),
+                params.toArray()
+        );
+
+        return likes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LikeBatchResponseDto applyLikeBatch(String idempotencyKey, Map<Long, Integer> likeDeltas) {
+        Long[] postIds = likeDeltas.keySet().toArray(new Long[0]);
+        Integer[] deltas = likeDeltas.values().toArray(new Integer[0]);
+        String sql = """
+                WITH accepted AS (
+                    INSERT INTO like_batch (idempotency_key) VALUES (?)
+                    ON CONFLICT (idempotency_key) DO NOTHING
+                    RETURNING idempotency_key
+                ), delta AS (
+                    SELECT d.id, d.delta FROM unnest(?::bigint[], ?::integer[]) AS d(id, delta)
+                ), updated AS (
+                    UPDATE post p SET likes_count = p.likes_count + d.delta
+                    FROM delta d
+                    WHERE p.id = d.id AND EXISTS (SELECT 1 FROM accepted)
+                    RETURNING p.id, %1$s AS likes_count
+                )
+                SELECT NOT EXISTS (SELECT 1 FROM accepted) AS replayed, r.id, r.likes_count
+                FROM (SELECT 1) AS one
+                LEFT JOIN (
+                    SELECT id, likes_count FROM updated
+                    UNION ALL
+                    SELECT p.id, %1$s FROM post p JOIN delta d ON d.id = p.id
+                    WHERE NOT EXISTS (SELECT 1 FROM accepted)
+                ) AS r ON TRUE
+                """.formatted(likesTotal);
+
+        return jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    ps.setString(1, idempotencyKey);
+                    ps.setArray(2, con.createArrayOf("bigint", postIds));
+                    ps.setArray(3, con.createArrayOf("integer", deltas));
+                    return ps;
+                },
+                (ResultSetExtractor<LikeBatchResponseDto>) rs -> {
+                    Map<Long, Integer> likes = new LinkedHashMap<>();
+                    boolean replayed = false;
+                    while (rs.next()) {
+                        replayed = rs.getBoolean("replayed");
+                        long postId = rs.getLong("id");
+                        if (!rs.wasNull()) {
+                            likes.put(postId, rs.getInt("likes_count"));
+                        }
+                    }
+                    return new LikeBatchResponseDto(likes, replayed);
+                }
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteLikeBatchKeysBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update(
+                """
+                        DELETE FROM like_batch WHERE created_at < ?
+                        """,
+                Timestamp.valueOf(threshold)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int foldLikeShards(int batchSize) {
+        Integer folded = jdbcTemplate.queryForObject(
+                """
+                        WITH folded AS (
+                            DELETE FROM post_like_shard
+                            WHERE (post_id, shard) IN (
+                                SELECT post_id, shard FROM post_like_shard
+                                LIMIT ?
+                                FOR UPDATE SKIP LOCKED
+                            )
+                            RETURNING post_id, count
+                        ), totals AS (
+                            UPDATE post p SET likes_count = p.likes_count + f.total
+                            FROM (SELECT post_id, SUM(count) AS total FROM folded GROUP BY post_id) f
+                            WHERE p.id = f.post_id
+                        )
+                        SELECT COUNT(*) FROM folded
+                        """,
+                Integer.class,
+                batchSize
+        );
+
+        return folded == null ? 0 : folded;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -221,15 +515,7 @@ public class PostRepositoryImpl implements PostRepository {
     @Override
     public List<String> getTagsForPost(Long postId) {
         try {
-            return jdbcTemplate.queryForList(
-                    """
-                            SELECT t.name FROM tag t
-                            JOIN post_tag pt ON t.id = pt.tag_id
-                            WHERE pt.post_id = ?
-                            """,
-                    String.class,
-                    postId
-            );
+            return selectTagsForPost(postId);
         } catch (Exception e) {
             final String msg = String.format("Ошибка при получении тегов для поста id=%d", postId);
             log.warn(msg, e);
@@ -237,6 +523,19 @@ public class PostRepositoryImpl implements PostRepository {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachPostId(LongConsumer consumer) {
+        jdbcTemplate.query(
+                """
+                        SELECT id FROM post
+                        """,
+                (RowCallbackHandler) rs -> consumer.accept(rs.getLong(1))
+        );
+    }
+
     /**
      * Постороение условий поиска.
      */
@@ -284,24 +583,23 @@ public class PostRepositoryImpl implements PostRepository {
     }
 
     /**
-     * Вставляет новый пост в таблицу и возвращает сгенерированный id.
+     * Маппер поста, теги которого возвращены тем же запросом в столбце-массиве {@code tags}.
      */
-    private PostResponseDto createPost(
-            String title,
-            String text,
-            LocalDateTime now) {
-        return jdbcTemplate.queryForObject(
-                """
-                        INSERT INTO post (title, text, likes_count, comments_count, created_at, updated_at)
-                        VALUES (?, ?, 0, 0, ?, ?)
-                        RETURNING id, title, text, likes_count, comments_count
-                        """,
-                postListRowMapper,
-                title,
-                text,
-                Timestamp.valueOf(now),
-                Timestamp.valueOf(now)
-        );
+    private RowMapper<PostResponseDto> postWithTagsRowMapper() {
+        return (rs, rowNum) -> {
+            PostResponseDto post = postListRowMapper.mapRow(rs, rowNum);
+            Array tags = rs.getArray("tags");
+            List<String> tagNames = tags == null ? List.of() : List.of((String[]) tags.getArray());
+
+            return new PostResponseDto(
+                    post.id(),
+                    post.title(),
+                    post.text(),
+                    tagNames,
+                    post.likesCount(),
+                    post.commentsCount()
+            );
+        };
     }
 
     /**
@@ -314,11 +612,11 @@ public class PostRepositoryImpl implements PostRepository {
             Long postId) {
         return jdbcTemplate.queryForObject(
                 """
-                        UPDATE post
+                        UPDATE post p
                         SET title = ?, text = ?, updated_at = ?
-                        WHERE id = ?
-                        RETURNING id, title, text, likes_count, comments_count
-                        """,
+                        WHERE p.id = ?
+                        RETURNING p.id, p.title, p.text, %s AS likes_count, p.comments_count
+                        """.formatted(likesTotal),
                 postListRowMapper,
                 title,
                 text,
@@ -328,61 +626,121 @@ public class PostRepositoryImpl implements PostRepository {
     }
 
     /**
-     * Общий метод для создания / обновления тегов поста.
+     * Приводит теги поста к запрошенному набору, удаляя и добавляя только изменившиеся связи.
+     * Пустой или отсутствующий список тегов оставляет теги поста без изменений.
+     *
+     * @return теги поста после обновления
      */
-    private void updatePostTagsInternal(Long postId, List<String> tags) {
-        if (tags != null && !tags.isEmpty()) {
-            deleteTags(postId);
-            insertTags(tags);
-            insertPostTags(postId, tags);
+    private List<String> updatePostTags(Long postId, List<String> tags) {
+        List<String> currentTags = selectTagsForPost(postId);
+        if (tags == null || tags.isEmpty()) {
+            return currentTags;
         }
+
+        return replacePostTags(postId, currentTags, tags);
     }
 
     /**
-     * Выполняет удаление тэгов.
+     * Приводит теги поста к запрошенному набору; пустой набор удаляет все теги поста.
+     * После изменения связей теги перечитываются из БД и упорядочиваются по запросу.
+     *
+     * @return теги, фактически привязанные к посту после обновления
      */
-    private void deleteTags(Long postId) {
-        jdbcTemplate.update(
-                """
-                        DELETE FROM post_tag WHERE post_id = ?
-                        """,
-                postId
-        );
+    private List<String> replacePostTags(Long postId, List<String> currentTags, List<String> tags) {
+        Set<String> requestedTags = new LinkedHashSet<>(tags);
+        Set<String> existingTags = new HashSet<>(currentTags);
+        List<String> removedTags = currentTags.stream()
+                .filter(tag -> !requestedTags.contains(tag))
+                .toList();
+        List<String> addedTags = requestedTags.stream()
+                .filter(tag -> !existingTags.contains(tag))
+                .toList();
+
+        if (!removedTags.isEmpty()) {
+            updateWithTagArray(
+                    """
+                            DELETE FROM post_tag pt
+                            USING tag t
+                            WHERE pt.post_id = ? AND pt.tag_id = t.id AND t.name = ANY (?::varchar[])
+                            """,
+                    postId,
+                    removedTags
+            );
+        }
+        if (!addedTags.isEmpty()) {
+            updateWithTagArray(
+                    """
+                            WITH target AS (
+                                SELECT ?::bigint AS post_id
+                            ), input_tag AS (
+                                SELECT unnest(?::varchar[]) AS name
+                            ), upserted_tag AS (
+                                INSERT INTO tag (name)
+                                SELECT name FROM input_tag
+                                ON CONFLICT (name) DO UPDATE SET name = EXCLUDED.name
+                                RETURNING id
+                            )
+                            INSERT INTO post_tag (post_id, tag_id)
+                            SELECT target.post_id, upserted_tag.id FROM target CROSS JOIN upserted_tag
+                            ON CONFLICT (post_id, tag_id) DO NOTHING
+                            """,
+                    postId,
+                    addedTags
+            );
+        }
+        log.debug("Теги поста id={}: удалено {}, добавлено {}", postId, removedTags.size(), addedTags.size());
+
+        if (removedTags.isEmpty() && addedTags.isEmpty()) {
+            return List.copyOf(requestedTags);
+        }
+        List<String> requestOrder = List.copyOf(requestedTags);
+        return selectTagsForPost(postId).stream()
+                .sorted(Comparator.comparingInt(tag -> {
+                    int position = requestOrder.indexOf(tag);
+                    return position < 0 ? Integer.MAX_VALUE : position;
+                }))
+                .toList();
     }
 
     /**
-     * Выполняет пакетную вставку тегов с использованием batchUpdate.
+     * Выполняет запрос, параметрами которого являются идентификатор поста и массив имён тегов.
      */
-    private void insertTags(List<String> tags) {
-        jdbcTemplate.batchUpdate(
+    private void updateWithTagArray(String sql, Long postId, List<String> tags) {
+        String[] tagNames = tags.toArray(new String[0]);
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setLong(1, postId);
+            ps.setArray(2, con.createArrayOf("varchar", tagNames));
+            return ps;
+        });
+    }
+
+    /**
+     * Читает имена тегов поста.
+     */
+    private List<String> selectTagsForPost(Long postId) {
+        return jdbcTemplate.queryForList(
                 """
-                        INSERT INTO tag (name)
-                        VALUES (?)
-                        ON CONFLICT (name) DO NOTHING;
+                        SELECT t.name FROM tag t
+                        JOIN post_tag pt ON t.id = pt.tag_id
+                        WHERE pt.post_id = ?
                         """,
-                tags,
-                tags.size(),
-                (ps, tag) -> ps.setString(1, tag)
+                String.class,
+                postId
         );
     }
 
     /**
-     * Выполняет пакетную вставку связей посты-теги с использованием batchUpdate.
+     * Проверяет существование поста.
      */
-    private void insertPostTags(Long postId, List<String> tags) {
-        jdbcTemplate.batchUpdate(
+    private boolean existsById(Long postId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
                 """
-                        INSERT INTO post_tag (post_id, tag_id)
-                        VALUES (?, (SELECT id FROM tag WHERE name = ?))
-                        ON CONFLICT (post_id, tag_id) DO NOTHING;
+                        SELECT EXISTS (SELECT 1 FROM post WHERE id = ?)
                         """,
-                tags,
-                tags.size(),
-                (ps, tag) -> {
-                    ps.setLong(1, postId);
-                    ps.setString(2, tag);
-                }
-        );
+                Boolean.class,
+                postId
+        ));
     }
 
     /**
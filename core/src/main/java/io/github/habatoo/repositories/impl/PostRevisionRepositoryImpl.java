@@ -0,0 +1,120 @@
+package io.github.habatoo.repositories.impl;
+
+import io.github.habatoo.dto.response.PostRevisionSummaryDto;
+import io.github.habatoo.repositories.PostRevisionRepository;
+import io.github.habatoo.service.dto.PostRevision;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Реализация репозитория истории версий постов.
+ *
+ * <p>Цепочка версий для восстановления выбирается одним запросом: номер ближайшего снимка
+ * определяется подзапросом по первичному ключу {@code (post_id, revision)}.</p>
+ *
+ * @see PostRevisionRepository
+ */
+@Repository
+public class PostRevisionRepositoryImpl implements PostRevisionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostRevisionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean lockPost(Long postId) {
+        return !jdbcTemplate.queryForList(
+                """
+                        SELECT id FROM post WHERE id = ? FOR UPDATE
+                        """,
+                Long.class,
+                postId
+        ).isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PostRevision> findRevisionChain(Long postId, int revision) {
+        return jdbcTemplate.query(
+                """
+                        SELECT post_id, revision, title, snapshot, data, text_bytes, created_at
+                        FROM post_revision
+                        WHERE post_id = ?
+                          AND revision <= ?
+                          AND revision >= (
+                              SELECT coalesce(max(revision), 0)
+                              FROM post_revision
+                              WHERE post_id = ? AND revision <= ? AND snapshot
+                          )
+                        ORDER BY revision
+                        """,
+                (rs, rowNum) -> new PostRevision(
+                        rs.getLong("post_id"),
+                        rs.getInt("revision"),
+                        rs.getString("title"),
+                        rs.getBoolean("snapshot"),
+                        rs.getBytes("data"),
+                        rs.getInt("text_bytes"),
+                        rs.getTimestamp("created_at").toLocalDateTime()
+                ),
+                postId,
+                revision,
+                postId,
+                revision
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PostRevisionSummaryDto> findRevisionSummaries(Long postId) {
+        return jdbcTemplate.query(
+                """
+                        SELECT revision, title, snapshot, text_bytes, octet_length(data) AS stored_bytes, created_at
+                        FROM post_revision
+                        WHERE post_id = ?
+                        ORDER BY revision DESC
+                        """,
+                (rs, rowNum) -> new PostRevisionSummaryDto(
+                        rs.getInt("revision"),
+                        rs.getString("title"),
+                        rs.getBoolean("snapshot"),
+                        rs.getInt("text_bytes"),
+                        rs.getInt("stored_bytes"),
+                        rs.getTimestamp("created_at").toLocalDateTime()
+                ),
+                postId
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insertRevision(PostRevision revision) {
+        jdbcTemplate.update(
+                """
+                        INSERT INTO post_revision (post_id, revision, title, snapshot, data, text_bytes, created_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?)
+                        """,
+                revision.postId(),
+                revision.revision(),
+                revision.title(),
+                revision.snapshot(),
+                revision.data(),
+                revision.textBytes(),
+                Timestamp.valueOf(revision.createdAt())
+        );
+    }
+}
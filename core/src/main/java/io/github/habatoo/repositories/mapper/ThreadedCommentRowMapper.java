@@ -0,0 +1,34 @@
+package io.github.habatoo.repositories.mapper;
+
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Маппер комментария ветки из БД в DTO ответа.
+ * Глубина вычисляется по длине материализованного пути.
+ *
+ * @see ThreadedCommentResponseDto
+ */
+@Component
+public class ThreadedCommentRowMapper implements RowMapper<ThreadedCommentResponseDto> {
+
+    /**
+     * Длина сегмента пути, соответствующего одному комментарию.
+     */
+    public static final int PATH_SEGMENT_LENGTH = 16;
+
+    @Override
+    public ThreadedCommentResponseDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new ThreadedCommentResponseDto(
+                rs.getLong("id"),
+                rs.getString("text"),
+                rs.getLong("post_id"),
+                rs.getObject("parent_id", Long.class),
+                rs.getString("path").length() / PATH_SEGMENT_LENGTH - 1
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Интерфейс публикации уведомлений об изменениях для сброса кэшей на других узлах приложения.
+ *
+ * <p>Уведомление отправляется в текущей транзакции и доставляется другим узлам только после её
+ * фиксации; при откате транзакции уведомление не доставляется. Поэтому публиковать уведомление
+ * нужно в той же транзакции, что и изменение: методы репозиториев, которые публикуют уведомления,
+ * выполняются в транзакции. Вне транзакции уведомление отправляется отдельным запросом
+ * и может быть потеряно после уже зафиксированного изменения.</p>
+ *
+ * @see CacheInvalidationListener
+ * @see CacheInvalidationTopic
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Возвращает идентификатор узла, которым подписываются уведомления этого узла.
+     * Узел пропускает собственные уведомления: свои кэши он обновляет сам.
+     *
+     * @return идентификатор узла
+     */
+    String nodeId();
+
+    /**
+     * Публикует уведомление об изменении, не относящемся к отдельным записям.
+     *
+     * @param topic вид изменения
+     */
+    void publish(CacheInvalidationTopic topic);
+
+    /**
+     * Публикует уведомление об изменении записи.
+     *
+     * @param topic вид изменения
+     * @param id    идентификатор поста
+     */
+    default void publish(CacheInvalidationTopic topic, long id) {
+        publish(topic, List.of(id));
+    }
+
+    /**
+     * Публикует уведомление об изменении записей. Пустая коллекция ничего не публикует.
+     *
+     * @param topic вид изменения
+     * @param ids   идентификаторы постов
+     */
+    void publish(CacheInvalidationTopic topic, Collection<Long> ids);
+}
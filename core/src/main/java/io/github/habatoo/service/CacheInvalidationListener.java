@@ -0,0 +1,23 @@
+package io.github.habatoo.service;
+
+/**
+ * Интерфейс приёма уведомлений других узлов и сброса соответствующих записей локальных кэшей.
+ *
+ * @see CacheInvalidationBus
+ */
+public interface CacheInvalidationListener {
+
+    /**
+     * Применяет полученное уведомление к локальным кэшам.
+     * Собственные уведомления узла и нераспознанные уведомления пропускаются.
+     *
+     * @param payload текст уведомления
+     */
+    void handle(String payload);
+
+    /**
+     * Сбрасывает все локальные кэши и перестраивает фильтр постов.
+     * Вызывается после восстановления соединения, когда часть уведомлений могла быть пропущена.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,33 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.dto.request.CommentCreateRequestDto;
+import io.github.habatoo.dto.response.CommentResponseDto;
+
+/**
+ * Групповая запись новых комментариев.
+ *
+ * <p>Комментарии, созданные одновременно несколькими запросами, накапливаются в течение
+ * нескольких миллисекунд и записываются в базу данных одним запросом вместе с изменением
+ * счётчиков комментариев постов.</p>
+ *
+ * @see CommentService
+ */
+public interface CommentGroupCommitter {
+
+    /**
+     * Проверяет, включена ли групповая запись комментариев.
+     *
+     * @return {@code true}, если комментарии записываются группами
+     */
+    boolean isEnabled();
+
+    /**
+     * Ставит комментарий в очередь на запись и ожидает записи группы.
+     *
+     * @param commentCreateRequest DTO с данными для создания комментария
+     * @return созданный комментарий с присвоенным идентификатором
+     * @throws org.springframework.dao.DataAccessException при ошибке записи комментария
+     * @throws IllegalStateException если групповая запись остановлена
+     */
+    CommentResponseDto save(CommentCreateRequestDto commentCreateRequest);
+}
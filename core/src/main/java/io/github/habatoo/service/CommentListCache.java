@@ -0,0 +1,76 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.dto.response.CommentResponseDto;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Интерфейс кэша первых комментариев поста.
+ *
+ * <p>Для каждого поста хранится неизменяемый список первых комментариев в порядке выдачи
+ * и признак того, что в список попали все комментарии поста. Создание, изменение и удаление
+ * комментария изменяют закэшированный список на месте, не вытесняя его.</p>
+ *
+ * @see CommentService
+ */
+public interface CommentListCache {
+
+    /**
+     * Возвращает страницу комментариев, если она целиком содержится в кэше.
+     *
+     * @param postId идентификатор поста
+     * @param after  идентификатор комментария, после которого начинается страница, или {@code null}
+     * @param limit  размер страницы
+     * @return неизменяемая страница комментариев или {@code null}, если кэш не может её вернуть
+     */
+    List<CommentResponseDto> get(long postId, Long after, int limit);
+
+    /**
+     * Загружает первую страницу комментариев и заполняет кэш первыми комментариями поста.
+     * Загрузчик получает количество комментариев, которое нужно прочитать из базы.
+     * Если страница больше хранимого в кэше префикса, загрузчик вызывается с размером страницы
+     * и кэш не заполняется.
+     *
+     * @param postId идентификатор поста
+     * @param limit  размер страницы
+     * @param loader загрузчик первых комментариев поста по их количеству
+     * @return неизменяемая первая страница комментариев
+     */
+    List<CommentResponseDto> load(long postId, int limit, IntFunction<List<CommentResponseDto>> loader);
+
+    /**
+     * Добавляет созданный комментарий в конец закэшированного списка,
+     * если в список попали все комментарии поста.
+     *
+     * @param comment созданный комментарий
+     */
+    void append(CommentResponseDto comment);
+
+    /**
+     * Заменяет изменённый комментарий в закэшированном списке.
+     *
+     * @param comment изменённый комментарий
+     */
+    void replace(CommentResponseDto comment);
+
+    /**
+     * Удаляет комментарий из закэшированного списка.
+     *
+     * @param postId    идентификатор поста
+     * @param commentId идентификатор удалённого комментария
+     */
+    void remove(long postId, long commentId);
+
+    /**
+     * Удаляет из кэша все комментарии поста.
+     *
+     * @param postId идентификатор поста
+     */
+    void invalidate(long postId);
+
+    /**
+     * Удаляет из кэша комментарии всех постов.
+     */
+    void invalidateAll();
+}
@@ -1,9 +1,13 @@
 package io.github.habatoo.service;
 
+import io.github.habatoo.dto.request.CommentBatchDeleteRequestDto;
 import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.request.CommentRequestDto;
+import io.github.habatoo.dto.response.CommentBatchDeleteResponseDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
 import io.github.habatoo.repositories.CommentRepository;
+import io.github.habatoo.service.dto.CommentPage;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -22,12 +26,16 @@ import java.util.Optional;
 public interface CommentService {
 
     /**
-     * Получить список комментариев для указанного поста.
+     * Получить страницу комментариев для указанного поста в порядке их создания.
+     * Размер страницы всегда ограничен: без {@code limit} используется значение по умолчанию.
      *
      * @param postId идентификатор поста, для которого запрашиваются комментарии
-     * @return список CommentResponseDto с комментариями к посту; пустой список если комментариев нет
+     * @param after  идентификатор последнего комментария предыдущей страницы или {@code null} для первой страницы
+     * @param limit  количество комментариев на странице или {@code null} для значения по умолчанию
+     * @return страница комментариев с курсором следующей страницы; пустая страница если комментариев нет
+     * @throws IllegalArgumentException если limit вне допустимого диапазона
      */
-    List<CommentResponseDto> getCommentsByPostId(Long postId);
+    CommentPage getCommentsByPostId(Long postId, Long after, Integer limit);
 
     /**
      * Получить комментарий по идентификаторам поста и комментария.
@@ -38,6 +46,28 @@ public interface CommentService {
      */
     Optional<CommentResponseDto> getCommentByPostIdAndId(Long postId, Long commentId);
 
+    /**
+     * Получить страницу веток комментариев поста: комментарии верхнего уровня вместе с ответами.
+     *
+     * @param postId идентификатор поста
+     * @param after  идентификатор последнего комментария верхнего уровня предыдущей страницы
+     *               или {@code null} для первой страницы
+     * @param limit  количество комментариев верхнего уровня на странице или {@code null} для значения по умолчанию
+     * @return комментарии веток в порядке обхода в глубину; пустой список если комментариев нет
+     * @throws IllegalArgumentException если limit вне допустимого диапазона
+     */
+    List<ThreadedCommentResponseDto> getCommentThreads(Long postId, Long after, Integer limit);
+
+    /**
+     * Получить комментарий вместе со всеми ответами на него.
+     *
+     * @param postId    идентификатор поста, которому принадлежит комментарий
+     * @param commentId идентификатор комментария
+     * @return комментарий и ответы на него в порядке обхода в глубину
+     * @throws org.springframework.dao.EmptyResultDataAccessException если комментарий не найден
+     */
+    List<ThreadedCommentResponseDto> getCommentThread(Long postId, Long commentId);
+
     /**
      * Создать новый комментарий.
      *
@@ -47,6 +77,16 @@ public interface CommentService {
      */
     CommentResponseDto createComment(CommentCreateRequestDto request);
 
+    /**
+     * Создать ответ на комментарий.
+     *
+     * @param parentId идентификатор комментария, на который дан ответ
+     * @param request  объект с данными ответа: текст и id поста
+     * @return созданный ответ с идентификатором родителя и глубиной вложенности
+     * @throws org.springframework.dao.EmptyResultDataAccessException если комментарий не найден у поста
+     */
+    ThreadedCommentResponseDto createReply(Long parentId, CommentCreateRequestDto request);
+
     /**
      * Обновить текст существующего комментария.
      *
@@ -57,12 +97,23 @@ public interface CommentService {
     CommentResponseDto updateComment(CommentRequestDto commentRequest);
 
     /**
-     * Удалить комментарий по идентификаторам поста и комментария.
+     * Удалить комментарий по идентификаторам поста и комментария вместе со всеми ответами на него.
      *
      * @param postId идентификатор поста, к которому относится комментарий
      * @param commentId идентификатор удаляемого комментария
      * @throws IllegalStateException если комментарий не найден для удаления
      */
     void deleteComment(Long postId, Long commentId);
+
+    /**
+     * Удалить пакет комментариев вместе со всеми ответами на них.
+     * Комментарии выбираются списком идентификаторов либо фильтром по тексту.
+     *
+     * @param request идентификаторы комментариев или фильтр по тексту и посту
+     * @return количество удалённых комментариев, всего и по постам
+     * @throws IllegalArgumentException если не указаны ни идентификаторы, ни фильтр, указаны оба
+     *                                  или количество идентификаторов превышает допустимое
+     */
+    CommentBatchDeleteResponseDto deleteComments(CommentBatchDeleteRequestDto request);
 }
 
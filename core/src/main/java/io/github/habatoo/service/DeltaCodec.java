@@ -0,0 +1,35 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.service.impl.DeltaCodecImpl;
+
+/**
+ * Интерфейс двоичного дельта-кодирования.
+ *
+ * <p>Дельта описывает, как получить новую версию данных из базовой: какие участки скопировать
+ * из базовой версии и какие байты вставить. Для небольших правок дельта во много раз меньше
+ * самих данных.</p>
+ *
+ * @see DeltaCodecImpl
+ * @see PostRevisionService
+ */
+public interface DeltaCodec {
+
+    /**
+     * Вычислить дельту, переводящую базовую версию в целевую.
+     *
+     * @param base   базовая версия
+     * @param target целевая версия
+     * @return дельта
+     */
+    byte[] encode(byte[] base, byte[] target);
+
+    /**
+     * Применить дельту к базовой версии.
+     *
+     * @param base  базовая версия, относительно которой вычислена дельта
+     * @param delta дельта
+     * @return целевая версия
+     * @throws IllegalArgumentException если дельта повреждена или не соответствует базовой версии
+     */
+    byte[] apply(byte[] base, byte[] delta);
+}
@@ -1,6 +1,7 @@
 package io.github.habatoo.service;
 
 import io.github.habatoo.repositories.CommentRepository;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -24,13 +25,24 @@ public interface FileStorageService {
     String saveImageFile(Long postId, MultipartFile file) throws IOException;
 
     /**
-     * Загружает файл изображения по имени файла.
+     * Возвращает файл изображения по имени файла без чтения его содержимого в память.
+     * Содержимое читается при записи ресурса в ответ.
      *
      * @param filename имя файла для загрузки
-     * @return массив байт содержимого файла
+     * @return ресурс файла изображения
+     * @throws IOException при отсутствии файла или ошибках доступа к нему
+     */
+    Resource loadImageFile(String filename) throws IOException;
+
+    /**
+     * Читает первые байты файла изображения, например для определения его формата.
+     *
+     * @param filename имя файла
+     * @param length   максимальное количество читаемых байт
+     * @return первые байты файла; короче length, если файл меньше
      * @throws IOException при ошибках чтения файла
      */
-    byte[] loadImageFile(String filename) throws IOException;
+    byte[] readImageHeader(String filename, int length) throws IOException;
 
     /**
      * Удаляет файл изображения по имени файла.
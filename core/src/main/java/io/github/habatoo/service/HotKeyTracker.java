@@ -0,0 +1,43 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.service.dto.HotKey;
+import io.github.habatoo.service.dto.HotKeyCategory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Потоковый учёт самых популярных ключей (heavy hitters) в скользящем окне времени.
+ *
+ * <p>Используется сервисами для учёта обращений к постам, изображениям и поисковым строкам,
+ * а кэшами — для закрепления самых популярных ключей, которые не должны вытесняться.</p>
+ */
+public interface HotKeyTracker {
+
+    /**
+     * Учитывает обращение к ключу.
+     *
+     * @param category категория ключа
+     * @param key      ключ
+     */
+    void record(HotKeyCategory category, String key);
+
+    /**
+     * Возвращает самые популярные ключи категории за последний период.
+     *
+     * @param category категория ключа
+     * @param window   длительность окна; ограничивается настроенным скользящим окном
+     * @param limit    максимальное количество ключей
+     * @return ключи в порядке убывания числа обращений
+     */
+    List<HotKey> top(HotKeyCategory category, Duration window, int limit);
+
+    /**
+     * Проверяет, входит ли ключ в число закрепляемых самых популярных ключей категории.
+     *
+     * @param category категория ключа
+     * @param key      ключ
+     * @return {@code true}, если ключ не следует вытеснять из кэша
+     */
+    boolean isPinned(HotKeyCategory category, String key);
+}
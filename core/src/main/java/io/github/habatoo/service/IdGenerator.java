@@ -0,0 +1,35 @@
+package io.github.habatoo.service;
+
+/**
+ * Генератор идентификаторов постов и комментариев.
+ *
+ * <p>Идентификатор выделяется приложением до записи в базу данных, поэтому связанные записи
+ * (теги, изображения, комментарии группы) могут ссылаться на него без ожидания
+ * {@code RETURNING id}, а повтор запроса с тем же идентификатором не создаёт дубликат.</p>
+ */
+public interface IdGenerator {
+
+    /**
+     * Возвращает новый уникальный идентификатор записи таблицы.
+     *
+     * @param table имя таблицы, для записи которой выделяется идентификатор
+     * @return положительный идентификатор
+     */
+    long nextId(String table);
+
+    /**
+     * Возвращает несколько новых идентификаторов записей таблицы в порядке выделения.
+     *
+     * @param table имя таблицы, для записей которой выделяются идентификаторы
+     * @param count количество идентификаторов
+     * @return массив идентификаторов
+     */
+    default long[] nextIds(String table, int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = nextId(table);
+        }
+
+        return ids;
+    }
+}
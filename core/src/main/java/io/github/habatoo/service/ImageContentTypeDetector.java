@@ -11,10 +11,16 @@ import org.springframework.http.MediaType;
  */
 public interface ImageContentTypeDetector {
 
+    /**
+     * Количество первых байт файла, достаточное для определения формата.
+     */
+    int SIGNATURE_LENGTH = 8;
+
     /**
      * Определяет MediaType изображения на основе анализа его содержимого.
+     * Достаточно первых {@link #SIGNATURE_LENGTH} байт файла.
      *
-     * @param imageData массив байт содержимого изображения
+     * @param imageData массив байт содержимого изображения или его начала
      * @return соответствующий MediaType или APPLICATION_OCTET_STREAM если формат не распознан
      * @throws IllegalStateException если imageData равен null
      */
@@ -0,0 +1,50 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.service.dto.ImageMetadata;
+
+/**
+ * Интерфейс ограниченного кэша метаданных изображений по идентификатору поста.
+ *
+ * <p>Ключи хранятся как примитивные {@code long}, без упаковки в {@link Long}.</p>
+ *
+ * @see ImageService
+ */
+public interface ImageMetadataCache {
+
+    /**
+     * Возвращает метаданные изображения поста.
+     *
+     * @param postId идентификатор поста
+     * @return метаданные или {@code null}, если записи нет в кэше
+     */
+    ImageMetadata get(long postId);
+
+    /**
+     * Сохраняет или заменяет метаданные изображения поста.
+     *
+     * @param postId   идентификатор поста
+     * @param metadata метаданные изображения
+     */
+    void put(long postId, ImageMetadata metadata);
+
+    /**
+     * Сохраняет метаданные, только если для поста ещё нет записи.
+     * Используется при заполнении кэша после чтения из базы, чтобы не затереть более свежую запись.
+     *
+     * @param postId   идентификатор поста
+     * @param metadata метаданные изображения
+     */
+    void putIfAbsent(long postId, ImageMetadata metadata);
+
+    /**
+     * Удаляет метаданные изображения поста.
+     *
+     * @param postId идентификатор поста
+     */
+    void remove(long postId);
+
+    /**
+     * Удаляет все записи кэша.
+     */
+    void clear();
+}
@@ -1,6 +1,7 @@
 package io.github.habatoo.service;
 
 import io.github.habatoo.repositories.CommentRepository;
+import io.github.habatoo.service.dto.ImageMetadata;
 import io.github.habatoo.service.dto.ImageResponseDto;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -28,12 +29,27 @@ public interface ImageService {
     /**
      * Получает изображение поста
      *
+     * <p>Файл изображения не открывается: ресурс строится по метаданным и читается при записи ответа,
+     * поэтому по метаданным результата можно ответить на условный запрос без чтения файла.</p>
+     *
      * @param postId идентификатор поста
-     * @return DTO c массивом байт изображения и типом
+     * @return DTO c файлом изображения и его метаданными
      * @throws EmptyResultDataAccessException если пост с указанным ID не найден
      * @throws IllegalArgumentException       если у поста нет изображения
      * @throws DataAccessException            при ошибках доступа к базе данных
      */
     ImageResponseDto getPostImage(Long postId);
 
+    /**
+     * Получает метаданные изображения поста без чтения файла изображения.
+     * Закэшированные метаданные возвращаются без обращения к базе данных и диску,
+     * поэтому по ним можно ответить на условный запрос.
+     *
+     * @param postId идентификатор поста
+     * @return метаданные изображения или {@link ImageMetadata#NO_IMAGE}, если у поста нет изображения
+     * @throws EmptyResultDataAccessException если пост с указанным ID не найден
+     * @throws DataAccessException            при ошибках доступа к базе данных
+     */
+    ImageMetadata getPostImageMetadata(Long postId);
+
 }
@@ -0,0 +1,32 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.dto.request.LikeBatchRequestDto;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
+
+/**
+ * Сервис пакетной записи лайков, накопленных клиентом.
+ *
+ * @see PostService#incrementLikes(Long)
+ */
+public interface LikeBatchService {
+
+    /**
+     * Применяет пакет лайков одним запросом к базе данных.
+     *
+     * <p>Повторная отправка пакета с тем же ключом идемпотентности не изменяет счётчики
+     * и возвращает их текущие значения.</p>
+     *
+     * @param likeBatchRequest пакет лайков с ключом идемпотентности
+     * @return количество лайков постов пакета
+     * @throws IllegalArgumentException если ключ пуст, пакет пуст, превышает допустимый размер
+     *                                  или содержит неположительное количество лайков
+     */
+    LikeBatchResponseDto applyLikes(LikeBatchRequestDto likeBatchRequest);
+
+    /**
+     * Удаляет ключи идемпотентности, хранящиеся дольше {@code app.likes.batch.key-ttl}.
+     *
+     * @return количество удалённых ключей
+     */
+    int purgeExpiredKeys();
+}
@@ -0,0 +1,45 @@
+package io.github.habatoo.service;
+
+/**
+ * Буфер отложенной записи лайков постов.
+ *
+ * <p>Лайки накапливаются в памяти и периодически записываются в базу данных одним
+ * пакетным запросом вместо обновления строки поста на каждый лайк.</p>
+ *
+ * @see PostService
+ */
+public interface LikeBuffer {
+
+    /**
+     * Проверяет, включена ли отложенная запись лайков.
+     *
+     * @return {@code true}, если лайки накапливаются в буфере
+     */
+    boolean isEnabled();
+
+    /**
+     * Добавляет лайк посту.
+     *
+     * <p>Первый лайк поста после периода без лайков читает из базы данных количество уже
+     * записанных лайков; последующие лайки возвращаются без обращения к базе. Лайк не ждёт
+     * записи в базу данных.</p>
+     *
+     * @param postId идентификатор поста
+     * @return количество лайков поста: записанные в базу плюс ожидающие записи
+     * @throws org.springframework.dao.EmptyResultDataAccessException если пост не найден
+     */
+    int increment(long postId);
+
+    /**
+     * Возвращает количество лайков поста, ещё не записанных в базу данных.
+     *
+     * @param postId идентификатор поста
+     * @return количество ожидающих записи лайков
+     */
+    long pending(long postId);
+
+    /**
+     * Записывает накопленные лайки в базу данных.
+     */
+    void flush();
+}
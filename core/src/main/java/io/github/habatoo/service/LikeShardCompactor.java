@@ -0,0 +1,16 @@
+package io.github.habatoo.service;
+
+/**
+ * Сворачивание шардов счётчика лайков в итоговое количество лайков поста.
+ *
+ * @see io.github.habatoo.repositories.PostRepository#foldLikeShards(int)
+ */
+public interface LikeShardCompactor {
+
+    /**
+     * Сворачивает все накопленные шарды лайков в {@code post.likes_count}.
+     *
+     * @return количество свёрнутых строк шардов
+     */
+    int compact();
+}
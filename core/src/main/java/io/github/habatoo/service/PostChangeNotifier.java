@@ -0,0 +1,52 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.service.impl.PostChangeNotifierImpl;
+
+/**
+ * Интерфейс оповещения о записанных изменениях постов.
+ *
+ * <p>Собирает в одном месте действия, которые выполняются после изменения поста в базе данных,
+ * чтобы {@link PostService} не зависел от каждого кэша и подписчика.</p>
+ *
+ * @see PostChangeNotifierImpl
+ * @see PostService
+ */
+public interface PostChangeNotifier {
+
+    /**
+     * Оповестить о создании поста.
+     *
+     * @param post созданный пост
+     */
+    void postCreated(PostResponseDto post);
+
+    /**
+     * Оповестить об изменении заголовка, текста или тегов поста.
+     *
+     * @param post изменённый пост
+     */
+    void postUpdated(PostResponseDto post);
+
+    /**
+     * Оповестить об удалении поста.
+     *
+     * @param postId идентификатор удалённого поста
+     */
+    void postDeleted(Long postId);
+
+    /**
+     * Оповестить об изменении счётчика лайков или комментариев поста.
+     *
+     * @param postId идентификатор поста
+     */
+    void countersChanged(Long postId);
+
+    /**
+     * Оповестить подписчиков о новом количестве лайков поста.
+     *
+     * @param postId     идентификатор поста
+     * @param likesCount количество лайков поста
+     */
+    void likesChanged(long postId, int likesCount);
+}
@@ -0,0 +1,73 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.dto.response.PostEventDto;
+
+import java.io.IOException;
+
+/**
+ * Интерфейс рассылки событий поста подписчикам.
+ *
+ * <p>Подписчик получает события одного поста в порядке публикации: создание, изменение
+ * и удаление комментариев и изменение количества лайков. Количество лайков поста отправляется
+ * не чаще одного раза за интервал, даже если лайки ставятся непрерывно.</p>
+ *
+ * @see PostEventDto
+ */
+public interface PostEventBroadcaster {
+
+    String COMMENT_CREATED = "comment-created";
+    String COMMENT_UPDATED = "comment-updated";
+    String COMMENT_DELETED = "comment-deleted";
+    String LIKES = "likes";
+    String POST_DELETED = "post-deleted";
+    String HEARTBEAT = "heartbeat";
+
+    /**
+     * Подписывает получателя на события поста.
+     *
+     * @param postId     идентификатор поста
+     * @param subscriber получатель событий
+     * @return действие, отменяющее подписку; повторный вызов ничего не делает
+     */
+    Runnable subscribe(long postId, Subscriber subscriber);
+
+    /**
+     * Отправляет событие всем подписчикам поста. Не ждёт отправки и ничего не делает,
+     * если у поста нет подписчиков.
+     *
+     * @param postId идентификатор поста
+     * @param type   тип события
+     * @param data   данные события
+     */
+    void publish(long postId, String type, Object data);
+
+    /**
+     * Сообщает новое количество лайков поста. Подписчики получают последнее значение
+     * не чаще одного раза за интервал.
+     *
+     * @param postId     идентификатор поста
+     * @param likesCount количество лайков поста
+     */
+    void publishLikes(long postId, int likesCount);
+
+    /**
+     * Получатель событий поста.
+     */
+    interface Subscriber {
+
+        /**
+         * Отправляет событие. Ошибка отправки закрывает подписку.
+         *
+         * @param event событие поста
+         * @throws IOException если событие не удалось отправить
+         */
+        void send(PostEventDto event) throws IOException;
+
+        /**
+         * Вызывается, когда подписка закрыта рассылкой: после удаления поста, ошибки отправки
+         * или переполнения очереди событий медленного подписчика.
+         */
+        default void close() {
+        }
+    }
+}
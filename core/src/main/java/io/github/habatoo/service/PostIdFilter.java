@@ -0,0 +1,51 @@
+package io.github.habatoo.service;
+
+/**
+ * Интерфейс вероятностного фильтра идентификаторов существующих постов.
+ *
+ * <p>Позволяет отвечать на запросы к несуществующим постам без обращения к базе данных.
+ * Ответ {@code false} означает, что пост точно не существует; ответ {@code true}
+ * означает, что пост может существовать и требуется проверка в базе данных.</p>
+ *
+ * @see PostService
+ * @see ImageService
+ * @see CommentService
+ */
+public interface PostIdFilter {
+
+    /**
+     * Проверяет, может ли существовать пост с указанным идентификатором.
+     *
+     * @param postId идентификатор поста
+     * @return {@code false}, если пост точно не существует, иначе {@code true}
+     */
+    boolean mightContain(long postId);
+
+    /**
+     * Регистрирует идентификатор созданного поста.
+     *
+     * @param postId идентификатор поста
+     */
+    void add(long postId);
+
+    /**
+     * Удаляет идентификатор удалённого поста.
+     * Реализация может оставить идентификатор в фильтре до перестроения: лишний
+     * идентификатор даёт только ложноположительный ответ, а ошибочно удалённый
+     * сделал бы существующий пост недоступным.
+     *
+     * @param postId идентификатор поста
+     */
+    void remove(long postId);
+
+    /**
+     * Перестраивает фильтр по текущему содержимому базы данных.
+     */
+    void rebuild();
+
+    /**
+     * Запрашивает перестроение фильтра в фоновом потоке и сразу возвращает управление.
+     * Запросы, поступившие до начала перестроения, объединяются в одно.
+     */
+    void requestRebuild();
+}
@@ -0,0 +1,29 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.dto.response.PostImportResultDto;
+
+import java.io.InputStream;
+
+/**
+ * Сервис массового импорта постов из NDJSON.
+ *
+ * <p>Каждая строка входного потока содержит один пост в формате
+ * {@code {"title": "...", "text": "...", "tags": ["..."]}}.</p>
+ *
+ * @see io.github.habatoo.repositories.PostImportRepository
+ */
+public interface PostImportService {
+
+    /**
+     * Импортирует посты из потока NDJSON.
+     *
+     * <p>Поток читается построчно по мере загрузки в базу данных. Импорт выполняется в одной
+     * транзакции: при ошибке ни один пост не создаётся. Посты без заголовка или текста
+     * и посты со слишком длинными заголовком или тегом пропускаются.</p>
+     *
+     * @param ndjson поток NDJSON с постами
+     * @return итоги импорта
+     * @throws IllegalArgumentException если поток содержит невалидный JSON
+     */
+    PostImportResultDto importPosts(InputStream ndjson);
+}
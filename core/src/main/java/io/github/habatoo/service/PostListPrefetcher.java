@@ -0,0 +1,55 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.dto.response.PostListResponseDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс упреждающей загрузки страниц списка постов.
+ *
+ * <p>После выдачи страницы N загружает страницу N+1 того же запроса в фоне
+ * и хранит её в кратковременном ограниченном кэше.</p>
+ *
+ * @see PostService
+ */
+public interface PostListPrefetcher {
+
+    /**
+     * Возвращает заранее загруженную страницу для нормализованного запроса.
+     *
+     * @param searchPart текстовая часть поискового запроса
+     * @param tags       теги из поискового запроса
+     * @param pageNumber номер страницы
+     * @param pageSize   размер страницы
+     * @return страница из кэша или пустой Optional, если её нет или срок хранения истёк
+     */
+    Optional<PostListResponseDto> find(String searchPart, List<String> tags, int pageNumber, int pageSize);
+
+    /**
+     * Планирует фоновую загрузку страницы, если упреждающая загрузка включена
+     * и пул соединений не занят реальными запросами.
+     *
+     * @param searchPart текстовая часть поискового запроса
+     * @param tags       теги из поискового запроса
+     * @param pageNumber номер загружаемой страницы
+     * @param pageSize   размер страницы
+     * @param loader     загрузчик страницы из базы данных
+     */
+    void prefetch(String searchPart, List<String> tags, int pageNumber, int pageSize,
+                  Supplier<PostListResponseDto> loader);
+
+    /**
+     * Сбрасывает все загруженные страницы после изменения постов.
+     */
+    void invalidate();
+
+    /**
+     * Заменяет количество лайков постов на уже загруженных страницах, не сбрасывая их.
+     *
+     * @param likesCounts новое количество лайков по идентификаторам постов
+     */
+    void updateLikes(Map<Long, Integer> likesCounts);
+}
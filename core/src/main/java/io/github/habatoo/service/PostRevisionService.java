@@ -0,0 +1,46 @@
+package io.github.habatoo.service;
+
+import io.github.habatoo.dto.response.PostRevisionResponseDto;
+import io.github.habatoo.dto.response.PostRevisionSummaryDto;
+import io.github.habatoo.service.impl.PostRevisionServiceImpl;
+
+import java.util.List;
+
+/**
+ * Интерфейс сервиса истории версий постов.
+ *
+ * <p>Каждая версия хранится двоичной дельтой относительно предыдущей, каждая N-я версия —
+ * полным снимком текста. Версия восстанавливается применением дельт к ближайшему снимку.</p>
+ *
+ * @see PostRevisionServiceImpl
+ * @see DeltaCodec
+ */
+public interface PostRevisionService {
+
+    /**
+     * Сохранить новую версию поста, если заголовок или текст отличаются от последней версии.
+     *
+     * @param postId идентификатор поста
+     * @param title  заголовок поста
+     * @param text   текст поста
+     */
+    void recordRevision(Long postId, String title, String text);
+
+    /**
+     * Получить список версий поста.
+     *
+     * @param postId идентификатор поста
+     * @return версии в порядке убывания номера с размерами текста и хранимых данных
+     */
+    List<PostRevisionSummaryDto> getRevisions(Long postId);
+
+    /**
+     * Восстановить версию поста.
+     *
+     * @param postId   идентификатор поста
+     * @param revision номер версии
+     * @return заголовок и текст поста в указанной версии
+     * @throws org.springframework.dao.EmptyResultDataAccessException если версия не найдена
+     */
+    PostRevisionResponseDto getRevision(Long postId, int revision);
+}
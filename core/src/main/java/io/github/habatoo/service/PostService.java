@@ -6,6 +6,7 @@ import io.github.habatoo.dto.response.PostListResponseDto;
 import io.github.habatoo.dto.response.PostResponseDto;
 import io.github.habatoo.repositories.PostRepository;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -54,6 +55,22 @@ public interface PostService {
      */
     PostResponseDto updatePost(PostRequestDto postRequest);
 
+    /**
+     * Частично обновить пост по документу JSON Merge Patch (RFC 7396).
+     *
+     * <p>Поддерживаются поля {@code title}, {@code text} и {@code tags}; {@code "tags": null}
+     * удаляет все теги поста. Вместо {@code text} можно передать {@code textDiff} — правки текста
+     * относительно версии с указанным MD5, см. {@link io.github.habatoo.dto.request.PostTextDiffDto}.</p>
+     *
+     * @param id         идентификатор поста
+     * @param mergePatch документ JSON Merge Patch
+     * @return обновлённый PostResponseDto с актуальными данными
+     * @throws IllegalArgumentException                                   если документ содержит неизвестные или невалидные поля
+     * @throws org.springframework.dao.EmptyResultDataAccessException     если пост с указанным ID не найден
+     * @throws org.springframework.dao.OptimisticLockingFailureException если правки относятся к устаревшей версии текста
+     */
+    PostResponseDto patchPost(Long id, Map<String, Object> mergePatch);
+
     /**
      * Удалить пост по его ID.
      *
@@ -0,0 +1,26 @@
+package io.github.habatoo.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс объединения одинаковых конкурентных запросов на чтение.
+ *
+ * <p>Конкурентные вызовы с одинаковым ключом разделяют одно выполнение загрузчика:
+ * первый вызов выполняет его, остальные ожидают общий результат или исключение.</p>
+ *
+ * @see PostService
+ * @see CommentService
+ * @see ImageService
+ */
+public interface RequestCoalescer {
+
+    /**
+     * Выполняет загрузчик или присоединяется к уже выполняющемуся вызову с тем же ключом.
+     *
+     * @param key    ключ запроса, одинаковый для запросов с одинаковым результатом
+     * @param loader загрузчик результата
+     * @param <T>    тип результата
+     * @return результат загрузчика
+     */
+    <T> T execute(String key, Supplier<T> loader);
+}
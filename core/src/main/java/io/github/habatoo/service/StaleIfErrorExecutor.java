@@ -0,0 +1,24 @@
+package io.github.habatoo.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Выполнение запросов на чтение в режиме stale-if-error.
+ *
+ * <p>Для каждого ключа хранится последний успешный результат. Если база данных
+ * возвращает ошибку или автоматический выключатель открыт, вызывающий получает сохранённый
+ * результат, а его возраст отмечается в {@link StaleResponseContext} для заголовков ответа.
+ * Загрузки дольше бюджета задержки не прерываются, но учитываются выключателем как сбои.</p>
+ */
+public interface StaleIfErrorExecutor {
+
+    /**
+     * Выполняет загрузку данных с возвратом последнего успешного результата при сбое базы данных.
+     *
+     * @param key    ключ запроса, например {@code "post:42"}
+     * @param loader загрузчик данных из базы
+     * @param <T>    тип результата
+     * @return свежий результат загрузчика или последний успешный результат по ключу
+     */
+    <T> T execute(String key, Supplier<T> loader);
+}
@@ -0,0 +1,52 @@
+package io.github.habatoo.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Признак устаревшего ответа для текущего потока обработки запроса.
+ *
+ * <p>Заполняется {@link StaleIfErrorExecutor}, когда вместо ответа базы данных возвращён
+ * сохранённый результат, и читается слоем API для выставления заголовков {@code Warning} и {@code Age}.
+ * Если за один запрос было отдано несколько устаревших результатов, хранится наибольший возраст.
+ * Признак привязан к потоку, поэтому слой API обязан очищать его по завершении каждого запроса,
+ * в том числе завершившегося ошибкой.</p>
+ */
+public final class StaleResponseContext {
+
+    private static final ThreadLocal<Duration> STALE_AGE = new ThreadLocal<>();
+
+    private StaleResponseContext() {
+    }
+
+    /**
+     * Отмечает текущий ответ как устаревший.
+     *
+     * @param age возраст отданного результата
+     */
+    public static void markStale(Duration age) {
+        Duration current = STALE_AGE.get();
+        if (current == null || age.compareTo(current) > 0) {
+            STALE_AGE.set(age);
+        }
+    }
+
+    /**
+     * Возвращает возраст устаревшего ответа и очищает признак для текущего потока.
+     *
+     * @return возраст устаревшего ответа или пустой Optional, если ответ свежий
+     */
+    public static Optional<Duration> consume() {
+        Duration age = STALE_AGE.get();
+        STALE_AGE.remove();
+
+        return Optional.ofNullable(age);
+    }
+
+    /**
+     * Очищает признак устаревшего ответа для текущего потока.
+     */
+    public static void clear() {
+        STALE_AGE.remove();
+    }
+}
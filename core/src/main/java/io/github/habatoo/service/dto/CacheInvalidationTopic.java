@@ -0,0 +1,38 @@
+package io.github.habatoo.service.dto;
+
+/**
+ * Виды изменений, о которых узлы приложения сообщают друг другу для сброса локальных кэшей.
+ */
+public enum CacheInvalidationTopic {
+
+    /**
+     * Пост создан. Только это уведомление добавляет пост в фильтр идентификаторов:
+     * добавление в считающий фильтр Блума не идемпотентно.
+     */
+    POST_CREATED,
+
+    /**
+     * Пост изменён.
+     */
+    POST_CHANGED,
+
+    /**
+     * Пост удалён вместе с комментариями и изображением.
+     */
+    POST_DELETED,
+
+    /**
+     * Посты добавлены пакетным импортом; идентификаторы не передаются.
+     */
+    POSTS_IMPORTED,
+
+    /**
+     * Комментарии поста созданы, изменены или удалены.
+     */
+    COMMENTS_CHANGED,
+
+    /**
+     * Изображение поста заменено.
+     */
+    IMAGE_CHANGED
+}
@@ -0,0 +1,15 @@
+package io.github.habatoo.service.dto;
+
+import io.github.habatoo.dto.response.CommentResponseDto;
+
+import java.util.List;
+
+/**
+ * Страница комментариев поста.
+ *
+ * @param comments   комментарии страницы в порядке создания
+ * @param nextCursor курсор следующей страницы — идентификатор последнего комментария страницы;
+ *                   {@code null}, если страница заполнена не полностью и комментариев дальше нет
+ */
+public record CommentPage(List<CommentResponseDto> comments, Long nextCursor) {
+}
@@ -0,0 +1,11 @@
+package io.github.habatoo.service.dto;
+
+/**
+ * Популярный ключ с оценкой числа обращений.
+ *
+ * @param key   ключ (идентификатор поста или строка поиска)
+ * @param count оценка числа обращений сверху
+ * @param error максимальная погрешность оценки; точное число обращений не меньше {@code count - error}
+ */
+public record HotKey(String key, long count, long error) {
+}
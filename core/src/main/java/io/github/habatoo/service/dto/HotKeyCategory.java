@@ -0,0 +1,22 @@
+package io.github.habatoo.service.dto;
+
+/**
+ * Категории ключей, по которым ведётся учёт популярности.
+ */
+public enum HotKeyCategory {
+
+    /**
+     * Идентификаторы постов, запрошенных по id.
+     */
+    POST,
+
+    /**
+     * Строки поиска в списке постов.
+     */
+    SEARCH,
+
+    /**
+     * Идентификаторы постов, для которых запрошено изображение.
+     */
+    IMAGE
+}
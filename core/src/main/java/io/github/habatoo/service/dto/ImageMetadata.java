@@ -0,0 +1,43 @@
+package io.github.habatoo.service.dto;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Метаданные изображения поста, достаточные для его выдачи без обращения к базе данных.
+ *
+ * @param fileName     имя файла изображения или {@code null}, если у поста нет изображения
+ * @param size         размер файла в байтах
+ * @param mediaType    тип содержимого изображения
+ * @param eTag         строгий тег версии изображения для HTTP кэширования
+ * @param lastModified время изменения файла или {@code null}, если у поста нет изображения
+ */
+public record ImageMetadata(String fileName, long size, MediaType mediaType, String eTag, Instant lastModified) {
+
+    /**
+     * Метаданные поста без изображения.
+     */
+    public static final ImageMetadata NO_IMAGE =
+            new ImageMetadata(null, 0, MediaType.APPLICATION_OCTET_STREAM, "\"empty\"", null);
+
+    /**
+     * Создаёт метаданные изображения с тегом версии — MD5 от имени и размера файла.
+     * Имя файла уникально для каждой загрузки, поэтому тег меняется при замене изображения,
+     * а 128-битный дайджест не раскрывает имя файла и практически исключает совпадения.
+     */
+    public static ImageMetadata of(String fileName, long size, MediaType mediaType, Instant lastModified) {
+        String digest = DigestUtils.md5DigestAsHex((fileName + ":" + size).getBytes(StandardCharsets.UTF_8));
+
+        return new ImageMetadata(fileName, size, mediaType, "\"" + digest + "\"", lastModified);
+    }
+
+    /**
+     * Проверяет, есть ли у поста изображение.
+     */
+    public boolean hasImage() {
+        return fileName != null;
+    }
+}
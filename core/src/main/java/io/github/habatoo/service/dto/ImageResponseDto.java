@@ -1,5 +1,35 @@
 package io.github.habatoo.service.dto;
 
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 
-public record ImageResponseDto(byte[] data, MediaType mediaType) {}
+/**
+ * Изображение поста для ответа клиенту.
+ *
+ * <p>Содержимое не читается в память: ресурс файла записывается в ответ потоком
+ * через буфер постоянного размера.</p>
+ *
+ * @param image    ресурс с содержимым изображения
+ * @param metadata метаданные изображения: тип, размер и тег версии
+ */
+public record ImageResponseDto(Resource image, ImageMetadata metadata) {
+
+    private static final Resource EMPTY_IMAGE = new ByteArrayResource(new byte[0]);
+
+    /**
+     * Возвращает ответ без содержимого для поста без изображения.
+     *
+     * @return ответ с пустым ресурсом и метаданными {@link ImageMetadata#NO_IMAGE}
+     */
+    public static ImageResponseDto empty() {
+        return new ImageResponseDto(EMPTY_IMAGE, ImageMetadata.NO_IMAGE);
+    }
+
+    /**
+     * Возвращает тип содержимого изображения.
+     */
+    public MediaType mediaType() {
+        return metadata.mediaType();
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.habatoo.service.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Сохранённая версия поста.
+ *
+ * @param postId    идентификатор поста
+ * @param revision  номер версии, начиная с 1
+ * @param title     заголовок поста в этой версии
+ * @param snapshot  {@code true}, если {@code data} содержит текст целиком, а не дельту
+ * @param data      текст в UTF-8 для снимка или дельта относительно текста предыдущей версии
+ * @param textBytes размер текста версии в UTF-8 в байтах
+ * @param createdAt дата и время сохранения версии
+ */
+public record PostRevision(
+        Long postId,
+        int revision,
+        String title,
+        boolean snapshot,
+        byte[] data,
+        int textBytes,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,96 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.CacheInvalidationProperties;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация публикации уведомлений о сбросе кэшей через {@code pg_notify} PostgreSQL.
+ *
+ * <p>Уведомление имеет вид {@code <узел> <вид изменения> <id,id,...>}. Внутри транзакции изменения
+ * оно отправляется тем же соединением, поэтому PostgreSQL доставляет его слушателям только после
+ * фиксации транзакции, а одинаковые уведомления одной транзакции доставляет один раз. Размер уведомления
+ * в PostgreSQL ограничен 8000 байтами, поэтому длинный список идентификаторов делится на части.</p>
+ *
+ * @see CacheInvalidationListenerImpl
+ * @see CacheInvalidationProperties
+ */
+@Slf4j
+public class CacheInvalidationBusImpl implements CacheInvalidationBus, MeterBinder {
+
+    private static final int MAX_IDS_PER_NOTICE = 300;
+
+    private final boolean enabled;
+    private final String channel;
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final LongAdder published = new LongAdder();
+
+    public CacheInvalidationBusImpl(CacheInvalidationProperties cacheInvalidationProperties, JdbcTemplate jdbcTemplate) {
+        this.enabled = cacheInvalidationProperties.enabled();
+        this.channel = cacheInvalidationProperties.channel();
+        this.jdbcTemplate = jdbcTemplate;
+        log.info("CacheInvalidationBus инициализирован: enabled={}, channel={}, nodeId={}", enabled, channel, nodeId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(CacheInvalidationTopic topic) {
+        if (enabled) {
+            notify(topic, "");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(CacheInvalidationTopic topic, Collection<Long> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        for (int from = 0; from < distinctIds.size(); from += MAX_IDS_PER_NOTICE) {
+            List<Long> part = distinctIds.subList(from, Math.min(from + MAX_IDS_PER_NOTICE, distinctIds.size()));
+            notify(topic, part.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+    }
+
+    /**
+     * Регистрирует счётчик опубликованных уведомлений.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("blog.cache.invalidation.published", published, LongAdder::sum)
+                .description("Уведомления о сбросе кэшей, отправленные другим узлам")
+                .register(registry);
+    }
+
+    private void notify(CacheInvalidationTopic topic, String ids) {
+        String payload = nodeId + ' ' + topic.name() + ' ' + ids;
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+        published.increment();
+        log.debug("Опубликовано уведомление о сбросе кэшей: {} {}", topic, ids);
+    }
+}
@@ -0,0 +1,259 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.CacheInvalidationProperties;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.CacheInvalidationListener;
+import io.github.habatoo.service.CommentListCache;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Реализация приёма уведомлений о сбросе кэшей через LISTEN PostgreSQL.
+ *
+ * <p>Уведомления принимаются отдельным соединением вне пула: оно всё время подписано на канал
+ * и не отнимает соединений у запросов. Соединение называется {@value #APPLICATION_NAME_PREFIX}
+ * с идентификатором узла, по этому имени его можно найти в {@code pg_stat_activity}. Фоновый поток ждёт уведомления не дольше {@code pollTimeout}
+ * за один опрос и применяет их к фильтру постов, кэшам изображений и комментариев и упреждающей
+ * загрузке списка постов.</p>
+ *
+ * <p>Перестроение фильтра постов читает все идентификаторы из базы данных, поэтому поток уведомлений
+ * его только запрашивает: фильтр перестраивается в своём фоновом потоке, а запросы, пришедшие
+ * до начала перестроения, объединяются в одно.</p>
+ *
+ * <p>Пока соединение разорвано, уведомления теряются. Поэтому после переподключения, уже подписавшись
+ * на канал, узел сбрасывает все кэши и запрашивает перестроение фильтра постов.</p>
+ *
+ * @see CacheInvalidationBusImpl
+ * @see CacheInvalidationProperties
+ */
+@Slf4j
+public class CacheInvalidationListenerImpl implements CacheInvalidationListener, MeterBinder,
+        ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    public static final String APPLICATION_NAME_PREFIX = "cache-invalidation:";
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final CacheInvalidationProperties cacheInvalidationProperties;
+    private final JdbcConnectionDetails jdbcConnectionDetails;
+    private final String nodeId;
+    private final PostIdFilter postIdFilter;
+    private final PostListPrefetcher postListPrefetcher;
+    private final ImageMetadataCache imageMetadataCache;
+    private final CommentListCache commentListCache;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    public CacheInvalidationListenerImpl(
+            CacheInvalidationProperties cacheInvalidationProperties,
+            JdbcConnectionDetails jdbcConnectionDetails,
+            CacheInvalidationBus cacheInvalidationBus,
+            PostIdFilter postIdFilter,
+            PostListPrefetcher postListPrefetcher,
+            ImageMetadataCache imageMetadataCache,
+            CommentListCache commentListCache) {
+        if (!CHANNEL_NAME.matcher(cacheInvalidationProperties.channel()).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: "
+                    + cacheInvalidationProperties.channel());
+        }
+        this.cacheInvalidationProperties = cacheInvalidationProperties;
+        this.jdbcConnectionDetails = jdbcConnectionDetails;
+        this.nodeId = cacheInvalidationBus.nodeId();
+        this.postIdFilter = postIdFilter;
+        this.postListPrefetcher = postListPrefetcher;
+        this.imageMetadataCache = imageMetadataCache;
+        this.commentListCache = commentListCache;
+        log.info("CacheInvalidationListener инициализирован: enabled={}, channel={}, pollTimeout={}",
+                cacheInvalidationProperties.enabled(), cacheInvalidationProperties.channel(),
+                cacheInvalidationProperties.pollTimeout());
+    }
+
+    /**
+     * Запускает поток приёма уведомлений после старта приложения.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!cacheInvalidationProperties.enabled() || !started.compareAndSet(false, true)) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform().name("cache-invalidation").daemon().start(this::listen);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handle(String payload) {
+        String[] parts = payload.split(" ", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        CacheInvalidationTopic topic;
+        long[] ids;
+        try {
+            topic = CacheInvalidationTopic.valueOf(parts[1]);
+            ids = parts[2].isEmpty()
+                    ? new long[0]
+                    : Arrays.stream(parts[2].split(",")).mapToLong(Long::parseLong).toArray();
+        } catch (IllegalArgumentException e) {
+            log.warn("Пропущено нераспознанное уведомление о сбросе кэшей: {}", payload);
+            return;
+        }
+        received.increment();
+        log.debug("Получено уведомление о сбросе кэшей от узла {}: {} {}", parts[0], topic, parts[2]);
+
+        switch (topic) {
+            case POST_CREATED -> {
+                for (long postId : ids) {
+                    postIdFilter.add(postId);
+                }
+                postListPrefetcher.invalidate();
+            }
+            case POST_CHANGED -> postListPrefetcher.invalidate();
+            case POST_DELETED -> {
+                for (long postId : ids) {
+                    postIdFilter.remove(postId);
+                    imageMetadataCache.remove(postId);
+                    commentListCache.invalidate(postId);
+                }
+                postListPrefetcher.invalidate();
+            }
+            case POSTS_IMPORTED -> {
+                postIdFilter.requestRebuild();
+                postListPrefetcher.invalidate();
+            }
+            case COMMENTS_CHANGED -> {
+                for (long postId : ids) {
+                    commentListCache.invalidate(postId);
+                }
+                postListPrefetcher.invalidate();
+            }
+            case IMAGE_CHANGED -> {
+                for (long postId : ids) {
+                    imageMetadataCache.remove(postId);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        imageMetadataCache.clear();
+        commentListCache.invalidateAll();
+        postListPrefetcher.invalidate();
+        postIdFilter.requestRebuild();
+        log.info("Локальные кэши сброшены, запрошено перестроение фильтра постов");
+    }
+
+    /**
+     * Регистрирует счётчики принятых уведомлений и переподключений.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("blog.cache.invalidation.received", received, LongAdder::sum)
+                .description("Уведомления о сбросе кэшей, принятые от других узлов")
+                .register(registry);
+        FunctionCounter.builder("blog.cache.invalidation.reconnects", reconnects, LongAdder::sum)
+                .description("Переподключения соединения для приёма уведомлений о сбросе кэшей")
+                .register(registry);
+    }
+
+    /**
+     * Останавливает поток приёма уведомлений при остановке контекста.
+     * Поток завершится после текущего опроса соединения.
+     */
+    @Override
+    public void destroy() {
+        running = false;
+        Thread listener = thread;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen() {
+        String channel = cacheInvalidationProperties.channel();
+        int pollTimeoutMillis = (int) Math.max(1, cacheInvalidationProperties.pollTimeout().toMillis());
+        boolean reconnected = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(jdbcConnectionDetails.getJdbcUrl(),
+                    connectionProperties());
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Подписка на уведомления о сбросе кэшей в канале {} установлена", channel);
+                if (reconnected) {
+                    invalidateAll();
+                }
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Соединение для приёма уведомлений о сбросе кэшей потеряно: {}", e.getMessage());
+                reconnects.increment();
+                reconnected = true;
+                pause();
+            }
+        }
+    }
+
+    private Properties connectionProperties() {
+        Properties properties = new Properties();
+        if (jdbcConnectionDetails.getUsername() != null) {
+            properties.setProperty("user", jdbcConnectionDetails.getUsername());
+        }
+        if (jdbcConnectionDetails.getPassword() != null) {
+            properties.setProperty("password", jdbcConnectionDetails.getPassword());
+        }
+        properties.setProperty("ApplicationName", APPLICATION_NAME_PREFIX + nodeId);
+
+        return properties;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(cacheInvalidationProperties.reconnectDelay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.dto.request.CommentCreateRequestDto;
+import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.properties.CommentGroupCommitProperties;
+import io.github.habatoo.repositories.CommentRepository;
+import io.github.habatoo.service.CommentGroupCommitter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Реализация групповой записи комментариев на очереди с одним пишущим потоком.
+ *
+ * <p>Поток запроса ставит комментарий в очередь и ожидает его {@link CompletableFuture}.
+ * Пишущий поток, получив первый комментарий, ждёт остальные не дольше {@code maxDelay}
+ * или до набора {@code maxBatchSize} комментариев и записывает группу одним запросом
+ * {@link CommentRepository#saveAll}. Если запись группы не удалась, например из-за комментария
+ * к удалённому посту, комментарии группы записываются по одному, чтобы ошибка досталась только
+ * своему запросу. При остановке контекста очередь дописывается до конца.</p>
+ *
+ * <p>Запрос ждёт записи не дольше {@code writeTimeout}. Если к этому моменту комментарий
+ * ещё в очереди, он снимается с записи; если группа уже пишется, комментарий может быть
+ * записан после того, как запрос получил ошибку.</p>
+ *
+ * @see CommentGroupCommitProperties
+ */
+@Slf4j
+public class CommentGroupCommitterImpl implements CommentGroupCommitter, DisposableBean {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final CommentGroupCommitProperties commentGroupCommitProperties;
+    private final CommentRepository commentRepository;
+    private final BlockingQueue<PendingComment> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean stopped;
+
+    public CommentGroupCommitterImpl(
+            CommentGroupCommitProperties commentGroupCommitProperties,
+            CommentRepository commentRepository) {
+        this.commentGroupCommitProperties = commentGroupCommitProperties;
+        this.commentRepository = commentRepository;
+        this.writer = commentGroupCommitProperties.enabled()
+                ? Thread.ofPlatform().name("comment-group-commit").daemon().start(this::writeLoop)
+                : null;
+        log.info("CommentGroupCommitter инициализирован: enabled={}, maxDelay={}, maxBatchSize={}",
+                commentGroupCommitProperties.enabled(), commentGroupCommitProperties.maxDelay(),
+                commentGroupCommitProperties.maxBatchSize());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return commentGroupCommitProperties.enabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommentResponseDto save(CommentCreateRequestDto commentCreateRequest) {
+        if (writer == null || stopped) {
+            throw new IllegalStateException("Comment group commit is not running");
+        }
+        PendingComment pending = new PendingComment(commentCreateRequest, new CompletableFuture<>());
+        queue.add(pending);
+        if (stopped && queue.remove(pending)) {
+            throw new IllegalStateException("Comment group commit is not running");
+        }
+
+        long timeoutNanos = commentGroupCommitProperties.writeTimeout().toNanos();
+        try {
+            return pending.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            boolean dequeued = queue.remove(pending);
+            log.warn("Комментарий к посту id={} не записан за {}, снят с очереди: {}",
+                    commentCreateRequest.postId(), commentGroupCommitProperties.writeTimeout(), dequeued);
+            throw new QueryTimeoutException("Comment was not written within "
+                    + commentGroupCommitProperties.writeTimeout(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new IllegalStateException("Interrupted while waiting for comment group commit", e);
+        }
+    }
+
+    /**
+     * Останавливает пишущий поток после записи оставшихся комментариев.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        stopped = true;
+        if (writer != null) {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        }
+        List<PendingComment> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.forEach(pending -> pending.result().completeExceptionally(
+                new IllegalStateException("Comment group commit is stopped")));
+    }
+
+    private void writeLoop() {
+        while (!stopped || !queue.isEmpty()) {
+            try {
+                List<PendingComment> group = collectGroup();
+                if (!group.isEmpty()) {
+                    write(group);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Собирает группу комментариев: ждёт первый, затем добирает остальные в пределах
+     * {@code maxDelay} и {@code maxBatchSize}.
+     */
+    private List<PendingComment> collectGroup() throws InterruptedException {
+        List<PendingComment> group = new ArrayList<>();
+        PendingComment first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return group;
+        }
+        group.add(first);
+
+        int maxBatchSize = commentGroupCommitProperties.maxBatchSize();
+        long deadline = System.nanoTime() + commentGroupCommitProperties.maxDelay().toNanos();
+        while (group.size() < maxBatchSize) {
+            queue.drainTo(group, maxBatchSize - group.size());
+            long remaining = deadline - System.nanoTime();
+            if (group.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            group.add(next);
+        }
+
+        return group;
+    }
+
+    private void write(List<PendingComment> group) {
+        try {
+            List<CommentResponseDto> saved = commentRepository.saveAll(
+                    group.stream().map(PendingComment::request).toList());
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).result().complete(saved.get(i));
+            }
+            log.debug("Записана группа из {} комментариев", group.size());
+        } catch (RuntimeException e) {
+            if (group.size() == 1) {
+                group.getFirst().result().completeExceptionally(e);
+                return;
+            }
+            log.warn("Ошибка записи группы из {} комментариев, запись по одному: {}", group.size(), e.getMessage());
+            group.forEach(this::writeSingle);
+        }
+    }
+
+    private void writeSingle(PendingComment pending) {
+        try {
+            pending.result().complete(commentRepository.save(pending.request()));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Комментарий, ожидающий записи, и результат для ожидающего запроса.
+     */
+    private record PendingComment(CommentCreateRequestDto request, CompletableFuture<CommentResponseDto> result) {
+    }
+}
@@ -0,0 +1,337 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.properties.CommentListCacheProperties;
+import io.github.habatoo.service.CommentListCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Реализация кэша первых комментариев поста, ограниченного бюджетом памяти.
+ *
+ * <p>Запись кэша хранит неизменяемый список первых {@code commentsPerPost} комментариев и признак
+ * полноты списка. Чтение не берёт блокировок: страница возвращается как представление
+ * закэшированного списка. Изменения комментариев заменяют список поста новым неизменяемым списком
+ * внутри {@link ConcurrentMap#compute}, поэтому читатели никогда не видят частично изменённый список.</p>
+ *
+ * <p>Размер записи оценивается по длине текстов комментариев. Когда суммарная оценка превышает
+ * бюджет, записи вытесняются по алгоритму CLOCK: запись, прочитанная после предыдущего прохода,
+ * получает второй шанс.</p>
+ *
+ * <p>Чтобы загрузка из базы, начатая до изменения комментария, не положила в кэш устаревший
+ * список, изменения увеличивают версию полосы поста, а загрузка заполняет кэш, только если
+ * версия не изменилась за время чтения.</p>
+ *
+ * @see CommentListCacheProperties
+ */
+@Slf4j
+public class CommentListCacheImpl implements CommentListCache, MeterBinder {
+
+    private static final int VERSION_STRIPES = 64;
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+    private static final long COMMENT_OVERHEAD_BYTES = 104;
+
+    private final boolean enabled;
+    private final int commentsPerPost;
+    private final long maxBytes;
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CommentListCacheImpl(CommentListCacheProperties commentListCacheProperties) {
+        this.enabled = commentListCacheProperties.enabled();
+        this.commentsPerPost = Math.max(1, commentListCacheProperties.commentsPerPost());
+        this.maxBytes = commentListCacheProperties.maxSize().toBytes();
+        log.info("CommentListCache инициализирован: enabled={}, commentsPerPost={}, maxSize={}",
+                enabled, commentsPerPost, commentListCacheProperties.maxSize());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Страница после курсора возвращается из кэша, если курсор найден в закэшированном списке
+     * и за ним достаточно комментариев либо список полон. Для полного списка неизвестный курсор,
+     * например удалённый комментарий, даёт комментарии с большим идентификатором, так же как запрос к базе.</p>
+     */
+    @Override
+    public List<CommentResponseDto> get(long postId, Long after, int limit) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(postId);
+        List<CommentResponseDto> page = entry == null ? null : entry.page(after, limit);
+        if (page == null) {
+            misses.increment();
+            return null;
+        }
+        entry.referenced = true;
+        hits.increment();
+
+        return page;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Из базы читается на один комментарий больше хранимого префикса: по нему определяется,
+     * попали ли в список все комментарии поста. Страница больше префикса читается одним запросом,
+     * а кэш заполняется её началом.</p>
+     */
+    @Override
+    public List<CommentResponseDto> load(long postId, int limit, IntFunction<List<CommentResponseDto>> loader) {
+        if (!enabled) {
+            return loader.apply(limit);
+        }
+        int stripe = stripe(postId);
+        long version = versions.get(stripe);
+        List<CommentResponseDto> loaded = loader.apply(Math.max(limit, commentsPerPost + 1));
+        boolean complete = loaded.size() <= commentsPerPost;
+        Entry fresh = new Entry(List.copyOf(complete ? loaded : loaded.subList(0, commentsPerPost)), complete);
+
+        if (fresh.bytes <= maxBytes) {
+            entries.compute(postId, (key, current) -> {
+                if (current != null || versions.get(stripe) != version) {
+                    return current;
+                }
+                usedBytes.addAndGet(fresh.bytes);
+                return fresh;
+            });
+            evictIfNeeded();
+        }
+
+        return limit > commentsPerPost ? loaded : fresh.page(null, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void append(CommentResponseDto comment) {
+        update(comment.postId(), entry -> {
+            if (!entry.complete || entry.indexOf(comment.id()) >= 0) {
+                return entry;
+            }
+            List<CommentResponseDto> comments = new ArrayList<>(entry.comments.size() + 1);
+            comments.addAll(entry.comments);
+            comments.add(comment);
+            boolean complete = comments.size() <= commentsPerPost;
+
+            return new Entry(List.copyOf(complete ? comments : comments.subList(0, commentsPerPost)), complete);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void replace(CommentResponseDto comment) {
+        update(comment.postId(), entry -> {
+            int index = entry.indexOf(comment.id());
+            if (index < 0) {
+                return entry;
+            }
+            List<CommentResponseDto> comments = new ArrayList<>(entry.comments);
+            comments.set(index, comment);
+
+            return new Entry(List.copyOf(comments), entry.complete);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Неполный список после удаления остаётся корректным префиксом комментариев поста,
+     * просто на один комментарий короче.</p>
+     */
+    @Override
+    public void remove(long postId, long commentId) {
+        update(postId, entry -> {
+            int index = entry.indexOf(commentId);
+            if (index < 0) {
+                return entry;
+            }
+            List<CommentResponseDto> comments = new ArrayList<>(entry.comments);
+            comments.remove(index);
+
+            return new Entry(List.copyOf(comments), entry.complete);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(long postId) {
+        update(postId, entry -> null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Версии всех полос увеличиваются до удаления записей, поэтому загрузки, начатые раньше,
+     * не заполнят кэш.</p>
+     */
+    @Override
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        for (int stripe = 0; stripe < VERSION_STRIPES; stripe++) {
+            versions.incrementAndGet(stripe);
+        }
+        entries.keySet().forEach(this::invalidate);
+    }
+
+    /**
+     * Регистрирует счётчики попаданий, промахов и вытеснений, а также оценку занятой памяти.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("blog.comments.cache.requests", hits, LongAdder::sum)
+                .description("Страницы комментариев, возвращённые из кэша")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("blog.comments.cache.requests", misses, LongAdder::sum)
+                .description("Страницы комментариев, не найденные в кэше")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("blog.comments.cache.evictions", evictions, LongAdder::sum)
+                .description("Записи, вытесненные из кэша из-за бюджета памяти")
+                .register(registry);
+        Gauge.builder("blog.comments.cache.size", usedBytes, AtomicLong::get)
+                .description("Оценка памяти, занятой кэшем комментариев")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private void update(long postId, UnaryOperator<Entry> change) {
+        if (!enabled) {
+            return;
+        }
+        entries.compute(postId, (key, current) -> {
+            versions.incrementAndGet(stripe(postId));
+            if (current == null) {
+                return null;
+            }
+            Entry updated = change.apply(current);
+            if (updated != current) {
+                usedBytes.addAndGet((updated == null ? 0 : updated.bytes) - current.bytes);
+            }
+            return updated;
+        });
+        evictIfNeeded();
+    }
+
+    /**
+     * Вытесняет записи по CLOCK, пока оценка занятой памяти превышает бюджет.
+     * Вытеснение выполняет один поток; остальные не ждут его завершения.
+     */
+    private void evictIfNeeded() {
+        if (usedBytes.get() <= maxBytes || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            for (int pass = 0; pass < 2 && usedBytes.get() > maxBytes; pass++) {
+                Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+                while (usedBytes.get() > maxBytes && iterator.hasNext()) {
+                    Map.Entry<Long, Entry> candidate = iterator.next();
+                    Entry entry = candidate.getValue();
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                    } else if (entries.remove(candidate.getKey(), entry)) {
+                        usedBytes.addAndGet(-entry.bytes);
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static int stripe(long postId) {
+        return (int) (postId ^ (postId >>> 32)) & (VERSION_STRIPES - 1);
+    }
+
+    private static long estimateBytes(List<CommentResponseDto> comments) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        for (CommentResponseDto comment : comments) {
+            bytes += COMMENT_OVERHEAD_BYTES + 2L * comment.text().length();
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Закэшированные первые комментарии поста.
+     * Список не изменяется; при изменении комментариев запись заменяется новой.
+     */
+    private static final class Entry {
+
+        private final List<CommentResponseDto> comments;
+        private final boolean complete;
+        private final long bytes;
+
+        private volatile boolean referenced = true;
+
+        Entry(List<CommentResponseDto> comments, boolean complete) {
+            this.comments = comments;
+            this.complete = complete;
+            this.bytes = estimateBytes(comments);
+        }
+
+        List<CommentResponseDto> page(Long after, int limit) {
+            int from = 0;
+            if (after != null) {
+                int index = indexOf(after);
+                if (index < 0) {
+                    return complete ? pageAfterId(after, limit) : null;
+                }
+                from = index + 1;
+            }
+            int to = (int) Math.min((long) from + limit, comments.size());
+            if (to - from < limit && !complete) {
+                return null;
+            }
+
+            return comments.subList(from, to);
+        }
+
+        List<CommentResponseDto> pageAfterId(long after, int limit) {
+            return comments.stream()
+                    .filter(comment -> comment.id() > after)
+                    .limit(limit)
+                    .toList();
+        }
+
+        int indexOf(long commentId) {
+            for (int i = 0; i < comments.size(); i++) {
+                if (comments.get(i).id() == commentId) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+}
@@ -1,19 +1,37 @@
 package io.github.habatoo.service.impl;
 
+import io.github.habatoo.dto.request.CommentBatchDeleteRequestDto;
 import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.request.CommentRequestDto;
+import io.github.habatoo.dto.response.CommentBatchDeleteResponseDto;
+import io.github.habatoo.dto.response.CommentDeletedEventDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
+import io.github.habatoo.properties.CommentModerationProperties;
+import io.github.habatoo.properties.CommentPageProperties;
+import io.github.habatoo.properties.CommentThreadProperties;
 import io.github.habatoo.repositories.CommentRepository;
+import io.github.habatoo.service.CommentGroupCommitter;
+import io.github.habatoo.service.CommentListCache;
 import io.github.habatoo.service.CommentService;
-import io.github.habatoo.service.PostService;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.RequestCoalescer;
+import io.github.habatoo.service.StaleIfErrorExecutor;
+import io.github.habatoo.service.dto.CommentPage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Сервис для работы с комментариями блога.
@@ -22,8 +40,23 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * <p>Сервис делегирует выполнение операций доступа к данным репозиторию
  * и обеспечивает работу с комментариями, связанных с конкретными постами.</p>
  *
+ * <p>Первые комментарии поста читаются через {@link CommentListCache}. Создание, изменение
+ * и удаление комментария изменяют закэшированный список после фиксации транзакции,
+ * чтобы кэш не получил изменения, которые затем будут откачены. Тогда же подписчикам
+ * событий поста рассылается событие об изменении комментариев.</p>
+ *
  * @see CommentRepository
  * @see PostServiceImpl
+ * @see PostIdFilter
+ * @see RequestCoalescer
+ * @see StaleIfErrorExecutor
+ * @see PostListPrefetcher
+ * @see CommentGroupCommitter
+ * @see CommentPageProperties
+ * @see CommentListCache
+ * @see CommentThreadProperties
+ * @see CommentModerationProperties
+ * @see PostEventBroadcaster
  */
 @Slf4j
 @Service
@@ -31,45 +64,142 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
-    private final PostService postService;
+    private final PostIdFilter postIdFilter;
+    private final RequestCoalescer requestCoalescer;
+    private final StaleIfErrorExecutor staleIfErrorExecutor;
+    private final PostListPrefetcher postListPrefetcher;
+    private final CommentGroupCommitter commentGroupCommitter;
+    private final CommentPageProperties commentPageProperties;
+    private final CommentListCache commentListCache;
+    private final CommentThreadProperties commentThreadProperties;
+    private final CommentModerationProperties commentModerationProperties;
+    private final PostEventBroadcaster postEventBroadcaster;
 
-    public CommentServiceImpl(CommentRepository commentRepository, PostService postService) {
+    public CommentServiceImpl(
+            CommentRepository commentRepository,
+            PostIdFilter postIdFilter,
+            RequestCoalescer requestCoalescer,
+            StaleIfErrorExecutor staleIfErrorExecutor,
+            PostListPrefetcher postListPrefetcher,
+            CommentGroupCommitter commentGroupCommitter,
+            CommentPageProperties commentPageProperties,
+            CommentListCache commentListCache,
+            CommentThreadProperties commentThreadProperties,
+            CommentModerationProperties commentModerationProperties,
+            PostEventBroadcaster postEventBroadcaster) {
         this.commentRepository = commentRepository;
-        this.postService = postService;
+        this.postIdFilter = postIdFilter;
+        this.requestCoalescer = requestCoalescer;
+        this.staleIfErrorExecutor = staleIfErrorExecutor;
+        this.postListPrefetcher = postListPrefetcher;
+        this.commentGroupCommitter = commentGroupCommitter;
+        this.commentPageProperties = commentPageProperties;
+        this.commentListCache = commentListCache;
+        this.commentThreadProperties = commentThreadProperties;
+        this.commentModerationProperties = commentModerationProperties;
+        this.postEventBroadcaster = postEventBroadcaster;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Чтение выполняется без собственной транзакции, чтобы при недоступной базе
+     * соединение не захватывалось до вызова {@link StaleIfErrorExecutor}.</p>
      */
     @Override
-    public List<CommentResponseDto> getCommentsByPostId(Long postId) {
-        log.debug("Получение комментариев для поста id={}", postId);
-        List<CommentResponseDto> loaded = commentRepository.findByPostId(postId);
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CommentPage getCommentsByPostId(Long postId, Long after, Integer limit) {
+        int pageSize = resolveLimit(limit);
+        log.debug("Получение комментариев для поста id={}: after={}, limit={}", postId, after, pageSize);
+        if (!postIdFilter.mightContain(postId)) {
+            log.debug("Пост id={} отсутствует в фильтре существующих постов", postId);
+            return new CommentPage(List.of(), null);
+        }
+        List<CommentResponseDto> comments = commentListCache.get(postId, after, pageSize);
+        if (comments == null) {
+            String key = "comments:" + postId + ":" + after + ":" + pageSize;
+            comments = staleIfErrorExecutor.execute(key,
+                    () -> requestCoalescer.execute(key, () -> loadComments(postId, after, pageSize)));
+        }
 
-        return new CopyOnWriteArrayList<>(loaded);
+        return toPage(comments, pageSize);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<CommentResponseDto> getCommentByPostIdAndId(Long postId, Long commentId) {
         log.debug("Получение комментария id={} для поста id={}", commentId, postId);
+        if (!postIdFilter.mightContain(postId)) {
+            log.debug("Пост id={} отсутствует в фильтре существующих постов", postId);
+            return Optional.empty();
+        }
+
+        return staleIfErrorExecutor.execute("comment:" + postId + ":" + commentId,
+                () -> commentRepository.findByPostIdAndId(postId, commentId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ThreadedCommentResponseDto> getCommentThreads(Long postId, Long after, Integer limit) {
+        int pageSize = resolveLimit(limit);
+        log.debug("Получение веток комментариев для поста id={}: after={}, limit={}", postId, after, pageSize);
+        if (!postIdFilter.mightContain(postId)) {
+            log.debug("Пост id={} отсутствует в фильтре существующих постов", postId);
+            return List.of();
+        }
+        String key = "comment-threads:" + postId + ":" + after + ":" + pageSize;
+
+        return staleIfErrorExecutor.execute(key,
+                () -> requestCoalescer.execute(key, () -> commentRepository.findThreads(postId, after, pageSize)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ThreadedCommentResponseDto> getCommentThread(Long postId, Long commentId) {
+        log.debug("Получение ветки комментария id={} для поста id={}", commentId, postId);
+        List<ThreadedCommentResponseDto> thread = List.of();
+        if (postIdFilter.mightContain(postId)) {
+            String key = "comment-thread:" + postId + ":" + commentId;
+            thread = staleIfErrorExecutor.execute(key,
+                    () -> requestCoalescer.execute(key, () -> commentRepository.findSubtree(postId, commentId)));
+        }
+        if (thread.isEmpty()) {
+            log.warn("Комментарий id={} не найден у поста id={}", commentId, postId);
+            throw new EmptyResultDataAccessException("Комментарий не найден", 1);
+        }
 
-        return commentRepository.findByPostIdAndId(postId, commentId);
+        return thread;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Комментарий и счётчик комментариев поста записываются одним запросом, поэтому метод
+     * выполняется без собственной транзакции: при групповой записи поток запроса не удерживает
+     * соединение, пока его комментарий ожидает записи вместе с остальными.</p>
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CommentResponseDto createComment(CommentCreateRequestDto request) {
         log.info("Создание комментария для поста id={}", request.postId());
         Long postId = request.postId();
 
         try {
-            CommentResponseDto newComment = commentRepository.save(request);
-            postService.incrementCommentsCount(request.postId());
+            CommentResponseDto newComment = commentGroupCommitter.isEnabled()
+                    ? commentGroupCommitter.save(request)
+                    : commentRepository.save(request);
+            postListPrefetcher.invalidate();
+            commentListCache.append(newComment);
+            postEventBroadcaster.publish(postId, PostEventBroadcaster.COMMENT_CREATED, newComment);
             log.info("Комментарий создан: id={}, postId={}", newComment.id(), postId);
 
             return newComment;
@@ -78,6 +208,35 @@ public class CommentServiceImpl implements CommentService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Ответ и счётчик комментариев поста записываются одним запросом без групповой записи.
+     * В кэш первых комментариев поста ответ добавляется как обычный комментарий: в плоском
+     * списке ответы идут в порядке создания вместе с комментариями верхнего уровня.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ThreadedCommentResponseDto createReply(Long parentId, CommentCreateRequestDto request) {
+        Long postId = request.postId();
+        log.info("Создание ответа на комментарий id={} для поста id={}", parentId, postId);
+
+        ThreadedCommentResponseDto reply;
+        try {
+            reply = commentRepository.saveReply(parentId, request, commentThreadProperties.maxDepth());
+        } catch (EmptyResultDataAccessException e) {
+            log.warn("Комментарий id={} не найден у поста id={} для ответа", parentId, postId);
+            throw new EmptyResultDataAccessException("Комментарий не найден", 1);
+        }
+        postListPrefetcher.invalidate();
+        commentListCache.append(new CommentResponseDto(reply.id(), reply.text(), reply.postId()));
+        postEventBroadcaster.publish(postId, PostEventBroadcaster.COMMENT_CREATED, reply);
+        log.info("Ответ создан: id={}, parentId={}, depth={}, postId={}",
+                reply.id(), reply.parentId(), reply.depth(), postId);
+
+        return reply;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -95,6 +254,10 @@ public class CommentServiceImpl implements CommentService {
             log.warn("Комментарий id={} не найден для обновления", commentId);
             throw new EmptyResultDataAccessException("Комментарий не найден", 1);
         }
+        afterCommit(() -> {
+            commentListCache.replace(updatedComment);
+            postEventBroadcaster.publish(updatedComment.postId(), PostEventBroadcaster.COMMENT_UPDATED, updatedComment);
+        });
         log.info("Комментарий обновлен: id={}, postId={}", updatedComment.id(), postId);
 
         return updatedComment;
@@ -102,6 +265,9 @@ public class CommentServiceImpl implements CommentService {
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Счётчик комментариев поста уменьшается тем же запросом, что удаляет комментарий и ответы на него.
+     * Если вместе с комментарием удалены ответы, запись кэша первых комментариев поста сбрасывается.</p>
      */
     @Override
     public void deleteComment(Long postId, Long commentId) {
@@ -109,11 +275,115 @@ public class CommentServiceImpl implements CommentService {
 
         int deleted = commentRepository.deleteById(commentId);
         if (deleted > 0) {
-            postService.decrementCommentsCount(postId);
-            log.info("Комментарий удалён: id={}, postId={}", commentId, postId);
+            postListPrefetcher.invalidate();
+            afterCommit(() -> {
+                if (deleted == 1) {
+                    commentListCache.remove(postId, commentId);
+                } else {
+                    commentListCache.invalidate(postId);
+                }
+                postEventBroadcaster.publish(postId, PostEventBroadcaster.COMMENT_DELETED,
+                        new CommentDeletedEventDto(commentId, deleted));
+            });
+            log.info("Комментарий удалён вместе с {} ответами: id={}, postId={}", deleted - 1, commentId, postId);
         } else {
             log.warn("Комментарий не найден для удаления: id={}, postId={}", commentId, postId);
             throw new EmptyResultDataAccessException("Комментарий не найден", 1);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Комментарии удаляются одним запросом, который одним сгруппированным UPDATE уменьшает
+     * счётчики комментариев всех затронутых постов. Записи кэша первых комментариев этих постов
+     * сбрасываются после фиксации транзакции.</p>
+     */
+    @Override
+    public CommentBatchDeleteResponseDto deleteComments(CommentBatchDeleteRequestDto request) {
+        validateBatchDelete(request);
+        Map<Long, Integer> deletedByPost;
+        if (request.ids() != null && !request.ids().isEmpty()) {
+            log.info("Пакетное удаление {} комментариев по идентификаторам", request.ids().size());
+            deletedByPost = commentRepository.deleteAllById(request.ids());
+        } else {
+            log.info("Пакетное удаление комментариев по тексту: postId={}", request.postId());
+            deletedByPost = commentRepository.deleteAllByText(request.postId(), request.textContains());
+        }
+
+        int deleted = deletedByPost.values().stream().mapToInt(Integer::intValue).sum();
+        if (deleted > 0) {
+            postListPrefetcher.invalidate();
+            afterCommit(() -> deletedByPost.forEach((postId, count) -> {
+                commentListCache.invalidate(postId);
+                postEventBroadcaster.publish(postId, PostEventBroadcaster.COMMENT_DELETED,
+                        new CommentDeletedEventDto(null, count));
+            }));
+        }
+        log.info("Пакетно удалено {} комментариев у {} постов", deleted, deletedByPost.size());
+
+        return new CommentBatchDeleteResponseDto(deleted, deletedByPost);
+    }
+
+    private void validateBatchDelete(CommentBatchDeleteRequestDto request) {
+        boolean hasIds = request != null && request.ids() != null && !request.ids().isEmpty();
+        boolean hasText = request != null && request.textContains() != null && !request.textContains().isBlank();
+        if (!hasIds && !hasText) {
+            throw new IllegalArgumentException("Either ids or textContains must be specified");
+        }
+        if (hasIds && (hasText || request.postId() != null)) {
+            throw new IllegalArgumentException("ids cannot be combined with postId or textContains");
+        }
+        if (hasIds && request.ids().size() > commentModerationProperties.maxBatchSize()) {
+            throw new IllegalArgumentException(
+                    "Batch delete size exceeds limit of " + commentModerationProperties.maxBatchSize() + " comments");
+        }
+        if (hasIds && request.ids().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Comment ids cannot contain null");
+        }
+    }
+
+    private List<CommentResponseDto> loadComments(Long postId, Long after, int pageSize) {
+        if (after != null) {
+            return commentRepository.findByPostId(postId, after, pageSize);
+        }
+
+        return commentListCache.load(postId, pageSize, count -> commentRepository.findByPostId(postId, null, count));
+    }
+
+    /**
+     * Выполняет действие после фиксации текущей транзакции или сразу, если транзакции нет.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Возвращает курсор следующей страницы, только если страница заполнена полностью.
+     */
+    private static CommentPage toPage(List<CommentResponseDto> comments, int pageSize) {
+        Long nextCursor = comments.size() < pageSize ? null : comments.getLast().id();
+
+        return new CommentPage(comments, nextCursor);
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return commentPageProperties.defaultLimit();
+        }
+        if (limit < 1 || limit > commentPageProperties.maxLimit()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + commentPageProperties.maxLimit());
+        }
+
+        return limit;
+    }
 }
@@ -0,0 +1,108 @@
+package io.github.habatoo.service.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Потокобезопасный считающий фильтр Блума для идентификаторов типа {@code long}.
+ *
+ * <p>Каждая ячейка фильтра - 4-битный счётчик, по 16 счётчиков в одном {@code long}.
+ * Достигший максимума счётчик больше не изменяется, поэтому переполнение
+ * может давать только ложноположительные ответы, но не ложноотрицательные.</p>
+ */
+final class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long MAX_COUNTER = 0xFL;
+    private static final long SECOND_HASH_SEED = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray words;
+    private final long counters;
+    private final int hashFunctions;
+    private final int capacity;
+
+    CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this.capacity = Math.max(expectedInsertions, 1);
+        long optimalCounters = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = Math.max(optimalCounters, COUNTERS_PER_WORD);
+        this.hashFunctions = Math.max(1, (int) Math.round((double) counters / capacity * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    boolean mightContain(long value) {
+        long h1 = mix(value);
+        long h2 = mix(value ^ SECOND_HASH_SEED) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counter(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    void add(long value) {
+        long h1 = mix(value);
+        long h2 = mix(value ^ SECOND_HASH_SEED) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            update(index(h1, h2, i), 1);
+        }
+    }
+
+    void remove(long value) {
+        long h1 = mix(value);
+        long h2 = mix(value ^ SECOND_HASH_SEED) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            update(index(h1, h2, i), -1);
+        }
+    }
+
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, counters);
+    }
+
+    private long counter(long index) {
+        long word = words.get((int) (index / COUNTERS_PER_WORD));
+        return (word >>> shift(index)) & COUNTER_MASK;
+    }
+
+    /**
+     * Изменяет счётчик через CAS; нулевой счётчик не уменьшается, а насыщенный не изменяется.
+     */
+    private void update(long index, int delta) {
+        int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        int shift = shift(index);
+        while (true) {
+            long word = words.get(wordIndex);
+            long value = (word >>> shift) & COUNTER_MASK;
+            if (value == MAX_COUNTER || (delta < 0 && value == 0)) {
+                return;
+            }
+            long updated = (word & ~(COUNTER_MASK << shift)) | ((value + delta) << shift);
+            if (words.compareAndSet(wordIndex, word, updated)) {
+                return;
+            }
+        }
+    }
+
+    private static int shift(long index) {
+        return (int) (index % COUNTERS_PER_WORD) * 4;
+    }
+
+    /**
+     * Финальное перемешивание MurmurHash3 (fmix64).
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
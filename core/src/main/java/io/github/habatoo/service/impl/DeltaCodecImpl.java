@@ -0,0 +1,205 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.service.DeltaCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Реализация двоичного дельта-кодирования.
+ *
+ * <p>Формат дельты: длина целевой версии, затем последовательность операций {@code COPY}
+ * (смещение и длина участка базовой версии) и {@code INSERT} (длина и вставляемые байты).
+ * Числа записываются в формате varint. Совпадающие участки ищутся по хеш-таблице позиций
+ * базовой версии для окон по {@value #MIN_MATCH} байт: из позиций с тем же хешем выбирается
+ * самое длинное совпадение. Сначала проверяются продолжение предыдущего копируемого участка
+ * и ближайшие за ним позиции, поэтому после вставки, замены или удаления фрагмента
+ * повторяющиеся части текста не сбивают выравнивание.
+ * Найденное совпадение расширяется вперёд и назад.</p>
+ *
+ * @see DeltaCodec
+ */
+public class DeltaCodecImpl implements DeltaCodec {
+
+    private static final int MIN_MATCH = 8;
+    private static final int MAX_INDEX_SIZE = 1 << 20;
+    private static final int MAX_CHAIN = 32;
+    private static final int MAX_SKIP = 1024;
+    private static final byte COPY = 0;
+    private static final byte INSERT = 1;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] encode(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, target.length);
+        Index index = new Index(base);
+
+        int literalStart = 0;
+        int copyEnd = 0;
+        int position = 0;
+        while (position + MIN_MATCH <= target.length) {
+            int candidate = copyEnd;
+            int length = matchLength(base, copyEnd, target, position);
+            int shifted = copyEnd + position - literalStart;
+            int matched = matchLength(base, shifted, target, position);
+            if (matched > length) {
+                candidate = shifted;
+                length = matched;
+            }
+            if (length < MIN_MATCH) {
+                int skipEnd = Math.min(copyEnd + MAX_SKIP, base.length - MIN_MATCH);
+                for (int c = copyEnd + 1; c <= skipEnd; c++) {
+                    matched = matchLength(base, c, target, position);
+                    if (matched > length) {
+                        candidate = c;
+                        length = matched;
+                    }
+                }
+                for (int c = index.head(target, position), depth = 0; c >= 0 && depth < MAX_CHAIN;
+                     c = index.previous(c), depth++) {
+                    matched = matchLength(base, c, target, position);
+                    if (matched > length) {
+                        candidate = c;
+                        length = matched;
+                    }
+                }
+            }
+            if (length < MIN_MATCH) {
+                position++;
+                continue;
+            }
+            while (position > literalStart && candidate > 0 && base[candidate - 1] == target[position - 1]) {
+                position--;
+                candidate--;
+                length++;
+            }
+            writeInsert(out, target, literalStart, position);
+            out.write(COPY);
+            writeVarint(out, candidate);
+            writeVarint(out, length);
+            position += length;
+            literalStart = position;
+            copyEnd = candidate + length;
+        }
+        writeInsert(out, target, literalStart, target.length);
+
+        return out.toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] apply(byte[] base, byte[] delta) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(delta);
+            byte[] target = new byte[readVarint(buffer)];
+            int written = 0;
+            while (buffer.hasRemaining()) {
+                byte operation = buffer.get();
+                if (operation == COPY) {
+                    int offset = readVarint(buffer);
+                    int length = readVarint(buffer);
+                    System.arraycopy(base, offset, target, written, length);
+                    written += length;
+                } else if (operation == INSERT) {
+                    int length = readVarint(buffer);
+                    buffer.get(target, written, length);
+                    written += length;
+                } else {
+                    throw new IllegalArgumentException("Unknown delta operation: " + operation);
+                }
+            }
+            if (written != target.length) {
+                throw new IllegalArgumentException("Delta produced " + written + " of " + target.length + " bytes");
+            }
+
+            return target;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Corrupted delta", e);
+        }
+    }
+
+    private static int hash(byte[] data, int position) {
+        long window = 0;
+        for (int i = 0; i < MIN_MATCH; i++) {
+            window = (window << 8) | (data[position + i] & 0xFF);
+        }
+
+        return (int) ((window * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private static int matchLength(byte[] base, int baseOffset, byte[] target, int targetOffset) {
+        int max = Math.max(Math.min(base.length - baseOffset, target.length - targetOffset), 0);
+        int length = 0;
+        while (length < max && base[baseOffset + length] == target[targetOffset + length]) {
+            length++;
+        }
+
+        return length;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] target, int from, int to) {
+        if (to > from) {
+            out.write(INSERT);
+            writeVarint(out, to - from);
+            out.write(target, from, to - from);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in delta");
+    }
+
+    /**
+     * Хеш-таблица позиций окон базовой версии с цепочками позиций, имеющих одинаковый хеш.
+     */
+    private static final class Index {
+
+        private final int[] heads;
+        private final int[] previous;
+        private final int mask;
+
+        Index(byte[] base) {
+            int windows = Math.max(base.length - MIN_MATCH + 1, 1);
+            heads = new int[Math.min(Integer.highestOneBit(windows) << 1, MAX_INDEX_SIZE)];
+            previous = new int[windows];
+            mask = heads.length - 1;
+            Arrays.fill(heads, -1);
+            for (int position = 0; position + MIN_MATCH <= base.length; position++) {
+                int bucket = hash(base, position) & mask;
+                previous[position] = heads[bucket];
+                heads[bucket] = position;
+            }
+        }
+
+        int head(byte[] data, int position) {
+            return heads[hash(data, position) & mask];
+        }
+
+        int previous(int position) {
+            return previous[position];
+        }
+    }
+}
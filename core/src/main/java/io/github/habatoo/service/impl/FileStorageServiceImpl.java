@@ -5,11 +5,15 @@ import io.github.habatoo.service.FileStorageService;
 import io.github.habatoo.service.PathResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
@@ -63,11 +67,25 @@ public class FileStorageServiceImpl implements FileStorageService {
      * {@inheritDoc}
      */
     @Override
-    public byte[] loadImageFile(String filename) throws IOException {
+    public Resource loadImageFile(String filename) throws IOException {
         log.debug("Загрузка файла изображения '{}'", filename);
         Path filePath = pathResolver.resolveFilePath(filename);
+        if (!Files.isRegularFile(filePath)) {
+            throw new NoSuchFileException(filePath.toString());
+        }
+
+        return new FileSystemResource(filePath);
+    }
 
-        return Files.readAllBytes(filePath);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] readImageHeader(String filename, int length) throws IOException {
+        Path filePath = pathResolver.resolveFilePath(filename);
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return inputStream.readNBytes(length);
+        }
     }
 
     /**
@@ -0,0 +1,176 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.HotKeyProperties;
+import io.github.habatoo.service.HotKeyTracker;
+import io.github.habatoo.service.dto.HotKey;
+import io.github.habatoo.service.dto.HotKeyCategory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация учёта популярных ключей на сводках Space-Saving со скользящим окном.
+ *
+ * <p>Для каждой категории хранится кольцо из {@code buckets} сводок, каждая из которых
+ * покрывает интервал {@code bucketDuration}. Чтобы потоки запросов не ждали друг друга,
+ * кольцо разбито на полосы по числу процессоров (не более восьми): поток пишет
+ * в полосу, выбранную по его идентификатору, и обновляет только сводку текущего интервала
+ * под блокировкой этой полосы. Устаревшая сводка очищается при первом обращении в новом интервале.
+ * Запрос популярных ключей объединяет сводки всех полос за нужное число последних интервалов,
+ * складывая счётчики и погрешности, как допускает объединение сводок Space-Saving.</p>
+ *
+ * <p>Набор закрепляемых ключей пересчитывается не чаще одного раза за интервал и читается
+ * без блокировки, поэтому проверка {@link #isPinned} при вытеснении из кэша дешёвая.</p>
+ *
+ * @see HotKeyProperties
+ * @see SpaceSavingSummary
+ */
+@Slf4j
+public class HotKeyTrackerImpl implements HotKeyTracker {
+
+    private static final int MAX_STRIPES = 8;
+    private static final int STRIPES = Math.min(MAX_STRIPES,
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
+    private final HotKeyProperties hotKeyProperties;
+    private final long bucketNanos;
+    private final long originNanos = System.nanoTime();
+    private final Map<HotKeyCategory, CategoryWindow> windows = new EnumMap<>(HotKeyCategory.class);
+
+    public HotKeyTrackerImpl(HotKeyProperties hotKeyProperties) {
+        this.hotKeyProperties = hotKeyProperties;
+        this.bucketNanos = Math.max(1, hotKeyProperties.bucketDuration().toNanos());
+        for (HotKeyCategory category : HotKeyCategory.values()) {
+            windows.put(category, new CategoryWindow(Math.max(1, hotKeyProperties.buckets()), hotKeyProperties.capacity()));
+        }
+        log.info("HotKeyTracker инициализирован: enabled={}, capacity={}, bucketDuration={}, buckets={}, pinnedKeys={}",
+                hotKeyProperties.enabled(), hotKeyProperties.capacity(), hotKeyProperties.bucketDuration(),
+                hotKeyProperties.buckets(), hotKeyProperties.pinnedKeys());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(HotKeyCategory category, String key) {
+        if (hotKeyProperties.enabled() && key != null) {
+            windows.get(category).record(key, currentEpoch());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<HotKey> top(HotKeyCategory category, Duration window, int limit) {
+        if (!hotKeyProperties.enabled() || limit <= 0) {
+            return List.of();
+        }
+        long requestedBuckets = (window.toNanos() + bucketNanos - 1) / bucketNanos;
+        int bucketCount = (int) Math.min(Math.max(1, requestedBuckets), hotKeyProperties.buckets());
+
+        return windows.get(category).top(currentEpoch(), bucketCount, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPinned(HotKeyCategory category, String key) {
+        if (!hotKeyProperties.enabled() || hotKeyProperties.pinnedKeys() <= 0) {
+            return false;
+        }
+        long epoch = currentEpoch();
+        CategoryWindow window = windows.get(category);
+        PinnedKeys pinned = window.pinned;
+        if (pinned.epoch != epoch) {
+            Set<String> keys = window.top(epoch, hotKeyProperties.buckets(), hotKeyProperties.pinnedKeys()).stream()
+                    .map(HotKey::key)
+                    .collect(Collectors.toUnmodifiableSet());
+            pinned = new PinnedKeys(keys, epoch);
+            window.pinned = pinned;
+        }
+
+        return pinned.keys.contains(key);
+    }
+
+    private long currentEpoch() {
+        return (System.nanoTime() - originNanos) / bucketNanos;
+    }
+
+    private record PinnedKeys(Set<String> keys, long epoch) {
+    }
+
+    /**
+     * Полосы колец сводок одной категории.
+     */
+    private static final class CategoryWindow {
+
+        private final Stripe[] stripes = new Stripe[STRIPES];
+        private volatile PinnedKeys pinned = new PinnedKeys(Set.of(), -1);
+
+        private CategoryWindow(int buckets, int capacity) {
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe(buckets, capacity);
+            }
+        }
+
+        void record(String key, long epoch) {
+            stripes[(int) (Thread.currentThread().threadId() & (STRIPES - 1))].record(key, epoch);
+        }
+
+        List<HotKey> top(long epoch, int bucketCount, int limit) {
+            Map<String, long[]> merged = new HashMap<>();
+            for (Stripe stripe : stripes) {
+                stripe.mergeInto(merged, epoch, bucketCount);
+            }
+
+            return merged.entrySet().stream()
+                    .map(e -> new HotKey(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                    .sorted(Comparator.comparingLong(HotKey::count).reversed().thenComparing(HotKey::key))
+                    .limit(limit)
+                    .toList();
+        }
+    }
+
+    /**
+     * Кольцо сводок одной полосы.
+     */
+    private static final class Stripe {
+
+        private final SpaceSavingSummary[] summaries;
+        private final long[] epochs;
+
+        private Stripe(int buckets, int capacity) {
+            this.summaries = new SpaceSavingSummary[buckets];
+            this.epochs = new long[buckets];
+            for (int i = 0; i < buckets; i++) {
+                summaries[i] = new SpaceSavingSummary(capacity);
+                epochs[i] = -1;
+            }
+        }
+
+        synchronized void record(String key, long epoch) {
+            int slot = (int) (epoch % summaries.length);
+            if (epochs[slot] != epoch) {
+                summaries[slot].clear();
+                epochs[slot] = epoch;
+            }
+            summaries[slot].offer(key);
+        }
+
+        synchronized void mergeInto(Map<String, long[]> merged, long epoch, int bucketCount) {
+            for (int i = 0; i < summaries.length; i++) {
+                if (epochs[i] > epoch - bucketCount && epochs[i] <= epoch) {
+                    for (HotKey hotKey : summaries[i].snapshot()) {
+                        long[] totals = merged.computeIfAbsent(hotKey.key(), k -> new long[2]);
+                        totals[0] += hotKey.count();
+                        totals[1] += hotKey.error();
+                    }
+                }
+            }
+        }
+    }
+}
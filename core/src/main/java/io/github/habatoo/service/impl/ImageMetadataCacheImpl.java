@@ -0,0 +1,294 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.ImageCacheProperties;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.dto.ImageMetadata;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Реализация кэша метаданных изображений на сегментированных хэш-таблицах с открытой адресацией.
+ *
+ * <p>Ключи хранятся в массивах {@code long[]} с линейным пробированием, поэтому чтение и запись
+ * не создают объектов {@link Long}. Каждый сегмент ограничен по количеству записей и вытесняет
+ * записи по алгоритму CLOCK: запись, к которой обращались после прохода стрелки, получает второй шанс.
+ * Чтение выполняется оптимистично через {@link StampedLock} и берёт блокировку чтения только
+ * при конкурентной записи в тот же сегмент.</p>
+ *
+ * <p>Закреплённые ключи (самые популярные посты) при вытеснении пропускаются, пока в сегменте
+ * есть другие кандидаты; если закреплены все записи сегмента, вытесняется очередная по CLOCK.</p>
+ *
+ * @see ImageCacheProperties
+ */
+@Slf4j
+public class ImageMetadataCacheImpl implements ImageMetadataCache {
+
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    public ImageMetadataCacheImpl(ImageCacheProperties imageCacheProperties) {
+        this(imageCacheProperties, postId -> false);
+    }
+
+    public ImageMetadataCacheImpl(ImageCacheProperties imageCacheProperties, LongPredicate pinnedKeys) {
+        if (imageCacheProperties.enabled()) {
+            int segmentCount = ceilPowerOfTwo(Math.max(1, imageCacheProperties.segments()));
+            int segmentCapacity = Math.max(1,
+                    (imageCacheProperties.maxEntries() + segmentCount - 1) / segmentCount);
+            this.segments = new Segment[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = new Segment(segmentCapacity, pinnedKeys);
+            }
+            this.segmentMask = segmentCount - 1;
+        } else {
+            this.segments = null;
+            this.segmentMask = 0;
+        }
+        log.info("ImageMetadataCache инициализирован: enabled={}, maxEntries={}, segments={}",
+                imageCacheProperties.enabled(), imageCacheProperties.maxEntries(), imageCacheProperties.segments());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImageMetadata get(long postId) {
+        if (segments == null) {
+            return null;
+        }
+        long hash = mix(postId);
+
+        return segmentFor(hash).get(postId, (int) hash);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(long postId, ImageMetadata metadata) {
+        if (segments != null) {
+            long hash = mix(postId);
+            segmentFor(hash).put(postId, (int) hash, metadata, false);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putIfAbsent(long postId, ImageMetadata metadata) {
+        if (segments != null) {
+            long hash = mix(postId);
+            segmentFor(hash).put(postId, (int) hash, metadata, true);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(long postId) {
+        if (segments != null) {
+            long hash = mix(postId);
+            segmentFor(hash).remove(postId, (int) hash);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        if (segments != null) {
+            for (Segment segment : segments) {
+                segment.clear();
+            }
+        }
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> 32) & segmentMask];
+    }
+
+    private static int ceilPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Финальное перемешивание MurmurHash3 (fmix64).
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Сегмент кэша: хэш-таблица с линейным пробированием, заполненная не более чем наполовину.
+     * Пустой слот определяется по отсутствию значения.
+     */
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private final long[] keys;
+        private final ImageMetadata[] values;
+        private final byte[] referenced;
+        private final int mask;
+        private final int capacity;
+        private final LongPredicate pinnedKeys;
+
+        private int size;
+        private int hand;
+
+        Segment(int capacity, LongPredicate pinnedKeys) {
+            int tableSize = ceilPowerOfTwo(capacity * 2);
+            this.keys = new long[tableSize];
+            this.values = new ImageMetadata[tableSize];
+            this.referenced = new byte[tableSize];
+            this.mask = tableSize - 1;
+            this.capacity = capacity;
+            this.pinnedKeys = pinnedKeys;
+        }
+
+        ImageMetadata get(long key, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            int slot = find(key, hash);
+            ImageMetadata value = slot >= 0 ? values[slot] : null;
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    slot = find(key, hash);
+                    value = slot >= 0 ? values[slot] : null;
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (value != null) {
+                referenced[slot] = 1;
+            }
+
+            return value;
+        }
+
+        void put(long key, int hash, ImageMetadata value, boolean onlyIfAbsent) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = find(key, hash);
+                if (slot >= 0) {
+                    if (!onlyIfAbsent) {
+                        values[slot] = value;
+                    }
+                    referenced[slot] = 1;
+                    return;
+                }
+                if (size >= capacity) {
+                    evict();
+                }
+                slot = hash & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = value;
+                referenced[slot] = 0;
+                size++;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(long key, int hash) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = find(key, hash);
+                if (slot >= 0) {
+                    delete(slot);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                Arrays.fill(keys, 0);
+                Arrays.fill(values, null);
+                Arrays.fill(referenced, (byte) 0);
+                size = 0;
+                hand = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int find(long key, int hash) {
+            int slot = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                if (values[slot] == null) {
+                    return -1;
+                }
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            return -1;
+        }
+
+        /**
+         * Вытесняет одну запись по алгоритму CLOCK, пропуская закреплённые ключи
+         * не более одного полного оборота стрелки.
+         */
+        private void evict() {
+            int pinnedSkips = 0;
+            while (true) {
+                int slot = hand;
+                hand = (hand + 1) & mask;
+                if (values[slot] == null) {
+                    continue;
+                }
+                if (referenced[slot] != 0) {
+                    referenced[slot] = 0;
+                    continue;
+                }
+                if (pinnedSkips <= mask && pinnedKeys.test(keys[slot])) {
+                    pinnedSkips++;
+                    continue;
+                }
+                delete(slot);
+                return;
+            }
+        }
+
+        /**
+         * Удаляет запись со сдвигом последующих записей цепочки назад, без маркеров удаления.
+         */
+        private void delete(int slot) {
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (values[next] != null) {
+                int home = (int) mix(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    referenced[gap] = referenced[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = 0;
+            values[gap] = null;
+            referenced[gap] = 0;
+            size--;
+        }
+    }
+}
@@ -2,11 +2,18 @@ package io.github.habatoo.service.impl;
 
 import io.github.habatoo.repositories.ImageRepository;
 import io.github.habatoo.service.FileStorageService;
+import io.github.habatoo.service.HotKeyTracker;
 import io.github.habatoo.service.ImageContentTypeDetector;
+import io.github.habatoo.service.ImageMetadataCache;
 import io.github.habatoo.service.ImageService;
 import io.github.habatoo.service.ImageValidator;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.RequestCoalescer;
+import io.github.habatoo.service.dto.HotKeyCategory;
+import io.github.habatoo.service.dto.ImageMetadata;
 import io.github.habatoo.service.dto.ImageResponseDto;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -14,15 +21,23 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.nio.file.FileSystems;
+import java.time.Instant;
 import java.util.Optional;
 
 /**
  * Сервис для обработки изображений поста.
  *
+ * <p>Изображение возвращается ресурсом файла и не читается в память целиком: содержимое
+ * записывается в ответ потоком, а для определения формата читаются только первые байты файла.</p>
+ *
  * @see ImageRepository
  * @see FileStorageService
  * @see ImageValidator
  * @see ImageContentTypeDetector
+ * @see PostIdFilter
+ * @see ImageMetadataCache
+ * @see RequestCoalescer
+ * @see HotKeyTracker
  */
 @Slf4j
 @Service
@@ -45,16 +60,28 @@ public class ImageServiceImpl implements ImageService {
     private final FileStorageService fileStorageService;
     private final ImageValidator imageValidator;
     private final ImageContentTypeDetector contentTypeDetector;
+    private final PostIdFilter postIdFilter;
+    private final ImageMetadataCache imageMetadataCache;
+    private final RequestCoalescer requestCoalescer;
+    private final HotKeyTracker hotKeyTracker;
 
     public ImageServiceImpl(
             ImageRepository imageRepository,
             FileStorageService fileStorageService,
             ImageValidator imageValidator,
-            ImageContentTypeDetector contentTypeDetector) {
+            ImageContentTypeDetector contentTypeDetector,
+            PostIdFilter postIdFilter,
+            ImageMetadataCache imageMetadataCache,
+            RequestCoalescer requestCoalescer,
+            HotKeyTracker hotKeyTracker) {
         this.imageRepository = imageRepository;
         this.fileStorageService = fileStorageService;
         this.imageValidator = imageValidator;
         this.contentTypeDetector = contentTypeDetector;
+        this.postIdFilter = postIdFilter;
+        this.imageMetadataCache = imageMetadataCache;
+        this.requestCoalescer = requestCoalescer;
+        this.hotKeyTracker = hotKeyTracker;
     }
 
     /**
@@ -72,6 +99,7 @@ public class ImageServiceImpl implements ImageService {
             String newFileName = storeImageFile(postId, image);
             updateImageMetadata(postId, newFileName, image.getSize());
             deleteOldFileIfExists(postId, oldFileName);
+            imageMetadataCache.remove(postId);
 
         } catch (IOException e) {
             log.error("Ошибка при обработке изображения для поста id={}: {}", postId, e.getMessage(), e);
@@ -85,19 +113,49 @@ public class ImageServiceImpl implements ImageService {
     @Override
     public ImageResponseDto getPostImage(Long postId) {
         log.debug("Запрос на получение изображения для поста id={}", postId);
-        validateGet(postId);
+        imageValidator.validatePostId(postId);
+        hotKeyTracker.record(HotKeyCategory.IMAGE, postId.toString());
+
+        return requestCoalescer.execute("image:" + postId, () -> loadImage(postId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImageMetadata getPostImageMetadata(Long postId) {
+        log.debug("Запрос на получение метаданных изображения для поста id={}", postId);
+        imageValidator.validatePostId(postId);
+        hotKeyTracker.record(HotKeyCategory.IMAGE, postId.toString());
+        ImageMetadata cached = imageMetadataCache.get(postId);
+        if (cached != null && postIdFilter.mightContain(postId)) {
+            return cached;
+        }
+
+        return requestCoalescer.execute("image:" + postId, () -> loadImage(postId)).metadata();
+    }
+
+    private ImageResponseDto loadImage(Long postId) {
+        ImageMetadata cached = imageMetadataCache.get(postId);
+        if (cached != null && postIdFilter.mightContain(postId)) {
+            Optional<ImageResponseDto> cachedImage = loadCachedImage(postId, cached);
+            if (cachedImage.isPresent()) {
+                return cachedImage.get();
+            }
+        }
+        ensurePostExists(postId);
 
         return loadAndCacheImage(postId);
     }
 
     private void validateUpdate(Long postId, MultipartFile image) {
         imageValidator.validateImageUpdate(postId, image);
-        validateGet(postId);
+        imageValidator.validatePostId(postId);
+        ensurePostExists(postId);
     }
 
-    private void validateGet(Long postId) {
-        imageValidator.validatePostId(postId);
-        if (!imageRepository.existsPostById(postId)) {
+    private void ensurePostExists(Long postId) {
+        if (!postIdFilter.mightContain(postId) || !imageRepository.existsPostById(postId)) {
             log.warn("Пост id={} не найден при запросе изображения", postId);
             throw new EmptyResultDataAccessException("Post not found with id: " + postId, 1);
         }
@@ -125,20 +183,46 @@ public class ImageServiceImpl implements ImageService {
         }
     }
 
+    /**
+     * Загружает изображение по метаданным из кэша без обращения к базе данных.
+     * Если файл недоступен (например, пост удалён после заполнения кэша), запись удаляется
+     * и возвращается пустой Optional, чтобы запрос прошёл через проверку в базе данных.
+     */
+    private Optional<ImageResponseDto> loadCachedImage(Long postId, ImageMetadata metadata) {
+        if (!metadata.hasImage()) {
+            return Optional.of(ImageResponseDto.empty());
+        }
+        try {
+            Resource image = fileStorageService.loadImageFile(buildImageUrl(postId, metadata.fileName()));
+            log.debug("Изображение для поста id={} загружено по метаданным из кэша", postId);
+
+            return Optional.of(new ImageResponseDto(image, metadata));
+        } catch (IOException e) {
+            log.warn("Файл изображения '{}' из кэша для поста id={} недоступен: {}",
+                    metadata.fileName(), postId, e.getMessage());
+            imageMetadataCache.remove(postId);
+
+            return Optional.empty();
+        }
+    }
+
     private ImageResponseDto loadAndCacheImage(Long postId) {
         Optional<String> fileName = imageRepository.findImageFileNameByPostId(postId);
-        byte[] imageData;
-        MediaType mediaType;
+        ImageResponseDto imageResponse;
         try {
             if (fileName.isEmpty()) {
-                imageData = new byte[]{};
-                mediaType = MediaType.APPLICATION_OCTET_STREAM;
+                imageResponse = ImageResponseDto.empty();
+                imageMetadataCache.putIfAbsent(postId, ImageMetadata.NO_IMAGE);
             } else {
                 String url = buildImageUrl(postId, fileName.get());
-                imageData = fileStorageService.loadImageFile(url);
-                mediaType = contentTypeDetector.detect(imageData);
+                Resource image = fileStorageService.loadImageFile(url);
+                MediaType mediaType = contentTypeDetector.detect(
+                        fileStorageService.readImageHeader(url, ImageContentTypeDetector.SIGNATURE_LENGTH));
+                ImageMetadata metadata = ImageMetadata.of(fileName.get(), image.contentLength(), mediaType,
+                        Instant.ofEpochMilli(image.lastModified()));
+                imageResponse = new ImageResponseDto(image, metadata);
+                imageMetadataCache.putIfAbsent(postId, metadata);
             }
-            ImageResponseDto imageResponse = new ImageResponseDto(imageData, mediaType);
             log.info("Изображение для поста id={} загружено", postId);
 
             return imageResponse;
@@ -0,0 +1,160 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.dto.request.LikeBatchRequestDto;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
+import io.github.habatoo.properties.LikeBatchProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.LikeBatchService;
+import io.github.habatoo.service.LikeBuffer;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostListPrefetcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реализация пакетной записи лайков.
+ *
+ * <p>Пакет применяется одним запросом {@code UPDATE ... FROM unnest(?, ?)} вместе со вставкой
+ * ключа идемпотентности: если ключ уже есть в таблице {@code like_batch}, счётчики не изменяются
+ * и возвращаются их текущие значения, поэтому повтор запроса после сетевой ошибки не приводит
+ * к двойному учёту. Лайки, ожидающие записи в {@link LikeBuffer}, добавляются к ответу так же,
+ * как при чтении постов. Устаревшие ключи периодически удаляются.</p>
+ *
+ * @see LikeBatchProperties
+ * @see PostEventBroadcaster
+ */
+@Slf4j
+public class LikeBatchServiceImpl implements LikeBatchService, ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final LikeBatchProperties likeBatchProperties;
+    private final PostRepository postRepository;
+    private final LikeBuffer likeBuffer;
+    private final PostListPrefetcher postListPrefetcher;
+    private final PostEventBroadcaster postEventBroadcaster;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("like-batch-purge").daemon().factory());
+
+    public LikeBatchServiceImpl(
+            LikeBatchProperties likeBatchProperties,
+            PostRepository postRepository,
+            LikeBuffer likeBuffer,
+            PostListPrefetcher postListPrefetcher,
+            PostEventBroadcaster postEventBroadcaster) {
+        this.likeBatchProperties = likeBatchProperties;
+        this.postRepository = postRepository;
+        this.likeBuffer = likeBuffer;
+        this.postListPrefetcher = postListPrefetcher;
+        this.postEventBroadcaster = postEventBroadcaster;
+        log.info("LikeBatchService инициализирован: maxPosts={}, maxDelta={}, keyTtl={}",
+                likeBatchProperties.maxPosts(), likeBatchProperties.maxDelta(), likeBatchProperties.keyTtl());
+    }
+
+    /**
+     * Запускает периодическое удаление устаревших ключей идемпотентности.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long intervalMillis = likeBatchProperties.purgeInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::purgeQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LikeBatchResponseDto applyLikes(LikeBatchRequestDto likeBatchRequest) {
+        validate(likeBatchRequest);
+        String key = likeBatchRequest.idempotencyKey();
+        log.debug("Применение пакета лайков key={} для {} постов", key, likeBatchRequest.likes().size());
+
+        LikeBatchResponseDto result = withPendingLikes(postRepository.applyLikeBatch(key, likeBatchRequest.likes()));
+        if (result.replayed()) {
+            log.info("Пакет лайков key={} уже был применён, счётчики не изменены", key);
+        } else {
+            postListPrefetcher.invalidate();
+            result.likes().forEach(postEventBroadcaster::publishLikes);
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int purgeExpiredKeys() {
+        int deleted = postRepository.deleteLikeBatchKeysBefore(
+                LocalDateTime.now().minus(likeBatchProperties.keyTtl()));
+        if (deleted > 0) {
+            log.debug("Удалено {} устаревших ключей пакетов лайков", deleted);
+        }
+
+        return deleted;
+    }
+
+    /**
+     * Останавливает поток удаления ключей при остановке контекста.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void validate(LikeBatchRequestDto likeBatchRequest) {
+        if (likeBatchRequest == null) {
+            throw new IllegalArgumentException("Like batch cannot be empty");
+        }
+        String key = likeBatchRequest.idempotencyKey();
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key cannot be empty");
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key exceeds " + MAX_KEY_LENGTH + " characters");
+        }
+        Map<Long, Integer> likes = likeBatchRequest.likes();
+        if (likes == null || likes.isEmpty()) {
+            throw new IllegalArgumentException("Like batch must contain at least one post");
+        }
+        if (likes.size() > likeBatchProperties.maxPosts()) {
+            throw new IllegalArgumentException(
+                    "Like batch size exceeds limit of " + likeBatchProperties.maxPosts() + " posts");
+        }
+        likes.forEach((postId, delta) -> {
+            if (postId == null || delta == null || delta <= 0 || delta > likeBatchProperties.maxDelta()) {
+                throw new IllegalArgumentException("Invalid like delta for post " + postId + ": " + delta);
+            }
+        });
+    }
+
+    /**
+     * Добавляет к количеству лайков постов лайки, ещё не записанные из буфера в базу данных.
+     */
+    private LikeBatchResponseDto withPendingLikes(LikeBatchResponseDto result) {
+        if (!likeBuffer.isEnabled()) {
+            return result;
+        }
+        Map<Long, Integer> likes = new LinkedHashMap<>();
+        result.likes().forEach((postId, count) -> likes.put(postId, (int) (count + likeBuffer.pending(postId))));
+
+        return new LikeBatchResponseDto(likes, result.replayed());
+    }
+
+    private void purgeQuietly() {
+        try {
+            purgeExpiredKeys();
+        } catch (Exception e) {
+            log.error("Ошибка при удалении ключей пакетов лайков: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.LikeBuffer;
+import io.github.habatoo.service.PostListPrefetcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Реализация отложенной записи лайков на счётчиках {@link LongAdder}.
+ *
+ * <p>Для каждого поста хранится записанное в базу количество лайков и счётчик ожидающих записи
+ * лайков. Лайк увеличивает только счётчик в памяти, без блокировок. Фоновый поток с периодом
+ * {@code flushInterval} записывает накопленные значения пакетами по {@code batchSize} постов одним
+ * {@code UPDATE ... FROM (VALUES ...)} и вычитает записанное из счётчиков; при ошибке записи
+ * лайки остаются в буфере до следующей попытки. Если незаписанных лайков становится
+ * {@code maxPending} или больше, фоновому потоку поручается внеочередной сброс — это ограничивает
+ * потери при аварийной остановке. При штатной остановке контекста буфер сбрасывается полностью.
+ * После каждой записи количество лайков записанных постов заменяется на закэшированных страницах
+ * списка, иначе к устаревшему количеству прибавлялось бы уменьшившееся число ожидающих.</p>
+ *
+ * <p>Счётчик поста создаётся по первому лайку после периода без лайков: записанное количество
+ * читается из базы одним запросом по первичному ключу, дальше оно обновляется из {@code RETURNING}
+ * каждого сброса. Лайк не ждёт записи в базу, поэтому ответ на него не зависит от фонового потока.</p>
+ *
+ * <p>Счётчики постов без ожидающих лайков удаляются после сброса. Чтобы лайк не попал в уже
+ * удалённый счётчик, счётчик сначала помечается выведенным, а лайк, увидевший пометку,
+ * откатывается и повторяется с новым счётчиком.</p>
+ *
+ * @see LikeBufferProperties
+ */
+@Slf4j
+public class LikeBufferImpl implements LikeBuffer, DisposableBean {
+
+    private final LikeBufferProperties likeBufferProperties;
+    private final PostRepository postRepository;
+    private final PostListPrefetcher postListPrefetcher;
+    private final Map<Long, LikeCounter> counters = new ConcurrentHashMap<>();
+    private final LongAdder totalPending = new LongAdder();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+
+    public LikeBufferImpl(LikeBufferProperties likeBufferProperties,
+                          PostRepository postRepository,
+                          PostListPrefetcher postListPrefetcher) {
+        this.likeBufferProperties = likeBufferProperties;
+        this.postRepository = postRepository;
+        this.postListPrefetcher = postListPrefetcher;
+        if (likeBufferProperties.enabled()) {
+            long intervalMillis = Math.max(1, likeBufferProperties.flushInterval().toMillis());
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("like-buffer").daemon().factory());
+            scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+        log.info("LikeBuffer инициализирован: enabled={}, flushInterval={}, batchSize={}, maxPending={}",
+                likeBufferProperties.enabled(), likeBufferProperties.flushInterval(),
+                likeBufferProperties.batchSize(), likeBufferProperties.maxPending());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return likeBufferProperties.enabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int increment(long postId) {
+        while (true) {
+            LikeCounter counter = counters.get(postId);
+            if (counter == null) {
+                LikeCounter created = new LikeCounter(postRepository.getLikesCount(postId));
+                counter = counters.computeIfAbsent(postId, id -> created);
+            }
+            counter.pending.increment();
+            if (!counter.retired) {
+                totalPending.increment();
+                if (totalPending.sum() >= likeBufferProperties.maxPending() && requestFlush()) {
+                    log.warn("Превышен лимит незаписанных лайков {}, запрошен сброс буфера",
+                            likeBufferProperties.maxPending());
+                }
+                return (int) (counter.persisted + counter.pending.sum());
+            }
+            counter.pending.decrement();
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long pending(long postId) {
+        LikeCounter counter = counters.get(postId);
+        return counter == null ? 0 : counter.pending.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void flush() {
+        flushRequested.set(false);
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (Map.Entry<Long, LikeCounter> entry : counters.entrySet()) {
+            long pending = entry.getValue().pending.sum();
+            if (pending > 0) {
+                deltas.put(entry.getKey(), pending);
+            } else {
+                retire(entry.getKey(), entry.getValue());
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int batchSize = Math.max(1, likeBufferProperties.batchSize());
+        Map<Long, Integer> flushed = new HashMap<>();
+        try {
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                Map<Long, Long> batch = new LinkedHashMap<>();
+                entries.subList(from, Math.min(from + batchSize, entries.size()))
+                        .forEach(e -> batch.put(e.getKey(), e.getValue()));
+                Map<Long, Integer> persisted = postRepository.addLikes(batch);
+                batch.forEach((postId, delta) -> applyFlushed(postId, delta, persisted.get(postId)));
+                flushed.putAll(persisted);
+            }
+        } finally {
+            postListPrefetcher.updateLikes(flushed);
+        }
+        log.debug("Записаны лайки {} постов", deltas.size());
+    }
+
+    /**
+     * Останавливает периодический сброс и записывает оставшиеся лайки при остановке контекста.
+     */
+    @Override
+    public void destroy() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(likeBufferProperties.flushInterval().toMillis() + 1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("Буфер лайков сброшен при остановке");
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Ошибка при записи лайков, {} лайков останутся в буфере: {}",
+                    totalPending.sum(), e.getMessage(), e);
+        }
+    }
+
+    private boolean requestFlush() {
+        if (scheduler == null || !flushRequested.compareAndSet(false, true)) {
+            return false;
+        }
+        scheduler.execute(this::flushQuietly);
+        return true;
+    }
+
+    private void applyFlushed(long postId, long delta, Integer persisted) {
+        LikeCounter counter = counters.get(postId);
+        if (persisted != null) {
+            counter.persisted = persisted;
+        } else {
+            log.warn("Пост id={} не найден при записи {} лайков", postId, delta);
+        }
+        counter.pending.add(-delta);
+        totalPending.add(-delta);
+        if (persisted == null) {
+            retire(postId, counter);
+        }
+    }
+
+    private void retire(long postId, LikeCounter counter) {
+        counter.retired = true;
+        if (counter.pending.sum() == 0) {
+            counters.remove(postId, counter);
+        } else {
+            counter.retired = false;
+        }
+    }
+
+    /**
+     * Счётчик лайков одного поста.
+     */
+    private static final class LikeCounter {
+
+        private final LongAdder pending = new LongAdder();
+        private volatile long persisted;
+        private volatile boolean retired;
+
+        private LikeCounter(long persisted) {
+            this.persisted = persisted;
+        }
+    }
+}
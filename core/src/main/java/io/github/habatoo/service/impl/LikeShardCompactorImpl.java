@@ -0,0 +1,99 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.properties.LikeShardProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.LikeShardCompactor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Реализация периодического сворачивания шардов лайков.
+ *
+ * <p>Шарды сворачиваются пакетами по {@code compactionBatchSize} строк, пока пакет заполнен.
+ * Строки шардов, заблокированные конкурентными лайками, пропускаются и сворачиваются
+ * при следующем запуске, поэтому сворачивание не ждёт пишущих и может одновременно
+ * выполняться на нескольких экземплярах приложения.</p>
+ *
+ * <p>При включённой отложенной записи лайков новые шарды не появляются: буфер пишет прямо
+ * в {@code post.likes_count}. Поэтому шарды сворачиваются один раз при старте — это переносит
+ * лайки, записанные до включения буфера, — и периодическое сворачивание не запускается.</p>
+ *
+ * @see LikeShardProperties
+ * @see LikeBufferProperties
+ */
+@Slf4j
+public class LikeShardCompactorImpl implements LikeShardCompactor, ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    private final LikeShardProperties likeShardProperties;
+    private final LikeBufferProperties likeBufferProperties;
+    private final PostRepository postRepository;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("like-shard-compactor").daemon().factory());
+
+    public LikeShardCompactorImpl(LikeShardProperties likeShardProperties,
+                                  LikeBufferProperties likeBufferProperties,
+                                  PostRepository postRepository) {
+        this.likeShardProperties = likeShardProperties;
+        this.likeBufferProperties = likeBufferProperties;
+        this.postRepository = postRepository;
+        log.info("LikeShardCompactor инициализирован: shards={}, compactionInterval={}, compactionBatchSize={}, periodic={}",
+                likeShardProperties.count(), likeShardProperties.compactionInterval(),
+                likeShardProperties.compactionBatchSize(), !likeBufferProperties.enabled());
+    }
+
+    /**
+     * Запускает периодическое сворачивание шардов после старта приложения или, при включённой
+     * отложенной записи лайков, однократно сворачивает оставшиеся шарды.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (likeBufferProperties.enabled()) {
+            scheduler.execute(this::compactQuietly);
+            return;
+        }
+        long intervalMillis = likeShardProperties.compactionInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::compactQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compact() {
+        int batchSize = Math.max(1, likeShardProperties.compactionBatchSize());
+        int total = 0;
+        int folded;
+        do {
+            folded = postRepository.foldLikeShards(batchSize);
+            total += folded;
+        } while (folded == batchSize);
+        if (total > 0) {
+            log.debug("Свёрнуто {} строк шардов лайков", total);
+        }
+
+        return total;
+    }
+
+    /**
+     * Останавливает поток сворачивания при остановке контекста.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (Exception e) {
+            log.error("Ошибка при сворачивании шардов лайков: {}", e.getMessage(), e);
+        }
+    }
+}
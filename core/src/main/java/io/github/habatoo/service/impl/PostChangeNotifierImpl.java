@@ -0,0 +1,113 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.service.CommentListCache;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.PostChangeNotifier;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Реализация оповещения о записанных изменениях постов.
+ *
+ * <p>Созданный пост добавляется в фильтр существующих постов сразу, ещё в транзакции создания:
+ * лишний идентификатор при откате даёт только ложноположительный ответ фильтра, а запоздавшее
+ * добавление сделало бы только что созданный пост недоступным.</p>
+ *
+ * <p>Заранее загруженные страницы списка постов сбрасываются после фиксации транзакции:
+ * страница, загруженная до фиксации, вернула бы пост в прежнем виде.</p>
+ *
+ * @see PostIdFilter
+ * @see PostListPrefetcher
+ * @see ImageMetadataCache
+ * @see CommentListCache
+ * @see PostEventBroadcaster
+ */
+@Service
+public class PostChangeNotifierImpl implements PostChangeNotifier {
+
+    private final PostIdFilter postIdFilter;
+    private final PostListPrefetcher postListPrefetcher;
+    private final ImageMetadataCache imageMetadataCache;
+    private final CommentListCache commentListCache;
+    private final PostEventBroadcaster postEventBroadcaster;
+
+    public PostChangeNotifierImpl(
+            PostIdFilter postIdFilter,
+            PostListPrefetcher postListPrefetcher,
+            ImageMetadataCache imageMetadataCache,
+            CommentListCache commentListCache,
+            PostEventBroadcaster postEventBroadcaster
+    ) {
+        this.postIdFilter = postIdFilter;
+        this.postListPrefetcher = postListPrefetcher;
+        this.imageMetadataCache = imageMetadataCache;
+        this.commentListCache = commentListCache;
+        this.postEventBroadcaster = postEventBroadcaster;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postCreated(PostResponseDto post) {
+        postIdFilter.add(post.id());
+        afterCommit(postListPrefetcher::invalidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postUpdated(PostResponseDto post) {
+        afterCommit(postListPrefetcher::invalidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void postDeleted(Long postId) {
+        postIdFilter.remove(postId);
+        imageMetadataCache.remove(postId);
+        commentListCache.invalidate(postId);
+        afterCommit(postListPrefetcher::invalidate);
+        postEventBroadcaster.publish(postId, PostEventBroadcaster.POST_DELETED, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void countersChanged(Long postId) {
+        afterCommit(postListPrefetcher::invalidate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void likesChanged(long postId, int likesCount) {
+        postEventBroadcaster.publishLikes(postId, likesCount);
+    }
+
+    /**
+     * Выполняет действие после фиксации текущей транзакции или сразу, если транзакции нет.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,258 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.dto.response.PostEventDto;
+import io.github.habatoo.properties.PostEventProperties;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Реализация рассылки событий поста на виртуальных потоках.
+ *
+ * <p>Публикация только кладёт событие в очередь каждого подписчика поста и не ждёт отправки.
+ * Очередь подписчика разбирает один виртуальный поток, который запускается при появлении событий
+ * и завершается, когда очередь пуста, поэтому простаивающие подписчики не занимают потоков.
+ * Если у подписчика накопилось больше {@code maxQueuedEvents} неотправленных событий,
+ * подписка закрывается: медленный клиент не копит события в памяти без ограничения.</p>
+ *
+ * <p>Количество лайков не рассылается сразу: для поста хранится последнее значение, которое
+ * фоновый поток отправляет раз в {@code likesInterval}. Тот же поток раз в {@code heartbeatInterval}
+ * отправляет служебное событие, чтобы обнаружить закрытые клиентами соединения.</p>
+ *
+ * @see PostEventProperties
+ */
+@Slf4j
+public class PostEventBroadcasterImpl implements PostEventBroadcaster, MeterBinder, DisposableBean {
+
+    private final int maxQueuedEvents;
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> pendingLikes = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder sentEvents = new LongAdder();
+    private final LongAdder droppedSubscribers = new LongAdder();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService scheduler;
+
+    public PostEventBroadcasterImpl(PostEventProperties postEventProperties) {
+        this.maxQueuedEvents = Math.max(1, postEventProperties.maxQueuedEvents());
+        long likesIntervalMillis = Math.max(1, postEventProperties.likesInterval().toMillis());
+        long heartbeatIntervalMillis = Math.max(1, postEventProperties.heartbeatInterval().toMillis());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("post-events").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::flushLikes,
+                likesIntervalMillis, likesIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeats,
+                heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("PostEventBroadcaster инициализирован: likesInterval={}, heartbeatInterval={}, maxQueuedEvents={}",
+                postEventProperties.likesInterval(), postEventProperties.heartbeatInterval(), maxQueuedEvents);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Runnable subscribe(long postId, Subscriber subscriber) {
+        Subscription subscription = new Subscription(postId, subscriber);
+        subscriptions.compute(postId, (key, current) -> {
+            Set<Subscription> postSubscriptions = current == null ? ConcurrentHashMap.newKeySet() : current;
+            postSubscriptions.add(subscription);
+            return postSubscriptions;
+        });
+        subscriberCount.incrementAndGet();
+        log.debug("Подписка на события поста id={}", postId);
+
+        return subscription::cancel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publish(long postId, String type, Object data) {
+        Set<Subscription> postSubscriptions = subscriptions.get(postId);
+        if (postSubscriptions == null) {
+            return;
+        }
+        PostEventDto event = new PostEventDto(type, postId, data);
+        postSubscriptions.forEach(subscription -> subscription.offer(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Из значений, накопленных за интервал, отправляется наибольшее: ответы на параллельные
+     * лайки могут прийти не в порядке их записи.</p>
+     */
+    @Override
+    public void publishLikes(long postId, int likesCount) {
+        if (subscriptions.containsKey(postId)) {
+            pendingLikes.merge(postId, likesCount, Math::max);
+        }
+    }
+
+    /**
+     * Регистрирует количество подписчиков и счётчики отправленных событий и закрытых медленных подписок.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("blog.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Открытые подписки на события постов")
+                .register(registry);
+        FunctionCounter.builder("blog.events.sent", sentEvents, LongAdder::sum)
+                .description("События постов, отправленные подписчикам")
+                .register(registry);
+        FunctionCounter.builder("blog.events.dropped", droppedSubscribers, LongAdder::sum)
+                .description("Подписки, закрытые из-за переполнения очереди событий")
+                .register(registry);
+    }
+
+    /**
+     * Останавливает фоновый поток и закрывает все подписки при остановке контекста.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        subscriptions.values().stream()
+                .flatMap(Set::stream)
+                .toList()
+                .forEach(Subscription::close);
+        executor.shutdownNow();
+    }
+
+    private void flushLikes() {
+        try {
+            for (Long postId : List.copyOf(pendingLikes.keySet())) {
+                Integer likesCount = pendingLikes.remove(postId);
+                if (likesCount != null) {
+                    publish(postId, LIKES, likesCount);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Ошибка рассылки количества лайков: {}", e.getMessage(), e);
+        }
+    }
+
+    private void sendHeartbeats() {
+        try {
+            subscriptions.keySet().forEach(postId -> publish(postId, HEARTBEAT, null));
+        } catch (Exception e) {
+            log.error("Ошибка рассылки служебных событий: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Подписка на события поста с собственной очередью неотправленных событий.
+     */
+    private final class Subscription {
+
+        private final long postId;
+        private final Subscriber subscriber;
+        private final Queue<PostEventDto> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Subscription(long postId, Subscriber subscriber) {
+            this.postId = postId;
+            this.subscriber = subscriber;
+        }
+
+        void offer(PostEventDto event) {
+            if (cancelled.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueuedEvents) {
+                droppedSubscribers.increment();
+                log.warn("Подписка на события поста id={} закрыта: очередь событий переполнена", postId);
+                close();
+                return;
+            }
+            queue.add(event);
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        /**
+         * Отправляет события очереди по одному. Флаг разбора снимается только при пустой очереди;
+         * событие, добавленное после снятия флага, либо запускает новый разбор, либо подхватывается
+         * повторной проверкой очереди.
+         */
+        private void drain() {
+            do {
+                PostEventDto event;
+                while (!cancelled.get() && (event = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    try {
+                        subscriber.send(event);
+                        sentEvents.increment();
+                    } catch (Exception e) {
+                        log.debug("Подписка на события поста id={} закрыта после ошибки отправки: {}",
+                                postId, e.getMessage());
+                        close();
+                        return;
+                    }
+                    if (POST_DELETED.equals(event.type())) {
+                        close();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!cancelled.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        /**
+         * Отменяет подписку по инициативе получателя.
+         */
+        boolean cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return false;
+            }
+            subscriptions.computeIfPresent(postId, (key, current) -> {
+                current.remove(this);
+                return current.isEmpty() ? null : current;
+            });
+            subscriberCount.decrementAndGet();
+            queue.clear();
+
+            return true;
+        }
+
+        /**
+         * Закрывает подписку по инициативе рассылки и сообщает об этом получателю.
+         */
+        void close() {
+            if (!cancel()) {
+                return;
+            }
+            try {
+                subscriber.close();
+            } catch (Exception e) {
+                log.debug("Ошибка закрытия подписки на события поста id={}: {}", postId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.PostFilterProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.PostIdFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Реализация фильтра идентификаторов существующих постов на основе считающего фильтра Блума.
+ *
+ * <p>Фильтр строится после старта приложения и затем периодически перестраивается по базе данных.
+ * Пока фильтр не построен, любой идентификатор считается возможно существующим.
+ * Во время перестроения новые посты записываются и в текущий, и в строящийся фильтр.
+ * Добавление и замена текущего фильтра выполняются под одной блокировкой, поэтому
+ * идентификатор не может попасть только в уже отброшенный фильтр.</p>
+ *
+ * <p>Счётчики уменьшаются только для постов, добавленных в фильтр после его построения:
+ * уменьшение счётчиков по ложноположительному ответу сделало бы другие посты отсутствующими.
+ * Удалённые посты, загруженные при построении, остаются в фильтре до следующего перестроения
+ * и дают лишь ложноположительные ответы. Они продолжают учитываться в заполнении фильтра,
+ * и если количество постов превышает расчётную ёмкость, фильтр перестраивается с большей ёмкостью.</p>
+ *
+ * <p>Пост, созданный на другом узле, попадает в фильтр только по уведомлению, которое может
+ * задержаться или потеряться. Поэтому идентификаторы больше наибольшего загруженного при последнем
+ * перестроении считаются возможно существующими и проверяются в базе данных; отсекаются только
+ * отсутствующие идентификаторы из уже загруженного диапазона.</p>
+ *
+ * @see CountingBloomFilter
+ * @see PostFilterProperties
+ */
+@Slf4j
+public class PostIdFilterImpl implements PostIdFilter, ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    private final PostFilterProperties postFilterProperties;
+    private final PostRepository postRepository;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile CountingBloomFilter current;
+    private volatile long maxLoadedId;
+    private CountingBloomFilter building;
+    private Set<Long> addedToCurrent = new HashSet<>();
+    private Set<Long> addedToBuilding = new HashSet<>();
+
+    public PostIdFilterImpl(PostFilterProperties postFilterProperties, PostRepository postRepository) {
+        this.postFilterProperties = postFilterProperties;
+        this.postRepository = postRepository;
+        this.scheduler = postFilterProperties.enabled()
+                ? Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("post-id-filter").daemon().factory())
+                : null;
+        log.info("PostIdFilter инициализирован: enabled={}, expectedInsertions={}, falsePositiveRate={}",
+                postFilterProperties.enabled(), postFilterProperties.expectedInsertions(),
+                postFilterProperties.falsePositiveRate());
+    }
+
+    /**
+     * Запускает первичное построение фильтра и его периодическое перестроение.
+     */
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (scheduler == null) {
+            return;
+        }
+        long intervalMillis = postFilterProperties.rebuildInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::rebuild, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean mightContain(long postId) {
+        long maxId = maxLoadedId;
+        CountingBloomFilter filter = current;
+        return filter == null || postId > maxId || filter.mightContain(postId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(long postId) {
+        lock.lock();
+        try {
+            if (current != null && addedToCurrent.add(postId)) {
+                current.add(postId);
+                if (size.incrementAndGet() > current.capacity() && !rebuildRequested.get()) {
+                    log.info("Количество постов превысило ёмкость фильтра, запрошено перестроение");
+                    requestRebuild();
+                }
+            }
+            if (building != null && addedToBuilding.add(postId)) {
+                building.add(postId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Счётчики уменьшаются, только если пост был добавлен через {@link #add(long)} после
+     * построения фильтра. Иначе пост остаётся в фильтре до следующего перестроения.</p>
+     */
+    @Override
+    public void remove(long postId) {
+        lock.lock();
+        try {
+            if (current != null && addedToCurrent.remove(postId)) {
+                current.remove(postId);
+                size.decrementAndGet();
+            }
+            if (building != null && addedToBuilding.remove(postId)) {
+                building.remove(postId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rebuild() {
+        if (!postFilterProperties.enabled() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int postCount = postRepository.countPosts("", List.of());
+            int expectedInsertions = Math.max(postFilterProperties.expectedInsertions(), postCount * 2);
+            CountingBloomFilter next = new CountingBloomFilter(expectedInsertions,
+                    postFilterProperties.falsePositiveRate());
+            lock.lock();
+            try {
+                building = next;
+                addedToBuilding = new HashSet<>();
+            } finally {
+                lock.unlock();
+            }
+
+            AtomicInteger loaded = new AtomicInteger();
+            AtomicLong maxId = new AtomicLong();
+            postRepository.forEachPostId(postId -> {
+                next.add(postId);
+                loaded.incrementAndGet();
+                maxId.accumulateAndGet(postId, Math::max);
+            });
+            lock.lock();
+            try {
+                current = next;
+                maxLoadedId = maxId.get();
+                addedToCurrent = addedToBuilding;
+                size.set(loaded.get() + addedToCurrent.size());
+            } finally {
+                lock.unlock();
+            }
+            log.info("Фильтр идентификаторов постов перестроен: {} постов, ёмкость {}, наибольший id {}",
+                    loaded.get(), expectedInsertions, maxId.get());
+        } catch (Exception e) {
+            log.error("Ошибка при перестроении фильтра идентификаторов постов: {}", e.getMessage(), e);
+        } finally {
+            lock.lock();
+            try {
+                building = null;
+                addedToBuilding = new HashSet<>();
+            } finally {
+                lock.unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Перестроение выполняется в потоке периодического перестроения. Флаг запроса снимается
+     * перед началом перестроения, поэтому запрос, поступивший во время перестроения, запустит
+     * ещё одно и изменения, пропущенные текущим, не потеряются.</p>
+     */
+    @Override
+    public void requestRebuild() {
+        if (scheduler != null && rebuildRequested.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                rebuildRequested.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * Останавливает поток перестроения фильтра при остановке контекста.
+     */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
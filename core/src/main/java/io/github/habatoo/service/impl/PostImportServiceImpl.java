@@ -0,0 +1,168 @@
+package io.github.habatoo.service.impl;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.dto.response.PostImportResultDto;
+import io.github.habatoo.properties.PostImportProperties;
+import io.github.habatoo.repositories.PostImportRepository;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostImportService;
+import io.github.habatoo.service.PostListPrefetcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Реализация массового импорта постов.
+ *
+ * <p>NDJSON разбирается потоково и сразу передаётся в {@code COPY} промежуточной таблицы,
+ * после чего теги, посты и связи переносятся четырьмя запросами над всем набором строк
+ * вместо нескольких запросов на каждый пост. О ходе загрузки пишется сообщение каждые
+ * {@code progressInterval} постов.</p>
+ *
+ * @see PostImportRepository
+ * @see PostImportProperties
+ */
+@Slf4j
+public class PostImportServiceImpl implements PostImportService {
+
+    private final PostImportProperties postImportProperties;
+    private final PostImportRepository postImportRepository;
+    private final PostIdFilter postIdFilter;
+    private final PostListPrefetcher postListPrefetcher;
+    private final ObjectReader postReader = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build()
+            .readerFor(PostCreateRequestDto.class);
+
+    public PostImportServiceImpl(
+            PostImportProperties postImportProperties,
+            PostImportRepository postImportRepository,
+            PostIdFilter postIdFilter,
+            PostListPrefetcher postListPrefetcher) {
+        this.postImportProperties = postImportProperties;
+        this.postImportRepository = postImportRepository;
+        this.postIdFilter = postIdFilter;
+        this.postListPrefetcher = postListPrefetcher;
+        log.info("PostImportService инициализирован: progressInterval={}", postImportProperties.progressInterval());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public PostImportResultDto importPosts(InputStream ndjson) {
+        UUID importId = UUID.randomUUID();
+        long startedAt = System.nanoTime();
+        log.info("Импорт постов {} начат", importId);
+
+        ImportIterator posts = new ImportIterator(importId, openReader(ndjson));
+        long staged = postImportRepository.copyToStaging(importId, posts);
+        log.info("Импорт {}: загружено во временную таблицу {} постов, пропущено {}",
+                importId, staged, posts.skipped);
+
+        int tagsCreated = postImportRepository.createImportedTags(importId);
+        int imported = postImportRepository.insertImportedPosts(importId);
+        int tagLinks = postImportRepository.linkImportedTags(importId);
+        postImportRepository.createImportedRevisions(importId);
+        postImportRepository.forEachImportedPostId(importId, postIdFilter::add);
+        postImportRepository.deleteStaging(importId);
+        postListPrefetcher.invalidate();
+
+        long durationMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Импорт {} завершён за {} мс: постов {}, новых тегов {}, связей {}",
+                importId, durationMillis, imported, tagsCreated, tagLinks);
+
+        return new PostImportResultDto(importId.toString(), imported, posts.skipped,
+                tagsCreated, tagLinks, durationMillis);
+    }
+
+    private MappingIterator<PostCreateRequestDto> openReader(InputStream ndjson) {
+        try {
+            return postReader.readValues(ndjson);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid NDJSON: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static boolean isValid(PostCreateRequestDto post) {
+        if (post == null || post.title() == null || post.title().isBlank() || post.text() == null) {
+            return false;
+        }
+        if (post.title().length() > PostCreateRequestDto.MAX_TITLE_LENGTH) {
+            return false;
+        }
+        List<String> tags = post.tags();
+
+        return tags == null || tags.stream().allMatch(tag -> tag != null && !tag.isBlank() && tag.length() <= PostCreateRequestDto.MAX_TAG_LENGTH);
+    }
+
+    /**
+     * Итератор валидных постов входного потока с подсчётом пропущенных строк и журналом хода импорта.
+     */
+    private final class ImportIterator implements Iterator<PostCreateRequestDto> {
+
+        private final UUID importId;
+        private final MappingIterator<PostCreateRequestDto> source;
+        private PostCreateRequestDto next;
+        private long accepted;
+        private long skipped;
+
+        private ImportIterator(UUID importId, MappingIterator<PostCreateRequestDto> source) {
+            this.importId = importId;
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                PostCreateRequestDto candidate = readNext();
+                if (candidate == null) {
+                    return false;
+                }
+                if (isValid(candidate)) {
+                    next = candidate;
+                } else {
+                    skipped++;
+                    log.warn("Импорт {}: пропущен невалидный пост в строке {}",
+                            importId, source.getCurrentLocation().getLineNr());
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public PostCreateRequestDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            PostCreateRequestDto post = next;
+            next = null;
+            if (++accepted % postImportProperties.progressInterval() == 0) {
+                log.info("Импорт {}: загружено {} постов", importId, accepted);
+            }
+
+            return post;
+        }
+
+        private PostCreateRequestDto readNext() {
+            try {
+                return source.hasNextValue() ? source.nextValue() : null;
+            } catch (IOException e) {
+                throw new IllegalArgumentException(
+                        "Invalid NDJSON at line " + source.getCurrentLocation().getLineNr(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package io.github.habatoo.service.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.github.habatoo.dto.response.PostListResponseDto;
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.properties.PrefetchProperties;
+import io.github.habatoo.service.PostListPrefetcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Реализация упреждающей загрузки следующей страницы списка постов.
+ *
+ * <p>Страницы загружаются одним фоновым потоком в ограниченный LRU кэш с коротким временем жизни.
+ * Загрузка адаптивна: если доля использованных страниц за окно оценки ниже порога,
+ * упреждающая загрузка отключается на заданное время; если пул соединений Hikari занят
+ * или в нём есть ожидающие потоки, загрузка откладывается, чтобы не конкурировать с реальными запросами.
+ * Любое изменение постов сбрасывает кэш, а загрузки, начатые до сброса, не сохраняются.
+ * Запись лайков кэш не сбрасывает: количество лайков заменяется на загруженных страницах,
+ * а загрузки, начатые до записи, так же не сохраняются.</p>
+ *
+ * @see PrefetchProperties
+ */
+@Slf4j
+public class PostListPrefetcherImpl implements PostListPrefetcher, DisposableBean {
+
+    private static final int QUEUE_CAPACITY = 16;
+
+    private final PrefetchProperties prefetchProperties;
+    private final HikariDataSource hikariDataSource;
+    private final Map<PageKey, CachedPage> cache;
+    private final Set<PageKey> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicInteger windowPrefetched = new AtomicInteger();
+    private final AtomicInteger windowHits = new AtomicInteger();
+
+    private volatile long disabledUntilNanos;
+    private volatile long backoffUntilNanos;
+
+    public PostListPrefetcherImpl(PrefetchProperties prefetchProperties, DataSource dataSource) {
+        this.prefetchProperties = prefetchProperties;
+        this.hikariDataSource = dataSource instanceof HikariDataSource hikari ? hikari : null;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageKey, CachedPage> eldest) {
+                return size() > prefetchProperties.cacheSize();
+            }
+        };
+        this.executor = prefetchProperties.enabled()
+                ? new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                Thread.ofPlatform().name("post-list-prefetch").daemon().factory())
+                : null;
+        this.disabledUntilNanos = System.nanoTime();
+        this.backoffUntilNanos = disabledUntilNanos;
+        log.info("PostListPrefetcher инициализирован: enabled={}, cacheSize={}, ttl={}, minHitRate={}",
+                prefetchProperties.enabled(), prefetchProperties.cacheSize(),
+                prefetchProperties.ttl(), prefetchProperties.minHitRate());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<PostListResponseDto> find(String searchPart, List<String> tags, int pageNumber, int pageSize) {
+        if (!prefetchProperties.enabled()) {
+            return Optional.empty();
+        }
+        PageKey key = PageKey.of(searchPart, tags, pageNumber, pageSize);
+        CachedPage page;
+        synchronized (cache) {
+            page = cache.get(key);
+            if (page != null && page.isExpired(System.nanoTime())) {
+                cache.remove(key);
+                page = null;
+            }
+        }
+        if (page == null) {
+            return Optional.empty();
+        }
+        if (page.used().compareAndSet(false, true)) {
+            windowHits.incrementAndGet();
+        }
+        log.debug("Страница {} списка постов выдана из кэша упреждающей загрузки", pageNumber);
+
+        return Optional.of(page.response());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prefetch(String searchPart, List<String> tags, int pageNumber, int pageSize,
+                         Supplier<PostListResponseDto> loader) {
+        if (!prefetchProperties.enabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - disabledUntilNanos < 0 || now - backoffUntilNanos < 0 || isPoolBusy(now)) {
+            return;
+        }
+        PageKey key = PageKey.of(searchPart, tags, pageNumber, pageSize);
+        synchronized (cache) {
+            CachedPage cached = cache.get(key);
+            if (cached != null && !cached.isExpired(now)) {
+                return;
+            }
+        }
+        if (!inFlight.add(key)) {
+            return;
+        }
+
+        long startGeneration = generation.get();
+        try {
+            executor.execute(() -> load(key, startGeneration, loader));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.debug("Очередь упреждающей загрузки заполнена, страница {} пропущена", pageNumber);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate() {
+        if (!prefetchProperties.enabled()) {
+            return;
+        }
+        generation.incrementAndGet();
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateLikes(Map<Long, Integer> likesCounts) {
+        if (!prefetchProperties.enabled() || likesCounts.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        synchronized (cache) {
+            cache.replaceAll((key, page) -> page.withLikes(likesCounts));
+        }
+    }
+
+    /**
+     * Останавливает фоновый поток упреждающей загрузки при остановке контекста.
+     */
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void load(PageKey key, long startGeneration, Supplier<PostListResponseDto> loader) {
+        try {
+            long now = System.nanoTime();
+            if (now - disabledUntilNanos < 0 || isPoolBusy(now)) {
+                return;
+            }
+            PostListResponseDto response = loader.get();
+            synchronized (cache) {
+                if (generation.get() != startGeneration) {
+                    return;
+                }
+                cache.put(key, new CachedPage(response,
+                        System.nanoTime() + prefetchProperties.ttl().toNanos(), new AtomicBoolean()));
+            }
+            log.debug("Упреждающе загружена страница {} списка постов", key.pageNumber());
+            recordPrefetch();
+        } catch (Exception e) {
+            log.warn("Ошибка упреждающей загрузки страницы {}: {}", key.pageNumber(), e.getMessage());
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    /**
+     * Учитывает загруженную страницу и по заполнении окна оценки отключает
+     * упреждающую загрузку, если доля использованных страниц ниже порога.
+     */
+    private void recordPrefetch() {
+        int prefetched = windowPrefetched.incrementAndGet();
+        if (prefetched < prefetchProperties.evaluationWindow()) {
+            return;
+        }
+        windowPrefetched.set(0);
+        int hits = windowHits.getAndSet(0);
+        double hitRate = (double) hits / prefetched;
+        if (hitRate < prefetchProperties.minHitRate()) {
+            disabledUntilNanos = System.nanoTime() + prefetchProperties.disableDuration().toNanos();
+            synchronized (cache) {
+                cache.clear();
+            }
+            log.info("Упреждающая загрузка приостановлена на {}: доля попаданий {} ниже порога {}",
+                    prefetchProperties.disableDuration(), hitRate, prefetchProperties.minHitRate());
+        }
+    }
+
+    /**
+     * Проверяет загрузку пула соединений и при необходимости откладывает упреждающую загрузку.
+     */
+    private boolean isPoolBusy(long now) {
+        if (hikariDataSource == null) {
+            return false;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return false;
+        }
+        boolean busy = pool.getThreadsAwaitingConnection() > 0
+                || pool.getActiveConnections()
+                >= hikariDataSource.getMaximumPoolSize() * prefetchProperties.maxPoolUsage();
+        if (busy) {
+            backoffUntilNanos = now + prefetchProperties.backoffDuration().toNanos();
+            log.debug("Пул соединений занят, упреждающая загрузка отложена на {}",
+                    prefetchProperties.backoffDuration());
+        }
+
+        return busy;
+    }
+
+    /**
+     * Нормализованный ключ страницы: порядок и повторы тегов не влияют на результат запроса.
+     */
+    private record PageKey(String searchPart, List<String> tags, int pageNumber, int pageSize) {
+
+        static PageKey of(String searchPart, List<String> tags, int pageNumber, int pageSize) {
+            String normalizedSearch = searchPart == null ? "" : searchPart.trim();
+            List<String> normalizedTags = tags == null ? List.of() : tags.stream().distinct().sorted().toList();
+            return new PageKey(normalizedSearch, normalizedTags, pageNumber, pageSize);
+        }
+    }
+
+    private record CachedPage(PostListResponseDto response, long expiresAtNanos, AtomicBoolean used) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        CachedPage withLikes(Map<Long, Integer> likesCounts) {
+            if (response.posts().stream().noneMatch(post -> likesCounts.containsKey(post.id()))) {
+                return this;
+            }
+            List<PostResponseDto> posts = response.posts().stream()
+                    .map(post -> {
+                        Integer likes = likesCounts.get(post.id());
+                        return likes == null ? post : new PostResponseDto(post.id(), post.title(), post.text(),
+                                post.tags(), likes, post.commentsCount());
+                    })
+                    .toList();
+
+            return new CachedPage(new PostListResponseDto(posts, response.hasPrev(), response.hasNext(),
+                    response.lastPage()), expiresAtNanos, used);
+        }
+    }
+}
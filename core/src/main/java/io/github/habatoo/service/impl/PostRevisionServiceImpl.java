@@ -0,0 +1,127 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.dto.response.PostRevisionResponseDto;
+import io.github.habatoo.dto.response.PostRevisionSummaryDto;
+import io.github.habatoo.properties.PostRevisionProperties;
+import io.github.habatoo.repositories.PostRevisionRepository;
+import io.github.habatoo.service.DeltaCodec;
+import io.github.habatoo.service.PostRevisionService;
+import io.github.habatoo.service.dto.PostRevision;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Реализация сервиса истории версий постов.
+ *
+ * <p>Новая версия сохраняется полным снимком, если она первая, если с последнего снимка
+ * накопилось {@code snapshotInterval - 1} дельт или если дельта получилась не меньше самого
+ * текста. Иначе сохраняется дельта относительно текста последней версии. Версии одного поста
+ * сохраняются под блокировкой строки поста, поэтому номера версий не конфликтуют.</p>
+ *
+ * @see PostRevisionProperties
+ * @see PostRevisionRepository
+ * @see DeltaCodec
+ */
+@Slf4j
+public class PostRevisionServiceImpl implements PostRevisionService {
+
+    private final PostRevisionProperties postRevisionProperties;
+    private final PostRevisionRepository postRevisionRepository;
+    private final DeltaCodec deltaCodec;
+
+    public PostRevisionServiceImpl(
+            PostRevisionProperties postRevisionProperties,
+            PostRevisionRepository postRevisionRepository,
+            DeltaCodec deltaCodec) {
+        this.postRevisionProperties = postRevisionProperties;
+        this.postRevisionRepository = postRevisionRepository;
+        this.deltaCodec = deltaCodec;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void recordRevision(Long postId, String title, String text) {
+        if (!postRevisionRepository.lockPost(postId)) {
+            log.warn("Версия не сохранена: пост id={} не найден", postId);
+            return;
+        }
+        byte[] textBytes = text.getBytes(StandardCharsets.UTF_8);
+        List<PostRevision> chain = postRevisionRepository.findRevisionChain(postId, Integer.MAX_VALUE);
+
+        int revision = 1;
+        boolean snapshot = true;
+        byte[] data = textBytes;
+        if (!chain.isEmpty()) {
+            PostRevision latest = chain.getLast();
+            byte[] latestText = reconstruct(chain);
+            if (latest.title().equals(title) && Arrays.equals(latestText, textBytes)) {
+                log.debug("Пост id={} не изменился с версии {}", postId, latest.revision());
+                return;
+            }
+            revision = latest.revision() + 1;
+            if (chain.size() < postRevisionProperties.snapshotInterval()) {
+                byte[] delta = deltaCodec.encode(latestText, textBytes);
+                if (delta.length < textBytes.length) {
+                    snapshot = false;
+                    data = delta;
+                }
+            }
+        }
+
+        postRevisionRepository.insertRevision(new PostRevision(
+                postId, revision, title, snapshot, data, textBytes.length, LocalDateTime.now()));
+        log.debug("Сохранена версия {} поста id={}: {} байт из {}{}",
+                revision, postId, data.length, textBytes.length, snapshot ? " (снимок)" : "");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PostRevisionSummaryDto> getRevisions(Long postId) {
+        return postRevisionRepository.findRevisionSummaries(postId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PostRevisionResponseDto getRevision(Long postId, int revision) {
+        List<PostRevision> chain = postRevisionRepository.findRevisionChain(postId, revision);
+        if (chain.isEmpty() || chain.getLast().revision() != revision) {
+            throw new EmptyResultDataAccessException(
+                    "Revision " + revision + " of post " + postId + " not found", 1);
+        }
+        PostRevision target = chain.getLast();
+        String text = new String(reconstruct(chain), StandardCharsets.UTF_8);
+        log.debug("Версия {} поста id={} восстановлена из {} записей", revision, postId, chain.size());
+
+        return new PostRevisionResponseDto(postId, revision, target.title(), text, target.createdAt());
+    }
+
+    /**
+     * Восстанавливает текст последней версии цепочки, применяя дельты к её первому снимку.
+     */
+    private byte[] reconstruct(List<PostRevision> chain) {
+        PostRevision first = chain.getFirst();
+        if (!first.snapshot()) {
+            throw new IllegalStateException("Revision chain of post " + first.postId()
+                    + " does not start with a snapshot");
+        }
+        byte[] text = first.data();
+        for (PostRevision revision : chain.subList(1, chain.size())) {
+            text = revision.snapshot() ? revision.data() : deltaCodec.apply(text, revision.data());
+        }
+
+        return text;
+    }
+}
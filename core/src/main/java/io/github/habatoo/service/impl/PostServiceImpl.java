@@ -1,41 +1,96 @@
 package io.github.habatoo.service.impl;
 
 import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.dto.request.PostPatchRequestDto;
 import io.github.habatoo.dto.request.PostRequestDto;
+import io.github.habatoo.dto.request.PostTextDiffDto;
+import io.github.habatoo.dto.request.PostTextEditDto;
 import io.github.habatoo.dto.response.PostListResponseDto;
 import io.github.habatoo.dto.response.PostResponseDto;
 import io.github.habatoo.repositories.PostRepository;
 import io.github.habatoo.service.FileStorageService;
+import io.github.habatoo.service.HotKeyTracker;
+import io.github.habatoo.service.LikeBuffer;
+import io.github.habatoo.service.PostChangeNotifier;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.PostRevisionService;
 import io.github.habatoo.service.PostService;
+import io.github.habatoo.service.RequestCoalescer;
+import io.github.habatoo.service.StaleIfErrorExecutor;
+import io.github.habatoo.service.dto.HotKeyCategory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Сервис для работы с постами блога.
  * Предоставляет бизнес-логику для операций с постами.
  *
+ * <p>Создание и изменение поста записывают пост и его версию в одной транзакции: ошибка
+ * сохранения версии откатывает изменение. Кэши и подписчиков после записи оповещает
+ * {@link PostChangeNotifier}.</p>
+ *
  * @see PostRepository
  * @see PostResponseDto
  * @see FileStorageService
+ * @see PostListPrefetcher
+ * @see PostIdFilter
+ * @see RequestCoalescer
+ * @see StaleIfErrorExecutor
+ * @see HotKeyTracker
+ * @see LikeBuffer
+ * @see PostRevisionService
+ * @see PostChangeNotifier
  */
 @Slf4j
 @Service
 public class PostServiceImpl implements PostService {
 
+    private static final Set<String> PATCH_FIELDS = Set.of("title", "text", "tags", "textDiff");
+
     private final PostRepository postRepository;
     private final FileStorageService fileStorageService;
+    private final PostListPrefetcher postListPrefetcher;
+    private final PostIdFilter postIdFilter;
+    private final RequestCoalescer requestCoalescer;
+    private final StaleIfErrorExecutor staleIfErrorExecutor;
+    private final HotKeyTracker hotKeyTracker;
+    private final LikeBuffer likeBuffer;
+    private final PostRevisionService postRevisionService;
+    private final PostChangeNotifier postChangeNotifier;
 
     public PostServiceImpl(
             PostRepository postRepository,
-            FileStorageService fileStorageService
+            FileStorageService fileStorageService,
+            PostListPrefetcher postListPrefetcher,
+            PostIdFilter postIdFilter,
+            RequestCoalescer requestCoalescer,
+            StaleIfErrorExecutor staleIfErrorExecutor,
+            HotKeyTracker hotKeyTracker,
+            LikeBuffer likeBuffer,
+            PostRevisionService postRevisionService,
+            PostChangeNotifier postChangeNotifier
     ) {
         this.postRepository = postRepository;
         this.fileStorageService = fileStorageService;
+        this.postListPrefetcher = postListPrefetcher;
+        this.postIdFilter = postIdFilter;
+        this.requestCoalescer = requestCoalescer;
+        this.staleIfErrorExecutor = staleIfErrorExecutor;
+        this.hotKeyTracker = hotKeyTracker;
+        this.likeBuffer = likeBuffer;
+        this.postRevisionService = postRevisionService;
+        this.postChangeNotifier = postChangeNotifier;
     }
 
     /**
@@ -44,6 +99,9 @@ public class PostServiceImpl implements PostService {
     @Override
     public PostListResponseDto getPosts(String search, int pageNumber, int pageSize) {
         log.debug("Запрошен список постов: search='{}', pageNumber={}, pageSize={}", search, pageNumber, pageSize);
+        if (!search.isBlank()) {
+            hotKeyTracker.record(HotKeyCategory.SEARCH, search.strip());
+        }
         List<String> words = Arrays.stream(search.split("\\s+"))
                 .filter(w -> !w.isBlank())
                 .toList();
@@ -57,16 +115,17 @@ public class PostServiceImpl implements PostService {
                 .filter(w -> !w.startsWith("#"))
                 .collect(Collectors.joining(" "));
 
-        List<PostResponseDto> page = postRepository.findPosts(searchPart, tags, pageNumber, pageSize);
+        PostListResponseDto result = postListPrefetcher.find(searchPart, tags, pageNumber, pageSize)
+                .orElseGet(() -> staleIfErrorExecutor.execute(
+                        "posts:" + searchPart + ":" + tags + ":" + pageNumber + ":" + pageSize,
+                        () -> loadPage(searchPart, tags, pageNumber, pageSize)));
 
-        int totalCount = postRepository.countPosts(searchPart, tags);
-        int lastPage = (int) Math.ceil((double) totalCount / pageSize);
-        boolean hasPrev = pageNumber > 1;
-        boolean hasNext = pageNumber < lastPage;
-
-        log.debug("Всего найдено {} постов, lastPage: {}", totalCount, lastPage);
+        if (result.hasNext()) {
+            postListPrefetcher.prefetch(searchPart, tags, pageNumber + 1, pageSize,
+                    () -> loadPage(searchPart, tags, pageNumber + 1, pageSize));
+        }
 
-        return new PostListResponseDto(page, hasPrev, hasNext, lastPage);
+        return withPendingLikes(result);
     }
 
     /**
@@ -75,18 +134,34 @@ public class PostServiceImpl implements PostService {
     @Override
     public Optional<PostResponseDto> getPostById(Long id) {
         log.debug("Получение поста по id={}", id);
-        return postRepository.getPostById(id);
+        if (!postIdFilter.mightContain(id)) {
+            log.debug("Пост id={} отсутствует в фильтре существующих постов", id);
+            return Optional.empty();
+        }
+        hotKeyTracker.record(HotKeyCategory.POST, id.toString());
+
+        String key = "post:" + id;
+
+        Optional<PostResponseDto> post = staleIfErrorExecutor.execute(key,
+                () -> requestCoalescer.execute(key, () -> postRepository.getPostById(id)));
+
+        return post.map(this::withPendingLikes);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public PostResponseDto createPost(PostCreateRequestDto postCreateRequest) {
         log.info("Создание нового поста: title='{}'", postCreateRequest.title());
 
         try {
-            return postRepository.createPost(postCreateRequest);
+            PostResponseDto createdPost = postRepository.createPost(postCreateRequest);
+            recordRevision(createdPost);
+            postChangeNotifier.postCreated(createdPost);
+
+            return createdPost;
         } catch (Exception e) {
             log.error("Не удалось создать пост: {}", e.getMessage(), e);
             throw new IllegalStateException("Не удалось создать пост", e);
@@ -97,12 +172,15 @@ public class PostServiceImpl implements PostService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public PostResponseDto updatePost(PostRequestDto postRequest) {
         log.info("Обновление поста: id={}", postRequest.id());
 
         try {
             PostResponseDto updatedPost = postRepository.updatePost(postRequest);
+            recordRevision(updatedPost);
             log.info("Пост обновлён: id={}", updatedPost.id());
+            postChangeNotifier.postUpdated(updatedPost);
 
             return updatedPost;
         } catch (Exception e) {
@@ -111,6 +189,23 @@ public class PostServiceImpl implements PostService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public PostResponseDto patchPost(Long id, Map<String, Object> mergePatch) {
+        log.info("Частичное обновление поста: id={}, поля={}", id, mergePatch.keySet());
+        PostPatchRequestDto patch = toPatchRequest(id, mergePatch);
+
+        PostResponseDto patchedPost = postRepository.patchPost(patch);
+        recordRevision(patchedPost);
+        postChangeNotifier.postUpdated(patchedPost);
+        log.info("Пост частично обновлён: id={}", id);
+
+        return withPendingLikes(patchedPost);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -118,6 +213,7 @@ public class PostServiceImpl implements PostService {
     public void deletePost(Long id) {
         log.info("Удаление поста id={}", id);
         postRepository.deletePost(id);
+        postChangeNotifier.postDeleted(id);
 
         fileStorageService.deletePostDirectory(id);
         log.info("Пост и директория файлов удалены: id={}", id);
@@ -130,13 +226,20 @@ public class PostServiceImpl implements PostService {
     public int incrementLikes(Long id) {
         log.debug("Инкремент лайков для поста id={}", id);
         try {
+            if (likeBuffer.isEnabled()) {
+                int likesCount = likeBuffer.increment(id);
+                postChangeNotifier.likesChanged(id, likesCount);
+                return likesCount;
+            }
             postRepository.incrementLikes(id);
+            postChangeNotifier.countersChanged(id);
             Optional<PostResponseDto> post = postRepository.getPostById(id);
 
             if (post.isEmpty()) {
                 log.warn("Пост после инкремента лайков не найден: id={}", id);
                 throw new IllegalStateException("Пост не найден после увеличения лайков, id=" + id);
             }
+            postChangeNotifier.likesChanged(id, post.get().likesCount());
 
             return post.get().likesCount();
         } catch (Exception e) {
@@ -153,6 +256,7 @@ public class PostServiceImpl implements PostService {
         log.debug("Инкремент комментариев для поста id={}", id);
         try {
             postRepository.incrementCommentsCount(id);
+            postChangeNotifier.countersChanged(id);
         } catch (Exception e) {
             log.error("Ошибка при увеличении комментариев для id={}: {}", id, e.getMessage(), e);
             throw new IllegalStateException("Ошибка при увеличении комментариев для поста id " + id, e);
@@ -167,9 +271,137 @@ public class PostServiceImpl implements PostService {
         log.debug("Декремент комментариев для поста id={}", id);
         try {
             postRepository.decrementCommentsCount(id);
+            postChangeNotifier.countersChanged(id);
         } catch (Exception e) {
             log.error("Ошибка при уменьшении комментариев для id={}: {}", id, e.getMessage(), e);
             throw new IllegalStateException("Ошибка при уменьшении комментариев для поста id " + id, e);
         }
     }
+
+    private PostListResponseDto loadPage(String searchPart, List<String> tags, int pageNumber, int pageSize) {
+        List<PostResponseDto> page = postRepository.findPosts(searchPart, tags, pageNumber, pageSize);
+
+        int totalCount = postRepository.countPosts(searchPart, tags);
+        int lastPage = (int) Math.ceil((double) totalCount / pageSize);
+        boolean hasPrev = pageNumber > 1;
+        boolean hasNext = pageNumber < lastPage;
+
+        log.debug("Всего найдено {} постов, lastPage: {}", totalCount, lastPage);
+
+        return new PostListResponseDto(page, hasPrev, hasNext, lastPage);
+    }
+
+    /**
+     * Сохраняет версию поста в транзакции изменения; ошибка откатывает изменение поста.
+     */
+    private void recordRevision(PostResponseDto post) {
+        postRevisionService.recordRevision(post.id(), post.title(), post.text());
+    }
+
+    /**
+     * Преобразует документ JSON Merge Patch в запрос частичного обновления поста.
+     */
+    private static PostPatchRequestDto toPatchRequest(Long id, Map<String, Object> mergePatch) {
+        if (mergePatch == null) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        Set<String> unknown = new HashSet<>(mergePatch.keySet());
+        unknown.removeAll(PATCH_FIELDS);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unsupported merge patch fields: " + unknown);
+        }
+        if (mergePatch.containsKey("text") && mergePatch.containsKey("textDiff")) {
+            throw new IllegalArgumentException("Merge patch cannot contain both text and textDiff");
+        }
+        String title = requiredString(mergePatch, "title");
+        if (title != null && title.isBlank()) {
+            throw new IllegalArgumentException("Title cannot be blank");
+        }
+        List<String> tags = null;
+        if (mergePatch.containsKey("tags")) {
+            tags = mergePatch.get("tags") == null ? List.of() : toStringList(mergePatch.get("tags"), "tags");
+        }
+
+        return new PostPatchRequestDto(id, title, requiredString(mergePatch, "text"), tags,
+                toTextDiff(mergePatch.get("textDiff")));
+    }
+
+    /**
+     * Читает строковое поле, которое можно изменить, но нельзя удалить.
+     */
+    private static String requiredString(Map<String, Object> mergePatch, String field) {
+        if (!mergePatch.containsKey(field)) {
+            return null;
+        }
+        if (!(mergePatch.get(field) instanceof String value)) {
+            throw new IllegalArgumentException("Field '" + field + "' must be a string and cannot be removed");
+        }
+
+        return value;
+    }
+
+    private static List<String> toStringList(Object value, String field) {
+        if (!(value instanceof List<?> list) || !list.stream().allMatch(item -> item instanceof String)) {
+            throw new IllegalArgumentException("Field '" + field + "' must be an array of strings");
+        }
+
+        return list.stream().map(String.class::cast).toList();
+    }
+
+    private static PostTextDiffDto toTextDiff(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Map<?, ?> diff)
+                || !(diff.get("baseMd5") instanceof String baseMd5)
+                || !(diff.get("edits") instanceof List<?> rawEdits)
+                || rawEdits.isEmpty()) {
+            throw new IllegalArgumentException("Field 'textDiff' must contain baseMd5 and non-empty edits");
+        }
+        List<PostTextEditDto> edits = new ArrayList<>(rawEdits.size());
+        for (Object rawEdit : rawEdits) {
+            if (!(rawEdit instanceof Map<?, ?> edit)
+                    || !(edit.get("offset") instanceof Integer offset)
+                    || !(valueOrDefault(edit, "delete", 0) instanceof Integer delete)
+                    || !(valueOrDefault(edit, "insert", "") instanceof String insert)
+                    || offset < 0 || delete < 0) {
+                throw new IllegalArgumentException(
+                        "Text edit must contain non-negative offset and delete and a string insert");
+            }
+            edits.add(new PostTextEditDto(offset, delete, insert));
+        }
+
+        return new PostTextDiffDto(baseMd5, edits);
+    }
+
+    private static Object valueOrDefault(Map<?, ?> map, String key, Object defaultValue) {
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+
+    /**
+     * Добавляет к количеству лайков постов страницы лайки, ещё не записанные в базу данных.
+     */
+    private PostListResponseDto withPendingLikes(PostListResponseDto page) {
+        if (!likeBuffer.isEnabled()) {
+            return page;
+        }
+        List<PostResponseDto> posts = page.posts().stream()
+                .map(this::withPendingLikes)
+                .toList();
+
+        return new PostListResponseDto(posts, page.hasPrev(), page.hasNext(), page.lastPage());
+    }
+
+    /**
+     * Добавляет к количеству лайков поста лайки, ещё не записанные в базу данных.
+     */
+    private PostResponseDto withPendingLikes(PostResponseDto post) {
+        long pending = likeBuffer.pending(post.id());
+        if (pending == 0) {
+            return post;
+        }
+
+        return new PostResponseDto(post.id(), post.title(), post.text(), post.tags(),
+                (int) (post.likesCount() + pending), post.commentsCount());
+    }
 }
@@ -0,0 +1,114 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.CoalescingProperties;
+import io.github.habatoo.service.RequestCoalescer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Реализация объединения одинаковых конкурентных запросов (single-flight).
+ *
+ * <p>Для каждого ключа хранится {@link CompletableFuture} выполняющегося запроса.
+ * Первый вызов выполняет загрузчик в своём потоке, остальные ждут его результат
+ * не дольше заданного таймаута, после чего выполняют загрузчик самостоятельно.
+ * Запись удаляется сразу после завершения загрузчика, поэтому результат не кэшируется.
+ * Счётчики выполненных, объединённых и прерванных по таймауту запросов публикуются в Micrometer.</p>
+ *
+ * @see CoalescingProperties
+ */
+@Slf4j
+public class RequestCoalescerImpl implements RequestCoalescer, MeterBinder {
+
+    private final CoalescingProperties coalescingProperties;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public RequestCoalescerImpl(CoalescingProperties coalescingProperties) {
+        this.coalescingProperties = coalescingProperties;
+        log.info("RequestCoalescer инициализирован: enabled={}, timeout={}",
+                coalescingProperties.enabled(), coalescingProperties.timeout());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        if (!coalescingProperties.enabled()) {
+            return loader.get();
+        }
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, own);
+        if (existing == null) {
+            return (T) load(key, own, loader);
+        }
+
+        coalesced.increment();
+        try {
+            return (T) existing.get(coalescingProperties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            log.warn("Ожидание общего запроса по ключу '{}' превысило {}, запрос выполняется самостоятельно",
+                    key, coalescingProperties.timeout());
+            return loader.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for request " + key, e);
+        }
+    }
+
+    /**
+     * Регистрирует счётчики объединения запросов.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("blog.coalescer.requests", executed, LongAdder::sum)
+                .description("Запросы, выполненные загрузчиком")
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder("blog.coalescer.requests", coalesced, LongAdder::sum)
+                .description("Запросы, присоединившиеся к уже выполняющемуся запросу")
+                .tag("result", "coalesced")
+                .register(registry);
+        FunctionCounter.builder("blog.coalescer.requests", timeouts, LongAdder::sum)
+                .description("Присоединившиеся запросы, не дождавшиеся общего результата")
+                .tag("result", "timeout")
+                .register(registry);
+    }
+
+    private Object load(String key, CompletableFuture<Object> own, Supplier<?> loader) {
+        executed.increment();
+        try {
+            Object result = loader.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+
+        return new IllegalStateException(cause);
+    }
+}
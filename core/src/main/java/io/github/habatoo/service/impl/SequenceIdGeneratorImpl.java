@@ -0,0 +1,54 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.service.IdGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Генератор идентификаторов на identity последовательностях таблиц.
+ *
+ * <p>Идентификаторы выделяются запросом {@code nextval} до записи, как и у {@link SnowflakeIdGeneratorImpl},
+ * но остаются компактными и совпадают с идентификаторами, которые база данных присвоила бы сама.
+ * Несколько идентификаторов выделяются одним запросом.</p>
+ */
+public class SequenceIdGeneratorImpl implements IdGenerator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceIdGeneratorImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextId(String table) {
+        Long id = jdbcTemplate.queryForObject(
+                """
+                        SELECT nextval(pg_get_serial_sequence(?, 'id'))
+                        """,
+                Long.class,
+                table
+        );
+        if (id == null) {
+            throw new IllegalStateException("No id sequence for table " + table);
+        }
+
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long[] nextIds(String table, int count) {
+        return jdbcTemplate.queryForList(
+                """
+                        SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)
+                        """,
+                Long.class,
+                table,
+                count
+        ).stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.service.dto.HotKey;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сводка Space-Saving: не более {@code capacity} счётчиков с минимальной кучей по значению.
+ *
+ * <p>Новый ключ при заполненной сводке замещает счётчик с наименьшим значением и наследует
+ * его значение как погрешность. Обновление выполняется за O(log capacity).
+ * Класс не потокобезопасен.</p>
+ */
+final class SpaceSavingSummary {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final Counter[] heap;
+    private int size;
+
+    SpaceSavingSummary(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.counters = new HashMap<>(this.capacity * 2);
+        this.heap = new Counter[this.capacity];
+    }
+
+    void offer(String key) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            siftDown(counter.heapIndex);
+            return;
+        }
+        if (size < capacity) {
+            counter = new Counter(key, size);
+            heap[size++] = counter;
+            counters.put(key, counter);
+            siftUp(counter.heapIndex);
+            return;
+        }
+        Counter min = heap[0];
+        counters.remove(min.key);
+        min.key = key;
+        min.error = min.count;
+        min.count++;
+        counters.put(key, min);
+        siftDown(0);
+    }
+
+    void clear() {
+        counters.clear();
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    List<HotKey> snapshot() {
+        List<HotKey> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new HotKey(heap[i].key, heap[i].count, heap[i].error));
+        }
+
+        return result;
+    }
+
+    private void siftUp(int index) {
+        Counter counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter counter, int index) {
+        heap[index] = counter;
+        counter.heapIndex = index;
+    }
+
+    private static final class Counter {
+
+        private String key;
+        private long count = 1;
+        private long error;
+        private int heapIndex;
+
+        private Counter(String key, int heapIndex) {
+            this.key = key;
+            this.heapIndex = heapIndex;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.habatoo.service.impl;
+
+import io.github.habatoo.properties.ResilienceProperties;
+import io.github.habatoo.service.StaleIfErrorExecutor;
+import io.github.habatoo.service.StaleResponseContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Реализация режима stale-if-error для запросов на чтение.
+ *
+ * <p>Последние успешные результаты хранятся в ограниченной LRU-карте. Загрузчик выполняется
+ * в потоке вызывающего без ожидания и пулов: пока база данных отвечает, запрос проходит так же,
+ * как без этого режима. Сохранённый результат возвращается только при ошибке доступа к базе
+ * или открытом выключателе; без сохранённого результата ошибка передаётся как есть, а открытый
+ * выключатель даёт {@link DataAccessResourceFailureException}. Одновременные загрузки по одному
+ * ключу объединяет {@link io.github.habatoo.service.RequestCoalescer}, которым оборачивается загрузчик.</p>
+ *
+ * <p>Ошибки доступа к базе и загрузки дольше бюджета задержки считаются сбоями; результат
+ * медленной загрузки всё равно возвращается. После заданного числа сбоев подряд автоматический
+ * выключатель открывается: загрузчик не вызывается, отдаются только сохранённые результаты.
+ * По истечении времени в открытом состоянии пропускается один пробный запрос, успех которого
+ * закрывает выключатель. «Не найдено» ({@link IncorrectResultSizeDataAccessException}) сбоем не считается.</p>
+ *
+ * @see ResilienceProperties
+ * @see StaleResponseContext
+ */
+@Slf4j
+public class StaleIfErrorExecutorImpl implements StaleIfErrorExecutor {
+
+    private final ResilienceProperties resilienceProperties;
+    private final Map<String, StaleEntry> lastGood;
+    private final CircuitBreaker circuitBreaker;
+
+    public StaleIfErrorExecutorImpl(ResilienceProperties resilienceProperties) {
+        this.resilienceProperties = resilienceProperties;
+        this.lastGood = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StaleEntry> eldest) {
+                return size() > resilienceProperties.maxEntries();
+            }
+        });
+        this.circuitBreaker = new CircuitBreaker(
+                resilienceProperties.failureThreshold(), resilienceProperties.openDuration().toNanos());
+        log.info("StaleIfErrorExecutor инициализирован: enabled={}, latencyBudget={}, failureThreshold={}, openDuration={}",
+                resilienceProperties.enabled(), resilienceProperties.latencyBudget(),
+                resilienceProperties.failureThreshold(), resilienceProperties.openDuration());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        if (!resilienceProperties.enabled()) {
+            return loader.get();
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return (T) staleOrFail(key, lastGood.get(key), "Database circuit breaker is open");
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException e) {
+            if (!isFailure(e)) {
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+            circuitBreaker.onFailure();
+            StaleEntry stale = lastGood.get(key);
+            if (stale == null) {
+                throw e;
+            }
+            log.warn("Запрос '{}' завершился ошибкой базы данных: {}", key, e.getMessage());
+            return (T) serveStale(key, stale);
+        }
+
+        lastGood.put(key, new StaleEntry(result, System.nanoTime()));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        if (elapsed.compareTo(resilienceProperties.latencyBudget()) > 0) {
+            log.warn("Запрос '{}' выполнялся {}, бюджет задержки {}", key, elapsed,
+                    resilienceProperties.latencyBudget());
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+
+        return result;
+    }
+
+    private Object staleOrFail(String key, StaleEntry stale, String message) {
+        if (stale == null) {
+            throw new DataAccessResourceFailureException(message);
+        }
+
+        return serveStale(key, stale);
+    }
+
+    private Object serveStale(String key, StaleEntry stale) {
+        Duration age = Duration.ofNanos(System.nanoTime() - stale.storedAtNanos());
+        log.warn("Для запроса '{}' возвращён сохранённый результат возрастом {}", key, age);
+        StaleResponseContext.markStale(age);
+
+        return stale.value();
+    }
+
+    private static boolean isFailure(Throwable e) {
+        return e instanceof DataAccessException && !(e instanceof IncorrectResultSizeDataAccessException)
+                || e instanceof TransactionException;
+    }
+
+    private record StaleEntry(Object value, long storedAtNanos) {
+    }
+
+    /**
+     * Автоматический выключатель по числу сбоев подряд.
+     */
+    private static final class CircuitBreaker {
+
+        private enum State { CLOSED, OPEN, HALF_OPEN }
+
+        private final int failureThreshold;
+        private final long openDurationNanos;
+        private volatile State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtNanos;
+        private boolean trialInFlight;
+
+        private CircuitBreaker(int failureThreshold, long openDurationNanos) {
+            this.failureThreshold = failureThreshold;
+            this.openDurationNanos = openDurationNanos;
+        }
+
+        boolean allowRequest() {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            synchronized (this) {
+                if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+                    state = State.HALF_OPEN;
+                    trialInFlight = false;
+                }
+                if (state == State.HALF_OPEN && !trialInFlight) {
+                    trialInFlight = true;
+                    return true;
+                }
+
+                return state == State.CLOSED;
+            }
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            if (state != State.CLOSED) {
+                log.info("Автоматический выключатель закрыт: база данных снова отвечает");
+                state = State.CLOSED;
+            }
+        }
+
+        synchronized void onFailure() {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+                log.warn("Автоматический выключатель открыт после {} сбоев подряд", consecutiveFailures);
+                state = State.OPEN;
+                openedAtNanos = System.nanoTime();
+                trialInFlight = false;
+            }
+        }
+    }
+}
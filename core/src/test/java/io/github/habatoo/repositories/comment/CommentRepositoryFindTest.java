@@ -1,9 +1,11 @@
 package io.github.habatoo.repositories.comment;
 
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
 import io.github.habatoo.repositories.mapper.CommentRowMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,10 +34,10 @@ class CommentRepositoryFindTest extends CommentRepositoryTestBase {
                 createCommentResponse(COMMENT_ID, POST_ID, COMMENT_TEXT)
         );
 
-        when(jdbcTemplate.query(anyString(), any(CommentRowMapper.class), eq(POST_ID)))
+        when(jdbcTemplate.query(anyString(), any(CommentRowMapper.class), eq(POST_ID), eq(50)))
                 .thenReturn(expectedComments);
 
-        List<CommentResponseDto> result = commentRepository.findByPostId(POST_ID);
+        List<CommentResponseDto> result = commentRepository.findByPostId(POST_ID, null, 50);
 
         assertEquals(expectedComments, result);
         verify(jdbcTemplate).query(
@@ -43,13 +45,39 @@ class CommentRepositoryFindTest extends CommentRepositoryTestBase {
                         SELECT id, text, post_id
                         FROM comment
                         WHERE post_id = ?
-                        ORDER BY created_at ASC
+                        ORDER BY created_at, id
+                        LIMIT ?
                         """,
                 commentRowMapper,
-                POST_ID
+                POST_ID,
+                50
         );
     }
 
+    /**
+     * Тестирует, что следующая страница выбирается по ключу (created_at, id) комментария,
+     * на котором закончилась предыдущая страница.
+     */
+    @Test
+    @DisplayName("Должен вернуть страницу комментариев после указанного комментария")
+    void shouldReturnCommentsAfterCursorTest() {
+        List<CommentResponseDto> expectedComments = List.of(
+                createCommentResponse(COMMENT_ID + 1, POST_ID, COMMENT_TEXT)
+        );
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        when(jdbcTemplate.query(sql.capture(), any(CommentRowMapper.class),
+                eq(COMMENT_ID), eq(POST_ID), eq(POST_ID), eq(COMMENT_ID), eq(50)))
+                .thenReturn(expectedComments);
+
+        List<CommentResponseDto> result = commentRepository.findByPostId(POST_ID, COMMENT_ID, 50);
+
+        assertEquals(expectedComments, result);
+        assertTrue(sql.getValue().contains("THEN (created_at, id) > ("));
+        assertTrue(sql.getValue().contains("ELSE id > ?"));
+        assertTrue(sql.getValue().contains("ORDER BY created_at, id"));
+    }
+
     /**
      * Проверяет, что findByPostIdAndId возвращает Optional с комментарием,
      * если комментарий с данным postId и commentId существует.
@@ -92,4 +120,57 @@ class CommentRepositoryFindTest extends CommentRepositoryTestBase {
 
         assertTrue(result.isEmpty());
     }
+
+    /**
+     * Проверяет, что первая страница веток начинается с пустого пути,
+     * а ветки выбираются одним диапазоном по пути от первого до последнего корня страницы.
+     */
+    @Test
+    @DisplayName("Должен вернуть первую страницу веток комментариев")
+    void shouldReturnFirstThreadsPageTest() {
+        List<ThreadedCommentResponseDto> expected = List.of(
+                new ThreadedCommentResponseDto(COMMENT_ID, COMMENT_TEXT, POST_ID, null, 0));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.query(sql.capture(), eq(threadedCommentRowMapper), eq(POST_ID), eq(""), eq(20), eq(POST_ID)))
+                .thenReturn(expected);
+
+        List<ThreadedCommentResponseDto> result = commentRepository.findThreads(POST_ID, null, 20);
+
+        assertEquals(expected, result);
+        assertTrue(sql.getValue().contains("parent_id IS NULL AND path > ?"));
+        assertTrue(sql.getValue().contains("path < (SELECT MAX(path) FROM roots) || '~'"));
+        assertTrue(sql.getValue().contains("ORDER BY path"));
+    }
+
+    /**
+     * Проверяет, что курсор страницы веток передаётся как путь комментария верхнего уровня.
+     */
+    @Test
+    @DisplayName("Должен вернуть страницу веток после указанного комментария верхнего уровня")
+    void shouldReturnThreadsAfterCursorTest() {
+        when(jdbcTemplate.query(anyString(), eq(threadedCommentRowMapper), eq(POST_ID), eq("00000000000000ff"), eq(20), eq(POST_ID)))
+                .thenReturn(List.of());
+
+        assertTrue(commentRepository.findThreads(POST_ID, 255L, 20).isEmpty());
+    }
+
+    /**
+     * Проверяет, что ветка комментария выбирается диапазоном по его пути.
+     */
+    @Test
+    @DisplayName("Должен вернуть комментарий вместе с ответами")
+    void shouldReturnSubtreeTest() {
+        List<ThreadedCommentResponseDto> expected = List.of(
+                new ThreadedCommentResponseDto(COMMENT_ID, COMMENT_TEXT, POST_ID, null, 0),
+                new ThreadedCommentResponseDto(COMMENT_ID + 1, COMMENT_TEXT, POST_ID, COMMENT_ID, 1));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.query(sql.capture(), eq(threadedCommentRowMapper), eq(COMMENT_ID), eq(POST_ID), eq(POST_ID)))
+                .thenReturn(expected);
+
+        List<ThreadedCommentResponseDto> result = commentRepository.findSubtree(POST_ID, COMMENT_ID);
+
+        assertEquals(expected, result);
+        assertTrue(sql.getValue().contains("c.path >= r.path"));
+        assertTrue(sql.getValue().contains("c.path < r.path || '~'"));
+    }
 }
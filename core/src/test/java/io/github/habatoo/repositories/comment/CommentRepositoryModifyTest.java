@@ -2,17 +2,29 @@ package io.github.habatoo.repositories.comment;
 
 import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.RowMapper;
 
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
- * <h2>Тесты методов save, updateText и deleteById репозитория комментариев</h2>
+ * <h2>Тесты методов save, updateText, deleteById и пакетного удаления репозитория комментариев</h2>
  * Класс проверяет корректность работы основных модифицирующих операций репозитория.
  */
 @DisplayName("Тесты методов сохранения, обновления и удаления комментариев")
@@ -31,12 +43,20 @@ class CommentRepositoryModifyTest extends CommentRepositoryTestBase {
 
         when(jdbcTemplate.queryForObject(
                 eq("""
-                        INSERT INTO comment (post_id, text, created_at, updated_at)
-                        VALUES (?, ?, ?, ?)
-                        RETURNING id, text, post_id
+                        WITH new_comment AS (
+                            INSERT INTO comment (id, post_id, path, text, created_at, updated_at)
+                            VALUES (?, ?, ?, ?, ?, ?)
+                            RETURNING id, text, post_id
+                        ), counted AS (
+                            UPDATE post SET comments_count = comments_count + 1
+                            WHERE id = (SELECT post_id FROM new_comment)
+                        )
+                        SELECT id, text, post_id FROM new_comment
                         """),
                 any(RowMapper.class),
+                eq(COMMENT_ID),
                 eq(createRequest.postId()),
+                eq(COMMENT_PATH),
                 eq(createRequest.text()),
                 any(Timestamp.class),
                 any(Timestamp.class)
@@ -47,15 +67,80 @@ class CommentRepositoryModifyTest extends CommentRepositoryTestBase {
         assertEquals(expectedResponse, result);
         verify(jdbcTemplate).queryForObject(
                 eq("""
-                        INSERT INTO comment (post_id, text, created_at, updated_at)
-                        VALUES (?, ?, ?, ?)
-                        RETURNING id, text, post_id
+                        WITH new_comment AS (
+                            INSERT INTO comment (id, post_id, path, text, created_at, updated_at)
+                            VALUES (?, ?, ?, ?, ?, ?)
+                            RETURNING id, text, post_id
+                        ), counted AS (
+                            UPDATE post SET comments_count = comments_count + 1
+                            WHERE id = (SELECT post_id FROM new_comment)
+                        )
+                        SELECT id, text, post_id FROM new_comment
                         """),
                 any(RowMapper.class),
+                eq(COMMENT_ID),
                 eq(createRequest.postId()),
+                eq(COMMENT_PATH),
                 eq(createRequest.text()),
                 any(Timestamp.class),
                 any(Timestamp.class));
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.COMMENTS_CHANGED, POST_ID);
+    }
+
+    /**
+     * Проверяет, что группа комментариев сохраняется одним запросом с массивами постов и текстов.
+     */
+    @Test
+    @DisplayName("Должен сохранить группу комментариев одним запросом")
+    @SuppressWarnings("unchecked")
+    void shouldSaveAllCommentsTest() throws SQLException {
+        List<CommentResponseDto> expected = List.of(
+                createCommentResponse(COMMENT_ID, POST_ID, COMMENT_TEXT),
+                createCommentResponse(COMMENT_ID + 1, POST_ID + 1, UPDATED_TEXT));
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(expected);
+        when(idGenerator.nextIds("comment", 2)).thenReturn(new long[]{COMMENT_ID, COMMENT_ID + 1});
+
+        List<CommentResponseDto> result = commentRepository.saveAll(List.of(
+                createCommentCreateRequest(COMMENT_TEXT, POST_ID),
+                createCommentCreateRequest(UPDATED_TEXT, POST_ID + 1)));
+
+        assertEquals(expected, result);
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowMapper.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Array ids = mock(Array.class);
+        Array postIds = mock(Array.class);
+        Array texts = mock(Array.class);
+        Array paths = mock(Array.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(connection.prepareStatement(sql.capture())).thenReturn(ps);
+        when(connection.createArrayOf("bigint", new Object[]{COMMENT_ID, COMMENT_ID + 1})).thenReturn(ids);
+        when(connection.createArrayOf("bigint", new Object[]{POST_ID, POST_ID + 1})).thenReturn(postIds);
+        when(connection.createArrayOf("text", new Object[]{COMMENT_TEXT, UPDATED_TEXT})).thenReturn(texts);
+        when(connection.createArrayOf("text", new Object[]{COMMENT_PATH, "0000000000000002"})).thenReturn(paths);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        assertTrue(sql.getValue().contains("unnest(?::bigint[], ?::bigint[], ?::text[], ?::text[])"));
+        assertTrue(sql.getValue().contains("comments_count = p.comments_count + d.added"));
+        verify(ps).setArray(1, ids);
+        verify(ps).setArray(2, postIds);
+        verify(ps).setArray(3, texts);
+        verify(ps).setArray(4, paths);
+        verify(ps).setTimestamp(eq(5), any(Timestamp.class));
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.COMMENTS_CHANGED, List.of(POST_ID, POST_ID + 1));
+    }
+
+    /**
+     * Проверяет, что пустая группа не приводит к запросу в базу данных.
+     */
+    @Test
+    @DisplayName("Не должен обращаться к базе при пустой группе комментариев")
+    void shouldSkipEmptySaveAllTest() {
+        assertTrue(commentRepository.saveAll(List.of()).isEmpty());
+
+        verifyNoInteractions(jdbcTemplate, cacheInvalidationBus);
     }
 
     /**
@@ -96,26 +181,111 @@ class CommentRepositoryModifyTest extends CommentRepositoryTestBase {
                 any(Timestamp.class),
                 eq(COMMENT_ID)
         );
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.COMMENTS_CHANGED, POST_ID);
     }
 
     @Test
-    @DisplayName("Должен удалить комментарий по id и вернуть количество удалённых строк")
+    @DisplayName("Должен удалить комментарий с ответами и вернуть количество удалённых строк")
     void shouldDeleteCommentByIdTest() {
-        when(jdbcTemplate.update(
-                eq("""
-                        DELETE FROM comment WHERE id = ?
-                        """),
-                eq(COMMENT_ID)
-        )).thenReturn(1);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.queryForObject(sql.capture(), any(RowMapper.class), eq(COMMENT_ID)))
+                .thenReturn(Map.entry(POST_ID, 3));
 
         int deletedRows = commentRepository.deleteById(COMMENT_ID);
 
-        assertEquals(1, deletedRows);
-        verify(jdbcTemplate).update(
-                """
-                        DELETE FROM comment WHERE id = ?
-                        """,
-                COMMENT_ID
-        );
+        assertEquals(3, deletedRows);
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.COMMENTS_CHANGED, POST_ID);
+        assertTrue(sql.getValue().contains("c.path >= t.path"));
+        assertTrue(sql.getValue().contains("c.path < t.path || '~'"));
+        assertTrue(sql.getValue().contains("comments_count = GREATEST(p.comments_count - d.removed, 0)"));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть 0, если удаляемый комментарий не найден")
+    void shouldReturnZeroWhenDeletedCommentNotFoundTest() {
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(COMMENT_ID)))
+                .thenReturn(Map.entry(0L, 0));
+
+        assertEquals(0, commentRepository.deleteById(COMMENT_ID));
+        verifyNoInteractions(cacheInvalidationBus);
+    }
+
+    /**
+     * Проверяет, что ответ сохраняется с путём родителя и глубиной, ограниченной настройкой.
+     */
+    @Test
+    @DisplayName("Должен сохранить ответ на комментарий с путём родителя")
+    void shouldSaveReplyTest() {
+        CommentCreateRequestDto request = createCommentCreateRequest(COMMENT_TEXT, POST_ID);
+        ThreadedCommentResponseDto expected = new ThreadedCommentResponseDto(COMMENT_ID, COMMENT_TEXT, POST_ID, 5L, 1);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.queryForObject(sql.capture(), eq(threadedCommentRowMapper),
+                eq(128), eq(128), eq(16), eq(5L), eq(POST_ID), eq(COMMENT_ID), eq(POST_ID), eq(COMMENT_PATH),
+                eq(COMMENT_TEXT), any(Timestamp.class), any(Timestamp.class))).thenReturn(expected);
+
+        ThreadedCommentResponseDto result = commentRepository.saveReply(5L, request, 8);
+
+        assertEquals(expected, result);
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.COMMENTS_CHANGED, POST_ID);
+        assertTrue(sql.getValue().contains("parent.path || ?"));
+        assertTrue(sql.getValue().contains("comments_count = comments_count + 1"));
+    }
+
+    /**
+     * Проверяет, что пакет комментариев удаляется одним запросом с массивом идентификаторов,
+     * а количество удалённых записей возвращается по постам.
+     */
+    @Test
+    @DisplayName("Должен удалить пакет комментариев по идентификаторам одним запросом")
+    void shouldDeleteAllByIdTest() throws SQLException {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenReturn(List.of(Map.entry(POST_ID, 3), Map.entry(POST_ID + 1, 1)));
+
+        Map<Long, Integer> result = commentRepository.deleteAllById(List.of(COMMENT_ID, COMMENT_ID + 1));
+
+        assertEquals(Map.of(POST_ID, 3, POST_ID + 1, 1), result);
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.COMMENTS_CHANGED, Set.of(POST_ID, POST_ID + 1));
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowMapper.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Array ids = mock(Array.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(connection.prepareStatement(sql.capture())).thenReturn(ps);
+        when(connection.createArrayOf("bigint", new Object[]{COMMENT_ID, COMMENT_ID + 1})).thenReturn(ids);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        assertTrue(sql.getValue().contains("WHERE id = ANY(?::bigint[])"));
+        assertTrue(sql.getValue().contains("c.path < t.path || '~'"));
+        assertTrue(sql.getValue().contains("comments_count = GREATEST(p.comments_count - r.removed, 0)"));
+        verify(ps).setArray(1, ids);
+    }
+
+    /**
+     * Проверяет, что пустой пакет не приводит к запросу в базу данных.
+     */
+    @Test
+    @DisplayName("Не должен обращаться к базе при пустом пакете идентификаторов")
+    void shouldSkipEmptyDeleteAllByIdTest() {
+        assertTrue(commentRepository.deleteAllById(List.of()).isEmpty());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * Проверяет, что символы шаблона LIKE в подстроке текста экранируются.
+     */
+    @Test
+    @DisplayName("Должен удалить комментарии по тексту с экранированием шаблона")
+    void shouldDeleteAllByTextTest() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(jdbcTemplate.query(sql.capture(), any(RowMapper.class), eq(POST_ID), eq(POST_ID), eq("%50\\%\\_off%")))
+                .thenReturn(List.of(Map.entry(POST_ID, 2)));
+
+        Map<Long, Integer> result = commentRepository.deleteAllByText(POST_ID, "50%_off");
+
+        assertEquals(Map.of(POST_ID, 2), result);
+        assertTrue(sql.getValue().contains("text ILIKE ? ESCAPE"));
     }
 }
@@ -4,6 +4,9 @@ import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
 import io.github.habatoo.repositories.impl.CommentRepositoryImpl;
 import io.github.habatoo.repositories.mapper.CommentRowMapper;
+import io.github.habatoo.repositories.mapper.ThreadedCommentRowMapper;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.IdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -11,6 +14,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import static org.mockito.Mockito.lenient;
+
 /**
  * Базовый класс для тестирования CommentRepositoryImpl.
  */
@@ -23,6 +28,15 @@ abstract class CommentRepositoryTestBase {
     @Mock
     protected CommentRowMapper commentRowMapper;
 
+    @Mock
+    protected ThreadedCommentRowMapper threadedCommentRowMapper;
+
+    @Mock
+    protected IdGenerator idGenerator;
+
+    @Mock
+    protected CacheInvalidationBus cacheInvalidationBus;
+
     @InjectMocks
     protected CommentRepositoryImpl commentRepository;
 
@@ -30,10 +44,13 @@ abstract class CommentRepositoryTestBase {
     protected static final Long POST_ID = 10L;
     protected static final String COMMENT_TEXT = "Some comment text";
     protected static final String UPDATED_TEXT = "Updated comment text";
+    protected static final String COMMENT_PATH = "0000000000000001";
 
     @BeforeEach
     void setUp() {
-        commentRepository = new CommentRepositoryImpl(jdbcTemplate, commentRowMapper);
+        lenient().when(idGenerator.nextId("comment")).thenReturn(COMMENT_ID);
+        commentRepository = new CommentRepositoryImpl(jdbcTemplate, commentRowMapper, threadedCommentRowMapper, idGenerator,
+                cacheInvalidationBus);
     }
 
     protected CommentResponseDto createCommentResponse(Long id, Long postId, String text) {
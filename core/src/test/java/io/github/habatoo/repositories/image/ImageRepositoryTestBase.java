@@ -2,6 +2,7 @@ package io.github.habatoo.repositories.image;
 
 import io.github.habatoo.repositories.ImageRepository;
 import io.github.habatoo.repositories.impl.ImageRepositoryImpl;
+import io.github.habatoo.service.CacheInvalidationBus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -17,6 +18,9 @@ abstract class ImageRepositoryTestBase {
     @Mock
     protected JdbcTemplate jdbcTemplate;
 
+    @Mock
+    protected CacheInvalidationBus cacheInvalidationBus;
+
     protected ImageRepository imageRepository;
 
     protected final Long EXISTING_POST_ID = 1L;
@@ -27,6 +31,6 @@ abstract class ImageRepositoryTestBase {
 
     @BeforeEach
     void setUp() {
-        imageRepository = new ImageRepositoryImpl(jdbcTemplate);
+        imageRepository = new ImageRepositoryImpl(jdbcTemplate, cacheInvalidationBus);
     }
 }
@@ -1,5 +1,6 @@
 package io.github.habatoo.repositories.image;
 
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,6 +49,7 @@ class ImageRepositoryUpdateImageMetadataTest extends ImageRepositoryTestBase {
                 eq(URL),
                 eq(EXISTING_POST_ID)
         );
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.IMAGE_CHANGED, EXISTING_POST_ID);
     }
 
     /**
@@ -100,5 +102,6 @@ class ImageRepositoryUpdateImageMetadataTest extends ImageRepositoryTestBase {
                 eq(IMAGE_SIZE),
                 eq(URL),
                 eq(NON_EXISTING_POST_ID));
+        verifyNoInteractions(cacheInvalidationBus);
     }
 }
@@ -2,23 +2,26 @@ package io.github.habatoo.repositories.post;
 
 import io.github.habatoo.dto.request.PostCreateRequestDto;
 import io.github.habatoo.dto.response.PostResponseDto;
-import io.github.habatoo.repositories.impl.PostRepositoryImpl;
-import io.github.habatoo.repositories.mapper.PostListRowMapper;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.ArgumentCaptor;
-import org.mockito.Mockito;
-import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
 
+import java.sql.Array;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -28,8 +31,8 @@ import static org.mockito.Mockito.*;
 public class PostRepositoryCreateTest extends PostRepositoryTestBase {
 
     /**
-     * Проверяет, что метод createPost добавляет новый пост с тегами, корректно вызывает связанные SQL-запросы,
-     * а возвращённый объект содержит все внесённые данные.
+     * Проверяет, что метод createPost создаёт пост с тегами одним запросом,
+     * а возвращённый объект содержит все внесённые данные и теги из столбца-массива.
      */
     @ParameterizedTest
     @MethodSource("posts")
@@ -37,19 +40,9 @@ public class PostRepositoryCreateTest extends PostRepositoryTestBase {
     void testCreatePostWithTagsTest(
             PostCreateRequestDto input,
             PostResponseDto expected,
-            boolean tagsPresent) {
-
-        when(jdbcTemplate.queryForObject(
-                anyString(),
-                any(PostListRowMapper.class),
-                anyString(),
-                anyString(),
-                any(Timestamp.class),
-                any(Timestamp.class)
-        )).thenReturn(new PostResponseDto(POST_ID, input.title(), input.text(), List.of(), 0, 0));
-        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(POST_ID)))
-                .thenReturn(input.tags());
-        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenReturn(new int[][]{{1}});
+            boolean tagsPresent) throws SQLException {
+        mockSingleRow(new PostResponseDto(POST_ID, input.title(), input.text(), List.of(), 0, 0),
+                input.tags().toArray(new String[0]));
 
         PostResponseDto actual = postRepository.createPost(input);
 
@@ -59,69 +52,32 @@ public class PostRepositoryCreateTest extends PostRepositoryTestBase {
         assertEquals(expected.tags(), actual.tags());
         assertEquals(expected.likesCount(), actual.likesCount());
         assertEquals(expected.commentsCount(), actual.commentsCount());
+        assertEquals(tagsPresent, !actual.tags().isEmpty());
 
-        if (tagsPresent) {
-            verify(jdbcTemplate, times(1)).batchUpdate(
-                    eq("""
-                            INSERT INTO tag (name)
-                            VALUES (?)
-                            ON CONFLICT (name) DO NOTHING;
-                            """),
-                    eq(input.tags()),
-                    eq(input.tags().size()),
-                    any()
-            );
-            verify(jdbcTemplate, times(1)).batchUpdate(
-                    eq("""
-                            INSERT INTO post_tag (post_id, tag_id)
-                            VALUES (?, (SELECT id FROM tag WHERE name = ?))
-                            ON CONFLICT (post_id, tag_id) DO NOTHING;
-                            """),
-                    eq(input.tags()),
-                    eq(input.tags().size()),
-                    any());
-        } else {
-            verify(jdbcTemplate, never()).batchUpdate(eq("INSERT_INTO_TAG"), anyList(), anyInt(), any());
-            verify(jdbcTemplate, never()).batchUpdate(eq("INSERT_INTO_POST_TAG"), anyList(), anyInt(), any());
-        }
-
-        verify(jdbcTemplate, times(1)).queryForObject(
-                anyString(),
-                any(PostListRowMapper.class),
-                eq(input.title()),
-                eq(input.text()),
-                any(Timestamp.class),
-                any(Timestamp.class)
-        );
-
-        verify(jdbcTemplate, times(1))
-                .queryForList(anyString(), eq(String.class), eq(POST_ID));
+        verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowMapper.class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), eq(POST_ID));
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.POST_CREATED, POST_ID);
     }
 
     /**
-     * Параметризованный тест для проверки ветки updatePostTagsInternal,
-     * где tags == null или tags.isEmpty() (ветка не выполняет действия с тегами).
+     * Параметризованный тест для проверки случая tags == null или tags.isEmpty():
+     * в запрос передаётся пустой массив тегов.
      */
     @ParameterizedTest
     @NullAndEmptySource
-    @DisplayName("createPost — ветка без обработки тегов (tags == null или пустой)")
-    void testCreatePostWithNoTagsTest(List<String> tags) {
-
-        when(jdbcTemplate.queryForObject(
-                anyString(),
-                any(PostListRowMapper.class),
-                anyString(),
-                anyString(),
-                any(Timestamp.class),
-                any(Timestamp.class)
-        )).thenReturn(new PostResponseDto(POST_ID, "title", "text", List.of(), 0, 0));
-        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(POST_ID))).thenReturn(List.of());
+    @DisplayName("createPost — пост без тегов (tags == null или пустой)")
+    void testCreatePostWithNoTagsTest(List<String> tags) throws SQLException {
+        mockSingleRow(new PostResponseDto(POST_ID, "title", "text", List.of(), 0, 0), null);
 
         PostCreateRequestDto input = new PostCreateRequestDto("title", "text", tags);
         PostResponseDto actual = postRepository.createPost(input);
 
-        verify(jdbcTemplate, never()).batchUpdate(eq("INSERT_INTO_TAG"), anyList(), anyInt(), any());
-        verify(jdbcTemplate, never()).batchUpdate(eq("INSERT_INTO_POST_TAG"), anyList(), anyInt(), any());
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(ps);
+        capturedCreator().createPreparedStatement(connection);
+        verify(connection).createArrayOf("varchar", new String[0]);
 
         assertEquals("title", actual.title());
         assertEquals("text", actual.text());
@@ -131,101 +87,78 @@ public class PostRepositoryCreateTest extends PostRepositoryTestBase {
     }
 
     /**
-     * Проверяет, что при создании поста используются корректные лямбды для batchUpdate.
+     * Проверяет, что запрос создания поста вставляет пост с выделенным генератором идентификатором,
+     * теги и связи одним CTE и корректно выставляет параметры PreparedStatement.
      *
-     * <p>
-     * Тест захватывает переданные в batchUpdate лямбды-обработчики PreparedStatement,
-     * и проверяет, что они правильно выставляют параметры в PreparedStatement для каждого тега.
-     * Это обеспечивает правильное формирование параметров batchUpdate на уровне джибкейнов.
-     * </p>
-     *
-     * @throws SQLException в случае ошибок взаимодействия с PreparedStatement при проверке лямбд.
+     * @throws SQLException в случае ошибок взаимодействия с PreparedStatement при проверке.
      */
     @Test
-    @DisplayName("Должны использоваться корректные лямбды batchUpdate при создании поста")
-    void batchUpdateLambdasTest() throws SQLException {
+    @DisplayName("Должен создать пост, теги и связи одним запросом")
+    void singleStatementParametersTest() throws SQLException {
         PostCreateRequestDto createRequest = new PostCreateRequestDto(TITLE, TEXT, TAGS);
-        PostResponseDto response = createPostDto(POST_ID, List.of());
-
-        when(jdbcTemplate.queryForObject(
-                eq("""
-                        INSERT INTO post (title, text, likes_count, comments_count, created_at, updated_at)
-                        VALUES (?, ?, 0, 0, ?, ?)
-                        RETURNING id, title, text, likes_count, comments_count
-                        """),
-                eq(postListRowMapper),
-                eq(TITLE),
-                eq(TEXT),
-                any(Timestamp.class),
-                any(Timestamp.class)
-        )).thenReturn(response);
-
-        when(jdbcTemplate.update(eq(
-                        """
-                                DELETE FROM post_tag WHERE post_id = ?
-                                """),
-                eq(POST_ID)
-        )).thenReturn(1);
-
-        doReturn(new int[][]{new int[createRequest.tags().size()]})
-                .when(jdbcTemplate).batchUpdate(
-                        eq("""
-                                INSERT INTO tag (name)
-                                VALUES (?)
-                                ON CONFLICT (name) DO NOTHING;
-                                """),
-                        eq(createRequest.tags()),
-                        eq(createRequest.tags().size()),
-                        any(ParameterizedPreparedStatementSetter.class)
-                );
-
-        doReturn(new int[][]{new int[createRequest.tags().size()]})
-                .when(jdbcTemplate).batchUpdate(
-                        eq("""
-                                INSERT INTO post_tag (post_id, tag_id)
-                                VALUES (?, (SELECT id FROM tag WHERE name = ?))
-                                ON CONFLICT (post_id, tag_id) DO NOTHING;
-                                """),
-                        eq(createRequest.tags()),
-                        eq(createRequest.tags().size()),
-                        any(ParameterizedPreparedStatementSetter.class)
-                );
-
-        postRepository = Mockito.spy(new PostRepositoryImpl(jdbcTemplate, postListRowMapper));
+        mockSingleRow(createPostDto(POST_ID, List.of()), TAGS.toArray(new String[0]));
+
         postRepository.createPost(createRequest);
 
-        ArgumentCaptor<ParameterizedPreparedStatementSetter<String>> tagSetterCaptor =
-                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
-        verify(jdbcTemplate).batchUpdate(
-                eq("""
-                        INSERT INTO tag (name)
-                        VALUES (?)
-                        ON CONFLICT (name) DO NOTHING;
-                        """),
-                eq(createRequest.tags()),
-                eq(createRequest.tags().size()),
-                tagSetterCaptor.capture());
-
-        PreparedStatement psTag = mock(PreparedStatement.class);
-        tagSetterCaptor.getValue().setValues(psTag, "tag1");
-        verify(psTag).setString(1, "tag1");
-
-        ArgumentCaptor<ParameterizedPreparedStatementSetter<String>> postTagSetterCaptor =
-                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
-        verify(jdbcTemplate).batchUpdate(
-                eq("""
-                        INSERT INTO post_tag (post_id, tag_id)
-                        VALUES (?, (SELECT id FROM tag WHERE name = ?))
-                        ON CONFLICT (post_id, tag_id) DO NOTHING;
-                        """),
-                eq(createRequest.tags()),
-                eq(createRequest.tags().size()),
-                postTagSetterCaptor.capture()
-        );
-
-        PreparedStatement psPostTag = mock(PreparedStatement.class);
-        postTagSetterCaptor.getValue().setValues(psPostTag, "tag1");
-        verify(psPostTag).setLong(1, 1L);
-        verify(psPostTag).setString(2, "tag1");
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Array tagsArray = mock(Array.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(connection.prepareStatement(sql.capture())).thenReturn(ps);
+        when(connection.createArrayOf("varchar", new String[]{"tag1", "tag2"})).thenReturn(tagsArray);
+
+        capturedCreator().createPreparedStatement(connection);
+
+        assertTrue(sql.getValue().contains("INSERT INTO post (id, title, text, likes_count, comments_count, created_at, updated_at)"));
+        assertTrue(sql.getValue().contains("ON CONFLICT (name) DO UPDATE SET name = EXCLUDED.name"));
+        assertFalse(sql.getValue().contains("DO NOTHING"));
+        assertTrue(sql.getValue().contains("INSERT INTO post_tag (post_id, tag_id)"));
+        verify(ps).setLong(1, POST_ID);
+        verify(ps).setString(2, TITLE);
+        verify(ps).setString(3, TEXT);
+        verify(ps).setTimestamp(eq(4), any(Timestamp.class));
+        verify(ps).setTimestamp(eq(5), any(Timestamp.class));
+        verify(ps).setArray(6, tagsArray);
+        verify(ps, never()).setArray(eq(7), any());
+    }
+
+    /**
+     * Проверяет, что отсутствие строки в ответе приводит к исключению.
+     */
+    @Test
+    @DisplayName("Должен выбросить исключение, если запрос не вернул созданный пост")
+    void shouldThrowWhenNoRowReturnedTest() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of());
+
+        assertThrows(EmptyResultDataAccessException.class,
+                () -> postRepository.createPost(new PostCreateRequestDto(TITLE, TEXT, TAGS)));
+    }
+
+    /**
+     * Настраивает jdbcTemplate так, чтобы переданный маппер был применён к одной строке
+     * с указанными тегами.
+     */
+    @SuppressWarnings("unchecked")
+    private void mockSingleRow(PostResponseDto row, String[] tags) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(postListRowMapper.mapRow(rs, 0)).thenReturn(row);
+        if (tags == null) {
+            when(rs.getArray("tags")).thenReturn(null);
+        } else {
+            Array array = mock(Array.class);
+            when(array.getArray()).thenReturn(tags);
+            when(rs.getArray("tags")).thenReturn(array);
+        }
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    RowMapper<PostResponseDto> mapper = invocation.getArgument(1);
+                    return List.of(mapper.mapRow(rs, 0));
+                });
+    }
+
+    private PreparedStatementCreator capturedCreator() {
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowMapper.class));
+        return creator.getValue();
     }
 }
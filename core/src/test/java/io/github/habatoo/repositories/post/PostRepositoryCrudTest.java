@@ -3,12 +3,18 @@ package io.github.habatoo.repositories.post;
 import io.github.habatoo.dto.request.PostRequestDto;
 import io.github.habatoo.dto.response.PostResponseDto;
 import io.github.habatoo.repositories.mapper.PostListRowMapper;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +39,12 @@ import static org.mockito.Mockito.*;
 @DisplayName("Тесты методов findAllPosts, updatePost, deletePost PostRepositoryImpl.")
 class PostRepositoryCrudTest extends PostRepositoryTestBase {
 
+    private static final String SELECT_TAGS_SQL = """
+            SELECT t.name FROM tag t
+            JOIN post_tag pt ON t.id = pt.tag_id
+            WHERE pt.post_id = ?
+            """;
+
     /**
      * Параметризованный тест для метода findPosts.
      * <p>
@@ -91,50 +103,18 @@ class PostRepositoryCrudTest extends PostRepositoryTestBase {
 
     /**
      * Проверяет, что метод updatePost обновляет существующий пост,
-     * возвращает обновлённый объект и корректно маппирует теги.
+     * возвращает обновлённый объект с перечитанными из БД тегами в порядке запроса
+     * и изменяет только отличающиеся связи: удаляет лишний тег и добавляет недостающий.
      */
     @Test
     @DisplayName("Должен обновить пост и вернуть обновленный объект с тегами")
-    void updatePostShouldReturnUpdatedPostWithTags() {
+    void updatePostShouldReturnUpdatedPostWithTags() throws SQLException {
         PostRequestDto requestDto = new PostRequestDto(POST_ID, TITLE, TEXT, TAGS);
         PostResponseDto postReturned = createPostDto(POST_ID, List.of());
 
         when(jdbcTemplate.queryForObject(anyString(), eq(postListRowMapper), any(), any(), any(), any())).thenReturn(postReturned);
-        when(jdbcTemplate.update(
-                eq("""
-                        DELETE FROM post_tag WHERE post_id = ?
-                        """),
-                eq(POST_ID)
-        )).thenReturn(1);
-        when(jdbcTemplate.batchUpdate(
-                eq("""
-                        INSERT INTO tag (name)
-                        VALUES (?)
-                        ON CONFLICT (name) DO NOTHING;
-                        """),
-                anyList(),
-                anyInt(),
-                any())
-        ).thenReturn(new int[][]{});
-        when(jdbcTemplate.batchUpdate(
-                eq("""
-                        INSERT INTO post_tag (post_id, tag_id)
-                        VALUES (?, (SELECT id FROM tag WHERE name = ?))
-                        ON CONFLICT (post_id, tag_id) DO NOTHING;
-                        """),
-                anyList(),
-                anyInt(),
-                any())
-        ).thenReturn(new int[][]{});
-        when(jdbcTemplate.queryForList(
-                eq("""
-                        SELECT t.name FROM tag t
-                        JOIN post_tag pt ON t.id = pt.tag_id
-                        WHERE pt.post_id = ?
-                        """),
-                eq(String.class),
-                eq(POST_ID)
-        )).thenReturn(TAGS);
+        when(jdbcTemplate.queryForList(eq(SELECT_TAGS_SQL), eq(String.class), eq(POST_ID)))
+                .thenReturn(List.of("tag1", "old"), List.of("tag2", "tag1"));
 
         PostResponseDto result = postRepository.updatePost(requestDto);
 
@@ -142,27 +122,62 @@ class PostRepositoryCrudTest extends PostRepositoryTestBase {
         assertEquals(POST_ID, result.id());
         assertEquals(TAGS, result.tags());
         verify(jdbcTemplate).queryForObject(anyString(), eq(postListRowMapper), any(), any(), any(), any());
-        verify(jdbcTemplate).batchUpdate(
-                eq("""
-                        INSERT INTO tag (name)
-                        VALUES (?)
-                        ON CONFLICT (name) DO NOTHING;
-                        """),
-                anyList(),
-                anyInt(),
-                any()
-        );
-        verify(jdbcTemplate).batchUpdate(
-                eq("""
-                        INSERT INTO post_tag (post_id, tag_id)
-                        VALUES (?, (SELECT id FROM tag WHERE name = ?))
-                        ON CONFLICT (post_id, tag_id) DO NOTHING;
-                        """),
-                anyList(),
-                anyInt(),
-                any()
-        );
-        verify(jdbcTemplate).queryForList(anyString(), eq(String.class), eq(POST_ID));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+
+        ArgumentCaptor<PreparedStatementCreator> creators = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate, times(2)).update(creators.capture());
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(connection.prepareStatement(sql.capture())).thenReturn(ps);
+        for (PreparedStatementCreator creator : creators.getAllValues()) {
+            creator.createPreparedStatement(connection);
+        }
+
+        assertTrue(sql.getAllValues().get(0).startsWith("DELETE FROM post_tag pt"));
+        assertTrue(sql.getAllValues().get(1).contains("INSERT INTO post_tag (post_id, tag_id)"));
+        assertTrue(sql.getAllValues().get(1).contains("ON CONFLICT (name) DO UPDATE SET name = EXCLUDED.name"));
+        verify(connection).createArrayOf("varchar", new String[]{"old"});
+        verify(connection).createArrayOf("varchar", new String[]{"tag2"});
+        verify(ps, times(2)).setLong(1, POST_ID);
+    }
+
+    /**
+     * Проверяет, что при неизменном наборе тегов не выполняется ни одного запроса к тегам.
+     */
+    @Test
+    @DisplayName("Не должен изменять теги, если набор тегов не изменился")
+    void updatePostShouldSkipUnchangedTags() {
+        PostRequestDto requestDto = new PostRequestDto(POST_ID, TITLE, TEXT, List.of("tag2", "tag1", "tag2"));
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(postListRowMapper), any(), any(), any(), any()))
+                .thenReturn(createPostDto(POST_ID, List.of()));
+        when(jdbcTemplate.queryForList(eq(SELECT_TAGS_SQL), eq(String.class), eq(POST_ID))).thenReturn(TAGS);
+
+        PostResponseDto result = postRepository.updatePost(requestDto);
+
+        assertEquals(List.of("tag2", "tag1"), result.tags());
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+
+    /**
+     * Проверяет, что пустой список тегов в запросе оставляет теги поста без изменений.
+     */
+    @Test
+    @DisplayName("Должен сохранить текущие теги, если теги в запросе не переданы")
+    void updatePostShouldKeepTagsWhenNoneRequested() {
+        PostRequestDto requestDto = new PostRequestDto(POST_ID, TITLE, TEXT, List.of());
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(postListRowMapper), any(), any(), any(), any()))
+                .thenReturn(createPostDto(POST_ID, List.of()));
+        when(jdbcTemplate.queryForList(eq(SELECT_TAGS_SQL), eq(String.class), eq(POST_ID))).thenReturn(TAGS);
+
+        PostResponseDto result = postRepository.updatePost(requestDto);
+
+        assertEquals(TAGS, result.tags());
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
     }
 
 
@@ -188,6 +203,7 @@ class PostRepositoryCrudTest extends PostRepositoryTestBase {
                         """,
                 POST_ID
         );
+        verify(cacheInvalidationBus).publish(CacheInvalidationTopic.POST_DELETED, POST_ID);
     }
 
     /**
@@ -208,6 +224,7 @@ class PostRepositoryCrudTest extends PostRepositoryTestBase {
                 () -> postRepository.deletePost(NON_EXISTING_POST_ID));
 
         assertTrue(ex.getMessage().contains("Пост не найден для удаления"));
+        verifyNoInteractions(cacheInvalidationBus);
 
         verify(jdbcTemplate).update(
                 """
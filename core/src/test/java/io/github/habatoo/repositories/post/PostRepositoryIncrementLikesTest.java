@@ -2,8 +2,11 @@ package io.github.habatoo.repositories.post;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -14,6 +17,12 @@ import static org.mockito.Mockito.when;
 @DisplayName("Тесты метода incrementLikes изменения количества лайков.")
 public class PostRepositoryIncrementLikesTest extends PostRepositoryTestBase {
 
+    private static final String INCREMENT_SHARD_SQL = """
+            INSERT INTO post_like_shard (post_id, shard, count)
+            SELECT id, ?, 1 FROM post WHERE id = ?
+            ON CONFLICT (post_id, shard) DO UPDATE SET count = post_like_shard.count + 1
+            """;
+
     /**
      * Проверяет, что при вызове incrementLikes происходит успешное увеличение количества лайков —
      * вызывается нужный SQL и метод не выбрасывает исключения.
@@ -21,20 +30,26 @@ public class PostRepositoryIncrementLikesTest extends PostRepositoryTestBase {
     @Test
     @DisplayName("Должен успешно увеличить счетчик лайков")
     void shouldIncrementLikesTest() {
-        when(jdbcTemplate.update(
-                """
-                        UPDATE post SET likes_count = likes_count + 1 WHERE id = ?
-                        """,
-                POST_ID
-        )).thenReturn(1);
+        when(jdbcTemplate.update(eq(INCREMENT_SHARD_SQL), anyInt(), eq(POST_ID))).thenReturn(1);
 
         assertDoesNotThrow(() -> postRepository.incrementLikes(POST_ID));
 
-        verify(jdbcTemplate).update("""
-                        UPDATE post SET likes_count = likes_count + 1 WHERE id = ?
-                        """,
-                POST_ID
-        );
+        verify(jdbcTemplate).update(eq(INCREMENT_SHARD_SQL), anyInt(), eq(POST_ID));
+    }
+
+    /**
+     * Проверяет, что номер шарда выбирается в пределах настроенного количества шардов.
+     */
+    @Test
+    @DisplayName("Должен выбрать шард в пределах настроенного количества")
+    void shouldPickShardWithinConfiguredCountTest() {
+        when(jdbcTemplate.update(eq(INCREMENT_SHARD_SQL), anyInt(), eq(POST_ID))).thenReturn(1);
+
+        postRepository.incrementLikes(POST_ID);
+
+        ArgumentCaptor<Integer> shard = ArgumentCaptor.forClass(Integer.class);
+        verify(jdbcTemplate).update(eq(INCREMENT_SHARD_SQL), shard.capture(), eq(POST_ID));
+        assertTrue(shard.getValue() >= 0 && shard.getValue() < LIKE_SHARD_PROPERTIES.count());
     }
 
     /**
@@ -44,22 +59,12 @@ public class PostRepositoryIncrementLikesTest extends PostRepositoryTestBase {
     @Test
     @DisplayName("Должен выбросить EmptyResultDataAccessException если пост не найден при увеличении лайков")
     void shouldThrowWhenIncrementLikesNoPostTest() {
-        when(jdbcTemplate.update(
-                """
-                        UPDATE post SET likes_count = likes_count + 1 WHERE id = ?
-                        """,
-                POST_ID
-        )).thenReturn(0);
+        when(jdbcTemplate.update(eq(INCREMENT_SHARD_SQL), anyInt(), eq(POST_ID))).thenReturn(0);
 
         IllegalStateException ex = assertThrows(IllegalStateException.class,
                 () -> postRepository.incrementLikes(POST_ID));
         assertTrue(ex.getMessage().contains("Пост не найден при увеличении лайков"));
 
-        verify(jdbcTemplate).update(
-                """
-                        UPDATE post SET likes_count = likes_count + 1 WHERE id = ?
-                        """,
-                POST_ID
-        );
+        verify(jdbcTemplate).update(eq(INCREMENT_SHARD_SQL), anyInt(), eq(POST_ID));
     }
 }
@@ -0,0 +1,169 @@
+package io.github.habatoo.repositories.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.repositories.impl.PostRepositoryImpl;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>Тесты пакетной записи лайков и чтения количества лайков в PostRepositoryImpl</h2>
+ */
+@DisplayName("Тесты методов addLikes и getLikesCount.")
+class PostRepositoryLikesBatchTest extends PostRepositoryTestBase {
+
+    /**
+     * Проверяет, что лайки нескольких постов записываются одним UPDATE ... FROM (VALUES ...).
+     */
+    @Test
+    @DisplayName("Должен записать лайки нескольких постов одним запросом")
+    void shouldAddLikesInSingleStatementTest() {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        deltas.put(POST_ID, 3L);
+        deltas.put(NON_EXISTING_POST_ID, 1L);
+
+        postRepository.addLikes(deltas);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowCallbackHandler.class), params.capture());
+        assertTrue(sql.getValue().contains("FROM (VALUES (?::bigint, ?::integer), (?::bigint, ?::integer))"));
+        assertTrue(sql.getValue().contains("RETURNING p.id, p.likes_count + COALESCE("));
+        assertArrayEquals(new Object[]{POST_ID, 3L, NON_EXISTING_POST_ID, 1L}, params.getValue());
+    }
+
+    /**
+     * Проверяет, что при включённой отложенной записи лайков чтение не складывает шарды.
+     */
+    @Test
+    @DisplayName("Не должен читать шарды лайков при включённом буфере лайков")
+    void shouldSkipShardSumWhenLikeBufferEnabledTest() {
+        PostRepositoryImpl bufferedRepository = new PostRepositoryImpl(jdbcTemplate, postListRowMapper,
+                LIKE_SHARD_PROPERTIES, new LikeBufferProperties(true, Duration.ofMillis(200), 500, 10000),
+                idGenerator, cacheInvalidationBus);
+
+        bufferedRepository.addLikes(Map.of(POST_ID, 1L));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowCallbackHandler.class), any(Object[].class));
+        assertTrue(sql.getValue().contains("RETURNING p.id, p.likes_count"));
+        assertFalse(sql.getValue().contains("post_like_shard"));
+    }
+
+    /**
+     * Проверяет, что пакет лайков с ключом идемпотентности применяется одним запросом
+     * с массивами идентификаторов и приращений.
+     */
+    @Test
+    @DisplayName("Должен применить пакет лайков одним запросом с unnest")
+    void shouldApplyLikeBatchWithUnnestTest() throws Exception {
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        deltas.put(POST_ID, 3);
+        deltas.put(NON_EXISTING_POST_ID, 1);
+        LikeBatchResponseDto expected = new LikeBatchResponseDto(Map.of(POST_ID, 3), false);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenReturn(expected);
+
+        assertEquals(expected, postRepository.applyLikeBatch("key-1", deltas));
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(ResultSetExtractor.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        Array ids = mock(Array.class);
+        Array values = mock(Array.class);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(connection.prepareStatement(sql.capture())).thenReturn(ps);
+        when(connection.createArrayOf("bigint", new Object[]{POST_ID, NON_EXISTING_POST_ID})).thenReturn(ids);
+        when(connection.createArrayOf("integer", new Object[]{3, 1})).thenReturn(values);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        assertTrue(sql.getValue().contains("unnest(?::bigint[], ?::integer[])"));
+        assertTrue(sql.getValue().contains("ON CONFLICT (idempotency_key) DO NOTHING"));
+        verify(ps).setString(1, "key-1");
+        verify(ps).setArray(2, ids);
+        verify(ps).setArray(3, values);
+    }
+
+    /**
+     * Проверяет, что пустой набор лайков не приводит к запросу в базу данных.
+     */
+    @Test
+    @DisplayName("Не должен обращаться к базе при пустом наборе лайков")
+    void shouldSkipEmptyDeltasTest() {
+        assertTrue(postRepository.addLikes(Map.of()).isEmpty());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * Проверяет чтение количества лайков поста.
+     */
+    @Test
+    @DisplayName("Должен вернуть количество лайков поста")
+    void shouldReturnLikesCountTest() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(POST_ID))).thenReturn(42);
+
+        assertEquals(42, postRepository.getLikesCount(POST_ID));
+    }
+
+    /**
+     * Проверяет, что количество лайков читается вместе с несвёрнутыми шардами.
+     */
+    @Test
+    @DisplayName("Должен учитывать шарды лайков при чтении количества лайков")
+    void shouldSumLikeShardsInLikesCountTest() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(POST_ID))).thenReturn(42);
+
+        postRepository.getLikesCount(POST_ID);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForObject(sql.capture(), eq(Integer.class), eq(POST_ID));
+        assertTrue(sql.getValue().contains("SELECT SUM(s.count) FROM post_like_shard s WHERE s.post_id = p.id"));
+    }
+
+    /**
+     * Проверяет, что сворачивание шардов передаёт размер пакета и возвращает количество свёрнутых строк.
+     */
+    @Test
+    @DisplayName("Должен свернуть пакет шардов лайков")
+    void shouldFoldLikeShardsTest() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(1000))).thenReturn(7);
+
+        assertEquals(7, postRepository.foldLikeShards(1000));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForObject(sql.capture(), eq(Integer.class), eq(1000));
+        assertTrue(sql.getValue().contains("FOR UPDATE SKIP LOCKED"));
+        assertTrue(sql.getValue().contains("UPDATE post p SET likes_count = p.likes_count + f.total"));
+    }
+
+    /**
+     * Проверяет, что отсутствие результата сворачивания трактуется как ноль свёрнутых строк.
+     */
+    @Test
+    @DisplayName("Должен вернуть 0, если сворачивать нечего")
+    void shouldReturnZeroWhenNothingFoldedTest() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), anyInt())).thenReturn(null);
+
+        assertEquals(0, postRepository.foldLikeShards(1000));
+    }
+}
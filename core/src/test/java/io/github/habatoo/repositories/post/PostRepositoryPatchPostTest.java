@@ -0,0 +1,123 @@
+package io.github.habatoo.repositories.post;
+
+import io.github.habatoo.dto.request.PostPatchRequestDto;
+import io.github.habatoo.dto.request.PostTextDiffDto;
+import io.github.habatoo.dto.request.PostTextEditDto;
+import io.github.habatoo.dto.response.PostResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты частичного обновления поста в PostRepositoryImpl.
+ */
+@DisplayName("Тесты метода patchPost PostRepositoryImpl.")
+class PostRepositoryPatchPostTest extends PostRepositoryTestBase {
+
+    private static final String SELECT_TAGS_SQL = """
+            SELECT t.name FROM tag t
+            JOIN post_tag pt ON t.id = pt.tag_id
+            WHERE pt.post_id = ?
+            """;
+    private static final String BASE_MD5 = "5d41402abc4b2a76b9719d911017c592";
+
+    @Test
+    @DisplayName("Должен обновить только заголовок и сохранить текущие теги")
+    void shouldUpdateOnlyTitleAndKeepTagsTest() {
+        PostPatchRequestDto patch = new PostPatchRequestDto(POST_ID, "New title", null, null, null);
+        when(jdbcTemplate.query(anyString(), eq(postListRowMapper), any(Object[].class)))
+                .thenReturn(List.of(new PostResponseDto(POST_ID, "New title", TEXT, List.of(), 3, 2)));
+        when(jdbcTemplate.queryForList(SELECT_TAGS_SQL, String.class, POST_ID)).thenReturn(TAGS);
+
+        PostResponseDto result = postRepository.patchPost(patch);
+
+        assertEquals("New title", result.title());
+        assertEquals(TAGS, result.tags());
+        assertEquals(3, result.likesCount());
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), eq(postListRowMapper), params.capture());
+        assertTrue(sql.getValue().contains("SET title = ?, updated_at = ?"));
+        assertFalse(sql.getValue().contains("text ="));
+        assertFalse(sql.getValue().contains("md5"));
+        assertEquals(3, params.getValue().length);
+        assertEquals("New title", params.getValue()[0]);
+        assertEquals(POST_ID, params.getValue()[2]);
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+    }
+
+    @Test
+    @DisplayName("Должен применить правки текста через overlay с проверкой версии")
+    void shouldApplyTextEditsWithVersionCheckTest() {
+        PostTextDiffDto diff = new PostTextDiffDto(BASE_MD5, List.of(
+                new PostTextEditDto(0, 4, "Best"),
+                new PostTextEditDto(9, 0, "!")));
+        PostPatchRequestDto patch = new PostPatchRequestDto(POST_ID, null, null, null, diff);
+        when(jdbcTemplate.query(anyString(), eq(postListRowMapper), any(Object[].class)))
+                .thenReturn(List.of(new PostResponseDto(POST_ID, TITLE, "Best text!", List.of(), 0, 0)));
+        when(jdbcTemplate.queryForList(SELECT_TAGS_SQL, String.class, POST_ID)).thenReturn(TAGS);
+
+        PostResponseDto result = postRepository.patchPost(patch);
+
+        assertEquals("Best text!", result.text());
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), eq(postListRowMapper), params.capture());
+        assertTrue(sql.getValue().contains(
+                "text = overlay(overlay(p.text PLACING ? FROM ? FOR ?) PLACING ? FROM ? FOR ?)"));
+        assertTrue(sql.getValue().contains("WHERE p.id = ? AND md5(p.text) = ?"));
+        Object[] values = params.getValue();
+        assertEquals(List.of("Best", 1, 4, "!", 10, 0), List.of(values).subList(0, 6));
+        assertEquals(POST_ID, values[7]);
+        assertEquals(BASE_MD5, values[8]);
+    }
+
+    @Test
+    @DisplayName("Должен выбросить OptimisticLockingFailureException, если текст поста изменился")
+    void shouldThrowConflictWhenTextVersionIsStaleTest() {
+        PostTextDiffDto diff = new PostTextDiffDto(BASE_MD5, List.of(new PostTextEditDto(0, 1, "x")));
+        PostPatchRequestDto patch = new PostPatchRequestDto(POST_ID, null, null, null, diff);
+        when(jdbcTemplate.query(anyString(), eq(postListRowMapper), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(POST_ID))).thenReturn(true);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> postRepository.patchPost(patch));
+        verify(jdbcTemplate, never()).queryForList(SELECT_TAGS_SQL, String.class, POST_ID);
+    }
+
+    @Test
+    @DisplayName("Должен выбросить EmptyResultDataAccessException для несуществующего поста")
+    void shouldThrowNotFoundForMissingPostTest() {
+        PostTextDiffDto diff = new PostTextDiffDto(BASE_MD5, List.of(new PostTextEditDto(0, 1, "x")));
+        PostPatchRequestDto patch = new PostPatchRequestDto(NON_EXISTING_POST_ID, null, null, null, diff);
+        when(jdbcTemplate.query(anyString(), eq(postListRowMapper), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq(NON_EXISTING_POST_ID))).thenReturn(false);
+
+        assertThrows(EmptyResultDataAccessException.class, () -> postRepository.patchPost(patch));
+    }
+
+    @Test
+    @DisplayName("Должен удалить все теги поста при пустом списке тегов")
+    void shouldRemoveAllTagsForEmptyTagListTest() {
+        PostPatchRequestDto patch = new PostPatchRequestDto(POST_ID, null, null, List.of(), null);
+        when(jdbcTemplate.query(anyString(), eq(postListRowMapper), any(Object[].class)))
+                .thenReturn(List.of(createPostDto(POST_ID, List.of())));
+        when(jdbcTemplate.queryForList(SELECT_TAGS_SQL, String.class, POST_ID)).thenReturn(TAGS, List.of());
+
+        PostResponseDto result = postRepository.patchPost(patch);
+
+        assertEquals(List.of(), result.tags());
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+    }
+}
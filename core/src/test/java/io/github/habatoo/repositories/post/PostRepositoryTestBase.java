@@ -2,19 +2,25 @@ package io.github.habatoo.repositories.post;
 
 import io.github.habatoo.dto.request.PostCreateRequestDto;
 import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.properties.LikeShardProperties;
 import io.github.habatoo.repositories.impl.PostRepositoryImpl;
 import io.github.habatoo.repositories.mapper.PostListRowMapper;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.IdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.provider.Arguments;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.mockito.Mockito.lenient;
+
 /**
  * Базовый класс для тестирования CommentRepositoryImpl.
  */
@@ -27,7 +33,12 @@ abstract class PostRepositoryTestBase {
     @Mock
     protected PostListRowMapper postListRowMapper;
 
-    @InjectMocks
+    @Mock
+    protected IdGenerator idGenerator;
+
+    @Mock
+    protected CacheInvalidationBus cacheInvalidationBus;
+
     protected PostRepositoryImpl postRepository;
 
     protected static final Long POST_ID = 1L;
@@ -35,6 +46,10 @@ abstract class PostRepositoryTestBase {
     protected static final String TITLE = "Test title";
     protected static final String TEXT = "Test text";
     protected static final List<String> TAGS = List.of("tag1", "tag2");
+    protected static final LikeShardProperties LIKE_SHARD_PROPERTIES =
+            new LikeShardProperties(16, Duration.ofSeconds(30), 1000);
+    protected static final LikeBufferProperties DISABLED_LIKE_BUFFER_PROPERTIES =
+            new LikeBufferProperties(false, Duration.ofMillis(200), 500, 10000);
 
     protected PostResponseDto createPostDto(Long id, List<String> tags) {
         return new PostResponseDto(id, TITLE, TEXT, tags, 0, 0);
@@ -42,7 +57,9 @@ abstract class PostRepositoryTestBase {
 
     @BeforeEach
     void setUp() {
-        postRepository = new PostRepositoryImpl(jdbcTemplate, postListRowMapper);
+        lenient().when(idGenerator.nextId("post")).thenReturn(POST_ID);
+        postRepository = new PostRepositoryImpl(jdbcTemplate, postListRowMapper, LIKE_SHARD_PROPERTIES,
+                DISABLED_LIKE_BUFFER_PROPERTIES, idGenerator, cacheInvalidationBus);
     }
 
     protected static Stream<Arguments> posts() {
@@ -0,0 +1,111 @@
+package io.github.habatoo.repositories.postimport;
+
+import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.repositories.impl.PostImportRepositoryImpl;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты загрузки постов через COPY в PostImportRepositoryImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты метода copyToStaging в PostImportRepositoryImpl")
+class PostImportRepositoryTest {
+
+    private static final UUID IMPORT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private CopyIn copyIn;
+
+    private PostImportRepositoryImpl postImportRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        postImportRepository = new PostImportRepositoryImpl(jdbcTemplate, idGenerator, cacheInvalidationBus);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation -> {
+            try {
+                return invocation.<ConnectionCallback<Long>>getArgument(0).doInConnection(connection);
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("COPY", null, e);
+            }
+        });
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(startsWith("COPY post_import"))).thenReturn(copyIn);
+    }
+
+    @Test
+    @DisplayName("Должен передать посты в COPY строками CSV с идентификатором и литералом массива тегов")
+    void shouldCopyPostsAsCsvTest() throws SQLException {
+        when(idGenerator.nextIds("post", 2)).thenReturn(new long[]{100L, 101L});
+        when(copyIn.endCopy()).thenReturn(2L);
+
+        long copied = postImportRepository.copyToStaging(IMPORT_ID, List.of(
+                new PostCreateRequestDto("Title, \"quoted\"", "Text", List.of("a\"b", "c\\d")),
+                new PostCreateRequestDto("Second", "Line1\nLine2", null)
+        ).iterator());
+
+        ArgumentCaptor<byte[]> bytes = ArgumentCaptor.forClass(byte[].class);
+        verify(copyIn).writeToCopy(bytes.capture(), eq(0), anyInt());
+        assertEquals(2L, copied);
+        assertEquals(
+                IMPORT_ID + ",0,100,\"Title, \"\"quoted\"\"\",\"Text\",\"{\"\"a\\\"\"b\"\",\"\"c\\\\d\"\"}\"\n"
+                        + IMPORT_ID + ",1,101,\"Second\",\"Line1\nLine2\",\"{}\"\n",
+                new String(bytes.getValue(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Должен отменить COPY при ошибке записи")
+    void shouldCancelCopyOnFailureTest() throws SQLException {
+        when(idGenerator.nextIds("post", 1)).thenReturn(new long[]{100L});
+        doThrow(new SQLException("broken pipe")).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        when(copyIn.isActive()).thenReturn(true);
+
+        assertThrows(UncategorizedSQLException.class, () -> postImportRepository.copyToStaging(IMPORT_ID,
+                List.of(new PostCreateRequestDto("Title", "Text", List.of())).iterator()));
+        verify(copyIn).cancelCopy();
+        verify(copyIn, never()).endCopy();
+    }
+}
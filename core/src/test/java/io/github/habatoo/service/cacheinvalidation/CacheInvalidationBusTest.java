@@ -0,0 +1,93 @@
+package io.github.habatoo.service.cacheinvalidation;
+
+import io.github.habatoo.properties.CacheInvalidationProperties;
+import io.github.habatoo.service.dto.CacheInvalidationTopic;
+import io.github.habatoo.service.impl.CacheInvalidationBusImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты публикации уведомлений о сбросе кэшей CacheInvalidationBusImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты CacheInvalidationBusImpl")
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "blog_cache_invalidation";
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Должен публиковать уведомление с идентификатором узла, видом изменения и идентификаторами")
+    void shouldPublishPayloadTest() {
+        CacheInvalidationBusImpl bus = bus(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bus.bindTo(registry);
+
+        bus.publish(CacheInvalidationTopic.COMMENTS_CHANGED, List.of(3L, 1L, 3L));
+        bus.publish(CacheInvalidationTopic.POST_DELETED, 7L);
+        bus.publish(CacheInvalidationTopic.POSTS_IMPORTED);
+
+        verify(jdbcTemplate).queryForList(NOTIFY_SQL, CHANNEL, bus.nodeId() + " COMMENTS_CHANGED 3,1");
+        verify(jdbcTemplate).queryForList(NOTIFY_SQL, CHANNEL, bus.nodeId() + " POST_DELETED 7");
+        verify(jdbcTemplate).queryForList(NOTIFY_SQL, CHANNEL, bus.nodeId() + " POSTS_IMPORTED ");
+        assertEquals(3.0, registry.get("blog.cache.invalidation.published").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Должен делить длинный список идентификаторов на несколько уведомлений")
+    void shouldSplitLongIdListTest() {
+        CacheInvalidationBusImpl bus = bus(true);
+        List<Long> ids = LongStream.rangeClosed(1, 301).boxed().toList();
+
+        bus.publish(CacheInvalidationTopic.COMMENTS_CHANGED, ids);
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, times(2)).queryForList(eq(NOTIFY_SQL), eq(CHANNEL), payload.capture());
+        String expectedFirst = LongStream.rangeClosed(1, 300).mapToObj(Long::toString)
+                .collect(Collectors.joining(","));
+        assertEquals(bus.nodeId() + " COMMENTS_CHANGED " + expectedFirst, payload.getAllValues().get(0));
+        assertEquals(bus.nodeId() + " COMMENTS_CHANGED 301", payload.getAllValues().get(1));
+        assertTrue(payload.getAllValues().get(0).toString().length() < 8000);
+    }
+
+    @Test
+    @DisplayName("Не должен обращаться к базе при пустом списке и выключенной публикации")
+    void shouldSkipEmptyAndDisabledTest() {
+        bus(true).publish(CacheInvalidationTopic.COMMENTS_CHANGED, List.of());
+        CacheInvalidationBusImpl disabled = bus(false);
+        disabled.publish(CacheInvalidationTopic.POST_CHANGED, 1L);
+        disabled.publish(CacheInvalidationTopic.POSTS_IMPORTED);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Разные экземпляры должны получать разные идентификаторы узла")
+    void shouldGenerateDistinctNodeIdsTest() {
+        assertNotEquals(bus(true).nodeId(), bus(true).nodeId());
+    }
+
+    private CacheInvalidationBusImpl bus(boolean enabled) {
+        return new CacheInvalidationBusImpl(
+                new CacheInvalidationProperties(enabled, CHANNEL, Duration.ofSeconds(1), Duration.ofSeconds(5)),
+                jdbcTemplate);
+    }
+}
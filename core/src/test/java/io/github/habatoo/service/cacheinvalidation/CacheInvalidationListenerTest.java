@@ -0,0 +1,155 @@
+package io.github.habatoo.service.cacheinvalidation;
+
+import io.github.habatoo.properties.CacheInvalidationProperties;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.CommentListCache;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.CacheInvalidationListenerImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты применения уведомлений о сбросе кэшей CacheInvalidationListenerImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты CacheInvalidationListenerImpl")
+class CacheInvalidationListenerTest {
+
+    private static final String OWN_NODE = "node-a";
+    private static final String OTHER_NODE = "node-b";
+    private static final CacheInvalidationProperties PROPERTIES = new CacheInvalidationProperties(
+            true, "blog_cache_invalidation", Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+    @Mock
+    private JdbcConnectionDetails jdbcConnectionDetails;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private PostIdFilter postIdFilter;
+
+    @Mock
+    private PostListPrefetcher postListPrefetcher;
+
+    @Mock
+    private ImageMetadataCache imageMetadataCache;
+
+    @Mock
+    private CommentListCache commentListCache;
+
+    private CacheInvalidationListenerImpl listener;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheInvalidationBus.nodeId()).thenReturn(OWN_NODE);
+        listener = new CacheInvalidationListenerImpl(PROPERTIES, jdbcConnectionDetails, cacheInvalidationBus,
+                postIdFilter, postListPrefetcher, imageMetadataCache, commentListCache);
+    }
+
+    @Test
+    @DisplayName("Должен добавлять созданный на другом узле пост в фильтр")
+    void shouldAddCreatedPostsTest() {
+        listener.handle(OTHER_NODE + " POST_CREATED 1,2");
+
+        verify(postIdFilter).add(1L);
+        verify(postIdFilter).add(2L);
+        verify(postListPrefetcher).invalidate();
+        verifyNoInteractions(imageMetadataCache, commentListCache);
+    }
+
+    @Test
+    @DisplayName("Изменение поста на другом узле не должно повторно добавлять его в фильтр")
+    void shouldNotAddChangedPostsTest() {
+        listener.handle(OTHER_NODE + " POST_CHANGED 1");
+
+        verify(postListPrefetcher).invalidate();
+        verifyNoInteractions(postIdFilter, imageMetadataCache, commentListCache);
+    }
+
+    @Test
+    @DisplayName("Должен удалять удалённый на другом узле пост из всех кэшей")
+    void shouldEvictDeletedPostTest() {
+        listener.handle(OTHER_NODE + " POST_DELETED 5");
+
+        verify(postIdFilter).remove(5L);
+        verify(imageMetadataCache).remove(5L);
+        verify(commentListCache).invalidate(5L);
+        verify(postListPrefetcher).invalidate();
+    }
+
+    @Test
+    @DisplayName("Должен сбрасывать комментарии и изображения постов")
+    void shouldEvictCommentsAndImagesTest() {
+        listener.handle(OTHER_NODE + " COMMENTS_CHANGED 3,4");
+        listener.handle(OTHER_NODE + " IMAGE_CHANGED 6");
+
+        verify(commentListCache).invalidate(3L);
+        verify(commentListCache).invalidate(4L);
+        verify(postListPrefetcher).invalidate();
+        verify(imageMetadataCache).remove(6L);
+        verifyNoInteractions(postIdFilter);
+    }
+
+    @Test
+    @DisplayName("Должен перестраивать фильтр после импорта на другом узле")
+    void shouldRebuildFilterAfterImportTest() {
+        listener.handle(OTHER_NODE + " POSTS_IMPORTED ");
+
+        verify(postIdFilter).requestRebuild();
+        verify(postIdFilter, never()).rebuild();
+        verify(postListPrefetcher).invalidate();
+    }
+
+    @Test
+    @DisplayName("Должен пропускать собственные и нераспознанные уведомления")
+    void shouldSkipOwnAndMalformedNoticesTest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        listener.bindTo(registry);
+
+        listener.handle(OWN_NODE + " POST_DELETED 5");
+        listener.handle(OTHER_NODE + " UNKNOWN 5");
+        listener.handle(OTHER_NODE + " POST_DELETED x");
+        listener.handle("garbage");
+
+        verifyNoInteractions(postIdFilter, postListPrefetcher, imageMetadataCache, commentListCache);
+        assertEquals(0.0, registry.get("blog.cache.invalidation.received").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Должен сбрасывать все кэши и перестраивать фильтр")
+    void shouldInvalidateAllTest() {
+        listener.invalidateAll();
+
+        verify(imageMetadataCache).clear();
+        verify(commentListCache).invalidateAll();
+        verify(postListPrefetcher).invalidate();
+        verify(postIdFilter).requestRebuild();
+        verify(postIdFilter, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("Должен отклонять имя канала, которое нельзя передать в LISTEN без кавычек")
+    void shouldRejectInvalidChannelTest() {
+        CacheInvalidationProperties invalid = new CacheInvalidationProperties(
+                true, "Blog-Cache", Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+        assertThrows(IllegalArgumentException.class, () -> new CacheInvalidationListenerImpl(invalid,
+                jdbcConnectionDetails, cacheInvalidationBus, postIdFilter, postListPrefetcher,
+                imageMetadataCache, commentListCache));
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.habatoo.service.comment;
+
+import io.github.habatoo.dto.request.CommentBatchDeleteRequestDto;
+import io.github.habatoo.dto.response.CommentBatchDeleteResponseDto;
+import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.service.CommentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Юнит-тесты для проверки пакетного удаления комментариев в CommentService:
+ * удаление по идентификаторам и по тексту, сброс кешей и проверка запроса.
+ */
+@DisplayName("Тесты метода deleteComments")
+class CommentServiceBatchDeleteTest extends CommentServiceTestBase {
+
+    @Test
+    @DisplayName("Должен удалить комментарии по идентификаторам и вернуть количество по постам")
+    void shouldDeleteCommentsByIdsTest() {
+        List<Long> ids = List.of(VALID_COMMENT_ID, 5L);
+        when(commentRepository.deleteAllById(ids)).thenReturn(Map.of(VALID_POST_ID, 3, 2L, 1));
+
+        CommentBatchDeleteResponseDto result = commentService.deleteComments(
+                new CommentBatchDeleteRequestDto(ids, null, null));
+
+        assertEquals(4, result.deleted());
+        assertEquals(Map.of(VALID_POST_ID, 3, 2L, 1), result.deletedByPost());
+        verify(postListPrefetcher).invalidate();
+        verify(commentRepository, never()).deleteAllByText(any(), any());
+    }
+
+    @Test
+    @DisplayName("Должен удалить комментарии по тексту в пределах поста")
+    void shouldDeleteCommentsByTextTest() {
+        when(commentRepository.deleteAllByText(VALID_POST_ID, "spam")).thenReturn(Map.of(VALID_POST_ID, 2));
+
+        CommentBatchDeleteResponseDto result = commentService.deleteComments(
+                new CommentBatchDeleteRequestDto(null, VALID_POST_ID, "spam"));
+
+        assertEquals(2, result.deleted());
+        verify(commentRepository, never()).deleteAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("Не должен сбрасывать предзагруженные страницы, если ничего не удалено")
+    void shouldNotInvalidateWhenNothingDeletedTest() {
+        when(commentRepository.deleteAllByText(null, "spam")).thenReturn(Map.of());
+
+        CommentBatchDeleteResponseDto result = commentService.deleteComments(
+                new CommentBatchDeleteRequestDto(List.of(), null, "spam"));
+
+        assertEquals(0, result.deleted());
+        verify(postListPrefetcher, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("Должен сбрасывать кеш первых комментариев затронутых постов")
+    void shouldInvalidateCommentListCacheTest() {
+        CommentService cachedService = createCommentService(true);
+        CommentResponseDto comment = createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT);
+        when(commentRepository.findByPostId(VALID_POST_ID, null, 201)).thenReturn(List.of(comment), List.of());
+        when(commentRepository.deleteAllById(List.of(VALID_COMMENT_ID))).thenReturn(Map.of(VALID_POST_ID, 1));
+
+        cachedService.getCommentsByPostId(VALID_POST_ID, null, null);
+        cachedService.deleteComments(new CommentBatchDeleteRequestDto(List.of(VALID_COMMENT_ID), null, null));
+
+        assertEquals(List.of(), cachedService.getCommentsByPostId(VALID_POST_ID, null, null).comments());
+        verify(commentRepository, times(2)).findByPostId(VALID_POST_ID, null, 201);
+    }
+
+    @Test
+    @DisplayName("Должен отклонять запрос без идентификаторов и фильтра")
+    void shouldRejectEmptyRequestTest() {
+        assertThrows(IllegalArgumentException.class, () -> commentService.deleteComments(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> commentService.deleteComments(new CommentBatchDeleteRequestDto(List.of(), VALID_POST_ID, " ")));
+
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    @DisplayName("Должен отклонять идентификаторы вместе с фильтром")
+    void shouldRejectIdsWithFilterTest() {
+        assertThrows(IllegalArgumentException.class, () -> commentService.deleteComments(
+                new CommentBatchDeleteRequestDto(List.of(VALID_COMMENT_ID), null, "spam")));
+        assertThrows(IllegalArgumentException.class, () -> commentService.deleteComments(
+                new CommentBatchDeleteRequestDto(List.of(VALID_COMMENT_ID), VALID_POST_ID, null)));
+
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    @DisplayName("Должен отклонять пакет больше допустимого размера и пустые идентификаторы")
+    void shouldRejectOversizedOrNullIdsTest() {
+        assertThrows(IllegalArgumentException.class, () -> commentService.deleteComments(
+                new CommentBatchDeleteRequestDto(List.of(1L, 2L, 3L, 4L), null, null)));
+        assertThrows(IllegalArgumentException.class, () -> commentService.deleteComments(
+                new CommentBatchDeleteRequestDto(Arrays.asList(1L, null), null, null)));
+
+        verifyNoInteractions(commentRepository);
+    }
+}
@@ -3,6 +3,7 @@ package io.github.habatoo.service.comment;
 import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
 import io.github.habatoo.service.CommentService;
+import io.github.habatoo.service.PostEventBroadcaster;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -27,7 +28,9 @@ class CommentServiceCreateCommentTest extends CommentServiceTestBase {
     /**
      * Проверяет создание комментария для существующего поста:
      * - Комментарий сохраняется в репозитории
-     * - Счётчик комментариев поста инкрементируется
+     * - Счётчик комментариев поста инкрементируется тем же запросом репозитория,
+     *   отдельный вызов сервиса постов не выполняется
+     * - Предзагруженные страницы постов сбрасываются
      */
     @Test
     @DisplayName("Должен создать комментарий и счетчик комментариев поста")
@@ -41,7 +44,8 @@ class CommentServiceCreateCommentTest extends CommentServiceTestBase {
 
         assertEquals(savedComment, result);
         verify(commentRepository).save(request);
-        verify(postService).incrementCommentsCount(VALID_POST_ID);
+        verify(postListPrefetcher).invalidate();
+        verify(postEventBroadcaster).publish(VALID_POST_ID, PostEventBroadcaster.COMMENT_CREATED, savedComment);
     }
 
     /**
@@ -68,4 +72,23 @@ class CommentServiceCreateCommentTest extends CommentServiceTestBase {
         assertNotNull(ex.getCause());
         assertEquals("fail save", ex.getCause().getMessage());
     }
+
+    /**
+     * Проверяет, что при включённой групповой записи комментарий записывается через
+     * {@link io.github.habatoo.service.CommentGroupCommitter}, а не отдельным запросом репозитория.
+     */
+    @Test
+    @DisplayName("Должен записать комментарий группой при включённой групповой записи")
+    void shouldCreateCommentWithGroupCommitTest() {
+        CommentCreateRequestDto request = createCommentCreateRequest(COMMENT_TEXT, VALID_POST_ID);
+        CommentResponseDto savedComment = createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT);
+        when(commentGroupCommitter.isEnabled()).thenReturn(true);
+        when(commentGroupCommitter.save(request)).thenReturn(savedComment);
+
+        CommentResponseDto result = commentService.createComment(request);
+
+        assertEquals(savedComment, result);
+        verify(commentRepository, never()).save(any());
+        verify(postListPrefetcher).invalidate();
+    }
 }
@@ -20,7 +20,8 @@ import static org.mockito.Mockito.*;
 class CommentServiceDeleteCommentTest extends CommentServiceTestBase {
 
     /**
-     * Проверяет, что комментарий успешно удаляется, кеш обновляется, post обновляет счетчик комментариев,
+     * Проверяет, что комментарий успешно удаляется, счётчик комментариев поста уменьшается тем же запросом
+     * репозитория, предзагруженные страницы постов сбрасываются,
      * и что после удаления комментарий отсутствует в кешированной выдаче.
      */
     @Test
@@ -29,13 +30,13 @@ class CommentServiceDeleteCommentTest extends CommentServiceTestBase {
         when(commentRepository.deleteById(VALID_COMMENT_ID)).thenReturn(1);
 
         CommentResponseDto comment = createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT);
-        when(commentRepository.findByPostId(VALID_POST_ID)).thenReturn(List.of(comment));
+        when(commentRepository.findByPostId(VALID_POST_ID, null, 100)).thenReturn(List.of(comment));
 
-        commentService.getCommentsByPostId(VALID_POST_ID);
+        commentService.getCommentsByPostId(VALID_POST_ID, null, null);
         commentService.deleteComment(VALID_POST_ID, VALID_COMMENT_ID);
 
         verify(commentRepository).deleteById(VALID_COMMENT_ID);
-        verify(postService).decrementCommentsCount(VALID_POST_ID);
+        verify(postListPrefetcher).invalidate();
 
         Optional<CommentResponseDto> cachedComment = commentService.getCommentByPostIdAndId(VALID_POST_ID, VALID_COMMENT_ID);
         assertTrue(cachedComment.isEmpty());
@@ -54,6 +55,6 @@ class CommentServiceDeleteCommentTest extends CommentServiceTestBase {
                 () -> commentService.deleteComment(VALID_POST_ID, NON_EXISTENT_COMMENT_ID));
 
         verify(commentRepository).deleteById(NON_EXISTENT_COMMENT_ID);
-        verify(postService, never()).decrementCommentsCount(anyLong());
+        verify(postListPrefetcher, never()).invalidate();
     }
 }
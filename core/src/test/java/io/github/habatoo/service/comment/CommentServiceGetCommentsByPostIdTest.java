@@ -1,12 +1,17 @@
 package io.github.habatoo.service.comment;
 
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.service.dto.CommentPage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 /**
@@ -17,17 +22,118 @@ import static org.mockito.Mockito.*;
 class CommentServiceGetCommentsByPostIdTest extends CommentServiceTestBase {
 
     /**
-     * Проверяет, что комментарии для поста возвращаются.
+     * Проверяет, что без курсора и размера страницы читается первая страница размера по умолчанию,
+     * а неполная страница не содержит курсора следующей.
      */
     @Test
-    @DisplayName("Должен возвращать комментарии")
-    void shouldReturnCommentsFromCacheIfExistTest() {
+    @DisplayName("Должен ограничивать первую страницу размером по умолчанию")
+    void shouldUseDefaultLimitWithoutCursorTest() {
         List<CommentResponseDto> repoComments = List.of(createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT));
-        when(commentRepository.findByPostId(VALID_POST_ID)).thenReturn(repoComments);
+        when(commentRepository.findByPostId(VALID_POST_ID, null, 100)).thenReturn(repoComments);
 
-        List<CommentResponseDto> firstCall = commentService.getCommentsByPostId(VALID_POST_ID);
+        CommentPage firstCall = commentService.getCommentsByPostId(VALID_POST_ID, null, null);
 
-        assertEquals(repoComments, firstCall);
-        verify(commentRepository, times(1)).findByPostId(VALID_POST_ID);
+        assertEquals(new CommentPage(repoComments, null), firstCall);
+        verify(commentRepository, times(1)).findByPostId(VALID_POST_ID, null, 100);
+    }
+
+    /**
+     * Проверяет, что заполненная страница возвращает идентификатор последнего комментария как курсор.
+     */
+    @Test
+    @DisplayName("Должен возвращать курсор следующей страницы для заполненной страницы")
+    void shouldReturnNextCursorForFullPageTest() {
+        CommentResponseDto first = createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT);
+        CommentResponseDto second = createCommentResponse(3L, VALID_POST_ID, COMMENT_TEXT);
+        when(commentRepository.findByPostId(VALID_POST_ID, null, 2)).thenReturn(List.of(first, second));
+
+        CommentPage page = commentService.getCommentsByPostId(VALID_POST_ID, null, 2);
+
+        assertEquals(new CommentPage(List.of(first, second), 3L), page);
+    }
+
+    /**
+     * Проверяет, что для поста, отсутствующего в фильтре, база данных не запрашивается.
+     */
+    @Test
+    @DisplayName("Должен вернуть пустой список без запроса к базе если пост отсутствует в фильтре")
+    void shouldReturnEmptyListWithoutQueryWhenFilterMissesTest() {
+        when(postIdFilter.mightContain(VALID_POST_ID)).thenReturn(false);
+
+        CommentPage result = commentService.getCommentsByPostId(VALID_POST_ID, null, null);
+
+        assertEquals(List.of(), result.comments());
+        assertNull(result.nextCursor());
+        verifyNoInteractions(commentRepository);
+    }
+
+    /**
+     * Проверяет, что курсор и размер страницы передаются в репозиторий.
+     */
+    @Test
+    @DisplayName("Должен запросить страницу комментариев после курсора")
+    void shouldRequestPageAfterCursorTest() {
+        List<CommentResponseDto> repoComments = List.of(createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT));
+        when(commentRepository.findByPostId(VALID_POST_ID, 1L, 10)).thenReturn(repoComments);
+
+        List<CommentResponseDto> result = commentService.getCommentsByPostId(VALID_POST_ID, 1L, 10).comments();
+
+        assertEquals(repoComments, result);
+    }
+
+    /**
+     * Проверяет, что курсор без размера страницы использует размер по умолчанию.
+     */
+    @Test
+    @DisplayName("Должен использовать размер страницы по умолчанию для курсора без размера")
+    void shouldUseDefaultLimitWithCursorTest() {
+        List<CommentResponseDto> repoComments = List.of(createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT));
+        when(commentRepository.findByPostId(VALID_POST_ID, 1L, 100)).thenReturn(repoComments);
+
+        List<CommentResponseDto> result = commentService.getCommentsByPostId(VALID_POST_ID, 1L, null).comments();
+
+        assertEquals(repoComments, result);
+    }
+
+    /**
+     * Проверяет, что первая страница читается из кэша и изменяется при создании,
+     * изменении и удалении комментария без повторного запроса к базе.
+     */
+    @Test
+    @DisplayName("Должен отдавать первую страницу из кэша и обновлять её при изменении комментариев")
+    void shouldServeFirstPageFromCommentListCacheTest() {
+        commentService = createCommentService(true);
+        CommentResponseDto first = createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT);
+        CommentResponseDto created = createCommentResponse(3L, VALID_POST_ID, COMMENT_TEXT);
+        CommentResponseDto updated = createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, UPDATED_COMMENT_TEXT);
+        when(commentRepository.findByPostId(VALID_POST_ID, null, 201)).thenReturn(List.of(first));
+        when(commentRepository.save(any())).thenReturn(created);
+        when(commentRepository.update(VALID_POST_ID, VALID_COMMENT_ID, UPDATED_COMMENT_TEXT)).thenReturn(updated);
+        when(commentRepository.deleteById(3L)).thenReturn(1);
+
+        assertEquals(List.of(first), commentService.getCommentsByPostId(VALID_POST_ID, null, null).comments());
+        assertEquals(List.of(first), commentService.getCommentsByPostId(VALID_POST_ID, null, null).comments());
+
+        commentService.createComment(createCommentCreateRequest(COMMENT_TEXT, VALID_POST_ID));
+        assertEquals(List.of(first, created), commentService.getCommentsByPostId(VALID_POST_ID, null, null).comments());
+        assertEquals(List.of(created), commentService.getCommentsByPostId(VALID_POST_ID, VALID_COMMENT_ID, 10).comments());
+
+        commentService.updateComment(createUpdatedCommentRequestDto());
+        commentService.deleteComment(VALID_POST_ID, 3L);
+        assertEquals(List.of(updated), commentService.getCommentsByPostId(VALID_POST_ID, null, null).comments());
+
+        verify(commentRepository, times(1)).findByPostId(anyLong(), any(), anyInt());
+    }
+
+    /**
+     * Проверяет, что размер страницы вне допустимого диапазона отклоняется.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 501})
+    @DisplayName("Должен отклонить недопустимый размер страницы")
+    void shouldRejectInvalidLimitTest(int limit) {
+        assertThrows(IllegalArgumentException.class,
+                () -> commentService.getCommentsByPostId(VALID_POST_ID, null, limit));
+        verifyNoInteractions(commentRepository);
     }
 }
@@ -3,14 +3,32 @@ package io.github.habatoo.service.comment;
 import io.github.habatoo.dto.request.CommentCreateRequestDto;
 import io.github.habatoo.dto.request.CommentRequestDto;
 import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.properties.CoalescingProperties;
+import io.github.habatoo.properties.CommentListCacheProperties;
+import io.github.habatoo.properties.CommentModerationProperties;
+import io.github.habatoo.properties.CommentPageProperties;
+import io.github.habatoo.properties.CommentThreadProperties;
+import io.github.habatoo.properties.ResilienceProperties;
 import io.github.habatoo.repositories.CommentRepository;
+import io.github.habatoo.service.CommentGroupCommitter;
 import io.github.habatoo.service.CommentService;
-import io.github.habatoo.service.PostService;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.CommentListCacheImpl;
 import io.github.habatoo.service.impl.CommentServiceImpl;
+import io.github.habatoo.service.impl.RequestCoalescerImpl;
+import io.github.habatoo.service.impl.StaleIfErrorExecutorImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
 
 /**
  * Базовый класс для тестирования CommentServiceImpl
@@ -22,7 +40,16 @@ abstract class CommentServiceTestBase {
     protected CommentRepository commentRepository;
 
     @Mock
-    protected PostService postService;
+    protected PostIdFilter postIdFilter;
+
+    @Mock
+    protected PostListPrefetcher postListPrefetcher;
+
+    @Mock
+    protected CommentGroupCommitter commentGroupCommitter;
+
+    @Mock
+    protected PostEventBroadcaster postEventBroadcaster;
 
     protected CommentService commentService;
 
@@ -31,10 +58,25 @@ abstract class CommentServiceTestBase {
     protected static final Long NON_EXISTENT_COMMENT_ID = 888L;
     protected static final String COMMENT_TEXT = "Тестовый комментарий";
     protected static final String UPDATED_COMMENT_TEXT = "Обновленный комментарий";
+    protected static final CommentPageProperties COMMENT_PAGE_PROPERTIES = new CommentPageProperties(100, 500);
+    protected static final CommentThreadProperties COMMENT_THREAD_PROPERTIES = new CommentThreadProperties(8);
+    protected static final CommentModerationProperties COMMENT_MODERATION_PROPERTIES = new CommentModerationProperties(3);
 
     @BeforeEach
     void setUp() {
-        commentService = new CommentServiceImpl(commentRepository, postService);
+        lenient().when(postIdFilter.mightContain(anyLong())).thenReturn(true);
+        commentService = createCommentService(false);
+    }
+
+    protected CommentService createCommentService(boolean commentListCacheEnabled) {
+        return new CommentServiceImpl(commentRepository, postIdFilter,
+                new RequestCoalescerImpl(new CoalescingProperties(true, Duration.ofSeconds(5))),
+                new StaleIfErrorExecutorImpl(new ResilienceProperties(
+                        false, Duration.ofSeconds(2), 1000, 5, Duration.ofSeconds(30))),
+                postListPrefetcher, commentGroupCommitter, COMMENT_PAGE_PROPERTIES,
+                new CommentListCacheImpl(new CommentListCacheProperties(
+                        commentListCacheEnabled, 200, DataSize.ofMegabytes(1))),
+                COMMENT_THREAD_PROPERTIES, COMMENT_MODERATION_PROPERTIES, postEventBroadcaster);
     }
 
     protected CommentResponseDto createCommentResponse(Long commentId, Long postId, String text) {
@@ -0,0 +1,104 @@
+package io.github.habatoo.service.comment;
+
+import io.github.habatoo.dto.request.CommentCreateRequestDto;
+import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Юнит-тесты веток ответов на комментарии в CommentService:
+ * чтение веток, создание ответов и удаление комментария вместе с ответами.
+ */
+@DisplayName("Тесты веток ответов на комментарии")
+class CommentServiceThreadTest extends CommentServiceTestBase {
+
+    private static final Long REPLY_ID = 3L;
+
+    /**
+     * Проверяет, что страница веток запрашивается с курсором и размером страницы по умолчанию.
+     */
+    @Test
+    @DisplayName("Должен вернуть страницу веток комментариев")
+    void shouldReturnCommentThreadsTest() {
+        List<ThreadedCommentResponseDto> threads = List.of(
+                new ThreadedCommentResponseDto(VALID_COMMENT_ID, COMMENT_TEXT, VALID_POST_ID, null, 0),
+                new ThreadedCommentResponseDto(REPLY_ID, COMMENT_TEXT, VALID_POST_ID, VALID_COMMENT_ID, 1));
+        when(commentRepository.findThreads(VALID_POST_ID, 1L, 100)).thenReturn(threads);
+
+        assertEquals(threads, commentService.getCommentThreads(VALID_POST_ID, 1L, null));
+    }
+
+    /**
+     * Проверяет, что для несуществующего комментария ветка не возвращается.
+     */
+    @Test
+    @DisplayName("Должен выбросить исключение, если комментарий ветки не найден")
+    void shouldThrowWhenThreadNotFoundTest() {
+        when(commentRepository.findSubtree(VALID_POST_ID, NON_EXISTENT_COMMENT_ID)).thenReturn(List.of());
+
+        assertThrows(EmptyResultDataAccessException.class,
+                () -> commentService.getCommentThread(VALID_POST_ID, NON_EXISTENT_COMMENT_ID));
+    }
+
+    /**
+     * Проверяет, что ответ сохраняется с максимальной глубиной из настроек
+     * и сбрасывает предзагруженные страницы постов.
+     */
+    @Test
+    @DisplayName("Должен создать ответ на комментарий")
+    void shouldCreateReplyTest() {
+        CommentCreateRequestDto request = createCommentCreateRequest(COMMENT_TEXT, VALID_POST_ID);
+        ThreadedCommentResponseDto reply =
+                new ThreadedCommentResponseDto(REPLY_ID, COMMENT_TEXT, VALID_POST_ID, VALID_COMMENT_ID, 1);
+        when(commentRepository.saveReply(VALID_COMMENT_ID, request, COMMENT_THREAD_PROPERTIES.maxDepth()))
+                .thenReturn(reply);
+
+        assertEquals(reply, commentService.createReply(VALID_COMMENT_ID, request));
+        verify(postListPrefetcher).invalidate();
+    }
+
+    /**
+     * Проверяет, что ответ на несуществующий комментарий отклоняется.
+     */
+    @Test
+    @DisplayName("Должен выбросить исключение при ответе на несуществующий комментарий")
+    void shouldThrowWhenParentNotFoundTest() {
+        CommentCreateRequestDto request = createCommentCreateRequest(COMMENT_TEXT, VALID_POST_ID);
+        when(commentRepository.saveReply(NON_EXISTENT_COMMENT_ID, request, COMMENT_THREAD_PROPERTIES.maxDepth()))
+                .thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThrows(EmptyResultDataAccessException.class,
+                () -> commentService.createReply(NON_EXISTENT_COMMENT_ID, request));
+        verify(postListPrefetcher, never()).invalidate();
+    }
+
+    /**
+     * Проверяет, что после удаления комментария вместе с ответами
+     * первые комментарии поста перечитываются из базы.
+     */
+    @Test
+    @DisplayName("Должен сбросить кэш первых комментариев при удалении комментария с ответами")
+    void shouldInvalidateCommentListCacheWhenRepliesDeletedTest() {
+        commentService = createCommentService(true);
+        CommentResponseDto comment = createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, COMMENT_TEXT);
+        CommentResponseDto reply = createCommentResponse(REPLY_ID, VALID_POST_ID, COMMENT_TEXT);
+        when(commentRepository.findByPostId(VALID_POST_ID, null, 201))
+                .thenReturn(List.of(comment, reply))
+                .thenReturn(List.of());
+        when(commentRepository.deleteById(VALID_COMMENT_ID)).thenReturn(2);
+
+        assertEquals(List.of(comment, reply), commentService.getCommentsByPostId(VALID_POST_ID, null, null).comments());
+        commentService.deleteComment(VALID_POST_ID, VALID_COMMENT_ID);
+
+        assertEquals(List.of(), commentService.getCommentsByPostId(VALID_POST_ID, null, null).comments());
+        verify(commentRepository, times(2)).findByPostId(VALID_POST_ID, null, 201);
+    }
+}
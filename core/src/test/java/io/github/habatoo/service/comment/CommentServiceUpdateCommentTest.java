@@ -30,9 +30,9 @@ class CommentServiceUpdateCommentTest extends CommentServiceTestBase {
         CommentResponseDto updatedComment = createCommentResponse(VALID_COMMENT_ID, VALID_POST_ID, UPDATED_COMMENT_TEXT);
 
         when(commentRepository.update(VALID_POST_ID, VALID_COMMENT_ID, UPDATED_COMMENT_TEXT)).thenReturn(updatedComment);
-        when(commentRepository.findByPostId(VALID_POST_ID)).thenReturn(List.of(original));
+        when(commentRepository.findByPostId(VALID_POST_ID, null, 100)).thenReturn(List.of(original));
 
-        commentService.getCommentsByPostId(VALID_POST_ID);
+        commentService.getCommentsByPostId(VALID_POST_ID, null, null);
 
         CommentResponseDto result = commentService.updateComment(createUpdatedCommentRequestDto());
 
@@ -0,0 +1,125 @@
+package io.github.habatoo.service.commentgroupcommit;
+
+import io.github.habatoo.dto.request.CommentCreateRequestDto;
+import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.properties.CommentGroupCommitProperties;
+import io.github.habatoo.repositories.CommentRepository;
+import io.github.habatoo.service.impl.CommentGroupCommitterImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты групповой записи комментариев CommentGroupCommitterImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты CommentGroupCommitterImpl")
+class CommentGroupCommitterTest {
+
+    private static final long POST_ID = 1L;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private CommentGroupCommitterImpl committer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (committer != null) {
+            committer.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Должен записать одновременные комментарии одной группой и вернуть каждому свой id")
+    @SuppressWarnings("unchecked")
+    void shouldWriteConcurrentCommentsInOneGroupTest() throws Exception {
+        committer = new CommentGroupCommitterImpl(
+                new CommentGroupCommitProperties(true, Duration.ofMillis(200), 3, Duration.ofSeconds(5)), commentRepository);
+        when(commentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CommentCreateRequestDto> requests = invocation.getArgument(0);
+            return requests.stream()
+                    .map(request -> new CommentResponseDto(Long.valueOf(request.text()), request.text(), request.postId()))
+                    .toList();
+        });
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(3)) {
+            List<CompletableFuture<CommentResponseDto>> results = IntStream.rangeClosed(1, 3)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> committer.save(new CommentCreateRequestDto(POST_ID, String.valueOf(i))), callers))
+                    .toList();
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i + 1L, results.get(i).get(5, TimeUnit.SECONDS).id());
+            }
+        }
+        verify(commentRepository, times(1)).saveAll(argThat(requests -> requests.size() == 3));
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("При ошибке группы должен записать комментарии по одному и вернуть ошибку только своему запросу")
+    void shouldFallBackToSingleWritesOnGroupFailureTest() throws Exception {
+        committer = new CommentGroupCommitterImpl(
+                new CommentGroupCommitProperties(true, Duration.ofMillis(200), 2, Duration.ofSeconds(5)), commentRepository);
+        CommentCreateRequestDto valid = new CommentCreateRequestDto(POST_ID, "ok");
+        CommentCreateRequestDto invalid = new CommentCreateRequestDto(999L, "missing post");
+        when(commentRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("fk"));
+        when(commentRepository.save(valid)).thenReturn(new CommentResponseDto(5L, "ok", POST_ID));
+        when(commentRepository.save(invalid)).thenThrow(new DataIntegrityViolationException("fk"));
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(2)) {
+            CompletableFuture<CommentResponseDto> ok =
+                    CompletableFuture.supplyAsync(() -> committer.save(valid), callers);
+            CompletableFuture<CommentResponseDto> failed =
+                    CompletableFuture.supplyAsync(() -> committer.save(invalid), callers);
+
+            assertEquals(5L, ok.get(5, TimeUnit.SECONDS).id());
+            Exception exception = assertThrows(Exception.class, () -> failed.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(DataIntegrityViolationException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку, если комментарий не записан за время ожидания")
+    void shouldFailWhenWriteTimeoutExceededTest() {
+        committer = new CommentGroupCommitterImpl(
+                new CommentGroupCommitProperties(true, Duration.ofMillis(5), 100, Duration.ofMillis(100)), commentRepository);
+        when(commentRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return List.of(new CommentResponseDto(1L, "slow", POST_ID));
+        });
+
+        assertThrows(QueryTimeoutException.class,
+                () -> committer.save(new CommentCreateRequestDto(POST_ID, "slow")));
+    }
+
+    @Test
+    @DisplayName("Выключенная групповая запись не должна принимать комментарии")
+    void shouldRejectWhenDisabledTest() {
+        committer = new CommentGroupCommitterImpl(
+                new CommentGroupCommitProperties(false, Duration.ofMillis(5), 100, Duration.ofSeconds(5)), commentRepository);
+
+        assertFalse(committer.isEnabled());
+        assertThrows(IllegalStateException.class,
+                () -> committer.save(new CommentCreateRequestDto(POST_ID, "text")));
+        verifyNoInteractions(commentRepository);
+    }
+}
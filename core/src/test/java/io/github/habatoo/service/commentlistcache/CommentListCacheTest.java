@@ -0,0 +1,187 @@
+package io.github.habatoo.service.commentlistcache;
+
+import io.github.habatoo.dto.response.CommentResponseDto;
+import io.github.habatoo.properties.CommentListCacheProperties;
+import io.github.habatoo.service.impl.CommentListCacheImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты кэша первых комментариев поста CommentListCacheImpl.
+ */
+@DisplayName("Тесты CommentListCacheImpl")
+class CommentListCacheTest {
+
+    private static final long POST_ID = 1L;
+    private static final int COMMENTS_PER_POST = 4;
+
+    private final CommentListCacheImpl cache = new CommentListCacheImpl(
+            new CommentListCacheProperties(true, COMMENTS_PER_POST, DataSize.ofMegabytes(1)));
+
+    @Test
+    @DisplayName("Должен загружать префикс на один комментарий больше и отдавать страницы из кэша")
+    void shouldLoadPrefixAndServePagesTest() {
+        AtomicInteger requested = new AtomicInteger();
+
+        List<CommentResponseDto> page = cache.load(POST_ID, 2, count -> {
+            requested.set(count);
+            return comments(1, 3);
+        });
+
+        assertEquals(COMMENTS_PER_POST + 1, requested.get());
+        assertEquals(comments(1, 2), page);
+        assertEquals(comments(1, 3), cache.get(POST_ID, null, 10));
+        assertEquals(comments(3, 3), cache.get(POST_ID, 2L, 10));
+        assertEquals(List.of(), cache.get(POST_ID, 99L, 10));
+    }
+
+    @Test
+    @DisplayName("Неполный префикс не должен отдавать страницы, выходящие за его границу")
+    void shouldMissBeyondIncompletePrefixTest() {
+        cache.load(POST_ID, 2, count -> comments(1, count));
+
+        assertEquals(comments(1, 4), cache.get(POST_ID, null, 4));
+        assertEquals(comments(3, 4), cache.get(POST_ID, 2L, 2));
+        assertNull(cache.get(POST_ID, null, 5));
+        assertNull(cache.get(POST_ID, 3L, 2));
+        assertNull(cache.get(POST_ID, 99L, 2));
+    }
+
+    @Test
+    @DisplayName("Должен изменять закэшированный список при создании, изменении и удалении комментария")
+    void shouldWriteThroughChangesTest() {
+        cache.load(POST_ID, 2, count -> comments(1, 2));
+        CommentResponseDto updated = new CommentResponseDto(1L, "изменённый", POST_ID);
+
+        cache.append(comment(3));
+        cache.append(comment(3));
+        cache.replace(updated);
+        cache.remove(POST_ID, 2L);
+
+        assertEquals(List.of(updated, comment(3)), cache.get(POST_ID, null, 10));
+    }
+
+    @Test
+    @DisplayName("Не должен добавлять комментарий в неполный список и должен обрезать переполненный")
+    void shouldKeepPrefixBoundedOnAppendTest() {
+        cache.load(POST_ID, 2, count -> comments(1, COMMENTS_PER_POST));
+
+        cache.append(comment(5));
+        assertEquals(comments(1, 4), cache.get(POST_ID, null, 4));
+        assertNull(cache.get(POST_ID, null, 5));
+
+        cache.append(comment(6));
+        assertEquals(comments(1, 4), cache.get(POST_ID, null, 4));
+    }
+
+    @Test
+    @DisplayName("Загрузка, начатая до изменения комментария, не должна заполнять кэш")
+    void shouldNotFillCacheWithListLoadedBeforeChangeTest() {
+        List<CommentResponseDto> page = cache.load(POST_ID, 2, count -> {
+            cache.remove(POST_ID, 2L);
+            return comments(1, 2);
+        });
+
+        assertEquals(comments(1, 2), page);
+        assertNull(cache.get(POST_ID, null, 10));
+    }
+
+    @Test
+    @DisplayName("Должен удалять списки всех постов и не заполнять кэш загрузкой, начатой до сброса")
+    void shouldInvalidateAllPostsTest() {
+        cache.load(POST_ID, 2, count -> comments(1, 2));
+        cache.load(POST_ID + 1, 2, count -> comments(3, 4));
+
+        List<CommentResponseDto> page = cache.load(POST_ID + 2, 2, count -> {
+            cache.invalidateAll();
+            return comments(5, 6);
+        });
+
+        assertEquals(comments(5, 6), page);
+        assertNull(cache.get(POST_ID, null, 2));
+        assertNull(cache.get(POST_ID + 1, null, 2));
+        assertNull(cache.get(POST_ID + 2, null, 2));
+    }
+
+    @Test
+    @DisplayName("Страница больше префикса должна загружаться одним запросом и заполнять кэш её началом")
+    void shouldLoadLargePageInOneQueryTest() {
+        AtomicInteger requested = new AtomicInteger();
+
+        List<CommentResponseDto> page = cache.load(POST_ID, 10, count -> {
+            requested.set(count);
+            return comments(1, 6);
+        });
+
+        assertEquals(10, requested.get());
+        assertEquals(comments(1, 6), page);
+        assertEquals(comments(1, 4), cache.get(POST_ID, null, 4));
+        assertNull(cache.get(POST_ID, null, 5));
+    }
+
+    @Test
+    @DisplayName("Удалённый курсор полного списка должен продолжать страницу по идентификатору")
+    void shouldContinueAfterUnknownCursorByIdTest() {
+        cache.load(POST_ID, 2, count -> comments(1, 3));
+        cache.remove(POST_ID, 2L);
+
+        assertEquals(comments(3, 3), cache.get(POST_ID, 2L, 10));
+    }
+
+    @Test
+    @DisplayName("Должен вытеснять записи при превышении бюджета памяти")
+    void shouldEvictWhenBudgetExceededTest() {
+        CommentListCacheImpl smallCache = new CommentListCacheImpl(
+                new CommentListCacheProperties(true, COMMENTS_PER_POST, DataSize.ofBytes(2048)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        smallCache.bindTo(registry);
+
+        LongStream.rangeClosed(1, 20).forEach(postId -> smallCache.load(postId, 2, count -> comments(1, 2)));
+
+        double size = registry.get("blog.comments.cache.size").gauge().value();
+        assertTrue(size > 0 && size <= 2048);
+        assertTrue(registry.get("blog.comments.cache.evictions").functionCounter().count() > 0);
+    }
+
+    @Test
+    @DisplayName("Должен считать попадания и промахи")
+    void shouldCountHitsAndMissesTest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        assertNull(cache.get(POST_ID, null, 2));
+        cache.load(POST_ID, 2, count -> comments(1, 2));
+        cache.get(POST_ID, null, 2);
+        cache.get(POST_ID, null, 2);
+
+        assertEquals(2.0, registry.get("blog.comments.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("blog.comments.cache.requests").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Выключенный кэш не должен хранить записи")
+    void shouldNotCacheWhenDisabledTest() {
+        CommentListCacheImpl disabled = new CommentListCacheImpl(
+                new CommentListCacheProperties(false, COMMENTS_PER_POST, DataSize.ofMegabytes(1)));
+
+        disabled.load(POST_ID, 2, count -> comments(1, 2));
+
+        assertNull(disabled.get(POST_ID, null, 2));
+    }
+
+    private static List<CommentResponseDto> comments(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(CommentListCacheTest::comment).toList();
+    }
+
+    private static CommentResponseDto comment(long id) {
+        return new CommentResponseDto(id, "комментарий " + id, POST_ID);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.habatoo.service.deltacodec;
+
+import io.github.habatoo.service.DeltaCodec;
+import io.github.habatoo.service.impl.DeltaCodecImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты двоичного дельта-кодирования DeltaCodecImpl.
+ */
+@DisplayName("Тесты DeltaCodecImpl")
+class DeltaCodecTest {
+
+    private static final String ARTICLE = IntStream.rangeClosed(1, 200)
+            .mapToObj(i -> "Абзац " + i + ": текст поста в формате Markdown с **выделением** и `кодом`.")
+            .collect(Collectors.joining("\n"));
+
+    private final DeltaCodec deltaCodec = new DeltaCodecImpl();
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideVersions")
+    @DisplayName("Должен восстановить целевую версию из базовой и дельты")
+    void shouldRoundTripTest(String description, String base, String target) {
+        byte[] baseBytes = base.getBytes(StandardCharsets.UTF_8);
+        byte[] targetBytes = target.getBytes(StandardCharsets.UTF_8);
+
+        byte[] delta = deltaCodec.encode(baseBytes, targetBytes);
+
+        assertArrayEquals(targetBytes, deltaCodec.apply(baseBytes, delta));
+    }
+
+    @Test
+    @DisplayName("Дельта небольшой правки должна быть во много раз меньше текста")
+    void shouldEncodeSmallEditCompactlyTest() {
+        String edited = ARTICLE.replace("Абзац 100:", "Абзац сто, исправленный:")
+                + "\nНовый заключительный абзац.";
+        byte[] target = edited.getBytes(StandardCharsets.UTF_8);
+
+        byte[] delta = deltaCodec.encode(ARTICLE.getBytes(StandardCharsets.UTF_8), target);
+
+        assertTrue(delta.length * 50 < target.length,
+                "Дельта " + delta.length + " байт для текста " + target.length + " байт");
+    }
+
+    @Test
+    @DisplayName("Должен отклонить повреждённую дельту")
+    void shouldRejectCorruptedDeltaTest() {
+        byte[] base = ARTICLE.getBytes(StandardCharsets.UTF_8);
+        byte[] delta = deltaCodec.encode(base, (ARTICLE + "!").getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> deltaCodec.apply(base, Arrays.copyOf(delta, delta.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> deltaCodec.apply(new byte[10], delta));
+    }
+
+    static Stream<Arguments> provideVersions() {
+        return Stream.of(
+                Arguments.of("пустые версии", "", ""),
+                Arguments.of("пустая базовая версия", "", ARTICLE),
+                Arguments.of("пустая целевая версия", ARTICLE, ""),
+                Arguments.of("короткие строки", "abc", "abd"),
+                Arguments.of("вставка в середину", ARTICLE,
+                        ARTICLE.substring(0, 5000) + "вставка" + ARTICLE.substring(5000)),
+                Arguments.of("удаление и перестановка", ARTICLE,
+                        ARTICLE.substring(9000) + ARTICLE.substring(100, 3000)),
+                Arguments.of("повторяющийся текст", "ab".repeat(1000), "ab".repeat(999) + "c"),
+                Arguments.of("полностью новый текст", ARTICLE, "Совсем другой текст")
+        );
+    }
+}
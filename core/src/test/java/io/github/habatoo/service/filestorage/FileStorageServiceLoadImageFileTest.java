@@ -4,11 +4,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.Resource;
 
 import java.io.IOException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
@@ -19,7 +22,7 @@ import static org.mockito.Mockito.when;
 class FileStorageServiceLoadImageFileTest extends FileStorageServiceTestBase {
 
     @Test
-    @DisplayName("Должен загрузить содержимое файла изображения")
+    @DisplayName("Должен вернуть ресурс файла изображения с его содержимым и размером")
     void shouldLoadImageFileContentTest() throws IOException {
         String filename = "123/test.jpg";
         byte[] expectedContent = "image content".getBytes();
@@ -28,9 +31,10 @@ class FileStorageServiceLoadImageFileTest extends FileStorageServiceTestBase {
         createTestFile(filePath, expectedContent);
         when(pathResolver.resolveFilePath(filename)).thenReturn(filePath);
 
-        byte[] result = fileStorageService.loadImageFile(filename);
+        Resource result = fileStorageService.loadImageFile(filename);
 
-        assertArrayEquals(expectedContent, result);
+        assertEquals(expectedContent.length, result.contentLength());
+        assertArrayEquals(expectedContent, result.getContentAsByteArray());
     }
 
     @DisplayName("Должен загрузить файлы из разных путей")
@@ -43,9 +47,9 @@ class FileStorageServiceLoadImageFileTest extends FileStorageServiceTestBase {
         createTestFile(filePath, content);
         when(pathResolver.resolveFilePath(filename)).thenReturn(filePath);
 
-        byte[] result = fileStorageService.loadImageFile(filename);
+        Resource result = fileStorageService.loadImageFile(filename);
 
-        assertArrayEquals(content, result);
+        assertArrayEquals(content, result.getContentAsByteArray());
     }
 
     @Test
@@ -56,6 +60,6 @@ class FileStorageServiceLoadImageFileTest extends FileStorageServiceTestBase {
 
         when(pathResolver.resolveFilePath(filename)).thenReturn(filePath);
 
-        assertThrows(IOException.class, () -> fileStorageService.loadImageFile(filename));
+        assertThrows(NoSuchFileException.class, () -> fileStorageService.loadImageFile(filename));
     }
 }
@@ -0,0 +1,56 @@
+package io.github.habatoo.service.filestorage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для метода readImageHeader.
+ */
+@DisplayName("Тесты метода readImageHeader")
+class FileStorageServiceReadImageHeaderTest extends FileStorageServiceTestBase {
+
+    @Test
+    @DisplayName("Должен прочитать только первые байты файла")
+    void shouldReadOnlyFirstBytesTest() throws IOException {
+        String filename = "123/test.png";
+        byte[] content = new byte[]{(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A, 0x00, 0x00, 0x00, 0x0D};
+        Path filePath = baseUploadPath.resolve(filename);
+
+        createTestFile(filePath, content);
+        when(pathResolver.resolveFilePath(filename)).thenReturn(filePath);
+
+        assertArrayEquals(Arrays.copyOf(content, 8), fileStorageService.readImageHeader(filename, 8));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть весь файл, если он короче запрошенной длины")
+    void shouldReturnWholeShortFileTest() throws IOException {
+        String filename = "123/short.jpg";
+        byte[] content = new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+        Path filePath = baseUploadPath.resolve(filename);
+
+        createTestFile(filePath, content);
+        when(pathResolver.resolveFilePath(filename)).thenReturn(filePath);
+
+        assertArrayEquals(content, fileStorageService.readImageHeader(filename, 8));
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение при чтении несуществующего файла")
+    void shouldThrowExceptionWhenFileIsMissingTest() {
+        String filename = "nonexistent/file.jpg";
+        Path filePath = baseUploadPath.resolve(filename);
+
+        when(pathResolver.resolveFilePath(filename)).thenReturn(filePath);
+
+        assertThrows(IOException.class, () -> fileStorageService.readImageHeader(filename, 8));
+    }
+}
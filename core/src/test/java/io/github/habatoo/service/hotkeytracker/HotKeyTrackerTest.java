@@ -0,0 +1,110 @@
+package io.github.habatoo.service.hotkeytracker;
+
+import io.github.habatoo.properties.HotKeyProperties;
+import io.github.habatoo.service.HotKeyTracker;
+import io.github.habatoo.service.dto.HotKey;
+import io.github.habatoo.service.dto.HotKeyCategory;
+import io.github.habatoo.service.impl.HotKeyTrackerImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты учёта популярных ключей HotKeyTrackerImpl.
+ */
+@DisplayName("Тесты HotKeyTrackerImpl")
+class HotKeyTrackerTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Test
+    @DisplayName("Должен возвращать самые частые ключи в порядке убывания")
+    void shouldReturnHeavyHittersTest() {
+        HotKeyTracker tracker = tracker(8, HOUR, 2);
+        record(tracker, HotKeyCategory.POST, "1", 50);
+        record(tracker, HotKeyCategory.POST, "2", 30);
+        IntStream.range(100, 200).forEach(i -> tracker.record(HotKeyCategory.POST, String.valueOf(i)));
+
+        List<HotKey> top = tracker.top(HotKeyCategory.POST, HOUR, 2);
+
+        assertEquals(List.of("1", "2"), top.stream().map(HotKey::key).toList());
+        assertTrue(top.get(0).count() >= 50);
+        assertTrue(top.get(0).count() - top.get(0).error() <= 50);
+    }
+
+    @Test
+    @DisplayName("Категории должны учитываться раздельно")
+    void shouldSeparateCategoriesTest() {
+        HotKeyTracker tracker = tracker(8, HOUR, 2);
+        record(tracker, HotKeyCategory.SEARCH, "java", 3);
+
+        assertTrue(tracker.top(HotKeyCategory.POST, HOUR, 10).isEmpty());
+        assertEquals("java", tracker.top(HotKeyCategory.SEARCH, HOUR, 10).get(0).key());
+    }
+
+    @Test
+    @DisplayName("Обращения за пределами скользящего окна не должны учитываться")
+    void shouldForgetKeysOutsideWindowTest() throws InterruptedException {
+        Duration bucket = Duration.ofMillis(50);
+        HotKeyTracker tracker = tracker(8, bucket, 2);
+        record(tracker, HotKeyCategory.POST, "old", 5);
+
+        Thread.sleep(200);
+        record(tracker, HotKeyCategory.POST, "new", 1);
+
+        assertEquals(List.of("new"),
+                tracker.top(HotKeyCategory.POST, bucket.multipliedBy(2), 10).stream().map(HotKey::key).toList());
+    }
+
+    @Test
+    @DisplayName("Закреплёнными должны считаться только самые популярные ключи")
+    void shouldPinHottestKeysTest() {
+        HotKeyTracker tracker = new HotKeyTrackerImpl(new HotKeyProperties(true, 8, HOUR, 2, 1, 10));
+        record(tracker, HotKeyCategory.IMAGE, "1", 10);
+        record(tracker, HotKeyCategory.IMAGE, "2", 1);
+
+        assertTrue(tracker.isPinned(HotKeyCategory.IMAGE, "1"));
+        assertFalse(tracker.isPinned(HotKeyCategory.IMAGE, "2"));
+    }
+
+    @Test
+    @DisplayName("Обращения из разных потоков должны суммироваться по всем полосам")
+    void shouldMergeRecordsFromAllThreadsTest() {
+        HotKeyTracker tracker = tracker(8, HOUR, 2);
+
+        try (ExecutorService callers = Executors.newFixedThreadPool(4)) {
+            IntStream.range(0, 4).forEach(i -> callers.execute(() -> record(tracker, HotKeyCategory.POST, "1", 1000)));
+        }
+
+        List<HotKey> top = tracker.top(HotKeyCategory.POST, HOUR, 1);
+        assertEquals("1", top.getFirst().key());
+        assertEquals(4000, top.getFirst().count());
+    }
+
+    @Test
+    @DisplayName("Выключенный учёт не должен хранить ключи")
+    void shouldIgnoreRecordsWhenDisabledTest() {
+        HotKeyTracker tracker = new HotKeyTrackerImpl(new HotKeyProperties(false, 8, HOUR, 2, 1, 10));
+        record(tracker, HotKeyCategory.POST, "1", 10);
+
+        assertTrue(tracker.top(HotKeyCategory.POST, HOUR, 10).isEmpty());
+        assertFalse(tracker.isPinned(HotKeyCategory.POST, "1"));
+    }
+
+    private static HotKeyTracker tracker(int capacity, Duration bucket, int buckets) {
+        return new HotKeyTrackerImpl(new HotKeyProperties(true, capacity, bucket, buckets, 4, 10));
+    }
+
+    private static void record(HotKeyTracker tracker, HotKeyCategory category, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(category, key);
+        }
+    }
+}
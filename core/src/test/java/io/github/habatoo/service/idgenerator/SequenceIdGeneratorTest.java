@@ -0,0 +1,52 @@
+package io.github.habatoo.service.idgenerator;
+
+import io.github.habatoo.service.impl.SequenceIdGeneratorImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты генератора идентификаторов SequenceIdGeneratorImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты SequenceIdGeneratorImpl")
+class SequenceIdGeneratorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SequenceIdGeneratorImpl generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SequenceIdGeneratorImpl(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Должен выделить идентификатор из последовательности таблицы")
+    void shouldReturnNextSequenceValueTest() {
+        when(jdbcTemplate.queryForObject(contains("nextval(pg_get_serial_sequence(?, 'id'))"), eq(Long.class), eq("post")))
+                .thenReturn(7L);
+
+        assertEquals(7L, generator.nextId("post"));
+    }
+
+    @Test
+    @DisplayName("Должен выделить несколько идентификаторов одним запросом")
+    void shouldReturnSeveralSequenceValuesTest() {
+        when(jdbcTemplate.queryForList(contains("generate_series(1, ?)"), eq(Long.class), eq("comment"), eq(3)))
+                .thenReturn(List.of(4L, 5L, 6L));
+
+        assertArrayEquals(new long[]{4L, 5L, 6L}, generator.nextIds("comment", 3));
+    }
+}
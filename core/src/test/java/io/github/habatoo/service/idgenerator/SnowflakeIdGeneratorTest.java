@@ -0,0 +1,86 @@
+package io.github.habatoo.service.idgenerator;
+
+import io.github.habatoo.properties.IdGeneratorProperties;
+import io.github.habatoo.service.impl.SnowflakeIdGeneratorImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты генератора идентификаторов SnowflakeIdGeneratorImpl.
+ */
+@DisplayName("Тесты SnowflakeIdGeneratorImpl")
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH_MILLIS = SnowflakeIdGeneratorImpl.EPOCH.toEpochMilli();
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    @DisplayName("Должен собрать идентификатор из времени, номера узла и порядкового номера")
+    void shouldComposeIdTest() {
+        AtomicLong now = new AtomicLong(EPOCH_MILLIS + 1000);
+        SnowflakeIdGeneratorImpl generator = new SnowflakeIdGeneratorImpl(snowflake(3), now::get);
+
+        assertEquals((1000L << 12) | (3L << 7), generator.nextId("post"));
+        assertEquals((1000L << 12) | (3L << 7) | 1, generator.nextId("post"));
+    }
+
+    @Test
+    @DisplayName("Идентификаторы должны строго возрастать без ожидания при исчерпании номера и переводе часов назад")
+    void shouldStayMonotonicTest() {
+        AtomicLong now = new AtomicLong(EPOCH_MILLIS + 5000);
+        SnowflakeIdGeneratorImpl generator = new SnowflakeIdGeneratorImpl(snowflake(0), now::get);
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+        for (int i = 0; i < 128; i++) {
+            long id = generator.nextId("post");
+            assertTrue(id > previous);
+            assertTrue(ids.add(id));
+            previous = id;
+        }
+
+        now.set(EPOCH_MILLIS + 4000);
+        long next = generator.nextId("post");
+
+        assertTrue(next > previous);
+        assertEquals(5001L, next >>> 12);
+        assertEquals(5001L, generator.nextId("post") >>> 12);
+    }
+
+    @Test
+    @DisplayName("Идентификаторы должны быть точными числами JavaScript и больше значений identity")
+    void shouldFitIntoSafeIntegerRangeTest() {
+        long maxTimestamp = (1L << 41) - 1;
+        SnowflakeIdGeneratorImpl generator = new SnowflakeIdGeneratorImpl(
+                snowflake(31), () -> EPOCH_MILLIS + maxTimestamp);
+        SnowflakeIdGeneratorImpl current = new SnowflakeIdGeneratorImpl(snowflake(0));
+
+        assertTrue(generator.nextId("post") <= MAX_SAFE_INTEGER);
+        assertTrue(current.nextId("post") > (1L << 40) - 1);
+    }
+
+    @Test
+    @DisplayName("Должен отклонить отсутствующий номер узла")
+    void shouldRejectMissingNodeIdTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdGeneratorImpl(snowflake(null)));
+    }
+
+    @Test
+    @DisplayName("Должен отклонить номер узла вне диапазона")
+    void shouldRejectInvalidNodeIdTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdGeneratorImpl(snowflake(32)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnowflakeIdGeneratorImpl(snowflake(-1)));
+    }
+
+    private static IdGeneratorProperties snowflake(Integer nodeId) {
+        return new IdGeneratorProperties(IdGeneratorProperties.Strategy.SNOWFLAKE, nodeId);
+    }
+}
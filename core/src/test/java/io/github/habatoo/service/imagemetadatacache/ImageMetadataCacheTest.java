@@ -0,0 +1,116 @@
+package io.github.habatoo.service.imagemetadatacache;
+
+import io.github.habatoo.properties.ImageCacheProperties;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.dto.ImageMetadata;
+import io.github.habatoo.service.impl.ImageMetadataCacheImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты кэша метаданных изображений ImageMetadataCacheImpl.
+ */
+@DisplayName("Тесты ImageMetadataCacheImpl")
+class ImageMetadataCacheTest {
+
+    private static final int MAX_ENTRIES = 16;
+
+    private final ImageMetadataCache cache = new ImageMetadataCacheImpl(new ImageCacheProperties(true, MAX_ENTRIES, 1));
+
+    @Test
+    @DisplayName("Должен сохранять, заменять и удалять записи")
+    void shouldPutReplaceAndRemoveTest() {
+        ImageMetadata first = metadata(1);
+        ImageMetadata second = metadata(2);
+
+        cache.put(1L, first);
+        assertEquals(first, cache.get(1L));
+
+        cache.putIfAbsent(1L, second);
+        assertEquals(first, cache.get(1L));
+
+        cache.put(1L, second);
+        assertEquals(second, cache.get(1L));
+
+        cache.remove(1L);
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    @DisplayName("Удаление не должно терять остальные записи цепочки")
+    void shouldKeepOtherEntriesAfterRemoveTest() {
+        LongStream.rangeClosed(1, MAX_ENTRIES).forEach(id -> cache.put(id, metadata(id)));
+
+        LongStream.rangeClosed(1, MAX_ENTRIES).filter(id -> id % 2 == 0).forEach(cache::remove);
+
+        LongStream.rangeClosed(1, MAX_ENTRIES).forEach(id -> {
+            if (id % 2 == 0) {
+                assertNull(cache.get(id));
+            } else {
+                assertEquals(metadata(id), cache.get(id));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Должен ограничивать количество записей и сохранять недавно использованные")
+    void shouldEvictWithSecondChanceTest() {
+        LongStream.rangeClosed(1, MAX_ENTRIES).forEach(id -> cache.put(id, metadata(id)));
+        assertNotNull(cache.get(1L));
+
+        LongStream.rangeClosed(MAX_ENTRIES + 1, MAX_ENTRIES * 4L).forEach(id -> {
+            cache.put(id, metadata(id));
+            cache.get(1L);
+        });
+
+        long present = LongStream.rangeClosed(1, MAX_ENTRIES * 4L).filter(id -> cache.get(id) != null).count();
+        assertEquals(MAX_ENTRIES, present);
+        assertNotNull(cache.get(1L));
+        assertNotNull(cache.get(MAX_ENTRIES * 4L));
+    }
+
+    @Test
+    @DisplayName("Закреплённые ключи не должны вытесняться")
+    void shouldKeepPinnedKeysOnEvictionTest() {
+        ImageMetadataCache pinning = new ImageMetadataCacheImpl(
+                new ImageCacheProperties(true, MAX_ENTRIES, 1), postId -> postId <= 2);
+
+        LongStream.rangeClosed(1, MAX_ENTRIES * 4L).forEach(id -> pinning.put(id, metadata(id)));
+
+        assertNotNull(pinning.get(1L));
+        assertNotNull(pinning.get(2L));
+        assertNotNull(pinning.get(MAX_ENTRIES * 4L));
+    }
+
+    @Test
+    @DisplayName("Должен удалять все записи и принимать новые после очистки")
+    void shouldClearAllEntriesTest() {
+        LongStream.rangeClosed(1, MAX_ENTRIES).forEach(id -> cache.put(id, metadata(id)));
+
+        cache.clear();
+
+        LongStream.rangeClosed(1, MAX_ENTRIES).forEach(id -> assertNull(cache.get(id)));
+        cache.put(1L, metadata(1));
+        assertEquals(metadata(1), cache.get(1L));
+    }
+
+    @Test
+    @DisplayName("Выключенный кэш не должен хранить записи")
+    void shouldIgnoreWritesWhenDisabledTest() {
+        ImageMetadataCache disabled = new ImageMetadataCacheImpl(new ImageCacheProperties(false, MAX_ENTRIES, 1));
+
+        disabled.put(1L, metadata(1));
+
+        assertNull(disabled.get(1L));
+    }
+
+    private static ImageMetadata metadata(long id) {
+        return ImageMetadata.of("image_" + id + ".jpg", id * 100, MediaType.IMAGE_JPEG, Instant.EPOCH);
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.habatoo.service.imageservice;
 
+import io.github.habatoo.service.ImageContentTypeDetector;
+import io.github.habatoo.service.dto.ImageMetadata;
 import io.github.habatoo.service.dto.ImageResponseDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,14 +48,15 @@ class ImageServiceGetPostImageTest extends ImageServiceTestBase {
         when(fileStorageService.saveImageFile(VALID_POST_ID, imageFile)).thenReturn(IMAGE_FILENAME);
         doNothing().when(imageRepository).updateImageMetadata(VALID_POST_ID, IMAGE_FILENAME, IMAGE_SIZE, URL);
         doNothing().when(fileStorageService).deleteImageFile(IMAGE_FILENAME);
-        when(fileStorageService.loadImageFile(URL)).thenReturn(IMAGE_DATA);
+        when(fileStorageService.loadImageFile(URL)).thenReturn(IMAGE_RESOURCE);
+        when(fileStorageService.readImageHeader(URL, ImageContentTypeDetector.SIGNATURE_LENGTH)).thenReturn(IMAGE_DATA);
         when(contentTypeDetector.detect(IMAGE_DATA)).thenReturn(MEDIA_TYPE);
 
         imageService.updatePostImage(VALID_POST_ID, imageFile);
 
         ImageResponseDto firstCall = imageService.getPostImage(VALID_POST_ID);
 
-        assertArrayEquals(IMAGE_DATA, firstCall.data());
+        assertSame(IMAGE_RESOURCE, firstCall.image());
         assertEquals(MEDIA_TYPE, firstCall.mediaType());
 
         verify(fileStorageService, times(1)).saveImageFile(VALID_POST_ID, imageFile);
@@ -63,28 +66,31 @@ class ImageServiceGetPostImageTest extends ImageServiceTestBase {
     }
 
     /**
-     * Проверяет, что getPostImage загружает изображения и определяет mediaType.
+     * Проверяет, что getPostImage возвращает ресурс файла и определяет mediaType по первым байтам.
      */
     @Test
     @DisplayName("Должен загрузить изображение из файловой системы")
     void shouldLoadImageFromFileAndCacheTest() throws IOException {
-        ImageResponseDto expectedResponse = new ImageResponseDto(IMAGE_DATA, MEDIA_TYPE);
+        ImageResponseDto expectedResponse = new ImageResponseDto(IMAGE_RESOURCE,
+                ImageMetadata.of(IMAGE_FILENAME, IMAGE_DATA.length, MEDIA_TYPE, LAST_MODIFIED));
 
         doNothing().when(imageValidator).validatePostId(VALID_POST_ID);
         when(imageRepository.existsPostById(VALID_POST_ID)).thenReturn(true);
         when(imageRepository.findImageFileNameByPostId(VALID_POST_ID)).thenReturn(Optional.of(IMAGE_FILENAME));
-        when(fileStorageService.loadImageFile(URL)).thenReturn(IMAGE_DATA);
+        when(fileStorageService.loadImageFile(URL)).thenReturn(IMAGE_RESOURCE);
+        when(fileStorageService.readImageHeader(URL, ImageContentTypeDetector.SIGNATURE_LENGTH)).thenReturn(IMAGE_DATA);
         when(contentTypeDetector.detect(IMAGE_DATA)).thenReturn(MEDIA_TYPE);
 
         ImageResponseDto result = imageService.getPostImage(VALID_POST_ID);
 
-        assertEquals(expectedResponse.mediaType(), result.mediaType());
-        assertArrayEquals(expectedResponse.data(), result.data());
+        assertEquals(expectedResponse.metadata(), result.metadata());
+        assertSame(expectedResponse.image(), result.image());
 
         verify(imageValidator).validatePostId(VALID_POST_ID);
         verify(imageRepository).existsPostById(VALID_POST_ID);
         verify(imageRepository).findImageFileNameByPostId(VALID_POST_ID);
         verify(fileStorageService).loadImageFile(URL);
+        verify(fileStorageService).readImageHeader(URL, ImageContentTypeDetector.SIGNATURE_LENGTH);
         verify(contentTypeDetector).detect(IMAGE_DATA);
     }
 
@@ -150,22 +156,33 @@ class ImageServiceGetPostImageTest extends ImageServiceTestBase {
 
     /**
      * Проверяет, что при отсутствии имени файла изображения для поста
-     * сервис возвращает пустые данные и тип mediaType APPLICATION_OCTET_STREAM.
+     * сервис возвращает пустой ресурс и тип mediaType APPLICATION_OCTET_STREAM.
      */
     @Test
-    @DisplayName("Пустой ответ при отсутствии изображения: массив byte[] пуст, mediaType=APPLICATION_OCTET_STREAM")
+    @DisplayName("Пустой ответ при отсутствии изображения: ресурс пуст, mediaType=APPLICATION_OCTET_STREAM")
     void getPostImageWhenNoImageFileTest() throws IOException {
         when(imageRepository.existsPostById(VALID_POST_ID)).thenReturn(true);
         when(imageRepository.findImageFileNameByPostId(VALID_POST_ID)).thenReturn(Optional.empty());
 
         ImageResponseDto result = imageService.getPostImage(VALID_POST_ID);
 
-        assertThat(result.data()).isEmpty();
+        assertThat(result.image().contentLength()).isZero();
         assertThat(result.mediaType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM);
 
         verify(imageRepository).findImageFileNameByPostId(VALID_POST_ID);
         verify(fileStorageService, never()).loadImageFile(anyString());
         verify(contentTypeDetector, never()).detect(any());
     }
-}
 
+    /**
+     * Проверяет, что для поста, отсутствующего в фильтре, база данных не запрашивается.
+     */
+    @Test
+    @DisplayName("Должен выбросить исключение без запроса к базе если пост отсутствует в фильтре")
+    void shouldThrowWithoutQueryWhenFilterMissesTest() {
+        when(postIdFilter.mightContain(INVALID_POST_ID)).thenReturn(false);
+
+        assertThrows(EmptyResultDataAccessException.class, () -> imageService.getPostImage(INVALID_POST_ID));
+        verifyNoInteractions(imageRepository, fileStorageService);
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.habatoo.service.imageservice;
+
+import io.github.habatoo.service.ImageContentTypeDetector;
+import io.github.habatoo.service.dto.ImageMetadata;
+import io.github.habatoo.service.dto.ImageResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты работы ImageServiceImpl с кэшем метаданных изображений.
+ */
+@DisplayName("Тесты кэша метаданных изображений в ImageServiceImpl")
+class ImageServiceMetadataCacheTest extends ImageServiceTestBase {
+
+    @BeforeEach
+    void enableCache() {
+        createImageService(ENABLED_CACHE_PROPERTIES);
+    }
+
+    @Test
+    @DisplayName("Повторное получение изображения не должно обращаться к базе данных")
+    void shouldServeSecondRequestWithoutDatabaseTest() throws IOException {
+        when(imageRepository.existsPostById(VALID_POST_ID)).thenReturn(true);
+        when(imageRepository.findImageFileNameByPostId(VALID_POST_ID)).thenReturn(Optional.of(IMAGE_FILENAME));
+        when(fileStorageService.loadImageFile(URL)).thenReturn(IMAGE_RESOURCE);
+        when(fileStorageService.readImageHeader(URL, ImageContentTypeDetector.SIGNATURE_LENGTH)).thenReturn(IMAGE_DATA);
+        when(contentTypeDetector.detect(IMAGE_DATA)).thenReturn(MEDIA_TYPE);
+
+        imageService.getPostImage(VALID_POST_ID);
+        ImageResponseDto second = imageService.getPostImage(VALID_POST_ID);
+
+        assertSame(IMAGE_RESOURCE, second.image());
+        assertEquals(MEDIA_TYPE, second.mediaType());
+        assertEquals(ImageMetadata.of(IMAGE_FILENAME, IMAGE_DATA.length, MEDIA_TYPE, LAST_MODIFIED),
+                imageMetadataCache.get(VALID_POST_ID));
+        verify(imageRepository, times(1)).existsPostById(VALID_POST_ID);
+        verify(imageRepository, times(1)).findImageFileNameByPostId(VALID_POST_ID);
+        verify(contentTypeDetector, times(1)).detect(IMAGE_DATA);
+        verify(fileStorageService, times(1)).readImageHeader(URL, ImageContentTypeDetector.SIGNATURE_LENGTH);
+        verify(fileStorageService, times(2)).loadImageFile(URL);
+    }
+
+    @Test
+    @DisplayName("Должен кэшировать отсутствие изображения у поста")
+    void shouldCacheMissingImageTest() throws IOException {
+        when(imageRepository.existsPostById(VALID_POST_ID)).thenReturn(true);
+        when(imageRepository.findImageFileNameByPostId(VALID_POST_ID)).thenReturn(Optional.empty());
+
+        imageService.getPostImage(VALID_POST_ID);
+        ImageResponseDto second = imageService.getPostImage(VALID_POST_ID);
+
+        assertEquals(0, second.image().contentLength());
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, second.mediaType());
+        verify(imageRepository, times(1)).findImageFileNameByPostId(VALID_POST_ID);
+        verifyNoInteractions(fileStorageService);
+    }
+
+    @Test
+    @DisplayName("Должен сбросить запись кэша при обновлении изображения")
+    void shouldEvictEntryOnUpdateTest() {
+        MultipartFile imageFile = createMultipartFile(false, ORIGINAL_FILENAME, IMAGE_SIZE);
+        imageMetadataCache.put(VALID_POST_ID, ImageMetadata.NO_IMAGE);
+        when(imageRepository.existsPostById(VALID_POST_ID)).thenReturn(true);
+        when(imageRepository.findImageFileNameByPostId(VALID_POST_ID)).thenReturn(Optional.empty());
+
+        imageService.updatePostImage(VALID_POST_ID, imageFile);
+
+        assertNull(imageMetadataCache.get(VALID_POST_ID));
+    }
+
+    @Test
+    @DisplayName("Должен перейти к проверке в базе, если файл из кэша недоступен")
+    void shouldFallBackToDatabaseWhenCachedFileIsMissingTest() throws IOException {
+        imageMetadataCache.put(VALID_POST_ID, ImageMetadata.of(IMAGE_FILENAME, IMAGE_SIZE, MEDIA_TYPE, LAST_MODIFIED));
+        when(fileStorageService.loadImageFile(URL)).thenThrow(new NoSuchFileException(URL));
+        when(imageRepository.existsPostById(VALID_POST_ID)).thenReturn(false);
+
+        assertThrows(EmptyResultDataAccessException.class, () -> imageService.getPostImage(VALID_POST_ID));
+        assertNull(imageMetadataCache.get(VALID_POST_ID));
+    }
+
+    @Test
+    @DisplayName("Метаданные из кэша должны возвращаться без обращения к базе данных и диску")
+    void shouldReturnCachedMetadataWithoutDatabaseAndDiskTest() {
+        ImageMetadata metadata = ImageMetadata.of(IMAGE_FILENAME, IMAGE_SIZE, MEDIA_TYPE, LAST_MODIFIED);
+        imageMetadataCache.put(VALID_POST_ID, metadata);
+
+        assertSame(metadata, imageService.getPostImageMetadata(VALID_POST_ID));
+        verifyNoInteractions(imageRepository, fileStorageService, contentTypeDetector);
+    }
+
+    @Test
+    @DisplayName("При отсутствии в кэше метаданные должны загружаться без чтения содержимого файла")
+    void shouldLoadAndCacheMetadataOnMissTest() throws IOException {
+        when(imageRepository.existsPostById(VALID_POST_ID)).thenReturn(true);
+        when(imageRepository.findImageFileNameByPostId(VALID_POST_ID)).thenReturn(Optional.of(IMAGE_FILENAME));
+        when(fileStorageService.loadImageFile(URL)).thenReturn(IMAGE_RESOURCE);
+        when(fileStorageService.readImageHeader(URL, ImageContentTypeDetector.SIGNATURE_LENGTH)).thenReturn(IMAGE_DATA);
+        when(contentTypeDetector.detect(IMAGE_DATA)).thenReturn(MEDIA_TYPE);
+
+        ImageMetadata metadata = imageService.getPostImageMetadata(VALID_POST_ID);
+
+        assertEquals(ImageMetadata.of(IMAGE_FILENAME, IMAGE_DATA.length, MEDIA_TYPE, LAST_MODIFIED), metadata);
+        assertEquals(metadata, imageMetadataCache.get(VALID_POST_ID));
+    }
+
+    @Test
+    @DisplayName("Запрос метаданных несуществующего поста должен завершаться исключением")
+    void shouldThrowForMetadataOfMissingPostTest() {
+        when(imageRepository.existsPostById(INVALID_POST_ID)).thenReturn(false);
+
+        assertThrows(EmptyResultDataAccessException.class, () -> imageService.getPostImageMetadata(INVALID_POST_ID));
+    }
+}
@@ -1,17 +1,30 @@
 package io.github.habatoo.service.imageservice;
 
+import io.github.habatoo.properties.CoalescingProperties;
+import io.github.habatoo.properties.ImageCacheProperties;
 import io.github.habatoo.repositories.ImageRepository;
 import io.github.habatoo.service.FileStorageService;
+import io.github.habatoo.service.HotKeyTracker;
 import io.github.habatoo.service.ImageContentTypeDetector;
+import io.github.habatoo.service.ImageMetadataCache;
 import io.github.habatoo.service.ImageValidator;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.impl.ImageMetadataCacheImpl;
 import io.github.habatoo.service.impl.ImageServiceImpl;
+import io.github.habatoo.service.impl.RequestCoalescerImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 
@@ -33,6 +46,14 @@ abstract class ImageServiceTestBase {
     @Mock
     protected ImageContentTypeDetector contentTypeDetector;
 
+    @Mock
+    protected PostIdFilter postIdFilter;
+
+    @Mock
+    protected HotKeyTracker hotKeyTracker;
+
+    protected ImageMetadataCache imageMetadataCache;
+
     protected ImageServiceImpl imageService;
 
     protected static final Long VALID_POST_ID = 1L;
@@ -43,15 +64,35 @@ abstract class ImageServiceTestBase {
     protected static final long IMAGE_SIZE = 123456L;
 
     protected static final byte[] IMAGE_DATA = new byte[]{1, 2, 3, 4, 5};
+    protected static final Instant LAST_MODIFIED = Instant.parse("2025-01-01T00:00:00Z");
+    protected static final Resource IMAGE_RESOURCE = new ByteArrayResource(IMAGE_DATA) {
+        @Override
+        public long lastModified() {
+            return LAST_MODIFIED.toEpochMilli();
+        }
+    };
     protected static final MediaType MEDIA_TYPE = MediaType.IMAGE_JPEG;
 
+    protected static final ImageCacheProperties DISABLED_CACHE_PROPERTIES = new ImageCacheProperties(false, 16, 1);
+    protected static final ImageCacheProperties ENABLED_CACHE_PROPERTIES = new ImageCacheProperties(true, 16, 1);
+
     @BeforeEach
     void setUp() {
+        lenient().when(postIdFilter.mightContain(anyLong())).thenReturn(true);
+        createImageService(DISABLED_CACHE_PROPERTIES);
+    }
+
+    protected void createImageService(ImageCacheProperties imageCacheProperties) {
+        imageMetadataCache = new ImageMetadataCacheImpl(imageCacheProperties);
         imageService = new ImageServiceImpl(
                 imageRepository,
                 fileStorageService,
                 imageValidator,
-                contentTypeDetector
+                contentTypeDetector,
+                postIdFilter,
+                imageMetadataCache,
+                new RequestCoalescerImpl(new CoalescingProperties(true, Duration.ofSeconds(5))),
+                hotKeyTracker
         );
     }
 
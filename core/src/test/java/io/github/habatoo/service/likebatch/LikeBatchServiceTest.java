@@ -0,0 +1,137 @@
+package io.github.habatoo.service.likebatch;
+
+import io.github.habatoo.dto.request.LikeBatchRequestDto;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
+import io.github.habatoo.properties.LikeBatchProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.LikeBuffer;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.LikeBatchServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты пакетной записи лайков LikeBatchServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты LikeBatchServiceImpl")
+class LikeBatchServiceTest {
+
+    private static final String KEY = "batch-1";
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private LikeBuffer likeBuffer;
+
+    @Mock
+    private PostListPrefetcher postListPrefetcher;
+
+    @Mock
+    private PostEventBroadcaster postEventBroadcaster;
+
+    private LikeBatchServiceImpl likeBatchService;
+
+    @BeforeEach
+    void setUp() {
+        likeBatchService = new LikeBatchServiceImpl(
+                new LikeBatchProperties(2, 10, Duration.ofHours(24), Duration.ofHours(1)),
+                postRepository, likeBuffer, postListPrefetcher, postEventBroadcaster);
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeBatchService.destroy();
+    }
+
+    @Test
+    @DisplayName("Должен применить пакет и сбросить предзагруженные страницы")
+    void shouldApplyBatchTest() {
+        Map<Long, Integer> likes = Map.of(1L, 3);
+        when(postRepository.applyLikeBatch(KEY, likes)).thenReturn(new LikeBatchResponseDto(Map.of(1L, 8), false));
+
+        LikeBatchResponseDto result = likeBatchService.applyLikes(new LikeBatchRequestDto(KEY, likes));
+
+        assertEquals(Map.of(1L, 8), result.likes());
+        assertFalse(result.replayed());
+        verify(postListPrefetcher).invalidate();
+        verify(postEventBroadcaster).publishLikes(1L, 8);
+    }
+
+    @Test
+    @DisplayName("Повторный пакет не должен сбрасывать предзагруженные страницы")
+    void shouldNotInvalidateOnReplayTest() {
+        Map<Long, Integer> likes = Map.of(1L, 3);
+        when(postRepository.applyLikeBatch(KEY, likes)).thenReturn(new LikeBatchResponseDto(Map.of(1L, 8), true));
+
+        LikeBatchResponseDto result = likeBatchService.applyLikes(new LikeBatchRequestDto(KEY, likes));
+
+        assertTrue(result.replayed());
+        verifyNoInteractions(postListPrefetcher, postEventBroadcaster);
+    }
+
+    @Test
+    @DisplayName("Должен добавить лайки, ожидающие записи в буфере")
+    void shouldAddPendingLikesTest() {
+        Map<Long, Integer> likes = Map.of(1L, 3);
+        when(postRepository.applyLikeBatch(KEY, likes)).thenReturn(new LikeBatchResponseDto(Map.of(1L, 8), false));
+        when(likeBuffer.isEnabled()).thenReturn(true);
+        when(likeBuffer.pending(1L)).thenReturn(2L);
+
+        LikeBatchResponseDto result = likeBatchService.applyLikes(new LikeBatchRequestDto(KEY, likes));
+
+        assertEquals(Map.of(1L, 10), result.likes());
+    }
+
+    @Test
+    @DisplayName("Должен отклонить пакет без ключа идемпотентности")
+    void shouldRejectMissingKeyTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> likeBatchService.applyLikes(new LikeBatchRequestDto(" ", Map.of(1L, 1))));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Должен отклонить пустой пакет и пакет больше допустимого размера")
+    void shouldRejectInvalidSizeTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> likeBatchService.applyLikes(new LikeBatchRequestDto(KEY, Map.of())));
+        assertThrows(IllegalArgumentException.class,
+                () -> likeBatchService.applyLikes(new LikeBatchRequestDto(KEY, Map.of(1L, 1, 2L, 1, 3L, 1))));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Должен отклонить неположительное и слишком большое количество лайков")
+    void shouldRejectInvalidDeltaTest() {
+        assertThrows(IllegalArgumentException.class,
+                () -> likeBatchService.applyLikes(new LikeBatchRequestDto(KEY, Map.of(1L, 0))));
+        assertThrows(IllegalArgumentException.class,
+                () -> likeBatchService.applyLikes(new LikeBatchRequestDto(KEY, Map.of(1L, 11))));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Должен удалить устаревшие ключи идемпотентности")
+    void shouldPurgeExpiredKeysTest() {
+        when(postRepository.deleteLikeBatchKeysBefore(any(LocalDateTime.class))).thenReturn(4);
+
+        assertEquals(4, likeBatchService.purgeExpiredKeys());
+        verify(postRepository).deleteLikeBatchKeysBefore(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.habatoo.service.likebuffer;
+
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.LikeBufferImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты отложенной записи лайков LikeBufferImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты LikeBufferImpl")
+class LikeBufferTest {
+
+    private static final long POST_ID = 1L;
+    private static final long OTHER_POST_ID = 2L;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostListPrefetcher postListPrefetcher;
+
+    private LikeBufferImpl likeBuffer;
+
+    @AfterEach
+    void tearDown() {
+        if (likeBuffer != null) {
+            likeBuffer.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Лайк должен возвращать записанное количество плюс ожидающие лайки без записи в базу")
+    void shouldReturnPersistedPlusPendingTest() {
+        likeBuffer = buffer(10_000);
+        when(postRepository.getLikesCount(POST_ID)).thenReturn(5);
+
+        assertEquals(6, likeBuffer.increment(POST_ID));
+        assertEquals(7, likeBuffer.increment(POST_ID));
+        assertEquals(2, likeBuffer.pending(POST_ID));
+        verify(postRepository, times(1)).getLikesCount(POST_ID);
+        verify(postRepository, never()).addLikes(anyMap());
+        verify(postRepository, never()).incrementLikes(anyLong());
+    }
+
+    @Test
+    @DisplayName("Сброс должен записывать накопленные лайки одним пакетом")
+    void shouldFlushAccumulatedLikesInBatchTest() {
+        likeBuffer = buffer(10_000);
+        when(postRepository.getLikesCount(POST_ID)).thenReturn(5);
+        when(postRepository.getLikesCount(OTHER_POST_ID)).thenReturn(0);
+        when(postRepository.addLikes(Map.of(POST_ID, 3L, OTHER_POST_ID, 2L)))
+                .thenReturn(Map.of(POST_ID, 9, OTHER_POST_ID, 2));
+        likeBuffer.increment(POST_ID);
+        likeBuffer.increment(POST_ID);
+        likeBuffer.increment(POST_ID);
+        assertEquals(1, likeBuffer.increment(OTHER_POST_ID));
+        likeBuffer.increment(OTHER_POST_ID);
+
+        likeBuffer.flush();
+
+        verify(postRepository).addLikes(Map.of(POST_ID, 3L, OTHER_POST_ID, 2L));
+        assertEquals(0, likeBuffer.pending(POST_ID));
+        assertEquals(10, likeBuffer.increment(POST_ID));
+        verify(postRepository, times(1)).getLikesCount(POST_ID);
+    }
+
+    @Test
+    @DisplayName("После сброса количество лайков должно заменяться на закэшированных страницах без их сброса")
+    void shouldUpdatePrefetcherLikesAfterFlushTest() {
+        likeBuffer = buffer(10_000);
+        when(postRepository.getLikesCount(POST_ID)).thenReturn(0);
+        when(postRepository.addLikes(Map.of(POST_ID, 1L))).thenReturn(Map.of(POST_ID, 1));
+        likeBuffer.increment(POST_ID);
+
+        likeBuffer.flush();
+
+        verify(postListPrefetcher).updateLikes(Map.of(POST_ID, 1));
+        verify(postListPrefetcher, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("При ошибке записи лайки должны оставаться в буфере")
+    void shouldKeepLikesWhenFlushFailsTest() {
+        likeBuffer = buffer(10_000);
+        when(postRepository.getLikesCount(POST_ID)).thenReturn(0);
+        likeBuffer.increment(POST_ID);
+        likeBuffer.increment(POST_ID);
+        doThrow(new DataAccessResourceFailureException("down")).when(postRepository).addLikes(Map.of(POST_ID, 2L));
+
+        assertThrows(DataAccessResourceFailureException.class, () -> likeBuffer.flush());
+        assertEquals(2, likeBuffer.pending(POST_ID));
+        assertEquals(3, likeBuffer.increment(POST_ID));
+    }
+
+    @Test
+    @DisplayName("Лайк должен возвращаться без ожидания, даже если база данных недоступна для записи")
+    void shouldNotWaitForFlushWhenDatabaseFailsTest() {
+        likeBuffer = buffer(10_000);
+        when(postRepository.getLikesCount(POST_ID)).thenReturn(4);
+
+        assertEquals(5, likeBuffer.increment(POST_ID));
+        assertEquals(1, likeBuffer.pending(POST_ID));
+        verify(postRepository, never()).addLikes(anyMap());
+    }
+
+    @Test
+    @DisplayName("При достижении лимита незаписанных лайков сброс должен выполняться фоновым потоком")
+    void shouldRequestFlushWhenPendingLimitReachedTest() {
+        likeBuffer = buffer(2);
+        when(postRepository.getLikesCount(POST_ID)).thenReturn(0);
+        when(postRepository.addLikes(Map.of(POST_ID, 2L))).thenReturn(Map.of(POST_ID, 2));
+        likeBuffer.increment(POST_ID);
+
+        likeBuffer.increment(POST_ID);
+
+        verify(postRepository, timeout(1000)).addLikes(Map.of(POST_ID, 2L));
+    }
+
+    @Test
+    @DisplayName("Лайк несуществующего поста должен приводить к исключению")
+    void shouldThrowForMissingPostTest() {
+        likeBuffer = buffer(10_000);
+        when(postRepository.getLikesCount(POST_ID)).thenThrow(new EmptyResultDataAccessException(1));
+
+        assertThrows(EmptyResultDataAccessException.class, () -> likeBuffer.increment(POST_ID));
+        assertEquals(0, likeBuffer.pending(POST_ID));
+    }
+
+    @Test
+    @DisplayName("Лайки удалённого поста должны отбрасываться при сбросе")
+    void shouldDropLikesOfDeletedPostTest() {
+        likeBuffer = buffer(10_000);
+        when(postRepository.getLikesCount(POST_ID)).thenReturn(0, 7);
+        when(postRepository.addLikes(Map.of(POST_ID, 2L))).thenReturn(Map.of());
+        likeBuffer.increment(POST_ID);
+        likeBuffer.increment(POST_ID);
+
+        likeBuffer.flush();
+
+        assertEquals(0, likeBuffer.pending(POST_ID));
+        assertEquals(8, likeBuffer.increment(POST_ID));
+    }
+
+    @Test
+    @DisplayName("При остановке контекста должны записываться оставшиеся лайки")
+    void shouldFlushOnDestroyTest() {
+        likeBuffer = buffer(10_000);
+        when(postRepository.getLikesCount(POST_ID)).thenReturn(0);
+        when(postRepository.addLikes(Map.of(POST_ID, 2L))).thenReturn(Map.of(POST_ID, 2));
+        likeBuffer.increment(POST_ID);
+        likeBuffer.increment(POST_ID);
+
+        likeBuffer.destroy();
+        likeBuffer = null;
+
+        verify(postRepository).addLikes(Map.of(POST_ID, 2L));
+    }
+
+    private LikeBufferImpl buffer(long maxPending) {
+        return new LikeBufferImpl(
+                new LikeBufferProperties(true, Duration.ofHours(1), 500, maxPending),
+                postRepository, postListPrefetcher);
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.habatoo.service.likeshardcompactor;
+
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.properties.LikeShardProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.impl.LikeShardCompactorImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты сворачивания шардов лайков LikeShardCompactorImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты LikeShardCompactorImpl")
+class LikeShardCompactorTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final LikeShardProperties LIKE_SHARD_PROPERTIES =
+            new LikeShardProperties(16, Duration.ofSeconds(30), BATCH_SIZE);
+
+    @Mock
+    private PostRepository postRepository;
+
+    private LikeShardCompactorImpl compactor;
+
+    @BeforeEach
+    void setUp() {
+        compactor = new LikeShardCompactorImpl(LIKE_SHARD_PROPERTIES, likeBuffer(false), postRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        compactor.destroy();
+    }
+
+    @Test
+    @DisplayName("Должен сворачивать шарды пакетами, пока пакет заполнен")
+    void shouldFoldUntilBatchIsNotFullTest() {
+        when(postRepository.foldLikeShards(BATCH_SIZE)).thenReturn(BATCH_SIZE, BATCH_SIZE, 7);
+
+        assertEquals(2 * BATCH_SIZE + 7, compactor.compact());
+        verify(postRepository, times(3)).foldLikeShards(BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Должен выполнить один запрос, если сворачивать нечего")
+    void shouldStopWhenNothingFoldedTest() {
+        when(postRepository.foldLikeShards(BATCH_SIZE)).thenReturn(0);
+
+        assertEquals(0, compactor.compact());
+        verify(postRepository, times(1)).foldLikeShards(BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("При включённом буфере лайков должен однократно свернуть шарды после старта")
+    void shouldCompactOnceWhenLikeBufferEnabledTest() {
+        compactor.destroy();
+        compactor = new LikeShardCompactorImpl(LIKE_SHARD_PROPERTIES, likeBuffer(true), postRepository);
+        when(postRepository.foldLikeShards(BATCH_SIZE)).thenReturn(3);
+
+        compactor.onApplicationEvent(mock(ApplicationReadyEvent.class));
+
+        verify(postRepository, timeout(1000).times(1)).foldLikeShards(BATCH_SIZE);
+    }
+
+    private static LikeBufferProperties likeBuffer(boolean enabled) {
+        return new LikeBufferProperties(enabled, Duration.ofMillis(200), 500, 10000);
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.habatoo.service.postchangenotifier;
+
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.service.CommentListCache;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.PostChangeNotifierImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты оповещения об изменениях постов PostChangeNotifierImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты PostChangeNotifierImpl")
+class PostChangeNotifierTest {
+
+    private static final Long POST_ID = 1L;
+    private static final PostResponseDto POST = new PostResponseDto(POST_ID, "Заголовок", "Текст", List.of("tag"), 0, 0);
+
+    @Mock
+    private PostIdFilter postIdFilter;
+
+    @Mock
+    private PostListPrefetcher postListPrefetcher;
+
+    @Mock
+    private ImageMetadataCache imageMetadataCache;
+
+    @Mock
+    private CommentListCache commentListCache;
+
+    @Mock
+    private PostEventBroadcaster postEventBroadcaster;
+
+    private PostChangeNotifierImpl postChangeNotifier;
+
+    @BeforeEach
+    void setUp() {
+        postChangeNotifier = new PostChangeNotifierImpl(postIdFilter, postListPrefetcher, imageMetadataCache,
+                commentListCache, postEventBroadcaster);
+    }
+
+    @Test
+    @DisplayName("Создание поста должно добавлять его в фильтр и сбрасывать кэш страниц")
+    void shouldRegisterCreatedPostTest() {
+        postChangeNotifier.postCreated(POST);
+
+        verify(postIdFilter).add(POST_ID);
+        verify(postListPrefetcher).invalidate();
+    }
+
+    @Test
+    @DisplayName("Изменение поста и его счётчиков должно сбрасывать кэш страниц")
+    void shouldInvalidatePagesOnUpdateTest() {
+        postChangeNotifier.postUpdated(POST);
+        postChangeNotifier.countersChanged(POST_ID);
+
+        verify(postListPrefetcher, times(2)).invalidate();
+        verifyNoInteractions(postIdFilter, postEventBroadcaster);
+    }
+
+    @Test
+    @DisplayName("Удаление поста должно очищать фильтр и кэши и оповещать подписчиков")
+    void shouldCleanUpDeletedPostTest() {
+        postChangeNotifier.postDeleted(POST_ID);
+
+        verify(postIdFilter).remove(POST_ID);
+        verify(imageMetadataCache).remove(POST_ID);
+        verify(commentListCache).invalidate(POST_ID);
+        verify(postListPrefetcher).invalidate();
+        verify(postEventBroadcaster).publish(POST_ID, PostEventBroadcaster.POST_DELETED, null);
+    }
+
+    @Test
+    @DisplayName("Изменение количества лайков должно отправляться подписчикам")
+    void shouldPublishLikesTest() {
+        postChangeNotifier.likesChanged(POST_ID, 7);
+
+        verify(postEventBroadcaster).publishLikes(POST_ID, 7);
+        verifyNoInteractions(postListPrefetcher);
+    }
+}
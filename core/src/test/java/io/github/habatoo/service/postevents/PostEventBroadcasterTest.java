@@ -0,0 +1,180 @@
+package io.github.habatoo.service.postevents;
+
+import io.github.habatoo.dto.response.PostEventDto;
+import io.github.habatoo.properties.PostEventProperties;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.impl.PostEventBroadcasterImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты рассылки событий поста PostEventBroadcasterImpl.
+ */
+@DisplayName("Тесты PostEventBroadcasterImpl")
+class PostEventBroadcasterTest {
+
+    private static final long POST_ID = 1L;
+
+    private final PostEventBroadcasterImpl broadcaster = new PostEventBroadcasterImpl(
+            new PostEventProperties(Duration.ofMillis(50), Duration.ofHours(1), Duration.ofMinutes(30), 4));
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    @DisplayName("Должен доставлять события поста подписчику в порядке публикации")
+    void shouldDeliverEventsInOrderTest() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        broadcaster.subscribe(POST_ID, subscriber);
+
+        broadcaster.publish(POST_ID, PostEventBroadcaster.COMMENT_CREATED, "первый");
+        broadcaster.publish(2L, PostEventBroadcaster.COMMENT_CREATED, "другой пост");
+        broadcaster.publish(POST_ID, PostEventBroadcaster.COMMENT_UPDATED, "второй");
+
+        assertEquals(new PostEventDto(PostEventBroadcaster.COMMENT_CREATED, POST_ID, "первый"), subscriber.next());
+        assertEquals(new PostEventDto(PostEventBroadcaster.COMMENT_UPDATED, POST_ID, "второй"), subscriber.next());
+        assertNull(subscriber.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Не должен доставлять события после отмены подписки")
+    void shouldStopDeliveryAfterUnsubscribeTest() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        Runnable unsubscribe = broadcaster.subscribe(POST_ID, subscriber);
+
+        unsubscribe.run();
+        unsubscribe.run();
+        broadcaster.publish(POST_ID, PostEventBroadcaster.COMMENT_CREATED, "комментарий");
+
+        assertNull(subscriber.events.poll(100, TimeUnit.MILLISECONDS));
+        assertFalse(subscriber.closed);
+    }
+
+    @Test
+    @DisplayName("Должен отправлять последнее количество лайков не чаще одного раза за интервал")
+    void shouldCoalesceLikesTest() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        broadcaster.subscribe(POST_ID, subscriber);
+
+        broadcaster.publishLikes(POST_ID, 10);
+        broadcaster.publishLikes(POST_ID, 12);
+        broadcaster.publishLikes(POST_ID, 11);
+
+        assertEquals(new PostEventDto(PostEventBroadcaster.LIKES, POST_ID, 12), subscriber.next());
+        assertNull(subscriber.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Должен закрывать подписку после ошибки отправки")
+    void shouldCloseSubscriptionOnSendFailureTest() throws InterruptedException {
+        CountDownLatch closed = new CountDownLatch(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        broadcaster.bindTo(registry);
+        broadcaster.subscribe(POST_ID, new PostEventBroadcaster.Subscriber() {
+            @Override
+            public void send(PostEventDto event) throws IOException {
+                throw new IOException("соединение закрыто");
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        });
+
+        broadcaster.publish(POST_ID, PostEventBroadcaster.COMMENT_CREATED, "комментарий");
+
+        assertTrue(closed.await(1, TimeUnit.SECONDS));
+        assertEquals(0.0, registry.get("blog.events.subscribers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Должен закрывать подписку медленного подписчика при переполнении очереди")
+    void shouldDropSlowSubscriberTest() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        broadcaster.bindTo(registry);
+        broadcaster.subscribe(POST_ID, new PostEventBroadcaster.Subscriber() {
+            @Override
+            public void send(PostEventDto event) {
+                sending.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        });
+
+        broadcaster.publish(POST_ID, PostEventBroadcaster.COMMENT_CREATED, 0);
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.publish(POST_ID, PostEventBroadcaster.COMMENT_CREATED, i);
+        }
+        release.countDown();
+
+        assertTrue(closed.await(1, TimeUnit.SECONDS));
+        assertEquals(1.0, registry.get("blog.events.dropped").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Должен закрывать подписку после события удаления поста")
+    void shouldCloseSubscriptionAfterPostDeletedTest() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        broadcaster.subscribe(POST_ID, subscriber);
+
+        broadcaster.publish(POST_ID, PostEventBroadcaster.POST_DELETED, null);
+
+        assertEquals(PostEventBroadcaster.POST_DELETED, subscriber.next().type());
+        assertTrue(subscriber.closedLatch.await(1, TimeUnit.SECONDS));
+        broadcaster.publish(POST_ID, PostEventBroadcaster.COMMENT_CREATED, "комментарий");
+        assertNull(subscriber.events.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Подписчик, сохраняющий полученные события.
+     */
+    private static final class RecordingSubscriber implements PostEventBroadcaster.Subscriber {
+
+        private final BlockingQueue<PostEventDto> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch closedLatch = new CountDownLatch(1);
+        private volatile boolean closed;
+
+        @Override
+        public void send(PostEventDto event) {
+            events.add(event);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            closedLatch.countDown();
+        }
+
+        PostEventDto next() throws InterruptedException {
+            PostEventDto event = events.poll(1, TimeUnit.SECONDS);
+            assertNotNull(event);
+            return event;
+        }
+    }
+}
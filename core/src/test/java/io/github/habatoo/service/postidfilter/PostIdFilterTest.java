@@ -0,0 +1,178 @@
+package io.github.habatoo.service.postidfilter;
+
+import io.github.habatoo.properties.PostFilterProperties;
+import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.impl.PostIdFilterImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты фильтра идентификаторов существующих постов PostIdFilterImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты PostIdFilterImpl")
+class PostIdFilterTest {
+
+    private static final int LOADED_POSTS = 1000;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostIdFilterImpl postIdFilter;
+
+    @AfterEach
+    void tearDown() {
+        postIdFilter.destroy();
+    }
+
+    @Test
+    @DisplayName("Должен считать любой пост возможно существующим до построения фильтра")
+    void shouldContainAnyIdBeforeRebuildTest() {
+        postIdFilter = new PostIdFilterImpl(properties(true), postRepository);
+
+        assertTrue(postIdFilter.mightContain(42L));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Должен содержать все загруженные посты и отсекать большинство отсутствующих")
+    void shouldContainLoadedIdsAfterRebuildTest() {
+        postIdFilter = new PostIdFilterImpl(properties(true), postRepository);
+        long[] loaded = LongStream.rangeClosed(1, LOADED_POSTS).map(id -> id * 2).toArray();
+        mockPosts(loaded);
+
+        postIdFilter.rebuild();
+
+        LongStream.of(loaded).forEach(id -> assertTrue(postIdFilter.mightContain(id)));
+        long falsePositives = LongStream.of(loaded)
+                .map(id -> id - 1)
+                .filter(postIdFilter::mightContain)
+                .count();
+        assertTrue(falsePositives < LOADED_POSTS / 20, "Слишком много ложноположительных ответов: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Должен учитывать создание и удаление постов после построения фильтра")
+    void shouldTrackAddAndRemoveTest() {
+        postIdFilter = new PostIdFilterImpl(properties(true), postRepository);
+        mockPosts(1L, 2L, 3L, 1000L);
+        postIdFilter.rebuild();
+
+        postIdFilter.add(100L);
+        assertTrue(postIdFilter.mightContain(100L));
+
+        postIdFilter.remove(100L);
+        assertFalse(postIdFilter.mightContain(100L));
+        assertTrue(postIdFilter.mightContain(1L));
+    }
+
+    @Test
+    @DisplayName("Идентификаторы больше наибольшего загруженного должны проверяться в базе данных")
+    void shouldContainIdsAboveMaxLoadedIdTest() {
+        postIdFilter = new PostIdFilterImpl(properties(true), postRepository);
+        mockPosts(LongStream.rangeClosed(1, LOADED_POSTS).map(id -> id * 2).toArray());
+        postIdFilter.rebuild();
+
+        LongStream.rangeClosed(LOADED_POSTS * 2L + 1, LOADED_POSTS * 3L)
+                .forEach(id -> assertTrue(postIdFilter.mightContain(id)));
+        assertTrue(LongStream.rangeClosed(1, LOADED_POSTS).map(id -> id * 2 - 1)
+                .anyMatch(id -> !postIdFilter.mightContain(id)));
+    }
+
+    @Test
+    @DisplayName("Пост, созданный во время перестроения, должен остаться в новом фильтре")
+    void shouldKeepIdAddedDuringRebuildTest() {
+        postIdFilter = new PostIdFilterImpl(properties(true), postRepository);
+        when(postRepository.countPosts("", List.of())).thenReturn(1);
+        doAnswer(invocation -> {
+            LongConsumer consumer = invocation.getArgument(0);
+            consumer.accept(1L);
+            postIdFilter.add(500L);
+            return null;
+        }).when(postRepository).forEachPostId(any());
+
+        postIdFilter.rebuild();
+
+        assertTrue(postIdFilter.mightContain(1L));
+        assertTrue(postIdFilter.mightContain(500L));
+    }
+
+    @Test
+    @DisplayName("Удаление поста, не добавленного после построения, не должно менять счётчики")
+    void shouldNotDecrementCountersForUnknownIdTest() {
+        postIdFilter = new PostIdFilterImpl(properties(true), postRepository);
+        long[] loaded = LongStream.rangeClosed(1, LOADED_POSTS).toArray();
+        mockPosts(loaded);
+        postIdFilter.rebuild();
+
+        LongStream.rangeClosed(1, LOADED_POSTS * 2L).forEach(postIdFilter::remove);
+
+        LongStream.of(loaded).forEach(id -> assertTrue(postIdFilter.mightContain(id)));
+    }
+
+    @Test
+    @DisplayName("Запросы перестроения должны выполняться в фоновом потоке и объединяться")
+    void shouldCoalesceRebuildRequestsTest() throws InterruptedException {
+        postIdFilter = new PostIdFilterImpl(properties(true), postRepository);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(postRepository.countPosts("", List.of())).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return 1;
+        }).thenReturn(1);
+
+        postIdFilter.requestRebuild();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        postIdFilter.requestRebuild();
+        postIdFilter.requestRebuild();
+        postIdFilter.requestRebuild();
+        release.countDown();
+
+        verify(postRepository, timeout(1000).times(2)).forEachPostId(any());
+        Thread.sleep(100);
+        verify(postRepository, times(2)).countPosts("", List.of());
+    }
+
+    @Test
+    @DisplayName("Не должен обращаться к базе данных, если фильтр выключен")
+    void shouldNotRebuildWhenDisabledTest() {
+        postIdFilter = new PostIdFilterImpl(properties(false), postRepository);
+
+        postIdFilter.rebuild();
+        postIdFilter.requestRebuild();
+
+        assertTrue(postIdFilter.mightContain(42L));
+        verifyNoInteractions(postRepository);
+    }
+
+    private void mockPosts(long... ids) {
+        when(postRepository.countPosts("", List.of())).thenReturn(ids.length);
+        doAnswer(invocation -> {
+            LongConsumer consumer = invocation.getArgument(0);
+            for (long id : ids) {
+                consumer.accept(id);
+            }
+            return null;
+        }).when(postRepository).forEachPostId(any());
+    }
+
+    private static PostFilterProperties properties(boolean enabled) {
+        return new PostFilterProperties(enabled, 10_000, 0.01, Duration.ofHours(1));
+    }
+}
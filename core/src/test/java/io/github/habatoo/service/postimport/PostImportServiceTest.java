@@ -0,0 +1,123 @@
+package io.github.habatoo.service.postimport;
+
+import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.dto.response.PostImportResultDto;
+import io.github.habatoo.properties.PostImportProperties;
+import io.github.habatoo.repositories.PostImportRepository;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.PostImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты массового импорта постов PostImportServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты PostImportServiceImpl")
+class PostImportServiceTest {
+
+    @Mock
+    private PostImportRepository postImportRepository;
+
+    @Mock
+    private PostIdFilter postIdFilter;
+
+    @Mock
+    private PostListPrefetcher postListPrefetcher;
+
+    private PostImportServiceImpl postImportService;
+
+    private final List<PostCreateRequestDto> staged = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        postImportService = new PostImportServiceImpl(
+                new PostImportProperties(1), postImportRepository, postIdFilter, postListPrefetcher);
+    }
+
+    @Test
+    @DisplayName("Должен загрузить валидные посты, пропустить невалидные и перенести их в таблицы постов")
+    void shouldImportValidPostsTest() {
+        stubCopy();
+        when(postImportRepository.createImportedTags(any())).thenReturn(1);
+        when(postImportRepository.insertImportedPosts(any())).thenReturn(2);
+        when(postImportRepository.linkImportedTags(any())).thenReturn(3);
+        doAnswer(invocation -> {
+            LongConsumer consumer = invocation.getArgument(1);
+            consumer.accept(10L);
+            consumer.accept(11L);
+            return null;
+        }).when(postImportRepository).forEachImportedPostId(any(), any());
+
+        PostImportResultDto result = postImportService.importPosts(ndjson("""
+                {"title":"t1","text":"x1","tags":["a","b"],"extra":1}
+                {"title":"","text":"x"}
+                {"title":"t2","text":"x2","tags":["a"]}
+                {"title":"t3","text":"x3","tags":[" "]}
+                """));
+
+        assertEquals(2, result.imported());
+        assertEquals(2, result.skipped());
+        assertEquals(1, result.tagsCreated());
+        assertEquals(3, result.tagLinks());
+        assertEquals(List.of("t1", "t2"), staged.stream().map(PostCreateRequestDto::title).toList());
+
+        InOrder inOrder = inOrder(postImportRepository, postIdFilter, postListPrefetcher);
+        inOrder.verify(postImportRepository).copyToStaging(any(), any());
+        inOrder.verify(postImportRepository).createImportedTags(any());
+        inOrder.verify(postImportRepository).insertImportedPosts(any());
+        inOrder.verify(postImportRepository).linkImportedTags(any());
+        inOrder.verify(postImportRepository).createImportedRevisions(any());
+        inOrder.verify(postIdFilter).add(10L);
+        inOrder.verify(postIdFilter).add(11L);
+        inOrder.verify(postImportRepository).deleteStaging(any());
+        inOrder.verify(postListPrefetcher).invalidate();
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение с номером строки для невалидного JSON")
+    void shouldRejectMalformedJsonTest() {
+        stubCopy();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> postImportService.importPosts(ndjson("""
+                        {"title":"t1","text":"x1"}
+                        {"title":
+                        """)));
+
+        assertTrue(exception.getMessage().startsWith("Invalid NDJSON at line"));
+        verify(postImportRepository, never()).insertImportedPosts(any());
+        verifyNoInteractions(postListPrefetcher);
+    }
+
+    private void stubCopy() {
+        when(postImportRepository.copyToStaging(any(UUID.class), any())).thenAnswer(invocation -> {
+            Iterator<PostCreateRequestDto> posts = invocation.getArgument(1);
+            posts.forEachRemaining(staged::add);
+            return (long) staged.size();
+        });
+    }
+
+    private static InputStream ndjson(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.habatoo.service.postlistprefetcher;
+
+import io.github.habatoo.dto.response.PostListResponseDto;
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.properties.PrefetchProperties;
+import io.github.habatoo.service.impl.PostListPrefetcherImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты упреждающей загрузки страниц списка постов в PostListPrefetcherImpl.
+ */
+@DisplayName("Тесты PostListPrefetcherImpl")
+class PostListPrefetcherTest {
+
+    private static final PostListResponseDto PAGE_2 = new PostListResponseDto(List.of(), true, true, 5);
+
+    private PostListPrefetcherImpl prefetcher;
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.destroy();
+    }
+
+    @Test
+    @DisplayName("Должен выдать заранее загруженную страницу для того же нормализованного запроса")
+    void shouldServePrefetchedPageTest() throws InterruptedException {
+        prefetcher = new PostListPrefetcherImpl(properties(true, 50, 0.3), null);
+        AtomicInteger loads = new AtomicInteger();
+
+        prefetcher.prefetch("spring", List.of("java", "db"), 2, 10, () -> {
+            loads.incrementAndGet();
+            return PAGE_2;
+        });
+        awaitCondition(() -> prefetcher.find("spring", List.of("db", "java"), 2, 10).isPresent());
+
+        assertEquals(Optional.of(PAGE_2), prefetcher.find("spring", List.of("db", "java", "db"), 2, 10));
+        assertTrue(prefetcher.find("spring", List.of("java"), 2, 10).isEmpty());
+        assertTrue(prefetcher.find("spring", List.of("java", "db"), 3, 10).isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Должен сбросить кэш при изменении постов")
+    void shouldInvalidateCacheTest() throws InterruptedException {
+        prefetcher = new PostListPrefetcherImpl(properties(true, 50, 0.3), null);
+        prefetcher.prefetch("", List.of(), 2, 10, () -> PAGE_2);
+        awaitCondition(() -> prefetcher.find("", List.of(), 2, 10).isPresent());
+
+        prefetcher.invalidate();
+
+        assertTrue(prefetcher.find("", List.of(), 2, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Должен заменить количество лайков на загруженной странице, не сбрасывая её")
+    void shouldUpdateLikesInPlaceTest() throws InterruptedException {
+        prefetcher = new PostListPrefetcherImpl(properties(true, 50, 0.3), null);
+        PostResponseDto liked = new PostResponseDto(1L, "Title", "Text", List.of("java"), 3, 2);
+        PostResponseDto other = new PostResponseDto(2L, "Other", "Text", List.of(), 1, 0);
+        prefetcher.prefetch("", List.of(), 2, 10,
+                () -> new PostListResponseDto(List.of(liked, other), true, true, 5));
+        awaitCondition(() -> prefetcher.find("", List.of(), 2, 10).isPresent());
+
+        prefetcher.updateLikes(Map.of(1L, 7, 3L, 4));
+
+        PostListResponseDto page = prefetcher.find("", List.of(), 2, 10).orElseThrow();
+        assertEquals(7, page.posts().get(0).likesCount());
+        assertEquals(2, page.posts().get(0).commentsCount());
+        assertEquals(other, page.posts().get(1));
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("Не должен загружать страницы, если упреждающая загрузка выключена")
+    void shouldNotLoadWhenDisabledTest() {
+        prefetcher = new PostListPrefetcherImpl(properties(false, 50, 0.3), null);
+        AtomicInteger loads = new AtomicInteger();
+
+        prefetcher.prefetch("", List.of(), 2, 10, () -> {
+            loads.incrementAndGet();
+            return PAGE_2;
+        });
+
+        assertTrue(prefetcher.find("", List.of(), 2, 10).isEmpty());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("Должен приостановить загрузку при доле попаданий ниже порога")
+    void shouldStopPrefetchingWhenHitRateIsLowTest() throws InterruptedException {
+        prefetcher = new PostListPrefetcherImpl(properties(true, 2, 0.5), null);
+        AtomicInteger loads = new AtomicInteger();
+
+        prefetcher.prefetch("", List.of(), 2, 10, () -> countedPage(loads));
+        prefetcher.prefetch("", List.of(), 3, 10, () -> countedPage(loads));
+        prefetcher.prefetch("", List.of(), 4, 10, () -> countedPage(loads));
+        awaitCondition(() -> loads.get() == 2);
+        Thread.sleep(100);
+        prefetcher.prefetch("", List.of(), 5, 10, () -> countedPage(loads));
+        Thread.sleep(100);
+
+        assertEquals(2, loads.get());
+        assertTrue(prefetcher.find("", List.of(), 3, 10).isEmpty());
+        assertTrue(prefetcher.find("", List.of(), 4, 10).isEmpty());
+    }
+
+    private static PostListResponseDto countedPage(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return PAGE_2;
+    }
+
+    private static PrefetchProperties properties(boolean enabled, int evaluationWindow, double minHitRate) {
+        return new PrefetchProperties(enabled, 16, Duration.ofSeconds(30), minHitRate, evaluationWindow,
+                Duration.ofMinutes(5), 0.5, Duration.ofSeconds(1));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("Условие не выполнено за отведённое время");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.habatoo.service.postrevision;
+
+import io.github.habatoo.dto.response.PostRevisionResponseDto;
+import io.github.habatoo.properties.PostRevisionProperties;
+import io.github.habatoo.repositories.PostRevisionRepository;
+import io.github.habatoo.service.DeltaCodec;
+import io.github.habatoo.service.PostRevisionService;
+import io.github.habatoo.service.dto.PostRevision;
+import io.github.habatoo.service.impl.DeltaCodecImpl;
+import io.github.habatoo.service.impl.PostRevisionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты сохранения и восстановления версий постов в PostRevisionServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Тесты PostRevisionServiceImpl")
+class PostRevisionServiceTest {
+
+    private static final Long POST_ID = 1L;
+    private static final String TITLE = "Заголовок";
+    private static final String TEXT = "Длинный текст поста, который редактируется небольшими правками. ".repeat(50);
+
+    @Mock
+    private PostRevisionRepository postRevisionRepository;
+
+    private final DeltaCodec deltaCodec = new DeltaCodecImpl();
+
+    private final List<PostRevision> stored = new ArrayList<>();
+
+    private PostRevisionService postRevisionService;
+
+    @BeforeEach
+    void setUp() {
+        postRevisionService = new PostRevisionServiceImpl(new PostRevisionProperties(3), postRevisionRepository, deltaCodec);
+        lenient().when(postRevisionRepository.lockPost(POST_ID)).thenReturn(true);
+        lenient().doAnswer(invocation -> stored.add(invocation.getArgument(0)))
+                .when(postRevisionRepository).insertRevision(any());
+        lenient().when(postRevisionRepository.findRevisionChain(eq(POST_ID), anyInt()))
+                .thenAnswer(invocation -> chain(invocation.getArgument(1)));
+    }
+
+    @Test
+    @DisplayName("Первая версия должна сохраняться полным снимком, следующие — дельтами")
+    void shouldStoreSnapshotThenDeltasTest() {
+        postRevisionService.recordRevision(POST_ID, TITLE, TEXT);
+        postRevisionService.recordRevision(POST_ID, TITLE, TEXT + "Первая правка.");
+
+        assertEquals(2, stored.size());
+        assertTrue(stored.get(0).snapshot());
+        assertFalse(stored.get(1).snapshot());
+        assertEquals(2, stored.get(1).revision());
+        int textBytes = (TEXT + "Первая правка.").getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(textBytes, stored.get(1).textBytes());
+        assertTrue(stored.get(1).data().length * 20 < textBytes);
+    }
+
+    @Test
+    @DisplayName("Должен сохранять полный снимок каждые snapshotInterval версий")
+    void shouldStoreSnapshotEveryIntervalTest() {
+        for (int i = 0; i < 7; i++) {
+            postRevisionService.recordRevision(POST_ID, TITLE, TEXT + i);
+        }
+
+        assertEquals(List.of(true, false, false, true, false, false, true),
+                stored.stream().map(PostRevision::snapshot).toList());
+    }
+
+    @Test
+    @DisplayName("Не должен сохранять версию без изменений")
+    void shouldSkipUnchangedPostTest() {
+        postRevisionService.recordRevision(POST_ID, TITLE, TEXT);
+        postRevisionService.recordRevision(POST_ID, TITLE, TEXT);
+
+        assertEquals(1, stored.size());
+    }
+
+    @Test
+    @DisplayName("Не должен сохранять версию несуществующего поста")
+    void shouldSkipMissingPostTest() {
+        when(postRevisionRepository.lockPost(99L)).thenReturn(false);
+
+        postRevisionService.recordRevision(99L, TITLE, TEXT);
+
+        verify(postRevisionRepository, never()).insertRevision(any());
+    }
+
+    @Test
+    @DisplayName("Должен восстановить каждую версию из ближайшего снимка и дельт")
+    void shouldReconstructEveryRevisionTest() {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String text = TEXT.replace("правками", "правками №" + i) + "Версия " + i;
+            texts.add(text);
+            postRevisionService.recordRevision(POST_ID, TITLE + " " + i, text);
+        }
+
+        for (int revision = 1; revision <= texts.size(); revision++) {
+            PostRevisionResponseDto result = postRevisionService.getRevision(POST_ID, revision);
+            assertEquals(texts.get(revision - 1), result.text());
+            assertEquals(TITLE + " " + (revision - 1), result.title());
+        }
+    }
+
+    @Test
+    @DisplayName("Должен выбросить исключение для несуществующей версии")
+    void shouldThrowForMissingRevisionTest() {
+        postRevisionService.recordRevision(POST_ID, TITLE, TEXT);
+
+        assertThrows(EmptyResultDataAccessException.class, () -> postRevisionService.getRevision(POST_ID, 2));
+    }
+
+    /**
+     * Повторяет выборку цепочки версий репозиторием над сохранёнными в тесте версиями.
+     */
+    private List<PostRevision> chain(int revision) {
+        int snapshot = stored.stream()
+                .filter(r -> r.revision() <= revision && r.snapshot())
+                .mapToInt(PostRevision::revision)
+                .max()
+                .orElse(0);
+        return stored.stream()
+                .filter(r -> r.revision() >= snapshot && r.revision() <= revision)
+                .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.habatoo.service.postservice;
 
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.service.LikeBuffer;
 import io.github.habatoo.service.impl.PostServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,7 @@ class PostServiceCountMethodsTest extends PostServiceTestBase {
 
         assertEquals(POST_RESPONSE_1.likesCount() + 1, newLikes);
         verify(postRepository).incrementLikes(VALID_POST_ID);
+        verify(postEventBroadcaster).publishLikes(VALID_POST_ID, newLikes);
     }
 
     /**
@@ -54,6 +57,40 @@ class PostServiceCountMethodsTest extends PostServiceTestBase {
         assertThrows(IllegalStateException.class, () -> postService.incrementLikes(INVALID_POST_ID));
     }
 
+    /**
+     * Проверяет, что при включённом буфере лайк накапливается в памяти без обновления строки поста.
+     */
+    @Test
+    @DisplayName("Должен накапливать лайк в буфере при отложенной записи")
+    void shouldIncrementLikesThroughBufferTest() {
+        LikeBuffer bufferedLikes = mock(LikeBuffer.class);
+        when(bufferedLikes.isEnabled()).thenReturn(true);
+        when(bufferedLikes.increment(VALID_POST_ID)).thenReturn(7);
+        postService = new PostServiceImpl(postRepository, fileStorageService, postListPrefetcher, postIdFilter, requestCoalescer, staleIfErrorExecutor, hotKeyTracker, bufferedLikes, postRevisionService, postChangeNotifier);
+
+        assertEquals(7, postService.incrementLikes(VALID_POST_ID));
+        verify(postEventBroadcaster).publishLikes(VALID_POST_ID, 7);
+        verify(postRepository, never()).incrementLikes(anyLong());
+        verify(postRepository, never()).getPostById(anyLong());
+    }
+
+    /**
+     * Проверяет, что незаписанные лайки добавляются к посту при чтении.
+     */
+    @Test
+    @DisplayName("Должен учитывать незаписанные лайки при чтении поста")
+    void shouldAddPendingLikesOnReadTest() {
+        LikeBuffer bufferedLikes = mock(LikeBuffer.class);
+        when(bufferedLikes.pending(VALID_POST_ID)).thenReturn(3L);
+        when(postRepository.getPostById(VALID_POST_ID)).thenReturn(Optional.of(POST_RESPONSE_1));
+        postService = new PostServiceImpl(postRepository, fileStorageService, postListPrefetcher, postIdFilter, requestCoalescer, staleIfErrorExecutor, hotKeyTracker, bufferedLikes, postRevisionService, postChangeNotifier);
+
+        Optional<PostResponseDto> post = postService.getPostById(VALID_POST_ID);
+
+        assertTrue(post.isPresent());
+        assertEquals(POST_RESPONSE_1.likesCount() + 3, post.get().likesCount());
+    }
+
     /**
      * Проверяет корректную работу методов инкремента и декремента количества комментариев для существующего поста.
      * Диапазон охвата — оба метода подряд.
@@ -78,7 +115,7 @@ class PostServiceCountMethodsTest extends PostServiceTestBase {
     @Test
     @DisplayName("decrementCommentsCount: ветка if (post == null) — ничего не обновляется")
     void decrementCommentsCountIfCacheMissTest() {
-        postService = new PostServiceImpl(postRepository, fileStorageService);
+        postService = new PostServiceImpl(postRepository, fileStorageService, postListPrefetcher, postIdFilter, requestCoalescer, staleIfErrorExecutor, hotKeyTracker, likeBuffer, postRevisionService, postChangeNotifier);
 
         Long postId = 3L;
         doNothing().when(postRepository).decrementCommentsCount(postId);
@@ -94,7 +131,7 @@ class PostServiceCountMethodsTest extends PostServiceTestBase {
     @Test
     @DisplayName("incrementCommentsCount: ветка if (post == null) — ничего не обновляется")
     void incrementCommentsCountIfCacheMissTest() {
-        postService = new PostServiceImpl(postRepository, fileStorageService);
+        postService = new PostServiceImpl(postRepository, fileStorageService, postListPrefetcher, postIdFilter, requestCoalescer, staleIfErrorExecutor, hotKeyTracker, likeBuffer, postRevisionService, postChangeNotifier);
         Long postId = 1L;
         doNothing().when(postRepository).incrementCommentsCount(postId);
 
@@ -4,6 +4,7 @@ import io.github.habatoo.dto.request.PostCreateRequestDto;
 import io.github.habatoo.dto.request.PostRequestDto;
 import io.github.habatoo.dto.response.PostResponseDto;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -12,6 +13,9 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +58,26 @@ class PostServiceCreateUpdatePostTest extends PostServiceTestBase {
         }
     }
 
+    /**
+     * Проверяет, что ошибка сохранения версии прерывает создание и обновление поста,
+     * чтобы транзакция изменения откатилась, а кэши не обновлялись.
+     */
+    @Test
+    @DisplayName("Должен прервать изменение поста при ошибке сохранения версии")
+    void shouldFailWhenRevisionCannotBeRecordedTest() {
+        PostCreateRequestDto createRequest = new PostCreateRequestDto("Заголовок", "Текст", List.of("tag9"));
+        PostRequestDto updateRequest = new PostRequestDto(VALID_POST_ID, "Заголовок", "Текст", List.of("tag9"));
+        PostResponseDto response = new PostResponseDto(VALID_POST_ID, "Заголовок", "Текст", List.of("tag9"), 0, 0);
+        when(postRepository.createPost(createRequest)).thenReturn(response);
+        when(postRepository.updatePost(updateRequest)).thenReturn(response);
+        doThrow(new RuntimeException("DB error"))
+                .when(postRevisionService).recordRevision(VALID_POST_ID, "Заголовок", "Текст");
+
+        assertThrows(IllegalStateException.class, () -> postService.createPost(createRequest));
+        assertThrows(IllegalStateException.class, () -> postService.updatePost(updateRequest));
+        verify(postIdFilter, never()).add(anyLong());
+    }
+
     static Stream<Arguments> provideCreateUpdate() {
         return Stream.of(
                 Arguments.of("create", true),
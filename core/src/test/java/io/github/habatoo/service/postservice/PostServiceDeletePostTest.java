@@ -1,5 +1,6 @@
 package io.github.habatoo.service.postservice;
 
+import io.github.habatoo.service.PostEventBroadcaster;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -24,5 +25,9 @@ class PostServiceDeletePostTest extends PostServiceTestBase {
         assertTrue(postService.getPostById(VALID_POST_ID).isEmpty());
         verify(postRepository).deletePost(VALID_POST_ID);
         verify(fileStorageService).deletePostDirectory(VALID_POST_ID);
+        verify(postIdFilter).remove(VALID_POST_ID);
+        verify(imageMetadataCache).remove(VALID_POST_ID);
+        verify(commentListCache).invalidate(VALID_POST_ID);
+        verify(postEventBroadcaster).publish(VALID_POST_ID, PostEventBroadcaster.POST_DELETED, null);
     }
 }
@@ -1,12 +1,15 @@
 package io.github.habatoo.service.postservice;
 
 import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.service.dto.HotKeyCategory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -28,6 +31,7 @@ class PostServiceGetPostByIdTest extends PostServiceTestBase {
         assertEquals(POST_RESPONSE_1.id(), result.get().id());
         assertEquals(POST_RESPONSE_1.title(), result.get().title());
         assertEquals(POST_RESPONSE_1.text(), result.get().text());
+        verify(hotKeyTracker).record(HotKeyCategory.POST, VALID_POST_ID.toString());
     }
 
     /**
@@ -38,4 +42,18 @@ class PostServiceGetPostByIdTest extends PostServiceTestBase {
     void shouldReturnEmptyIfPostNotExistsTest() {
         assertDoesNotThrow(() -> postService.getPostById(INVALID_POST_ID));
     }
+
+    /**
+     * Проверяет, что для идентификатора, отсутствующего в фильтре, база данных не запрашивается.
+     */
+    @Test
+    @DisplayName("Должен вернуть пустой Optional без запроса к базе если пост отсутствует в фильтре")
+    void shouldReturnEmptyWithoutQueryWhenFilterMissesTest() {
+        when(postIdFilter.mightContain(INVALID_POST_ID)).thenReturn(false);
+
+        Optional<PostResponseDto> result = postService.getPostById(INVALID_POST_ID);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(postRepository, hotKeyTracker);
+    }
 }
@@ -2,18 +2,22 @@ package io.github.habatoo.service.postservice;
 
 import io.github.habatoo.dto.response.PostListResponseDto;
 import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.impl.PostServiceImpl;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * Тесты метода getPosts класса PostServiceImpl
@@ -96,4 +100,23 @@ class PostServiceGetPostsTest extends PostServiceTestBase {
         assertEquals(toIndex < totalCount, response.hasNext());
         assertEquals((int) Math.ceil((double) totalCount / pageSize), response.lastPage());
     }
+
+    /**
+     * Проверяет, что страница из кэша упреждающей загрузки выдаётся без обращения к репозиторию,
+     * а после неё планируется загрузка следующей страницы.
+     */
+    @Test
+    @DisplayName("Должен вернуть страницу из кэша упреждающей загрузки и запланировать следующую")
+    void shouldServePrefetchedPageAndPrefetchNextTest() {
+        PostListPrefetcher prefetcher = mock(PostListPrefetcher.class);
+        postService = new PostServiceImpl(postRepository, fileStorageService, prefetcher, postIdFilter, requestCoalescer, staleIfErrorExecutor, hotKeyTracker, likeBuffer, postRevisionService, postChangeNotifier);
+        PostListResponseDto cachedPage = new PostListResponseDto(List.of(POST_RESPONSE_1), true, true, 3);
+        when(prefetcher.find("spring", List.of("java"), 2, 10)).thenReturn(Optional.of(cachedPage));
+
+        PostListResponseDto response = postService.getPosts("spring #java", 2, 10);
+
+        assertEquals(cachedPage, response);
+        verify(prefetcher).prefetch(eq("spring"), eq(List.of("java")), eq(3), eq(10), any());
+        verifyNoInteractions(postRepository);
+    }
 }
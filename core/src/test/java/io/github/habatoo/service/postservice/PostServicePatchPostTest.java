@@ -0,0 +1,94 @@
+package io.github.habatoo.service.postservice;
+
+import io.github.habatoo.dto.request.PostPatchRequestDto;
+import io.github.habatoo.dto.request.PostTextDiffDto;
+import io.github.habatoo.dto.request.PostTextEditDto;
+import io.github.habatoo.dto.response.PostResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Тесты метода patchPost класса PostServiceImpl
+ */
+@DisplayName("Тесты метода patchPost")
+class PostServicePatchPostTest extends PostServiceTestBase {
+
+    @Test
+    @DisplayName("Должен передать в репозиторий только присутствующие поля")
+    void shouldPassOnlyPresentFieldsTest() {
+        PostPatchRequestDto expected = new PostPatchRequestDto(VALID_POST_ID, "Новый", null, null, null);
+        when(postRepository.patchPost(expected)).thenReturn(POST_RESPONSE_1);
+
+        PostResponseDto result = postService.patchPost(VALID_POST_ID, Map.of("title", "Новый"));
+
+        assertEquals(POST_RESPONSE_1, result);
+        verify(postRepository).patchPost(expected);
+    }
+
+    @Test
+    @DisplayName("Должен удалить все теги при tags = null")
+    void shouldClearTagsForNullTagsTest() {
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("tags", null);
+        PostPatchRequestDto expected = new PostPatchRequestDto(VALID_POST_ID, null, null, List.of(), null);
+        when(postRepository.patchPost(expected)).thenReturn(POST_RESPONSE_1);
+
+        postService.patchPost(VALID_POST_ID, patch);
+
+        verify(postRepository).patchPost(expected);
+    }
+
+    @Test
+    @DisplayName("Должен преобразовать textDiff в список правок")
+    void shouldConvertTextDiffTest() {
+        Map<String, Object> patch = Map.of("textDiff", Map.of(
+                "baseMd5", "abc",
+                "edits", List.of(
+                        Map.of("offset", 0, "delete", 2, "insert", "Hi"),
+                        Map.of("offset", 5, "insert", "!"))));
+        PostPatchRequestDto expected = new PostPatchRequestDto(VALID_POST_ID, null, null, null,
+                new PostTextDiffDto("abc", List.of(new PostTextEditDto(0, 2, "Hi"), new PostTextEditDto(5, 0, "!"))));
+        when(postRepository.patchPost(expected)).thenReturn(POST_RESPONSE_1);
+
+        postService.patchPost(VALID_POST_ID, patch);
+
+        verify(postRepository).patchPost(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("provideInvalidPatches")
+    @DisplayName("Должен отклонить невалидный документ JSON Merge Patch")
+    void shouldRejectInvalidPatchTest(String description, Map<String, Object> patch) {
+        assertThrows(IllegalArgumentException.class, () -> postService.patchPost(VALID_POST_ID, patch));
+        verify(postRepository, never()).patchPost(any());
+    }
+
+    static Stream<Arguments> provideInvalidPatches() {
+        Map<String, Object> nullTitle = new HashMap<>();
+        nullTitle.put("title", null);
+        return Stream.of(
+                Arguments.of("неизвестное поле", Map.of("likesCount", 5)),
+                Arguments.of("удаление заголовка", nullTitle),
+                Arguments.of("пустой заголовок", Map.of("title", " ")),
+                Arguments.of("теги не массив строк", Map.of("tags", List.of(1, 2))),
+                Arguments.of("text вместе с textDiff", Map.of("text", "a",
+                        "textDiff", Map.of("baseMd5", "abc", "edits", List.of(Map.of("offset", 0))))),
+                Arguments.of("textDiff без правок", Map.of("textDiff", Map.of("baseMd5", "abc", "edits", List.of()))),
+                Arguments.of("отрицательная позиция", Map.of("textDiff", Map.of("baseMd5", "abc",
+                        "edits", List.of(Map.of("offset", -1, "delete", 1)))))
+        );
+    }
+}
@@ -1,20 +1,44 @@
 package io.github.habatoo.service.postservice;
 
 import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.properties.CoalescingProperties;
+import io.github.habatoo.properties.LikeBufferProperties;
+import io.github.habatoo.properties.PrefetchProperties;
+import io.github.habatoo.properties.ResilienceProperties;
 import io.github.habatoo.repositories.PostRepository;
+import io.github.habatoo.service.CommentListCache;
 import io.github.habatoo.service.FileStorageService;
+import io.github.habatoo.service.HotKeyTracker;
+import io.github.habatoo.service.ImageMetadataCache;
+import io.github.habatoo.service.LikeBuffer;
+import io.github.habatoo.service.PostChangeNotifier;
+import io.github.habatoo.service.PostEventBroadcaster;
+import io.github.habatoo.service.PostIdFilter;
+import io.github.habatoo.service.PostListPrefetcher;
+import io.github.habatoo.service.PostRevisionService;
 import io.github.habatoo.service.PostService;
+import io.github.habatoo.service.RequestCoalescer;
+import io.github.habatoo.service.StaleIfErrorExecutor;
+import io.github.habatoo.service.impl.LikeBufferImpl;
+import io.github.habatoo.service.impl.PostChangeNotifierImpl;
+import io.github.habatoo.service.impl.PostListPrefetcherImpl;
 import io.github.habatoo.service.impl.PostServiceImpl;
+import io.github.habatoo.service.impl.RequestCoalescerImpl;
+import io.github.habatoo.service.impl.StaleIfErrorExecutorImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.provider.Arguments;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+
 /**
  * Базовый класс для тестирования PostServiceImpl
  */
@@ -27,17 +51,59 @@ abstract class PostServiceTestBase {
     @Mock
     protected FileStorageService fileStorageService;
 
+    @Mock
+    protected PostIdFilter postIdFilter;
+
+    @Mock
+    protected ImageMetadataCache imageMetadataCache;
+
+    @Mock
+    protected HotKeyTracker hotKeyTracker;
+
+    @Mock
+    protected PostRevisionService postRevisionService;
+
+    @Mock
+    protected CommentListCache commentListCache;
+
+    @Mock
+    protected PostEventBroadcaster postEventBroadcaster;
+
+    protected PostListPrefetcher postListPrefetcher;
+
+    protected RequestCoalescer requestCoalescer;
+
+    protected StaleIfErrorExecutor staleIfErrorExecutor;
+
+    protected LikeBuffer likeBuffer;
+
+    protected PostChangeNotifier postChangeNotifier;
+
     protected PostService postService;
 
     protected static final Long VALID_POST_ID = 1L;
     protected static final Long INVALID_POST_ID = 999L;
 
     protected static final PostResponseDto POST_RESPONSE_1 = new PostResponseDto(1L, "Первый", "Текст 1", List.of("tag1", "tag2"), 5, 10);
+    protected static final PrefetchProperties DISABLED_PREFETCH_PROPERTIES = new PrefetchProperties(
+            false, 256, Duration.ofSeconds(30), 0.3, 50, Duration.ofMinutes(5), 0.5, Duration.ofSeconds(1));
+    protected static final ResilienceProperties DISABLED_RESILIENCE_PROPERTIES = new ResilienceProperties(
+            false, Duration.ofSeconds(2), 1000, 5, Duration.ofSeconds(30));
+    protected static final LikeBufferProperties DISABLED_LIKE_BUFFER_PROPERTIES = new LikeBufferProperties(
+            false, Duration.ofMillis(200), 500, 10000);
+
     protected static final PostResponseDto POST_RESPONSE_1_LIKES = new PostResponseDto(1L, "Первый", "Текст 1", List.of("tag1", "tag2"), 6, 10);
 
     @BeforeEach
     void setUp() {
-        postService = new PostServiceImpl(postRepository, fileStorageService);
+        postListPrefetcher = new PostListPrefetcherImpl(DISABLED_PREFETCH_PROPERTIES, null);
+        requestCoalescer = new RequestCoalescerImpl(new CoalescingProperties(true, Duration.ofSeconds(5)));
+        staleIfErrorExecutor = new StaleIfErrorExecutorImpl(DISABLED_RESILIENCE_PROPERTIES);
+        likeBuffer = new LikeBufferImpl(DISABLED_LIKE_BUFFER_PROPERTIES, postRepository, postListPrefetcher);
+        postChangeNotifier = new PostChangeNotifierImpl(postIdFilter, postListPrefetcher, imageMetadataCache,
+                commentListCache, postEventBroadcaster);
+        lenient().when(postIdFilter.mightContain(anyLong())).thenReturn(true);
+        postService = new PostServiceImpl(postRepository, fileStorageService, postListPrefetcher, postIdFilter, requestCoalescer, staleIfErrorExecutor, hotKeyTracker, likeBuffer, postRevisionService, postChangeNotifier);
     }
 
     protected static Stream<Arguments> provideSearchFilters() {
@@ -0,0 +1,144 @@
+package io.github.habatoo.service.requestcoalescer;
+
+import io.github.habatoo.properties.CoalescingProperties;
+import io.github.habatoo.service.impl.RequestCoalescerImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты объединения конкурентных запросов в RequestCoalescerImpl.
+ */
+@DisplayName("Тесты RequestCoalescerImpl")
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Конкурентные запросы с одним ключом должны выполнить загрузчик один раз")
+    void shouldShareSingleLoadBetweenConcurrentCallersTest() throws Exception {
+        RequestCoalescerImpl coalescer = new RequestCoalescerImpl(new CoalescingProperties(true, Duration.ofSeconds(5)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescer.bindTo(registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute("post:1", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "post";
+        }));
+        awaitCondition(() -> loads.get() == 1);
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> coalescer.execute("post:1", () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        awaitCondition(() -> coalescedCount(registry) == CALLERS - 1);
+        release.countDown();
+
+        assertEquals("post", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("post", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, registry.get("blog.coalescer.requests").tag("result", "executed").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Исключение загрузчика должно передаваться всем ожидающим запросам")
+    void shouldPropagateLoaderExceptionToFollowersTest() throws Exception {
+        RequestCoalescerImpl coalescer = new RequestCoalescerImpl(new CoalescingProperties(true, Duration.ofSeconds(5)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coalescer.bindTo(registry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> coalescer.execute("comments:1", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalArgumentException("boom");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Object> follower = executor.submit(() -> coalescer.execute("comments:1", () -> "unexpected"));
+        awaitCondition(() -> coalescedCount(registry) == 1);
+        release.countDown();
+
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, leaderError.getCause());
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, followerError.getCause());
+    }
+
+    @Test
+    @DisplayName("Ожидающий запрос должен выполнить загрузчик сам после таймаута")
+    void shouldFallBackToOwnLoadAfterTimeoutTest() throws Exception {
+        RequestCoalescerImpl coalescer = new RequestCoalescerImpl(new CoalescingProperties(true, Duration.ofMillis(50)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute("image:1", () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        assertEquals("fast", coalescer.execute("image:1", () -> "fast"));
+        release.countDown();
+        assertEquals("slow", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Последовательные запросы не должны разделять результат")
+    void shouldNotCacheCompletedResultsTest() {
+        RequestCoalescerImpl coalescer = new RequestCoalescerImpl(new CoalescingProperties(true, Duration.ofSeconds(5)));
+        AtomicInteger loads = new AtomicInteger();
+
+        coalescer.execute("post:1", loads::incrementAndGet);
+        coalescer.execute("post:1", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    private static double coalescedCount(SimpleMeterRegistry registry) {
+        return registry.get("blog.coalescer.requests").tag("result", "coalesced").functionCounter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("Условие не выполнено за отведённое время");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
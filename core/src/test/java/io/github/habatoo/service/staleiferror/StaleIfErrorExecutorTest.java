@@ -0,0 +1,159 @@
+package io.github.habatoo.service.staleiferror;
+
+import io.github.habatoo.properties.ResilienceProperties;
+import io.github.habatoo.service.StaleResponseContext;
+import io.github.habatoo.service.impl.StaleIfErrorExecutorImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Тесты режима stale-if-error и автоматического выключателя StaleIfErrorExecutorImpl.
+ */
+@DisplayName("Тесты StaleIfErrorExecutorImpl")
+class StaleIfErrorExecutorTest {
+
+    private static final String KEY = "post:1";
+
+    private StaleIfErrorExecutorImpl executor;
+
+    @BeforeEach
+    void setUp() {
+        StaleResponseContext.consume();
+        executor = new StaleIfErrorExecutorImpl(
+                new ResilienceProperties(true, Duration.ofMillis(200), 100, 3, Duration.ofMillis(200)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        StaleResponseContext.consume();
+    }
+
+    @Test
+    @DisplayName("Успешный ответ базы должен возвращаться без признака устаревания")
+    void shouldReturnFreshResultTest() {
+        assertEquals("fresh", executor.execute(KEY, () -> "fresh"));
+        assertTrue(StaleResponseContext.consume().isEmpty());
+    }
+
+    @Test
+    @DisplayName("При ошибке базы должен возвращаться последний успешный ответ с признаком устаревания")
+    void shouldServeLastGoodOnDatabaseErrorTest() {
+        executor.execute(KEY, () -> "good");
+
+        String result = executor.execute(KEY, () -> {
+            throw new DataAccessResourceFailureException("down");
+        });
+
+        assertEquals("good", result);
+        assertTrue(StaleResponseContext.consume().isPresent());
+    }
+
+    @Test
+    @DisplayName("Медленный ответ базы должен возвращаться свежим, без подмены сохранённым")
+    void shouldReturnSlowResultWithoutStaleTest() {
+        executor.execute(KEY, () -> "good");
+
+        String result = executor.execute(KEY, () -> {
+            sleep(300);
+            return "slow";
+        });
+
+        assertEquals("slow", result);
+        assertTrue(StaleResponseContext.consume().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Загрузчик должен выполняться в потоке вызывающего")
+    void shouldRunLoaderOnCallerThreadTest() {
+        Thread caller = Thread.currentThread();
+
+        assertSame(caller, executor.execute(KEY, Thread::currentThread));
+    }
+
+    @Test
+    @DisplayName("Ошибка без сохранённого ответа должна передаваться вызывающему")
+    void shouldPropagateErrorWithoutLastGoodTest() {
+        assertThrows(DataAccessResourceFailureException.class, () -> executor.execute(KEY, () -> {
+            throw new DataAccessResourceFailureException("down");
+        }));
+    }
+
+    @Test
+    @DisplayName("Отсутствие сущности не должно подменяться сохранённым ответом")
+    void shouldNotServeStaleForNotFoundTest() {
+        executor.execute(KEY, () -> "good");
+
+        assertThrows(EmptyResultDataAccessException.class, () -> executor.execute(KEY, () -> {
+            throw new EmptyResultDataAccessException(1);
+        }));
+        assertTrue(StaleResponseContext.consume().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Открытый выключатель не должен вызывать загрузчик и должен закрываться после пробного запроса")
+    void shouldOpenAndRecoverCircuitBreakerTest() {
+        executor.execute(KEY, () -> "good");
+        for (int i = 0; i < 3; i++) {
+            executor.execute(KEY, () -> {
+                throw new DataAccessResourceFailureException("down");
+            });
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("good", executor.execute(KEY, () -> "call-" + calls.incrementAndGet()));
+        assertEquals(0, calls.get());
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> executor.execute("post:2", () -> Optional.empty()));
+
+        sleep(300);
+        assertEquals("call-1", executor.execute(KEY, () -> "call-" + calls.incrementAndGet()));
+        assertEquals("call-2", executor.execute(KEY, () -> "call-" + calls.incrementAndGet()));
+    }
+
+    @Test
+    @DisplayName("Превышения бюджета задержки должны открывать выключатель")
+    void shouldOpenCircuitBreakerOnSlowLoadsTest() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("slow", executor.execute("post:" + (10 + i), () -> {
+                sleep(300);
+                return "slow";
+            }));
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> executor.execute("post:20", () -> "call-" + calls.incrementAndGet()));
+        assertEquals("slow", executor.execute("post:10", () -> "call-" + calls.incrementAndGet()));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    @DisplayName("Выключенный режим должен передавать ошибки без подмены")
+    void shouldPassThroughWhenDisabledTest() {
+        StaleIfErrorExecutorImpl disabled = new StaleIfErrorExecutorImpl(
+                new ResilienceProperties(false, Duration.ofMillis(200), 100, 3, Duration.ofMillis(200)));
+        disabled.execute(KEY, () -> "good");
+
+        assertThrows(DataAccessResourceFailureException.class, () -> disabled.execute(KEY, () -> {
+            throw new DataAccessResourceFailureException("down");
+        }));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -74,4 +74,4 @@ Please change the parent <Route path="${A}"> to <Route path="${A==="/"?"*":`${A}
 `});++r<n.length;)r&&i.push({type:"text",value:`
 `}),i.push(n[r]);return a&&n.length>0&&i.push({type:"text",value:`
 `}),i}function Qg(n){let a=0,i=n.charCodeAt(a);for(;i===9||i===32;)a++,i=n.charCodeAt(a);return n.slice(a)}function Zg(n,a){const i=BC(n,a),r=i.one(n,void 0),o=RC(i),c=Array.isArray(r)?{type:"root",children:r}:r||{type:"root",children:[]};return o&&c.children.push({type:"text",value:`
-`},o),c}function VC(n,a){return n&&"run"in n?async function(i,r){const o=Zg(i,{file:r,...a});await n.run(o,r)}:function(i,r){return Zg(i,{file:r,...n||a})}}function $g(n){if(n)throw n}var Mc,Kg;function GC(){if(Kg)return Mc;Kg=1;var n=Object.prototype.hasOwnProperty,a=Object.prototype.toString,i=Object.defineProperty,r=Object.getOwnPropertyDescriptor,o=function(h){return typeof Array.isArray=="function"?Array.isArray(h):a.call(h)==="[object Array]"},c=function(h){if(!h||a.call(h)!=="[object Object]")return!1;var g=n.call(h,"constructor"),b=h.constructor&&h.constructor.prototype&&n.call(h.constructor.prototype,"isPrototypeOf");if(h.constructor&&!g&&!b)return!1;var S;for(S in h);return typeof S>"u"||n.call(h,S)},d=function(h,g){i&&g.name==="__proto__"?i(h,g.name,{enumerable:!0,configurable:!0,value:g.newValue,writable:!0}):h[g.name]=g.newValue},m=function(h,g){if(g==="__proto__")if(n.call(h,g)){if(r)return r(h,g).value}else return;return h[g]};return Mc=function p(){var h,g,b,S,x,z,D=arguments[0],Y=1,A=arguments.length,$=!1;for(typeof D=="boolean"&&($=D,D=arguments[1]||{},Y=2),(D==null||typeof D!="object"&&typeof D!="function")&&(D={});Y<A;++Y)if(h=arguments[Y],h!=null)for(g in h)b=m(D,g),S=m(h,g),D!==S&&($&&S&&(c(S)||(x=o(S)))?(x?(x=!1,z=b&&o(b)?b:[]):z=b&&c(b)?b:{},d(D,{name:g,newValue:p($,z,S)})):typeof S<"u"&&d(D,{name:g,newValue:S}));return D},Mc}var XC=GC();const kc=qa(XC);function df(n){if(typeof n!="object"||n===null)return!1;const a=Object.getPrototypeOf(n);return(a===null||a===Object.prototype||Object.getPrototypeOf(a)===null)&&!(Symbol.toStringTag in n)&&!(Symbol.iterator in n)}function QC(){const n=[],a={run:i,use:r};return a;function i(...o){let c=-1;const d=o.pop();if(typeof d!="function")throw new TypeError("Expected function as last argument, not "+d);m(null,...o);function m(p,...h){const g=n[++c];let b=-1;if(p){d(p);return}for(;++b<o.length;)(h[b]===null||h[b]===void 0)&&(h[b]=o[b]);o=h,g?ZC(g,m)(...h):d(null,...h)}}function r(o){if(typeof o!="function")throw new TypeError("Expected `middelware` to be a function, not "+o);return n.push(o),a}}function ZC(n,a){let i;return r;function r(...d){const m=n.length>d.length;let p;m&&d.push(o);try{p=n.apply(this,d)}catch(h){const g=h;if(m&&i)throw g;return o(g)}m||(p&&p.then&&typeof p.then=="function"?p.then(c,o):p instanceof Error?o(p):c(p))}function o(d,...m){i||(i=!0,a(d,...m))}function c(d){o(null,d)}}const gn={basename:$C,dirname:KC,extname:FC,join:IC,sep:"/"};function $C(n,a){if(a!==void 0&&typeof a!="string")throw new TypeError('"ext" argument must be a string');cr(n);let i=0,r=-1,o=n.length,c;if(a===void 0||a.length===0||a.length>n.length){for(;o--;)if(n.codePointAt(o)===47){if(c){i=o+1;break}}else r<0&&(c=!0,r=o+1);return r<0?"":n.slice(i,r)}if(a===n)return"";let d=-1,m=a.length-1;for(;o--;)if(n.codePointAt(o)===47){if(c){i=o+1;break}}else d<0&&(c=!0,d=o+1),m>-1&&(n.codePointAt(o)===a.codePointAt(m--)?m<0&&(r=o):(m=-1,r=d));return i===r?r=d:r<0&&(r=n.length),n.slice(i,r)}function KC(n){if(cr(n),n.length===0)return".";let a=-1,i=n.length,r;for(;--i;)if(n.codePointAt(i)===47){if(r){a=i;break}}else r||(r=!0);return a<0?n.codePointAt(0)===47?"/":".":a===1&&n.codePointAt(0)===47?"//":n.slice(0,a)}function FC(n){cr(n);let a=n.length,i=-1,r=0,o=-1,c=0,d;for(;a--;){const m=n.codePointAt(a);if(m===47){if(d){r=a+1;break}continue}i<0&&(d=!0,i=a+1),m===46?o<0?o=a:c!==1&&(c=1):o>-1&&(c=-1)}return o<0||i<0||c===0||c===1&&o===i-1&&o===r+1?"":n.slice(o,i)}function IC(...n){let a=-1,i;for(;++a<n.length;)cr(n[a]),n[a]&&(i=i===void 0?n[a]:i+"/"+n[a]);return i===void 0?".":JC(i)}function JC(n){cr(n);const a=n.codePointAt(0)===47;let i=PC(n,!a);return i.length===0&&!a&&(i="."),i.length>0&&n.codePointAt(n.length-1)===47&&(i+="/"),a?"/"+i:i}function PC(n,a){let i="",r=0,o=-1,c=0,d=-1,m,p;for(;++d<=n.length;){if(d<n.length)m=n.codePointAt(d);else{if(m===47)break;m=47}if(m===47){if(!(o===d-1||c===1))if(o!==d-1&&c===2){if(i.length<2||r!==2||i.codePointAt(i.length-1)!==46||i.codePointAt(i.length-2)!==46){if(i.length>2){if(p=i.lastIndexOf("/"),p!==i.length-1){p<0?(i="",r=0):(i=i.slice(0,p),r=i.length-1-i.lastIndexOf("/")),o=d,c=0;continue}}else if(i.length>0){i="",r=0,o=d,c=0;continue}}a&&(i=i.length>0?i+"/..":"..",r=2)}else i.length>0?i+="/"+n.slice(o+1,d):i=n.slice(o+1,d),r=d-o-1;o=d,c=0}else m===46&&c>-1?c++:c=-1}return i}function cr(n){if(typeof n!="string")throw new TypeError("Path must be a string. Received "+JSON.stringify(n))}const WC={cwd:eR};function eR(){return"/"}function hf(n){return!!(n!==null&&typeof n=="object"&&"href"in n&&n.href&&"protocol"in n&&n.protocol&&n.auth===void 0)}function tR(n){if(typeof n=="string")n=new URL(n);else if(!hf(n)){const a=new TypeError('The "path" argument must be of type string or an instance of URL. Received `'+n+"`");throw a.code="ERR_INVALID_ARG_TYPE",a}if(n.protocol!=="file:"){const a=new TypeError("The URL must be of scheme file");throw a.code="ERR_INVALID_URL_SCHEME",a}return nR(n)}function nR(n){if(n.hostname!==""){const r=new TypeError('File URL host must be "localhost" or empty on darwin');throw r.code="ERR_INVALID_FILE_URL_HOST",r}const a=n.pathname;let i=-1;for(;++i<a.length;)if(a.codePointAt(i)===37&&a.codePointAt(i+1)===50){const r=a.codePointAt(i+2);if(r===70||r===102){const o=new TypeError("File URL path must not include encoded / characters");throw o.code="ERR_INVALID_FILE_URL_PATH",o}}return decodeURIComponent(a)}const Dc=["history","path","basename","stem","extname","dirname"];class Fv{constructor(a){let i;a?hf(a)?i={path:a}:typeof a=="string"||lR(a)?i={value:a}:i=a:i={},this.cwd="cwd"in i?"":WC.cwd(),this.data={},this.history=[],this.messages=[],this.value,this.map,this.result,this.stored;let r=-1;for(;++r<Dc.length;){const c=Dc[r];c in i&&i[c]!==void 0&&i[c]!==null&&(this[c]=c==="history"?[...i[c]]:i[c])}let o;for(o in i)Dc.includes(o)||(this[o]=i[o])}get basename(){return typeof this.path=="string"?gn.basename(this.path):void 0}set basename(a){jc(a,"basename"),_c(a,"basename"),this.path=gn.join(this.dirname||"",a)}get dirname(){return typeof this.path=="string"?gn.dirname(this.path):void 0}set dirname(a){Fg(this.basename,"dirname"),this.path=gn.join(a||"",this.basename)}get extname(){return typeof this.path=="string"?gn.extname(this.path):void 0}set extname(a){if(_c(a,"extname"),Fg(this.dirname,"extname"),a){if(a.codePointAt(0)!==46)throw new Error("`extname` must start with `.`");if(a.includes(".",1))throw new Error("`extname` cannot contain multiple dots")}this.path=gn.join(this.dirname,this.stem+(a||""))}get path(){return this.history[this.history.length-1]}set path(a){hf(a)&&(a=tR(a)),jc(a,"path"),this.path!==a&&this.history.push(a)}get stem(){return typeof this.path=="string"?gn.basename(this.path,this.extname):void 0}set stem(a){jc(a,"stem"),_c(a,"stem"),this.path=gn.join(this.dirname||"",a+(this.extname||""))}fail(a,i,r){const o=this.message(a,i,r);throw o.fatal=!0,o}info(a,i,r){const o=this.message(a,i,r);return o.fatal=void 0,o}message(a,i,r){const o=new St(a,i,r);return this.path&&(o.name=this.path+":"+o.name,o.file=this.path),o.fatal=!1,this.messages.push(o),o}toString(a){return this.value===void 0?"":typeof this.value=="string"?this.value:new TextDecoder(a||void 0).decode(this.value)}}function _c(n,a){if(n&&n.includes(gn.sep))throw new Error("`"+a+"` cannot be a path: did not expect `"+gn.sep+"`")}function jc(n,a){if(!n)throw new Error("`"+a+"` cannot be empty")}function Fg(n,a){if(!n)throw new Error("Setting `"+a+"` requires `path` to be set too")}function lR(n){return!!(n&&typeof n=="object"&&"byteLength"in n&&"byteOffset"in n)}const aR=function(n){const r=this.constructor.prototype,o=r[n],c=function(){return o.apply(c,arguments)};return Object.setPrototypeOf(c,r),c},iR={}.hasOwnProperty;class $f extends aR{constructor(){super("copy"),this.Compiler=void 0,this.Parser=void 0,this.attachers=[],this.compiler=void 0,this.freezeIndex=-1,this.frozen=void 0,this.namespace={},this.parser=void 0,this.transformers=QC()}copy(){const a=new $f;let i=-1;for(;++i<this.attachers.length;){const r=this.attachers[i];a.use(...r)}return a.data(kc(!0,{},this.namespace)),a}data(a,i){return typeof a=="string"?arguments.length===2?(Uc("data",this.frozen),this.namespace[a]=i,this):iR.call(this.namespace,a)&&this.namespace[a]||void 0:a?(Uc("data",this.frozen),this.namespace=a,this):this.namespace}freeze(){if(this.frozen)return this;const a=this;for(;++this.freezeIndex<this.attachers.length;){const[i,...r]=this.attachers[this.freezeIndex];if(r[0]===!1)continue;r[0]===!0&&(r[0]=void 0);const o=i.call(a,...r);typeof o=="function"&&this.transformers.use(o)}return this.frozen=!0,this.freezeIndex=Number.POSITIVE_INFINITY,this}parse(a){this.freeze();const i=Ru(a),r=this.parser||this.Parser;return Lc("parse",r),r(String(i),i)}process(a,i){const r=this;return this.freeze(),Lc("process",this.parser||this.Parser),Bc("process",this.compiler||this.Compiler),i?o(void 0,i):new Promise(o);function o(c,d){const m=Ru(a),p=r.parse(m);r.run(p,m,function(g,b,S){if(g||!b||!S)return h(g);const x=b,z=r.stringify(x,S);oR(z)?S.value=z:S.result=z,h(g,S)});function h(g,b){g||!b?d(g):c?c(b):i(void 0,b)}}}processSync(a){let i=!1,r;return this.freeze(),Lc("processSync",this.parser||this.Parser),Bc("processSync",this.compiler||this.Compiler),this.process(a,o),Jg("processSync","process",i),r;function o(c,d){i=!0,$g(c),r=d}}run(a,i,r){Ig(a),this.freeze();const o=this.transformers;return!r&&typeof i=="function"&&(r=i,i=void 0),r?c(void 0,r):new Promise(c);function c(d,m){const p=Ru(i);o.run(a,p,h);function h(g,b,S){const x=b||a;g?m(g):d?d(x):r(void 0,x,S)}}}runSync(a,i){let r=!1,o;return this.run(a,i,c),Jg("runSync","run",r),o;function c(d,m){$g(d),o=m,r=!0}}stringify(a,i){this.freeze();const r=Ru(i),o=this.compiler||this.Compiler;return Bc("stringify",o),Ig(a),o(a,r)}use(a,...i){const r=this.attachers,o=this.namespace;if(Uc("use",this.frozen),a!=null)if(typeof a=="function")p(a,i);else if(typeof a=="object")Array.isArray(a)?m(a):d(a);else throw new TypeError("Expected usable value, not `"+a+"`");return this;function c(h){if(typeof h=="function")p(h,[]);else if(typeof h=="object")if(Array.isArray(h)){const[g,...b]=h;p(g,b)}else d(h);else throw new TypeError("Expected usable value, not `"+h+"`")}function d(h){if(!("plugins"in h)&&!("settings"in h))throw new Error("Expected usable value but received an empty preset, which is probably a mistake: presets typically come with `plugins` and sometimes with `settings`, but this has neither");m(h.plugins),h.settings&&(o.settings=kc(!0,o.settings,h.settings))}function m(h){let g=-1;if(h!=null)if(Array.isArray(h))for(;++g<h.length;){const b=h[g];c(b)}else throw new TypeError("Expected a list of plugins, not `"+h+"`")}function p(h,g){let b=-1,S=-1;for(;++b<r.length;)if(r[b][0]===h){S=b;break}if(S===-1)r.push([h,...g]);else if(g.length>0){let[x,...z]=g;const D=r[S][1];df(D)&&df(x)&&(x=kc(!0,D,x)),r[S]=[h,x,...z]}}}}const rR=new $f().freeze();function Lc(n,a){if(typeof a!="function")throw new TypeError("Cannot `"+n+"` without `parser`")}function Bc(n,a){if(typeof a!="function")throw new TypeError("Cannot `"+n+"` without `compiler`")}function Uc(n,a){if(a)throw new Error("Cannot call `"+n+"` on a frozen processor.\nCreate a new processor first, by calling it: use `processor()` instead of `processor`.")}function Ig(n){if(!df(n)||typeof n.type!="string")throw new TypeError("Expected node, got `"+n+"`")}function Jg(n,a,i){if(!i)throw new Error("`"+n+"` finished async. Use `"+a+"` instead")}function Ru(n){return uR(n)?n:new Fv(n)}function uR(n){return!!(n&&typeof n=="object"&&"message"in n&&"messages"in n)}function oR(n){return typeof n=="string"||sR(n)}function sR(n){return!!(n&&typeof n=="object"&&"byteLength"in n&&"byteOffset"in n)}const cR="https://github.com/remarkjs/react-markdown/blob/main/changelog.md",Pg=[],Wg={allowDangerousHtml:!0},fR=/^(https?|ircs?|mailto|xmpp)$/i,dR=[{from:"astPlugins",id:"remove-buggy-html-in-markdown-parser"},{from:"allowDangerousHtml",id:"remove-buggy-html-in-markdown-parser"},{from:"allowNode",id:"replace-allownode-allowedtypes-and-disallowedtypes",to:"allowElement"},{from:"allowedTypes",id:"replace-allownode-allowedtypes-and-disallowedtypes",to:"allowedElements"},{from:"className",id:"remove-classname"},{from:"disallowedTypes",id:"replace-allownode-allowedtypes-and-disallowedtypes",to:"disallowedElements"},{from:"escapeHtml",id:"remove-buggy-html-in-markdown-parser"},{from:"includeElementIndex",id:"#remove-includeelementindex"},{from:"includeNodeIndex",id:"change-includenodeindex-to-includeelementindex"},{from:"linkTarget",id:"remove-linktarget"},{from:"plugins",id:"change-plugins-to-remarkplugins",to:"remarkPlugins"},{from:"rawSourcePos",id:"#remove-rawsourcepos"},{from:"renderers",id:"change-renderers-to-components",to:"components"},{from:"source",id:"change-source-to-children",to:"children"},{from:"sourcePos",id:"#remove-sourcepos"},{from:"transformImageUri",id:"#add-urltransform",to:"urlTransform"},{from:"transformLinkUri",id:"#add-urltransform",to:"urlTransform"}];function Iv(n){const a=hR(n),i=mR(n);return pR(a.runSync(a.parse(i),i),n)}function hR(n){const a=n.rehypePlugins||Pg,i=n.remarkPlugins||Pg,r=n.remarkRehypeOptions?{...n.remarkRehypeOptions,...Wg}:Wg;return rR().use($w).use(i).use(VC,r).use(a)}function mR(n){const a=n.children||"",i=new Fv;return typeof a=="string"&&(i.value=a),i}function pR(n,a){const i=a.allowedElements,r=a.allowElement,o=a.components,c=a.disallowedElements,d=a.skipHtml,m=a.unwrapDisallowed,p=a.urlTransform||gR;for(const g of dR)Object.hasOwn(a,g.from)&&(""+g.from+(g.to?"use `"+g.to+"` instead":"remove it")+cR+g.id,void 0);return Kv(n,h),RT(n,{Fragment:R.Fragment,components:o,ignoreInvalidStyle:!0,jsx:R.jsx,jsxs:R.jsxs,passKeys:!0,passNode:!0});function h(g,b,S){if(g.type==="raw"&&S&&typeof b=="number")return d?S.children.splice(b,1):S.children[b]={type:"text",value:g.value},b;if(g.type==="element"){let x;for(x in Ac)if(Object.hasOwn(Ac,x)&&Object.hasOwn(g.properties,x)){const z=g.properties[x],D=Ac[x];(D===null||D.includes(g.tagName))&&(g.properties[x]=p(String(z||""),x,g))}}if(g.type==="element"){let x=i?!i.includes(g.tagName):c?c.includes(g.tagName):!1;if(!x&&r&&typeof b=="number"&&(x=!r(g,b,S)),x&&S&&typeof b=="number")return m&&g.children?S.children.splice(b,1,...g.children):S.children.splice(b,1),b}}}function gR(n){const a=n.indexOf(":"),i=n.indexOf("?"),r=n.indexOf("#"),o=n.indexOf("/");return a===-1||o!==-1&&a>o||i!==-1&&a>i||r!==-1&&a>r||fR.test(n.slice(0,a))?n:""}function Xt(){return"http://"+yR()+":"+vR()}function yR(){return"localhost"}function vR(){return"8080"}function bR(n,a,i){fetch(Xt()+"/api/posts?"+new URLSearchParams([["search",n.search],["pageNumber",n.pageNumber.toString()],["pageSize",n.pageSize.toString()]]).toString()).then(r=>r.json()).then(a).catch(i)}function xR(n,a,i){fetch(Xt()+"/api/posts/"+n).then(r=>r.json()).then(a).catch(i)}function SR(n,a,i){fetch(Xt()+"/api/posts",{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify(n)}).then(r=>r.json()).then(a).catch(i)}function ER(n,a,i){fetch(Xt()+"/api/posts/"+n.id,{method:"PUT",headers:{"Content-Type":"application/json"},body:JSON.stringify(n)}).then(r=>r.json()).then(a).catch(i)}function TR(n,a,i){fetch(Xt()+"/api/posts/"+n,{method:"DELETE"}).then(a).catch(i)}function wR(n,a,i){fetch(Xt()+"/api/posts/"+n+"/likes",{method:"POST"}).then(r=>r.text()).then(parseInt).then(a).catch(i)}function CR(n,a){const i=new FormData;i.append("image",n.data,n.name),fetch(Xt()+"/api/posts/"+n.id+"/image",{method:"PUT",body:i}).catch(a)}function RR(n,a,i){fetch(Xt()+"/api/posts/"+n+"/image").then(r=>r.blob()).then(r=>URL.createObjectURL(r)).then(a).catch(i)}function OR(n,a,i){Promise.all(n.map(r=>fetch(Xt()+"/api/posts/"+r+"/image").then(o=>o.blob()).then(o=>URL.createObjectURL(o)).then(o=>({id:r,imageUrl:o})).catch(i))).then(a)}function AR(n,a,i){fetch(Xt()+"/api/posts/"+n+"/comments").then(r=>r.json()).then(a).catch(i)}function NR(n,a,i){fetch(Xt()+"/api/posts/"+n.postId+"/comments",{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify(n)}).then(r=>r.json()).then(a).catch(i)}function zR(n,a,i){fetch(Xt()+"/api/posts/"+n.id+"/comments/"+n.id,{method:"PUT",headers:{"Content-Type":"application/json"},body:JSON.stringify(n)}).then(r=>r.json()).then(a).catch(i)}function MR(n,a,i,r){fetch(Xt()+"/api/posts/"+a+"/comments/"+n,{method:"DELETE"}).then(i).catch(r)}var Kf=(n=>(n[n.ADD=0]="ADD",n[n.EDIT=1]="EDIT",n))(Kf||{});function Jv(n){const[a,i]=w.useState({text:n.text?n.text:""}),r=c=>{i(d=>({...d,text:c.target.value}))},o=n.type==0?{title:"Добавление комментария",saveTitle:"Добавить",handleSave:()=>NR({text:a.text,postId:n.postId},c=>n.handleSave(c),c=>n.handleError(c.message)),handleClose:n.handleHide}:{title:"Редактирование комментария",saveTitle:"Редактировать",handleSave:()=>zR({id:n.id?n.id:0,text:a.text?a.text:n.text?n.text:"",postId:n.postId},c=>n.handleSave(c),c=>n.handleError(c.message)),handleClose:n.handleHide};return R.jsxs(yn,{show:n.show,onHide:o.handleClose,children:[R.jsx(yn.Header,{closeButton:!0,children:R.jsx(yn.Title,{children:o.title})}),R.jsx(yn.Body,{children:R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlTextarea1",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Текст"})}),R.jsx(ot.Control,{as:"textarea",rows:10,placeholder:"Текст комментария...",onChange:r,defaultValue:n.text})]})}),R.jsxs(yn.Footer,{children:[R.jsx(tt,{variant:"secondary",onClick:o.handleClose,children:"Отменить"}),R.jsx(tt,{variant:"primary",onClick:o.handleSave,children:o.saveTitle})]})]})}function kR(n){const[a,i]=w.useState({showModal:!1}),r=()=>{i(m=>({...m,showModal:!0}))},o=()=>{i(m=>({...m,showModal:!1}))},c=m=>{n.handleSave(m),o()},d=()=>{MR(n.id,n.postId,m=>n.handleDelete(n.id),m=>n.handleError)};return R.jsx(Xa,{className:"p-2",children:R.jsxs(Gl,{children:[R.jsx(Jv,{show:a.showModal,type:Kf.EDIT,handleHide:o,handleError:n.handleError,text:n.text,handleSave:c,postId:n.postId,id:n.id}),R.jsxs(vl,{direction:"horizontal",gap:1,className:"pt-3",children:[R.jsx(yl,{className:"w-100",children:R.jsx(yl.Body,{children:R.jsx(yl.Text,{children:n.text})})}),R.jsx(tt,{variant:"light",onClick:r,children:R.jsx(Vu,{})}),R.jsx(tt,{variant:"light",onClick:d,children:R.jsx(Sf,{})})]})]})})}function DR(n){const[a,i]=w.useState({showModal:!1,comments:[]});w.useEffect(()=>{!n.isPreview&&AR(n.postId,p=>i(h=>({...h,comments:p})),p=>n.handleError(p.message))},[]);const r=()=>{i(p=>({...p,showModal:!0}))},o=()=>{i(p=>({...p,showModal:!1}))},c=p=>i(h=>({...h,comments:[...h.comments,p],showModal:!1})),d=p=>i(h=>({...h,comments:h.comments.map(g=>g.id==p.id?p:g)})),m=p=>i(h=>({...h,comments:h.comments.filter(g=>g.id!=p)}));return R.jsxs("div",{hidden:n.isPreview,children:[R.jsx(Jv,{show:a.showModal,type:Kf.ADD,handleHide:o,handleError:n.handleError,handleSave:c,postId:n.postId}),R.jsxs(Rf,{fluid:"md",className:"bg-transparent",children:[R.jsx(Xa,{className:"p-2",children:R.jsx(Gl,{children:R.jsxs(vl,{direction:"horizontal",gap:1,className:"pt-3",children:[R.jsx("h5",{children:"Комментарии"}),R.jsx(tt,{variant:"light",className:"ms-auto",onClick:r,children:R.jsx(wy,{})})]})})}),a.comments.map(p=>R.jsx(kR,{id:p.id,postId:n.postId,handleError:n.handleError,text:p.text,handleSave:d,handleDelete:m}))]})]})}function Pv(n){return R.jsx(Xa,{className:"p-3",children:R.jsx(Gl,{children:R.jsxs(yl,{children:[R.jsx("div",{style:{maxHeight:400,overflow:"hidden"},children:R.jsx(yl.Img,{variant:"top",src:n.imageSrc})}),R.jsxs(yl.Body,{children:[R.jsx(yl.Title,{children:n.title}),R.jsx(yl.Text,{children:R.jsx(Iv,{children:n.text})}),R.jsxs(vl,{direction:"horizontal",gap:1,className:"pt-3",children:[R.jsxs(tt,{variant:"light",disabled:n.isPreview,hidden:!n.isPreview,children:[R.jsx(vy,{}),R.jsx("span",{className:"p-1",children:n.commentsCount})]}),R.jsxs(tt,{variant:"light",disabled:n.isPreview,onClick:n.onClickLike,children:[R.jsx(Ty,{}),R.jsx("span",{className:"p-1",children:n.likesCount})]})]}),R.jsx(vl,{direction:"horizontal",gap:1,className:"pt-3",style:{display:"block"},children:n.tags.map(a=>R.jsx(tt,{variant:"light",disabled:!n.isPreview,onClick:n.onClickTag,value:"#"+a,children:"#"+a},a))}),R.jsx(DR,{isPreview:n.isPreview,postId:n.id,handleError:n.handleError}),R.jsx(xf,{className:"p-3 float-end",hidden:!n.isPreview,to:"posts/"+n.id,children:R.jsx(tt,{variant:"light",children:R.jsx("span",{className:"p-1",children:"Читать"})})})]})]})})},n.id)}var Ff=(n=>(n[n.ADD=0]="ADD",n[n.EDIT=1]="EDIT",n))(Ff||{});function Wv(n){qu();const[a,i]=w.useState({imageName:"",imageData:{},title:n.title?n.title:"",text:n.text?n.text:"",tags:n.tags?n.tags:[]}),r=S=>{i(x=>({...x,imageName:S.target.value.replace(/\\/g,"/").split("/").pop(),imageData:S.target.files[0]}))},o=S=>{i(x=>({...x,title:S.target.value}))},c=S=>{i(x=>({...x,text:S.target.value}))},d=()=>a.text?.length==0,m=S=>{i(x=>({...x,tags:p(S.target.value)}))},p=S=>S.split(/\s/).map(x=>x.trim()).filter(x=>x!=""),h=S=>S.join(" "),g=n.type==0?{title:"Добавление поста",saveTitle:"Добавить",handleSave:()=>SR({title:a.title,text:a.text,tags:a.tags},S=>b(S),S=>n.handleError(S.message)),handleClose:n.handleHide}:{title:"Редактирование поста",saveTitle:"Редактировать",handleSave:()=>ER({id:n.id?n.id:0,title:a.title?a.title:n.title?n.title:"",text:a.text?a.text:n.text?n.text:"",tags:a.tags?a.tags:n.tags?n.tags:[""]},S=>b(S),S=>n.handleError(S.message)),handleClose:n.handleHide},b=S=>{CR({id:S.id,name:a.imageName,data:a.imageData},x=>n.handleError(x.message)),n.handleSave(S)};return R.jsxs(yn,{show:n.show,onHide:g.handleClose,size:"xl",children:[R.jsx(yn.Header,{closeButton:!0,children:R.jsx(yn.Title,{children:g.title})}),R.jsxs(yn.Body,{children:[R.jsxs(ot.Group,{controlId:"formFile",className:"mb-3",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Картинка"})}),R.jsx(ot.Control,{type:"file",onChange:r})]}),R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlInput1",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Название"})}),R.jsx(ot.Control,{type:"text",placeholder:"Название поста...",onChange:o,defaultValue:n.title})]}),R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlTextarea1",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Текст"})}),R.jsx(ot.Control,{as:"textarea",rows:20,placeholder:"Текст поста...",onChange:c,defaultValue:n.text})]}),R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlTextarea1",hidden:d(),children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Превью"})}),R.jsx("div",{className:"border rounded p-2",children:R.jsx(Iv,{children:a.text})})]}),R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlTextarea1",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Теги"})}),R.jsx(ot.Control,{as:"textarea",rows:3,placeholder:"Теги поста...",defaultValue:h(n.tags?n.tags:[]),onChange:m}),R.jsx(vl,{direction:"horizontal",gap:1,className:"pt-3",style:{display:"block"},children:a.tags?.map(S=>R.jsx(tt,{variant:"light",disabled:!0,children:"#"+S}))})]})]}),R.jsxs(yn.Footer,{children:[R.jsx(tt,{variant:"secondary",onClick:g.handleClose,children:"Отменить"}),R.jsx(tt,{variant:"primary",onClick:g.handleSave,children:g.saveTitle})]})]})}function ey(){const n=qu(),[a,i]=w.useState({posts:[],imageUrls:new Map,search:"",pageNumber:1,pageSize:5,hasNext:!1,hasPrev:!1,lastPage:1,error:"",success:"",showModal:!1}),r=x=>i({...a,error:x}),o=x=>i({...a,success:x});w.useEffect(()=>bR({search:a.search,pageNumber:a.pageNumber,pageSize:a.pageSize},x=>i(z=>({...z,posts:x.posts,hasNext:x.hasNext,hasPrev:x.hasPrev,lastPage:x.lastPage})),x=>r(x.message)),[a.search,a.pageSize,a.pageNumber]),w.useEffect(()=>OR(a.posts.map(x=>x.id),x=>i(z=>({...z,imageUrls:new Map(x.map(D=>[D.id,D.imageUrl]))})),x=>r(x.message)),[a.posts]);const c=x=>{i(z=>({...z,search:x.target.value}))},d=x=>{i(z=>({...z,pageSize:x.target.value}))},m=()=>{i(x=>({...x,showModal:!0}))},p=()=>{i(x=>({...x,showModal:!1}))},h=x=>{S.current.value+=" "+x.currentTarget.value,i(z=>({...z,search:S.current.value}))},g=x=>{i(z=>({...z,pageNumber:x}))},b=x=>{n("/posts/"+x.id)},S=w.useRef({});return R.jsx(dv,{showError:!!a.error,errorMessage:a.error,onCloseError:()=>r(""),showSuccess:!!a.success,successMessage:a.success,onCloseSuccess:()=>o(""),children:R.jsxs(mv,{children:[R.jsx(Wv,{show:a.showModal,type:Ff.ADD,handleHide:p,handleError:r,handleSave:b}),R.jsxs(hv,{children:[R.jsx(JE,{pageSize:a.pageSize,onSearchChange:c,onPageSelect:x=>d(x),searchRef:S}),R.jsx(nf,{onClick:m,floatRigh:!0,children:R.jsx(Vu,{})})]}),a.posts.map(x=>w.createElement(Pv,{isPreview:!0,...x,onClickTag:h,key:x.id,imageSrc:a.imageUrls.get(x.id),handleError:r})),R.jsx(IE,{pageNumber:a.pageNumber,hasPrev:a.hasPrev,hasNext:a.hasNext,onClickStart:()=>g(1),onClickPrev:()=>g(a.pageNumber-1),onClickNext:()=>g(a.pageNumber+1),onClickFinish:()=>g(a.lastPage)})]})})}function _R(){const{id:n}=Ib(),a=qu(),[i,r]=w.useState({post:{tags:[]},imageUrl:"",likesCount:0,showModal:!1,error:"",success:""}),o=b=>r({...i,error:b}),c=b=>r({...i,success:b});w.useEffect(()=>xR(parseInt(n||"0"),b=>r(S=>({...S,post:b})),b=>o(b.message)),[i.likesCount]),w.useEffect(()=>RR(parseInt(n||"0"),b=>r(S=>({...S,imageUrl:b})),b=>o(b.message)),[i.post]);const d=()=>{r(b=>({...b,showModal:!0}))},m=()=>{r(b=>({...b,showModal:!1}))},p=()=>wR(i.post.id,b=>r(S=>({...S,likesCount:b})),b=>o(b.message)),h=()=>TR(parseInt(n||"0"),b=>a("/"),b=>o(b.message)),g=b=>r(S=>({...S,post:b,showModal:!1}));return R.jsx(dv,{showError:!!i.error,errorMessage:i.error,onCloseError:()=>o(""),showSuccess:!!i.success,successMessage:i.success,onCloseSuccess:()=>c(""),children:R.jsxs(mv,{children:[R.jsx(Wv,{show:i.showModal,type:Ff.EDIT,handleHide:m,handleError:o,...i.post,handleSave:g}),R.jsxs(hv,{children:[R.jsx(nf,{onClick:d,floatRigh:!0,children:R.jsx(Vu,{})}),R.jsx(nf,{floatRigh:!1,children:R.jsx(Sf,{onClick:h})})]}),R.jsx(Pv,{isPreview:!1,...i.post,onClickLike:p,imageSrc:i.imageUrl,handleError:o})]})})}function jR(){return R.jsx(_x,{children:R.jsxs(fx,{children:[R.jsx(Ou,{path:"/",element:R.jsx(ey,{})}),R.jsx(Ou,{path:"/posts",element:R.jsx(ey,{})}),R.jsx(Ou,{path:"/posts/:id",element:R.jsx(_R,{})})]})})}const LR=document.getElementById("root");xb.createRoot(LR).render(R.jsx(w.StrictMode,{children:R.jsx(jR,{})}));
+`},o),c}function VC(n,a){return n&&"run"in n?async function(i,r){const o=Zg(i,{file:r,...a});await n.run(o,r)}:function(i,r){return Zg(i,{file:r,...n||a})}}function $g(n){if(n)throw n}var Mc,Kg;function GC(){if(Kg)return Mc;Kg=1;var n=Object.prototype.hasOwnProperty,a=Object.prototype.toString,i=Object.defineProperty,r=Object.getOwnPropertyDescriptor,o=function(h){return typeof Array.isArray=="function"?Array.isArray(h):a.call(h)==="[object Array]"},c=function(h){if(!h||a.call(h)!=="[object Object]")return!1;var g=n.call(h,"constructor"),b=h.constructor&&h.constructor.prototype&&n.call(h.constructor.prototype,"isPrototypeOf");if(h.constructor&&!g&&!b)return!1;var S;for(S in h);return typeof S>"u"||n.call(h,S)},d=function(h,g){i&&g.name==="__proto__"?i(h,g.name,{enumerable:!0,configurable:!0,value:g.newValue,writable:!0}):h[g.name]=g.newValue},m=function(h,g){if(g==="__proto__")if(n.call(h,g)){if(r)return r(h,g).value}else return;return h[g]};return Mc=function p(){var h,g,b,S,x,z,D=arguments[0],Y=1,A=arguments.length,$=!1;for(typeof D=="boolean"&&($=D,D=arguments[1]||{},Y=2),(D==null||typeof D!="object"&&typeof D!="function")&&(D={});Y<A;++Y)if(h=arguments[Y],h!=null)for(g in h)b=m(D,g),S=m(h,g),D!==S&&($&&S&&(c(S)||(x=o(S)))?(x?(x=!1,z=b&&o(b)?b:[]):z=b&&c(b)?b:{},d(D,{name:g,newValue:p($,z,S)})):typeof S<"u"&&d(D,{name:g,newValue:S}));return D},Mc}var XC=GC();const kc=qa(XC);function df(n){if(typeof n!="object"||n===null)return!1;const a=Object.getPrototypeOf(n);return(a===null||a===Object.prototype||Object.getPrototypeOf(a)===null)&&!(Symbol.toStringTag in n)&&!(Symbol.iterator in n)}function QC(){const n=[],a={run:i,use:r};return a;function i(...o){let c=-1;const d=o.pop();if(typeof d!="function")throw new TypeError("Expected function as last argument, not "+d);m(null,...o);function m(p,...h){const g=n[++c];let b=-1;if(p){d(p);return}for(;++b<o.length;)(h[b]===null||h[b]===void 0)&&(h[b]=o[b]);o=h,g?ZC(g,m)(...h):d(null,...h)}}function r(o){if(typeof o!="function")throw new TypeError("Expected `middelware` to be a function, not "+o);return n.push(o),a}}function ZC(n,a){let i;return r;function r(...d){const m=n.length>d.length;let p;m&&d.push(o);try{p=n.apply(this,d)}catch(h){const g=h;if(m&&i)throw g;return o(g)}m||(p&&p.then&&typeof p.then=="function"?p.then(c,o):p instanceof Error?o(p):c(p))}function o(d,...m){i||(i=!0,a(d,...m))}function c(d){o(null,d)}}const gn={basename:$C,dirname:KC,extname:FC,join:IC,sep:"/"};function $C(n,a){if(a!==void 0&&typeof a!="string")throw new TypeError('"ext" argument must be a string');cr(n);let i=0,r=-1,o=n.length,c;if(a===void 0||a.length===0||a.length>n.length){for(;o--;)if(n.codePointAt(o)===47){if(c){i=o+1;break}}else r<0&&(c=!0,r=o+1);return r<0?"":n.slice(i,r)}if(a===n)return"";let d=-1,m=a.length-1;for(;o--;)if(n.codePointAt(o)===47){if(c){i=o+1;break}}else d<0&&(c=!0,d=o+1),m>-1&&(n.codePointAt(o)===a.codePointAt(m--)?m<0&&(r=o):(m=-1,r=d));return i===r?r=d:r<0&&(r=n.length),n.slice(i,r)}function KC(n){if(cr(n),n.length===0)return".";let a=-1,i=n.length,r;for(;--i;)if(n.codePointAt(i)===47){if(r){a=i;break}}else r||(r=!0);return a<0?n.codePointAt(0)===47?"/":".":a===1&&n.codePointAt(0)===47?"//":n.slice(0,a)}function FC(n){cr(n);let a=n.length,i=-1,r=0,o=-1,c=0,d;for(;a--;){const m=n.codePointAt(a);if(m===47){if(d){r=a+1;break}continue}i<0&&(d=!0,i=a+1),m===46?o<0?o=a:c!==1&&(c=1):o>-1&&(c=-1)}return o<0||i<0||c===0||c===1&&o===i-1&&o===r+1?"":n.slice(o,i)}function IC(...n){let a=-1,i;for(;++a<n.length;)cr(n[a]),n[a]&&(i=i===void 0?n[a]:i+"/"+n[a]);return i===void 0?".":JC(i)}function JC(n){cr(n);const a=n.codePointAt(0)===47;let i=PC(n,!a);return i.length===0&&!a&&(i="."),i.length>0&&n.codePointAt(n.length-1)===47&&(i+="/"),a?"/"+i:i}function PC(n,a){let i="",r=0,o=-1,c=0,d=-1,m,p;for(;++d<=n.length;){if(d<n.length)m=n.codePointAt(d);else{if(m===47)break;m=47}if(m===47){if(!(o===d-1||c===1))if(o!==d-1&&c===2){if(i.length<2||r!==2||i.codePointAt(i.length-1)!==46||i.codePointAt(i.length-2)!==46){if(i.length>2){if(p=i.lastIndexOf("/"),p!==i.length-1){p<0?(i="",r=0):(i=i.slice(0,p),r=i.length-1-i.lastIndexOf("/")),o=d,c=0;continue}}else if(i.length>0){i="",r=0,o=d,c=0;continue}}a&&(i=i.length>0?i+"/..":"..",r=2)}else i.length>0?i+="/"+n.slice(o+1,d):i=n.slice(o+1,d),r=d-o-1;o=d,c=0}else m===46&&c>-1?c++:c=-1}return i}function cr(n){if(typeof n!="string")throw new TypeError("Path must be a string. Received "+JSON.stringify(n))}const WC={cwd:eR};function eR(){return"/"}function hf(n){return!!(n!==null&&typeof n=="object"&&"href"in n&&n.href&&"protocol"in n&&n.protocol&&n.auth===void 0)}function tR(n){if(typeof n=="string")n=new URL(n);else if(!hf(n)){const a=new TypeError('The "path" argument must be of type string or an instance of URL. Received `'+n+"`");throw a.code="ERR_INVALID_ARG_TYPE",a}if(n.protocol!=="file:"){const a=new TypeError("The URL must be of scheme file");throw a.code="ERR_INVALID_URL_SCHEME",a}return nR(n)}function nR(n){if(n.hostname!==""){const r=new TypeError('File URL host must be "localhost" or empty on darwin');throw r.code="ERR_INVALID_FILE_URL_HOST",r}const a=n.pathname;let i=-1;for(;++i<a.length;)if(a.codePointAt(i)===37&&a.codePointAt(i+1)===50){const r=a.codePointAt(i+2);if(r===70||r===102){const o=new TypeError("File URL path must not include encoded / characters");throw o.code="ERR_INVALID_FILE_URL_PATH",o}}return decodeURIComponent(a)}const Dc=["history","path","basename","stem","extname","dirname"];class Fv{constructor(a){let i;a?hf(a)?i={path:a}:typeof a=="string"||lR(a)?i={value:a}:i=a:i={},this.cwd="cwd"in i?"":WC.cwd(),this.data={},this.history=[],this.messages=[],this.value,this.map,this.result,this.stored;let r=-1;for(;++r<Dc.length;){const c=Dc[r];c in i&&i[c]!==void 0&&i[c]!==null&&(this[c]=c==="history"?[...i[c]]:i[c])}let o;for(o in i)Dc.includes(o)||(this[o]=i[o])}get basename(){return typeof this.path=="string"?gn.basename(this.path):void 0}set basename(a){jc(a,"basename"),_c(a,"basename"),this.path=gn.join(this.dirname||"",a)}get dirname(){return typeof this.path=="string"?gn.dirname(this.path):void 0}set dirname(a){Fg(this.basename,"dirname"),this.path=gn.join(a||"",this.basename)}get extname(){return typeof this.path=="string"?gn.extname(this.path):void 0}set extname(a){if(_c(a,"extname"),Fg(this.dirname,"extname"),a){if(a.codePointAt(0)!==46)throw new Error("`extname` must start with `.`");if(a.includes(".",1))throw new Error("`extname` cannot contain multiple dots")}this.path=gn.join(this.dirname,this.stem+(a||""))}get path(){return this.history[this.history.length-1]}set path(a){hf(a)&&(a=tR(a)),jc(a,"path"),this.path!==a&&this.history.push(a)}get stem(){return typeof this.path=="string"?gn.basename(this.path,this.extname):void 0}set stem(a){jc(a,"stem"),_c(a,"stem"),this.path=gn.join(this.dirname||"",a+(this.extname||""))}fail(a,i,r){const o=this.message(a,i,r);throw o.fatal=!0,o}info(a,i,r){const o=this.message(a,i,r);return o.fatal=void 0,o}message(a,i,r){const o=new St(a,i,r);return this.path&&(o.name=this.path+":"+o.name,o.file=this.path),o.fatal=!1,this.messages.push(o),o}toString(a){return this.value===void 0?"":typeof this.value=="string"?this.value:new TextDecoder(a||void 0).decode(this.value)}}function _c(n,a){if(n&&n.includes(gn.sep))throw new Error("`"+a+"` cannot be a path: did not expect `"+gn.sep+"`")}function jc(n,a){if(!n)throw new Error("`"+a+"` cannot be empty")}function Fg(n,a){if(!n)throw new Error("Setting `"+a+"` requires `path` to be set too")}function lR(n){return!!(n&&typeof n=="object"&&"byteLength"in n&&"byteOffset"in n)}const aR=function(n){const r=this.constructor.prototype,o=r[n],c=function(){return o.apply(c,arguments)};return Object.setPrototypeOf(c,r),c},iR={}.hasOwnProperty;class $f extends aR{constructor(){super("copy"),this.Compiler=void 0,this.Parser=void 0,this.attachers=[],this.compiler=void 0,this.freezeIndex=-1,this.frozen=void 0,this.namespace={},this.parser=void 0,this.transformers=QC()}copy(){const a=new $f;let i=-1;for(;++i<this.attachers.length;){const r=this.attachers[i];a.use(...r)}return a.data(kc(!0,{},this.namespace)),a}data(a,i){return typeof a=="string"?arguments.length===2?(Uc("data",this.frozen),this.namespace[a]=i,this):iR.call(this.namespace,a)&&this.namespace[a]||void 0:a?(Uc("data",this.frozen),this.namespace=a,this):this.namespace}freeze(){if(this.frozen)return this;const a=this;for(;++this.freezeIndex<this.attachers.length;){const[i,...r]=this.attachers[this.freezeIndex];if(r[0]===!1)continue;r[0]===!0&&(r[0]=void 0);const o=i.call(a,...r);typeof o=="function"&&this.transformers.use(o)}return this.frozen=!0,this.freezeIndex=Number.POSITIVE_INFINITY,this}parse(a){this.freeze();const i=Ru(a),r=this.parser||this.Parser;return Lc("parse",r),r(String(i),i)}process(a,i){const r=this;return this.freeze(),Lc("process",this.parser||this.Parser),Bc("process",this.compiler||this.Compiler),i?o(void 0,i):new Promise(o);function o(c,d){const m=Ru(a),p=r.parse(m);r.run(p,m,function(g,b,S){if(g||!b||!S)return h(g);const x=b,z=r.stringify(x,S);oR(z)?S.value=z:S.result=z,h(g,S)});function h(g,b){g||!b?d(g):c?c(b):i(void 0,b)}}}processSync(a){let i=!1,r;return this.freeze(),Lc("processSync",this.parser||this.Parser),Bc("processSync",this.compiler||this.Compiler),this.process(a,o),Jg("processSync","process",i),r;function o(c,d){i=!0,$g(c),r=d}}run(a,i,r){Ig(a),this.freeze();const o=this.transformers;return!r&&typeof i=="function"&&(r=i,i=void 0),r?c(void 0,r):new Promise(c);function c(d,m){const p=Ru(i);o.run(a,p,h);function h(g,b,S){const x=b||a;g?m(g):d?d(x):r(void 0,x,S)}}}runSync(a,i){let r=!1,o;return this.run(a,i,c),Jg("runSync","run",r),o;function c(d,m){$g(d),o=m,r=!0}}stringify(a,i){this.freeze();const r=Ru(i),o=this.compiler||this.Compiler;return Bc("stringify",o),Ig(a),o(a,r)}use(a,...i){const r=this.attachers,o=this.namespace;if(Uc("use",this.frozen),a!=null)if(typeof a=="function")p(a,i);else if(typeof a=="object")Array.isArray(a)?m(a):d(a);else throw new TypeError("Expected usable value, not `"+a+"`");return this;function c(h){if(typeof h=="function")p(h,[]);else if(typeof h=="object")if(Array.isArray(h)){const[g,...b]=h;p(g,b)}else d(h);else throw new TypeError("Expected usable value, not `"+h+"`")}function d(h){if(!("plugins"in h)&&!("settings"in h))throw new Error("Expected usable value but received an empty preset, which is probably a mistake: presets typically come with `plugins` and sometimes with `settings`, but this has neither");m(h.plugins),h.settings&&(o.settings=kc(!0,o.settings,h.settings))}function m(h){let g=-1;if(h!=null)if(Array.isArray(h))for(;++g<h.length;){const b=h[g];c(b)}else throw new TypeError("Expected a list of plugins, not `"+h+"`")}function p(h,g){let b=-1,S=-1;for(;++b<r.length;)if(r[b][0]===h){S=b;break}if(S===-1)r.push([h,...g]);else if(g.length>0){let[x,...z]=g;const D=r[S][1];df(D)&&df(x)&&(x=kc(!0,D,x)),r[S]=[h,x,...z]}}}}const rR=new $f().freeze();function Lc(n,a){if(typeof a!="function")throw new TypeError("Cannot `"+n+"` without `parser`")}function Bc(n,a){if(typeof a!="function")throw new TypeError("Cannot `"+n+"` without `compiler`")}function Uc(n,a){if(a)throw new Error("Cannot call `"+n+"` on a frozen processor.\nCreate a new processor first, by calling it: use `processor()` instead of `processor`.")}function Ig(n){if(!df(n)||typeof n.type!="string")throw new TypeError("Expected node, got `"+n+"`")}function Jg(n,a,i){if(!i)throw new Error("`"+n+"` finished async. Use `"+a+"` instead")}function Ru(n){return uR(n)?n:new Fv(n)}function uR(n){return!!(n&&typeof n=="object"&&"message"in n&&"messages"in n)}function oR(n){return typeof n=="string"||sR(n)}function sR(n){return!!(n&&typeof n=="object"&&"byteLength"in n&&"byteOffset"in n)}const cR="https://github.com/remarkjs/react-markdown/blob/main/changelog.md",Pg=[],Wg={allowDangerousHtml:!0},fR=/^(https?|ircs?|mailto|xmpp)$/i,dR=[{from:"astPlugins",id:"remove-buggy-html-in-markdown-parser"},{from:"allowDangerousHtml",id:"remove-buggy-html-in-markdown-parser"},{from:"allowNode",id:"replace-allownode-allowedtypes-and-disallowedtypes",to:"allowElement"},{from:"allowedTypes",id:"replace-allownode-allowedtypes-and-disallowedtypes",to:"allowedElements"},{from:"className",id:"remove-classname"},{from:"disallowedTypes",id:"replace-allownode-allowedtypes-and-disallowedtypes",to:"disallowedElements"},{from:"escapeHtml",id:"remove-buggy-html-in-markdown-parser"},{from:"includeElementIndex",id:"#remove-includeelementindex"},{from:"includeNodeIndex",id:"change-includenodeindex-to-includeelementindex"},{from:"linkTarget",id:"remove-linktarget"},{from:"plugins",id:"change-plugins-to-remarkplugins",to:"remarkPlugins"},{from:"rawSourcePos",id:"#remove-rawsourcepos"},{from:"renderers",id:"change-renderers-to-components",to:"components"},{from:"source",id:"change-source-to-children",to:"children"},{from:"sourcePos",id:"#remove-sourcepos"},{from:"transformImageUri",id:"#add-urltransform",to:"urlTransform"},{from:"transformLinkUri",id:"#add-urltransform",to:"urlTransform"}];function Iv(n){const a=hR(n),i=mR(n);return pR(a.runSync(a.parse(i),i),n)}function hR(n){const a=n.rehypePlugins||Pg,i=n.remarkPlugins||Pg,r=n.remarkRehypeOptions?{...n.remarkRehypeOptions,...Wg}:Wg;return rR().use($w).use(i).use(VC,r).use(a)}function mR(n){const a=n.children||"",i=new Fv;return typeof a=="string"&&(i.value=a),i}function pR(n,a){const i=a.allowedElements,r=a.allowElement,o=a.components,c=a.disallowedElements,d=a.skipHtml,m=a.unwrapDisallowed,p=a.urlTransform||gR;for(const g of dR)Object.hasOwn(a,g.from)&&(""+g.from+(g.to?"use `"+g.to+"` instead":"remove it")+cR+g.id,void 0);return Kv(n,h),RT(n,{Fragment:R.Fragment,components:o,ignoreInvalidStyle:!0,jsx:R.jsx,jsxs:R.jsxs,passKeys:!0,passNode:!0});function h(g,b,S){if(g.type==="raw"&&S&&typeof b=="number")return d?S.children.splice(b,1):S.children[b]={type:"text",value:g.value},b;if(g.type==="element"){let x;for(x in Ac)if(Object.hasOwn(Ac,x)&&Object.hasOwn(g.properties,x)){const z=g.properties[x],D=Ac[x];(D===null||D.includes(g.tagName))&&(g.properties[x]=p(String(z||""),x,g))}}if(g.type==="element"){let x=i?!i.includes(g.tagName):c?c.includes(g.tagName):!1;if(!x&&r&&typeof b=="number"&&(x=!r(g,b,S)),x&&S&&typeof b=="number")return m&&g.children?S.children.splice(b,1,...g.children):S.children.splice(b,1),b}}}function gR(n){const a=n.indexOf(":"),i=n.indexOf("?"),r=n.indexOf("#"),o=n.indexOf("/");return a===-1||o!==-1&&a>o||i!==-1&&a>i||r!==-1&&a>r||fR.test(n.slice(0,a))?n:""}function Xt(){return"http://"+yR()+":"+vR()}function yR(){return"localhost"}function vR(){return"8080"}function bR(n,a,i){fetch(Xt()+"/api/posts?"+new URLSearchParams([["search",n.search],["pageNumber",n.pageNumber.toString()],["pageSize",n.pageSize.toString()]]).toString()).then(r=>r.json()).then(a).catch(i)}function xR(n,a,i){fetch(Xt()+"/api/posts/"+n).then(r=>r.json()).then(a).catch(i)}function SR(n,a,i){fetch(Xt()+"/api/posts",{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify(n)}).then(r=>r.json()).then(a).catch(i)}function ER(n,a,i){fetch(Xt()+"/api/posts/"+n.id,{method:"PUT",headers:{"Content-Type":"application/json"},body:JSON.stringify(n)}).then(r=>r.json()).then(a).catch(i)}function TR(n,a,i){fetch(Xt()+"/api/posts/"+n,{method:"DELETE"}).then(a).catch(i)}function wR(n,a,i){fetch(Xt()+"/api/posts/"+n+"/likes",{method:"POST"}).then(r=>r.text()).then(parseInt).then(a).catch(i)}function CR(n,a){const i=new FormData;i.append("image",n.data,n.name),fetch(Xt()+"/api/posts/"+n.id+"/image",{method:"PUT",body:i}).catch(a)}function RR(n,a,i){fetch(Xt()+"/api/posts/"+n+"/image").then(r=>r.blob()).then(r=>URL.createObjectURL(r)).then(a).catch(i)}function OR(n,a,i){Promise.all(n.map(r=>fetch(Xt()+"/api/posts/"+r+"/image").then(o=>o.blob()).then(o=>URL.createObjectURL(o)).then(o=>({id:r,imageUrl:o})).catch(i))).then(a)}function AR(n,a,i){const r=[],o=s=>fetch(Xt()+"/api/posts/"+n+"/comments"+(s?"?after="+s:"")).then(c=>{const l=c.headers.get("X-Next-Cursor");return c.json().then(d=>(r.push(...d),l?o(l):r))});o(null).then(a).catch(i)}function NR(n,a,i){fetch(Xt()+"/api/posts/"+n.postId+"/comments",{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify(n)}).then(r=>r.json()).then(a).catch(i)}function zR(n,a,i){fetch(Xt()+"/api/posts/"+n.id+"/comments/"+n.id,{method:"PUT",headers:{"Content-Type":"application/json"},body:JSON.stringify(n)}).then(r=>r.json()).then(a).catch(i)}function MR(n,a,i,r){fetch(Xt()+"/api/posts/"+a+"/comments/"+n,{method:"DELETE"}).then(i).catch(r)}var Kf=(n=>(n[n.ADD=0]="ADD",n[n.EDIT=1]="EDIT",n))(Kf||{});function Jv(n){const[a,i]=w.useState({text:n.text?n.text:""}),r=c=>{i(d=>({...d,text:c.target.value}))},o=n.type==0?{title:"Добавление комментария",saveTitle:"Добавить",handleSave:()=>NR({text:a.text,postId:n.postId},c=>n.handleSave(c),c=>n.handleError(c.message)),handleClose:n.handleHide}:{title:"Редактирование комментария",saveTitle:"Редактировать",handleSave:()=>zR({id:n.id?n.id:0,text:a.text?a.text:n.text?n.text:"",postId:n.postId},c=>n.handleSave(c),c=>n.handleError(c.message)),handleClose:n.handleHide};return R.jsxs(yn,{show:n.show,onHide:o.handleClose,children:[R.jsx(yn.Header,{closeButton:!0,children:R.jsx(yn.Title,{children:o.title})}),R.jsx(yn.Body,{children:R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlTextarea1",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Текст"})}),R.jsx(ot.Control,{as:"textarea",rows:10,placeholder:"Текст комментария...",onChange:r,defaultValue:n.text})]})}),R.jsxs(yn.Footer,{children:[R.jsx(tt,{variant:"secondary",onClick:o.handleClose,children:"Отменить"}),R.jsx(tt,{variant:"primary",onClick:o.handleSave,children:o.saveTitle})]})]})}function kR(n){const[a,i]=w.useState({showModal:!1}),r=()=>{i(m=>({...m,showModal:!0}))},o=()=>{i(m=>({...m,showModal:!1}))},c=m=>{n.handleSave(m),o()},d=()=>{MR(n.id,n.postId,m=>n.handleDelete(n.id),m=>n.handleError)};return R.jsx(Xa,{className:"p-2",children:R.jsxs(Gl,{children:[R.jsx(Jv,{show:a.showModal,type:Kf.EDIT,handleHide:o,handleError:n.handleError,text:n.text,handleSave:c,postId:n.postId,id:n.id}),R.jsxs(vl,{direction:"horizontal",gap:1,className:"pt-3",children:[R.jsx(yl,{className:"w-100",children:R.jsx(yl.Body,{children:R.jsx(yl.Text,{children:n.text})})}),R.jsx(tt,{variant:"light",onClick:r,children:R.jsx(Vu,{})}),R.jsx(tt,{variant:"light",onClick:d,children:R.jsx(Sf,{})})]})]})})}function DR(n){const[a,i]=w.useState({showModal:!1,comments:[]});w.useEffect(()=>{!n.isPreview&&AR(n.postId,p=>i(h=>({...h,comments:p})),p=>n.handleError(p.message))},[]);const r=()=>{i(p=>({...p,showModal:!0}))},o=()=>{i(p=>({...p,showModal:!1}))},c=p=>i(h=>({...h,comments:[...h.comments,p],showModal:!1})),d=p=>i(h=>({...h,comments:h.comments.map(g=>g.id==p.id?p:g)})),m=p=>i(h=>({...h,comments:h.comments.filter(g=>g.id!=p)}));return R.jsxs("div",{hidden:n.isPreview,children:[R.jsx(Jv,{show:a.showModal,type:Kf.ADD,handleHide:o,handleError:n.handleError,handleSave:c,postId:n.postId}),R.jsxs(Rf,{fluid:"md",className:"bg-transparent",children:[R.jsx(Xa,{className:"p-2",children:R.jsx(Gl,{children:R.jsxs(vl,{direction:"horizontal",gap:1,className:"pt-3",children:[R.jsx("h5",{children:"Комментарии"}),R.jsx(tt,{variant:"light",className:"ms-auto",onClick:r,children:R.jsx(wy,{})})]})})}),a.comments.map(p=>R.jsx(kR,{id:p.id,postId:n.postId,handleError:n.handleError,text:p.text,handleSave:d,handleDelete:m}))]})]})}function Pv(n){return R.jsx(Xa,{className:"p-3",children:R.jsx(Gl,{children:R.jsxs(yl,{children:[R.jsx("div",{style:{maxHeight:400,overflow:"hidden"},children:R.jsx(yl.Img,{variant:"top",src:n.imageSrc})}),R.jsxs(yl.Body,{children:[R.jsx(yl.Title,{children:n.title}),R.jsx(yl.Text,{children:R.jsx(Iv,{children:n.text})}),R.jsxs(vl,{direction:"horizontal",gap:1,className:"pt-3",children:[R.jsxs(tt,{variant:"light",disabled:n.isPreview,hidden:!n.isPreview,children:[R.jsx(vy,{}),R.jsx("span",{className:"p-1",children:n.commentsCount})]}),R.jsxs(tt,{variant:"light",disabled:n.isPreview,onClick:n.onClickLike,children:[R.jsx(Ty,{}),R.jsx("span",{className:"p-1",children:n.likesCount})]})]}),R.jsx(vl,{direction:"horizontal",gap:1,className:"pt-3",style:{display:"block"},children:n.tags.map(a=>R.jsx(tt,{variant:"light",disabled:!n.isPreview,onClick:n.onClickTag,value:"#"+a,children:"#"+a},a))}),R.jsx(DR,{isPreview:n.isPreview,postId:n.id,handleError:n.handleError}),R.jsx(xf,{className:"p-3 float-end",hidden:!n.isPreview,to:"posts/"+n.id,children:R.jsx(tt,{variant:"light",children:R.jsx("span",{className:"p-1",children:"Читать"})})})]})]})})},n.id)}var Ff=(n=>(n[n.ADD=0]="ADD",n[n.EDIT=1]="EDIT",n))(Ff||{});function Wv(n){qu();const[a,i]=w.useState({imageName:"",imageData:{},title:n.title?n.title:"",text:n.text?n.text:"",tags:n.tags?n.tags:[]}),r=S=>{i(x=>({...x,imageName:S.target.value.replace(/\\/g,"/").split("/").pop(),imageData:S.target.files[0]}))},o=S=>{i(x=>({...x,title:S.target.value}))},c=S=>{i(x=>({...x,text:S.target.value}))},d=()=>a.text?.length==0,m=S=>{i(x=>({...x,tags:p(S.target.value)}))},p=S=>S.split(/\s/).map(x=>x.trim()).filter(x=>x!=""),h=S=>S.join(" "),g=n.type==0?{title:"Добавление поста",saveTitle:"Добавить",handleSave:()=>SR({title:a.title,text:a.text,tags:a.tags},S=>b(S),S=>n.handleError(S.message)),handleClose:n.handleHide}:{title:"Редактирование поста",saveTitle:"Редактировать",handleSave:()=>ER({id:n.id?n.id:0,title:a.title?a.title:n.title?n.title:"",text:a.text?a.text:n.text?n.text:"",tags:a.tags?a.tags:n.tags?n.tags:[""]},S=>b(S),S=>n.handleError(S.message)),handleClose:n.handleHide},b=S=>{CR({id:S.id,name:a.imageName,data:a.imageData},x=>n.handleError(x.message)),n.handleSave(S)};return R.jsxs(yn,{show:n.show,onHide:g.handleClose,size:"xl",children:[R.jsx(yn.Header,{closeButton:!0,children:R.jsx(yn.Title,{children:g.title})}),R.jsxs(yn.Body,{children:[R.jsxs(ot.Group,{controlId:"formFile",className:"mb-3",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Картинка"})}),R.jsx(ot.Control,{type:"file",onChange:r})]}),R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlInput1",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Название"})}),R.jsx(ot.Control,{type:"text",placeholder:"Название поста...",onChange:o,defaultValue:n.title})]}),R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlTextarea1",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Текст"})}),R.jsx(ot.Control,{as:"textarea",rows:20,placeholder:"Текст поста...",onChange:c,defaultValue:n.text})]}),R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlTextarea1",hidden:d(),children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Превью"})}),R.jsx("div",{className:"border rounded p-2",children:R.jsx(Iv,{children:a.text})})]}),R.jsxs(ot.Group,{className:"mb-3",controlId:"exampleForm.ControlTextarea1",children:[R.jsx(ot.Label,{children:R.jsx("h6",{children:"Теги"})}),R.jsx(ot.Control,{as:"textarea",rows:3,placeholder:"Теги поста...",defaultValue:h(n.tags?n.tags:[]),onChange:m}),R.jsx(vl,{direction:"horizontal",gap:1,className:"pt-3",style:{display:"block"},children:a.tags?.map(S=>R.jsx(tt,{variant:"light",disabled:!0,children:"#"+S}))})]})]}),R.jsxs(yn.Footer,{children:[R.jsx(tt,{variant:"secondary",onClick:g.handleClose,children:"Отменить"}),R.jsx(tt,{variant:"primary",onClick:g.handleSave,children:g.saveTitle})]})]})}function ey(){const n=qu(),[a,i]=w.useState({posts:[],imageUrls:new Map,search:"",pageNumber:1,pageSize:5,hasNext:!1,hasPrev:!1,lastPage:1,error:"",success:"",showModal:!1}),r=x=>i({...a,error:x}),o=x=>i({...a,success:x});w.useEffect(()=>bR({search:a.search,pageNumber:a.pageNumber,pageSize:a.pageSize},x=>i(z=>({...z,posts:x.posts,hasNext:x.hasNext,hasPrev:x.hasPrev,lastPage:x.lastPage})),x=>r(x.message)),[a.search,a.pageSize,a.pageNumber]),w.useEffect(()=>OR(a.posts.map(x=>x.id),x=>i(z=>({...z,imageUrls:new Map(x.map(D=>[D.id,D.imageUrl]))})),x=>r(x.message)),[a.posts]);const c=x=>{i(z=>({...z,search:x.target.value}))},d=x=>{i(z=>({...z,pageSize:x.target.value}))},m=()=>{i(x=>({...x,showModal:!0}))},p=()=>{i(x=>({...x,showModal:!1}))},h=x=>{S.current.value+=" "+x.currentTarget.value,i(z=>({...z,search:S.current.value}))},g=x=>{i(z=>({...z,pageNumber:x}))},b=x=>{n("/posts/"+x.id)},S=w.useRef({});return R.jsx(dv,{showError:!!a.error,errorMessage:a.error,onCloseError:()=>r(""),showSuccess:!!a.success,successMessage:a.success,onCloseSuccess:()=>o(""),children:R.jsxs(mv,{children:[R.jsx(Wv,{show:a.showModal,type:Ff.ADD,handleHide:p,handleError:r,handleSave:b}),R.jsxs(hv,{children:[R.jsx(JE,{pageSize:a.pageSize,onSearchChange:c,onPageSelect:x=>d(x),searchRef:S}),R.jsx(nf,{onClick:m,floatRigh:!0,children:R.jsx(Vu,{})})]}),a.posts.map(x=>w.createElement(Pv,{isPreview:!0,...x,onClickTag:h,key:x.id,imageSrc:a.imageUrls.get(x.id),handleError:r})),R.jsx(IE,{pageNumber:a.pageNumber,hasPrev:a.hasPrev,hasNext:a.hasNext,onClickStart:()=>g(1),onClickPrev:()=>g(a.pageNumber-1),onClickNext:()=>g(a.pageNumber+1),onClickFinish:()=>g(a.lastPage)})]})})}function _R(){const{id:n}=Ib(),a=qu(),[i,r]=w.useState({post:{tags:[]},imageUrl:"",likesCount:0,showModal:!1,error:"",success:""}),o=b=>r({...i,error:b}),c=b=>r({...i,success:b});w.useEffect(()=>xR(parseInt(n||"0"),b=>r(S=>({...S,post:b})),b=>o(b.message)),[i.likesCount]),w.useEffect(()=>RR(parseInt(n||"0"),b=>r(S=>({...S,imageUrl:b})),b=>o(b.message)),[i.post]);const d=()=>{r(b=>({...b,showModal:!0}))},m=()=>{r(b=>({...b,showModal:!1}))},p=()=>wR(i.post.id,b=>r(S=>({...S,likesCount:b})),b=>o(b.message)),h=()=>TR(parseInt(n||"0"),b=>a("/"),b=>o(b.message)),g=b=>r(S=>({...S,post:b,showModal:!1}));return R.jsx(dv,{showError:!!i.error,errorMessage:i.error,onCloseError:()=>o(""),showSuccess:!!i.success,successMessage:i.success,onCloseSuccess:()=>c(""),children:R.jsxs(mv,{children:[R.jsx(Wv,{show:i.showModal,type:Ff.EDIT,handleHide:m,handleError:o,...i.post,handleSave:g}),R.jsxs(hv,{children:[R.jsx(nf,{onClick:d,floatRigh:!0,children:R.jsx(Vu,{})}),R.jsx(nf,{floatRigh:!1,children:R.jsx(Sf,{onClick:h})})]}),R.jsx(Pv,{isPreview:!1,...i.post,onClickLike:p,imageSrc:i.imageUrl,handleError:o})]})})}function jR(){return R.jsx(_x,{children:R.jsxs(fx,{children:[R.jsx(Ou,{path:"/",element:R.jsx(ey,{})}),R.jsx(Ou,{path:"/posts",element:R.jsx(ey,{})}),R.jsx(Ou,{path:"/posts/:id",element:R.jsx(_R,{})})]})})}const LR=document.getElementById("root");xb.createRoot(LR).render(R.jsx(w.StrictMode,{children:R.jsx(jR,{})}));
@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -76,4 +77,29 @@ class CommentControllerCommentsByPostIntegrationTest extends TestDataProvider {
                           ]
                         """));
     }
+
+    /**
+     * Проверяет чтение комментариев поста по страницам: заполненная страница возвращает
+     * курсор следующей в заголовке, последняя неполная страница курсора не содержит.
+     */
+    @Test
+    @DisplayName("Постраничное чтение комментариев по курсору из заголовка ответа")
+    void getCommentsPageByNextCursorTest() throws Exception {
+        flyway.clean();
+        flyway.migrate();
+        preparePostAndComments(postService, commentService);
+
+        mockMvc.perform(get("/api/posts/1/comments").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CommentController.NEXT_CURSOR_HEADER, "1"))
+                .andExpect(content().json("[{\"id\": 1}]"));
+        mockMvc.perform(get("/api/posts/1/comments").param("after", "1").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CommentController.NEXT_CURSOR_HEADER, "2"))
+                .andExpect(content().json("[{\"id\": 2}]"));
+        mockMvc.perform(get("/api/posts/1/comments").param("after", "2").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CommentController.NEXT_CURSOR_HEADER))
+                .andExpect(content().json("[]"));
+    }
 }
@@ -1,6 +1,8 @@
 package io.github.habatoo.controllers;
 
 import io.github.habatoo.Application;
+import io.github.habatoo.dto.request.CommentCreateRequestDto;
+import io.github.habatoo.dto.response.ThreadedCommentResponseDto;
 import io.github.habatoo.handlers.GlobalExceptionHandler;
 import io.github.habatoo.repositories.mapper.CommentRowMapper;
 import io.github.habatoo.service.CommentService;
@@ -17,6 +19,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -129,4 +132,85 @@ class CommentControllerIntegrationTest extends TestDataProvider {
         mockMvc.perform(delete("/api/posts/2/comments/5"))
                 .andExpect(status().isOk());
     }
+
+    /**
+     * Создаёт ответ на комментарий id=3 и ответ на этот ответ, затем проверяет, что ветки поста 2
+     * возвращаются в порядке обхода в глубину, а удаление комментария id=3 удаляет и ответы
+     * и уменьшает счётчик комментариев поста на количество удалённых записей.
+     */
+    @Test
+    @DisplayName("Ветки ответов на комментарии поста postId=2")
+    void commentThreads() throws Exception {
+        ThreadedCommentResponseDto reply = commentService.createReply(3L,
+                new CommentCreateRequestDto(2L, "Ответ на комментарий 3"));
+        ThreadedCommentResponseDto nested = commentService.createReply(reply.id(),
+                new CommentCreateRequestDto(2L, "Ответ на ответ"));
+
+        mockMvc.perform(get("/api/posts/2/comments/threads").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].depth").value(0))
+                .andExpect(jsonPath("$[1].id").value(reply.id()))
+                .andExpect(jsonPath("$[1].parentId").value(3))
+                .andExpect(jsonPath("$[1].depth").value(1))
+                .andExpect(jsonPath("$[2].id").value(nested.id()))
+                .andExpect(jsonPath("$[2].parentId").value(reply.id()))
+                .andExpect(jsonPath("$[2].depth").value(2))
+                .andExpect(jsonPath("$[3].id").value(4));
+
+        mockMvc.perform(get("/api/posts/2/comments/threads").param("after", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(5));
+
+        mockMvc.perform(get("/api/posts/2/comments/" + reply.id() + "/thread"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(nested.id()));
+
+        mockMvc.perform(delete("/api/posts/2/comments/3"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/posts/2/comments/" + reply.id() + "/thread"))
+                .andExpect(status().isNotFound());
+        assertEquals(2, postService.getPostById(2L).orElseThrow().commentsCount());
+    }
+
+    /**
+     * Проверяет пакетное удаление комментариев: по идентификаторам вместе с ответами
+     * и по подстроке текста без учёта регистра. Счётчики комментариев всех затронутых постов
+     * уменьшаются на количество удалённых записей.
+     */
+    @Test
+    @DisplayName("Пакетное удаление комментариев по идентификаторам и по тексту")
+    void batchDeleteComments() throws Exception {
+        commentService.createReply(3L, new CommentCreateRequestDto(2L, "Ответ на комментарий 3"));
+        MockMvc moderationMockMvc = MockMvcBuilders.standaloneSetup(new CommentModerationController(commentService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        moderationMockMvc.perform(post("/api/comments/batch-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1, 3]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(3))
+                .andExpect(jsonPath("$.deletedByPost['1']").value(1))
+                .andExpect(jsonPath("$.deletedByPost['2']").value(2));
+
+        moderationMockMvc.perform(post("/api/comments/batch-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"textContains\": \"SPRING\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(1))
+                .andExpect(jsonPath("$.deletedByPost['1']").value(1));
+
+        moderationMockMvc.perform(post("/api/comments/batch-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0, postService.getPostById(1L).orElseThrow().commentsCount());
+        assertEquals(2, postService.getPostById(2L).orElseThrow().commentsCount());
+    }
 }
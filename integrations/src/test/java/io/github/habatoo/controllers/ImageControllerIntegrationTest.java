@@ -12,6 +12,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,6 +21,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -131,9 +133,48 @@ class ImageControllerIntegrationTest extends TestDataProvider {
         mockMvc.perform(get("/api/posts/1/image"))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", "image/jpeg"))
+                .andExpect(header().longValue("Content-Length", jpegHeader.length))
                 .andExpect(content().bytes(jpegHeader));
     }
 
+    /**
+     * Проверяет условный запрос, запрос части изображения и запрос HEAD
+     * для изображения, загруженного через updatePostImage().
+     */
+    @Test
+    @DisplayName("Условный запрос, запрос части и HEAD для изображения postId=1")
+    void getPostImageConditionallyAndPartially() throws Exception {
+        byte[] jpegHeader = new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10, 'J', 'F'};
+        mockMvc.perform(multipart("/api/posts/1/image")
+                        .file(new MockMultipartFile("image", "example.jpg", "image/jpeg", jpegHeader))
+                        .with(request -> {
+                            request.setMethod("PUT");
+                            return request;
+                        }))
+                .andExpect(status().isOk());
+
+        String eTag = mockMvc.perform(get("/api/posts/1/image"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/posts/1/image").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(get("/api/posts/1/image").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/" + jpegHeader.length))
+                .andExpect(content().bytes(new byte[]{(byte) 0xFF, (byte) 0xE0, 0x00, 0x10}));
+
+        mockMvc.perform(head("/api/posts/1/image"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, jpegHeader.length))
+                .andExpect(header().string("Content-Type", "image/jpeg"));
+    }
+
     /**
      * Проверяет ошибку при попытке получить изображение у несуществующего поста.
      */
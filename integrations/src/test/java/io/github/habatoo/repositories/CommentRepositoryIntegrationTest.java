@@ -14,8 +14,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +45,9 @@ public class CommentRepositoryIntegrationTest extends TestDataProvider {
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private Flyway flyway;
 
@@ -69,11 +74,53 @@ public class CommentRepositoryIntegrationTest extends TestDataProvider {
         assertThat(saved).isNotNull();
         assertThat(saved.text()).isEqualTo("Тестовый комментарий");
 
-        List<CommentResponseDto> comments = commentRepository.findByPostId(1L);
+        List<CommentResponseDto> comments = commentRepository.findByPostId(1L, null, 100);
         assertThat(comments).isNotEmpty();
         assertThat(comments).extracting("text").contains("Тестовый комментарий");
     }
 
+    /**
+     * Проверяет, что постраничное чтение по курсору возвращает все комментарии поста
+     * по одному разу и в порядке создания.
+     */
+    @Test
+    @DisplayName("Постраничное чтение комментариев по курсору")
+    void testFindByPostIdKeysetPaginationTest() {
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(new CommentCreateRequestDto(3L, "Комментарий " + i));
+        }
+        List<CommentResponseDto> all = commentRepository.findByPostId(3L, null, 100);
+
+        List<CommentResponseDto> paged = new ArrayList<>();
+        Long after = null;
+        List<CommentResponseDto> page;
+        do {
+            page = commentRepository.findByPostId(3L, after, 2);
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            paged.addAll(page);
+            after = page.isEmpty() ? after : page.getLast().id();
+        } while (!page.isEmpty());
+
+        assertThat(paged).containsExactlyElementsOf(all);
+        assertThat(all).extracting("text").contains("Комментарий 0", "Комментарий 4");
+    }
+
+    /**
+     * Проверяет, что удаление комментария курсора не обрывает постраничное чтение.
+     */
+    @Test
+    @DisplayName("Постраничное чтение продолжается после удаления комментария курсора")
+    void testFindByPostIdAfterDeletedCursorTest() {
+        CommentResponseDto first = commentRepository.save(new CommentCreateRequestDto(4L, "Первый"));
+        CommentResponseDto second = commentRepository.save(new CommentCreateRequestDto(4L, "Второй"));
+        CommentResponseDto third = commentRepository.save(new CommentCreateRequestDto(4L, "Третий"));
+
+        commentRepository.deleteById(first.id());
+        List<CommentResponseDto> page = commentRepository.findByPostId(4L, first.id(), 10);
+
+        assertThat(page).extracting("id").containsExactly(second.id(), third.id());
+    }
+
     /**
      * Проверяет поиск комментария по сочетанию postId и commentId при существующих данных.
      */
@@ -157,4 +204,28 @@ public class CommentRepositoryIntegrationTest extends TestDataProvider {
         assertThatThrownBy(() -> commentRepository.save(newComment))
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
+
+    /**
+     * Проверяет групповое сохранение комментариев: порядок результата совпадает с порядком запросов,
+     * счётчики комментариев постов увеличены на количество их комментариев в группе.
+     */
+    @Test
+    @DisplayName("Групповое сохранение комментариев")
+    void testSaveAllTest() {
+        String countSql = "SELECT comments_count FROM post WHERE id = ?";
+        Integer firstBefore = jdbcTemplate.queryForObject(countSql, Integer.class, 1L);
+        Integer secondBefore = jdbcTemplate.queryForObject(countSql, Integer.class, 2L);
+
+        List<CommentResponseDto> saved = commentRepository.saveAll(List.of(
+                new CommentCreateRequestDto(1L, "Первый"),
+                new CommentCreateRequestDto(2L, "Второй"),
+                new CommentCreateRequestDto(1L, "Третий")));
+
+        assertThat(saved).extracting(CommentResponseDto::text).containsExactly("Первый", "Второй", "Третий");
+        assertThat(saved).extracting(CommentResponseDto::postId).containsExactly(1L, 2L, 1L);
+        assertThat(saved).extracting(CommentResponseDto::id).doesNotHaveDuplicates().isSorted();
+        assertThat(commentRepository.findByPostIdAndId(2L, saved.get(1).id())).isPresent();
+        assertThat(jdbcTemplate.queryForObject(countSql, Integer.class, 1L)).isEqualTo(firstBefore + 2);
+        assertThat(jdbcTemplate.queryForObject(countSql, Integer.class, 2L)).isEqualTo(secondBefore + 1);
+    }
 }
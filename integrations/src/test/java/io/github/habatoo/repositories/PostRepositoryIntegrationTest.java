@@ -3,6 +3,7 @@ package io.github.habatoo.repositories;
 import io.github.habatoo.Application;
 import io.github.habatoo.dto.request.PostCreateRequestDto;
 import io.github.habatoo.dto.request.PostRequestDto;
+import io.github.habatoo.dto.response.LikeBatchResponseDto;
 import io.github.habatoo.dto.response.PostResponseDto;
 import io.github.habatoo.repositories.impl.PostRepositoryImpl;
 import io.github.habatoo.service.CommentService;
@@ -18,6 +19,12 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -109,6 +116,69 @@ public class PostRepositoryIntegrationTest extends TestDataProvider {
         assertThat(countPostTags).isEqualTo(2);
     }
 
+    /**
+     * Создаёт пост с повторяющимся тегом и тегом, который уже существует, и проверяет,
+     * что запрос создания не дублирует теги и связи и возвращает теги в порядке запроса.
+     */
+    @Test
+    @DisplayName("Создание поста с существующим и повторяющимся тегами")
+    void testCreatePostWithExistingAndDuplicateTagsTest() {
+        postRepository.createPost(new PostCreateRequestDto("Первый", "Текст", List.of("Shared")));
+
+        PostResponseDto created = postRepository.createPost(
+                new PostCreateRequestDto("Второй", "Текст", List.of("New", "Shared", "New")));
+
+        assertThat(created.tags()).containsExactly("New", "Shared");
+        Integer sharedTags = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tag WHERE name = ?", Integer.class, "Shared");
+        assertThat(sharedTags).isOne();
+        Integer postTags = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_tag WHERE post_id = ?", Integer.class, created.id());
+        assertThat(postTags).isEqualTo(2);
+        assertThat(postRepository.getTagsForPost(created.id())).containsExactlyInAnyOrder("New", "Shared");
+    }
+
+    /**
+     * Создаёт два поста параллельно с одним и тем же новым тегом и проверяет,
+     * что тег создан один раз, а оба поста привязаны к нему и возвращают его в ответе.
+     */
+    @Test
+    @DisplayName("Параллельное создание постов с общим новым тегом")
+    void testConcurrentCreatePostsWithSharedNewTagTest() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<PostResponseDto>> futures = List.of("Первый", "Второй").stream()
+                    .map(title -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            barrier.await(5, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return postRepository.createPost(
+                                new PostCreateRequestDto(title, "Текст", List.of("Concurrent", "Own-" + title)));
+                    }, executor))
+                    .toList();
+
+            for (CompletableFuture<PostResponseDto> future : futures) {
+                PostResponseDto created = future.get(30, TimeUnit.SECONDS);
+                assertThat(created.tags()).containsExactly("Concurrent", "Own-" + created.title());
+                assertThat(postRepository.getTagsForPost(created.id()))
+                        .containsExactlyInAnyOrder("Concurrent", "Own-" + created.title());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer sharedTags = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tag WHERE name = ?", Integer.class, "Concurrent");
+        assertThat(sharedTags).isOne();
+        Integer sharedLinks = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_tag pt JOIN tag t ON t.id = pt.tag_id WHERE t.name = ?",
+                Integer.class, "Concurrent");
+        assertThat(sharedLinks).isEqualTo(2);
+    }
+
     /**
      * Обновляет существующий пост через репозиторий и
      * проверяет корректность обновлённого заголовка и текста.
@@ -125,6 +195,69 @@ public class PostRepositoryIntegrationTest extends TestDataProvider {
         assertThat(updated.text()).isEqualTo("Обновлённый текст");
     }
 
+    /**
+     * Обновляет теги поста и проверяет, что связь с оставшимся тегом не пересоздаётся,
+     * лишний тег отвязан, а новый привязан.
+     */
+    @Test
+    @DisplayName("Обновление тегов поста изменяет только отличающиеся связи")
+    void testUpdatePostTagsDiffTest() {
+        PostResponseDto created = postRepository.createPost(
+                new PostCreateRequestDto("Пост", "Текст", List.of("Keep", "Drop")));
+        String keptLinkCtid = jdbcTemplate.queryForObject(
+                "SELECT pt.ctid::text FROM post_tag pt JOIN tag t ON t.id = pt.tag_id "
+                        + "WHERE pt.post_id = ? AND t.name = 'Keep'", String.class, created.id());
+
+        PostResponseDto updated = postRepository.updatePost(
+                new PostRequestDto(created.id(), "Пост", "Текст", List.of("Keep", "Add")));
+
+        assertThat(updated.tags()).containsExactly("Keep", "Add");
+        assertThat(postRepository.getTagsForPost(created.id())).containsExactlyInAnyOrder("Keep", "Add");
+        String keptLinkCtidAfter = jdbcTemplate.queryForObject(
+                "SELECT pt.ctid::text FROM post_tag pt JOIN tag t ON t.id = pt.tag_id "
+                        + "WHERE pt.post_id = ? AND t.name = 'Keep'", String.class, created.id());
+        assertThat(keptLinkCtidAfter).isEqualTo(keptLinkCtid);
+    }
+
+    /**
+     * Параллельно добавляет один и тот же новый тег двум постам и проверяет,
+     * что тег создан один раз, а ответы содержат фактически привязанные теги.
+     */
+    @Test
+    @DisplayName("Параллельное обновление тегов постов общим новым тегом")
+    void testConcurrentUpdatePostTagsWithSharedNewTagTest() throws Exception {
+        List<PostResponseDto> posts = List.of(
+                postRepository.createPost(new PostCreateRequestDto("Первый", "Текст", List.of("Base"))),
+                postRepository.createPost(new PostCreateRequestDto("Второй", "Текст", List.of("Base"))));
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<CompletableFuture<PostResponseDto>> futures = posts.stream()
+                    .map(post -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            barrier.await(5, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return postRepository.updatePost(
+                                new PostRequestDto(post.id(), post.title(), "Текст", List.of("Added", "Base")));
+                    }, executor))
+                    .toList();
+
+            for (CompletableFuture<PostResponseDto> future : futures) {
+                PostResponseDto updated = future.get(30, TimeUnit.SECONDS);
+                assertThat(updated.tags()).containsExactly("Added", "Base");
+                assertThat(postRepository.getTagsForPost(updated.id())).containsExactlyInAnyOrder("Added", "Base");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer addedTags = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tag WHERE name = ?", Integer.class, "Added");
+        assertThat(addedTags).isOne();
+    }
+
     /**
      * Удаляет существующий пост через репозиторий и проверяет,
      * что запись удалена из базы данных.
@@ -182,9 +315,49 @@ public class PostRepositoryIntegrationTest extends TestDataProvider {
     void testIncrementLikesExistingTest() {
         postRepository.incrementLikes(1L);
 
+        assertThat(postRepository.getLikesCount(1L)).isEqualTo(1);
+    }
+
+    /**
+     * Сворачивает шарды лайков и проверяет, что лайки перенесены в post.likes_count,
+     * а строки шардов удалены.
+     */
+    @Test
+    @DisplayName("Сворачивание шардов лайков в счётчик поста")
+    void testFoldLikeShardsTest() {
+        postRepository.incrementLikes(1L);
+        postRepository.incrementLikes(1L);
+        postRepository.incrementLikes(1L);
+
+        int folded = postRepository.foldLikeShards(1000);
+
         Integer likesCount = jdbcTemplate.queryForObject(
                 "SELECT likes_count FROM post WHERE id = ?", Integer.class, 1L);
-        assertThat(likesCount).isEqualTo(1);
+        Integer shards = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_like_shard WHERE post_id = ?", Integer.class, 1L);
+        assertThat(folded).isPositive();
+        assertThat(likesCount).isEqualTo(3);
+        assertThat(shards).isZero();
+        assertThat(postRepository.getLikesCount(1L)).isEqualTo(3);
+    }
+
+    /**
+     * Применяет пакет лайков дважды с одним ключом идемпотентности и проверяет,
+     * что лайки учтены один раз, а несуществующий пост пропущен.
+     */
+    @Test
+    @DisplayName("Повторный пакет лайков с тем же ключом не учитывается дважды")
+    void testApplyLikeBatchIdempotentTest() {
+        Map<Long, Integer> likes = Map.of(1L, 3, 2L, 2, 999L, 1);
+
+        LikeBatchResponseDto first = postRepository.applyLikeBatch("key-1", likes);
+        LikeBatchResponseDto second = postRepository.applyLikeBatch("key-1", likes);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(first.likes()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3, 2L, 2));
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.likes()).isEqualTo(first.likes());
+        assertThat(postRepository.getLikesCount(1L)).isEqualTo(3);
     }
 
     /**
@@ -0,0 +1,149 @@
+package io.github.habatoo.services;
+
+import io.github.habatoo.Application;
+import io.github.habatoo.dto.request.CommentCreateRequestDto;
+import io.github.habatoo.dto.request.PostCreateRequestDto;
+import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.service.CacheInvalidationBus;
+import io.github.habatoo.service.CacheInvalidationListener;
+import io.github.habatoo.service.CommentService;
+import io.github.habatoo.service.ImageService;
+import io.github.habatoo.service.PostService;
+import io.github.habatoo.service.impl.CacheInvalidationListenerImpl;
+import io.github.habatoo.utils.TestDataProvider;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Интеграционные тесты сброса кэшей между узлами через LISTEN/NOTIFY PostgreSQL.
+ * <p>
+ * Второй узел запускается отдельным контекстом приложения с той же базой данных.
+ * Изменения выполняются через сервисы первого узла, а проверяется, что второй узел
+ * перестаёт отдавать данные из своих кэшей и видит изменения.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(classes = Application.class, properties = "app.comments.cache.enabled=true")
+@DisplayName("Интеграционные тесты сброса кэшей между узлами")
+class CacheInvalidationIntegrationTest extends TestDataProvider {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+    private static final byte[] JPEG_HEADER = new byte[]{
+            (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0x00, 0x10,
+            'J', 'F', 'I', 'F', 0x00, 0x01, 0x01, 0x00, 0x00, 0x01, 0x00, 0x01, 0x00, 0x00
+    };
+
+    private static ConfigurableApplicationContext secondNode;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    /**
+     * Пересоздаёт базу, при первом запуске поднимает второй узел и ждёт его подписки на канал.
+     * База пересоздаётся без уведомлений, поэтому кэши второго узла после подготовки данных сбрасываются.
+     */
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        flyway.clean();
+        flyway.migrate();
+        if (secondNode == null) {
+            secondNode = new SpringApplicationBuilder(Application.class)
+                    .profiles("test")
+                    .properties("server.port=0", "spring.flyway.enabled=false", "app.comments.cache.enabled=true")
+                    .run();
+        }
+        String secondNodeId = secondNode.getBean(CacheInvalidationBus.class).nodeId();
+        awaitTrue(() -> isListening(secondNodeId));
+        preparePostAndComments(postService, commentService);
+        secondNode.getBean(CacheInvalidationListener.class).invalidateAll();
+    }
+
+    @AfterAll
+    static void stopSecondNode() {
+        if (secondNode != null) {
+            secondNode.close();
+            secondNode = null;
+        }
+    }
+
+    @Test
+    @DisplayName("Пост, созданный на одном узле, должен находиться на другом узле")
+    void shouldFindPostCreatedOnOtherNodeTest() throws InterruptedException {
+        PostService secondPostService = secondNode.getBean(PostService.class);
+
+        PostResponseDto created = postService.createPost(
+                new PostCreateRequestDto("Пост первого узла", "Текст поста", List.of("cluster")));
+
+        awaitTrue(() -> secondPostService.getPostById(created.id()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Комментарий, созданный на одном узле, должен сбрасывать кэш комментариев другого узла")
+    void shouldEvictCommentsCachedOnOtherNodeTest() throws InterruptedException {
+        CommentService secondCommentService = secondNode.getBean(CommentService.class);
+        assertThat(secondCommentService.getCommentsByPostId(1L, null, null).comments()).hasSize(2);
+
+        commentService.createComment(new CommentCreateRequestDto(1L, "Комментарий первого узла"));
+
+        awaitTrue(() -> secondCommentService.getCommentsByPostId(1L, null, null).comments().size() == 3);
+    }
+
+    @Test
+    @DisplayName("Изображение, загруженное на одном узле, должно сбрасывать метаданные на другом узле")
+    void shouldEvictImageMetadataCachedOnOtherNodeTest() throws InterruptedException {
+        ImageService secondImageService = secondNode.getBean(ImageService.class);
+        assertThat(secondImageService.getPostImage(1L).mediaType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM);
+
+        imageService.updatePostImage(1L, new MockMultipartFile("image", "example.jpg", "image/jpeg", JPEG_HEADER));
+
+        awaitTrue(() -> MediaType.IMAGE_JPEG.equals(secondImageService.getPostImage(1L).mediaType()));
+    }
+
+    private boolean isListening(String nodeId) {
+        Integer sessions = jdbcTemplate.queryForObject(
+                """
+                        SELECT COUNT(*) FROM pg_stat_activity
+                        WHERE application_name = ? AND query = 'LISTEN blog_cache_invalidation'
+                        """,
+                Integer.class,
+                CacheInvalidationListenerImpl.APPLICATION_NAME_PREFIX + nodeId);
+
+        return sessions != null && sessions > 0;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("Условие не выполнено за %s", AWAIT_TIMEOUT).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -72,7 +72,7 @@ class CommentServiceIntegrationTest extends TestDataProvider {
 
         assertThat(saved.id()).isPositive();
         assertThat(saved.text()).isEqualTo("Новый комментарий");
-        List<CommentResponseDto> comments = commentService.getCommentsByPostId(postId);
+        List<CommentResponseDto> comments = commentService.getCommentsByPostId(postId, null, null).comments();
 
         assertThat(comments).isNotEmpty();
         assertThat(comments).anyMatch(c -> c.text().equals("Новый комментарий"));
@@ -95,7 +95,7 @@ class CommentServiceIntegrationTest extends TestDataProvider {
 
         assertThat(edited.id()).isPositive();
         assertThat(edited.text()).isEqualTo("Обновленный комментарий");
-        List<CommentResponseDto> updatedComments = commentService.getCommentsByPostId(1L);
+        List<CommentResponseDto> updatedComments = commentService.getCommentsByPostId(1L, null, null).comments();
 
         assertThat(updatedComments).isNotEmpty();
         assertThat(updatedComments).anyMatch(c -> c.text().equals("Обновленный комментарий"));
@@ -116,7 +116,7 @@ class CommentServiceIntegrationTest extends TestDataProvider {
         Integer after = jdbcTemplate.queryForObject("SELECT comments_count FROM post WHERE id = ?", Integer.class, 1L);
 
         assertThat(after).isEqualTo(before - 1);
-        assertThat(commentService.getCommentsByPostId(1L)).allMatch(c -> !c.id().equals(saved.id()));
+        assertThat(commentService.getCommentsByPostId(1L, null, null).comments()).allMatch(c -> !c.id().equals(saved.id()));
     }
 
     /**
@@ -129,7 +129,7 @@ class CommentServiceIntegrationTest extends TestDataProvider {
     @DisplayName("При отсутствии комментариев для поста возвращается пустой список")
     void testGetCommentsNonExistingPostTest() {
         Long nonExistingPostId = 999L;
-        List<CommentResponseDto> result = commentService.getCommentsByPostId(nonExistingPostId);
+        List<CommentResponseDto> result = commentService.getCommentsByPostId(nonExistingPostId, null, null).comments();
         assertNotNull(result, "Результат не должен быть null");
         assertTrue(result.isEmpty(), "Список должен быть пустым, если комментарии не найдены");
     }
@@ -3,12 +3,16 @@ package io.github.habatoo.services;
 import io.github.habatoo.Application;
 import io.github.habatoo.dto.request.PostCreateRequestDto;
 import io.github.habatoo.dto.request.PostRequestDto;
+import io.github.habatoo.dto.response.PostImportResultDto;
 import io.github.habatoo.dto.response.PostListResponseDto;
 import io.github.habatoo.dto.response.PostResponseDto;
+import io.github.habatoo.dto.response.PostRevisionSummaryDto;
 import io.github.habatoo.repositories.PostRepository;
 import io.github.habatoo.repositories.mapper.PostListRowMapper;
 import io.github.habatoo.service.CommentService;
 import io.github.habatoo.service.FileStorageService;
+import io.github.habatoo.service.PostImportService;
+import io.github.habatoo.service.PostRevisionService;
 import io.github.habatoo.service.PostService;
 import io.github.habatoo.utils.TestDataProvider;
 import org.flywaydb.core.Flyway;
@@ -19,18 +23,23 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Интеграционные тесты PostServiceImpl.
@@ -54,6 +63,12 @@ class PostServiceIntegrationTest extends TestDataProvider {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostImportService postImportService;
+
+    @Autowired
+    private PostRevisionService postRevisionService;
+
     @Autowired
     private FileStorageService fileStorageService;
 
@@ -167,6 +182,47 @@ class PostServiceIntegrationTest extends TestDataProvider {
         assertThat(cached.get().title()).isEqualTo("Updated Title");
     }
 
+    /**
+     * Проверяет сохранение версий поста дельтами и восстановление первой версии.
+     */
+    @Test
+    @DisplayName("История версий поста")
+    void testPostRevisionsTest() {
+        String original = postService.getPostById(1L).orElseThrow().text();
+        String longText = "Длинный текст поста в формате Markdown. ".repeat(100);
+        postService.updatePost(new PostRequestDto(1L, "Title", longText, List.of("tag0")));
+        postService.updatePost(new PostRequestDto(1L, "Title", longText + "Дополнение.", List.of("tag0")));
+
+        List<PostRevisionSummaryDto> revisions = postRevisionService.getRevisions(1L);
+
+        assertThat(revisions).extracting(PostRevisionSummaryDto::revision).containsExactly(3, 2, 1);
+        assertThat(revisions.getFirst().snapshot()).isFalse();
+        assertThat(revisions.getFirst().storedBytes() * 20).isLessThan(revisions.getFirst().textBytes());
+        assertThat(postRevisionService.getRevision(1L, 3).text()).isEqualTo(longText + "Дополнение.");
+        assertThat(postRevisionService.getRevision(1L, 1).text()).isEqualTo(original);
+    }
+
+    /**
+     * Проверяет частичное обновление поста правками текста и конфликт при устаревшей версии текста.
+     */
+    @Test
+    @DisplayName("Частичное обновление поста правками текста")
+    void testPatchPostTextDiffTest() {
+        PostResponseDto post = postService.updatePost(new PostRequestDto(1L, "Title", "Hello world", List.of("tag0")));
+        String baseMd5 = jdbcTemplate.queryForObject("SELECT md5(text) FROM post WHERE id = 1", String.class);
+        Map<String, Object> patch = Map.of("textDiff", Map.of(
+                "baseMd5", baseMd5,
+                "edits", List.of(Map.of("offset", 6, "delete", 5, "insert", "blog"))));
+
+        PostResponseDto patched = postService.patchPost(post.id(), patch);
+
+        assertThat(patched.text()).isEqualTo("Hello blog");
+        assertThat(patched.title()).isEqualTo("Title");
+        assertThat(patched.tags()).containsExactly("tag0");
+        assertThatThrownBy(() -> postService.patchPost(post.id(), patch))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
     /**
      * Проверяет удаление поста, а также удаление директории файла.
      */
@@ -234,6 +290,36 @@ class PostServiceIntegrationTest extends TestDataProvider {
         assertThat(after).isEqualTo(Math.max(0, before - 1));
     }
 
+    /**
+     * Проверяет массовый импорт постов с тегами и пропуском невалидных строк.
+     */
+    @Test
+    @DisplayName("Импорт постов из NDJSON")
+    void testImportPostsTest() {
+        String ndjson = """
+                {"title":"Импорт 1","text":"Текст, с \\"кавычками\\"","tags":["imported","java"]}
+                {"title":"","text":"Без заголовка"}
+                {"title":"Импорт 2","text":"Текст 2","tags":["imported"]}
+                """;
+        Long postsBefore = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post", Long.class);
+
+        PostImportResultDto result = postImportService.importPosts(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.tagLinks()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post", Long.class))
+                .isEqualTo(postsBefore + 2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_import", Long.class)).isZero();
+
+        Long importedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM post WHERE title = 'Импорт 1'", Long.class);
+        PostResponseDto imported = postService.getPostById(importedId).orElseThrow();
+        assertThat(imported.text()).isEqualTo("Текст, с \"кавычками\"");
+        assertThat(imported.tags()).containsExactlyInAnyOrder("imported", "java");
+    }
+
     /**
      * Удаление тестовых директорий.
      *
@@ -0,0 +1,71 @@
+package io.github.habatoo.cli;
+
+import io.github.habatoo.dto.response.PostImportResultDto;
+import io.github.habatoo.service.PostImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Запуск импорта постов из командной строки.
+ *
+ * <p>Если приложение запущено с аргументом {@code --import-file=<путь>}, импортирует посты
+ * из указанного NDJSON файла и завершает работу приложения. Без аргумента ничего не делает.</p>
+ *
+ * <p>Для импорта приложение запускается без веб-сервера (см. {@link #isImportRequested(String[])}),
+ * поэтому импорт не открывает HTTP порт и не конфликтует с работающим экземпляром.</p>
+ */
+@Slf4j
+@Component
+public class PostImportRunner implements ApplicationRunner {
+
+    private static final String IMPORT_FILE_OPTION = "import-file";
+
+    private final PostImportService postImportService;
+    private final ConfigurableApplicationContext context;
+
+    public PostImportRunner(PostImportService postImportService, ConfigurableApplicationContext context) {
+        this.postImportService = postImportService;
+        this.context = context;
+    }
+
+    /**
+     * Проверяет, запрошен ли импорт постов аргументами командной строки.
+     *
+     * @param args аргументы командной строки
+     * @return {@code true}, если передан аргумент {@code --import-file}
+     */
+    public static boolean isImportRequested(String[] args) {
+        return new DefaultApplicationArguments(args).containsOption(IMPORT_FILE_OPTION);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> files = args.getOptionValues(IMPORT_FILE_OPTION);
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+
+        Path file = Path.of(files.getFirst());
+        log.info("Импорт постов из файла {}", file);
+        try (InputStream ndjson = Files.newInputStream(file)) {
+            PostImportResultDto result = postImportService.importPosts(ndjson);
+            log.info("Импорт из файла {} завершён: {}", file, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read import file " + file, e);
+        }
+
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,13 @@
+-- Шарды счётчика лайков
+CREATE TABLE IF NOT EXISTS post_like_shard (
+    post_id BIGINT NOT NULL,
+    shard SMALLINT NOT NULL,
+    count INTEGER DEFAULT 0 NOT NULL,
+    PRIMARY KEY (post_id, shard),
+    FOREIGN KEY (post_id) REFERENCES post(id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE post_like_shard IS 'Шарды счётчика лайков поста. Лайк увеличивает случайный шард, чтобы конкурентные лайки не блокировали одну строку post; шарды периодически сворачиваются в post.likes_count';
+COMMENT ON COLUMN post_like_shard.post_id IS 'Внешний ключ на таблицу post, идентификатор поста';
+COMMENT ON COLUMN post_like_shard.shard IS 'Номер шарда от 0 до app.likes.shards.count - 1';
+COMMENT ON COLUMN post_like_shard.count IS 'Количество лайков в шарде, ещё не свёрнутых в post.likes_count';
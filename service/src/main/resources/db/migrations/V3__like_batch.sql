@@ -0,0 +1,11 @@
+-- Ключи идемпотентности пакетов лайков
+CREATE TABLE IF NOT EXISTS like_batch (
+    idempotency_key VARCHAR(128) PRIMARY KEY,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_like_batch_created_at ON like_batch (created_at);
+
+COMMENT ON TABLE like_batch IS 'Ключи идемпотентности применённых пакетов лайков. Повторная отправка пакета с тем же ключом не увеличивает счётчики повторно';
+COMMENT ON COLUMN like_batch.idempotency_key IS 'Ключ идемпотентности, сгенерированный клиентом, максимальная длина 128 символов';
+COMMENT ON COLUMN like_batch.created_at IS 'Дата и время применения пакета, используется для удаления устаревших ключей';
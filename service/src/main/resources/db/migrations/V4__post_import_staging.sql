@@ -0,0 +1,18 @@
+-- Промежуточная таблица массового импорта постов
+CREATE UNLOGGED TABLE IF NOT EXISTS post_import (
+    import_id UUID NOT NULL,
+    seq BIGINT NOT NULL,
+    post_id BIGINT,
+    title VARCHAR(500) NOT NULL,
+    text TEXT NOT NULL,
+    tags VARCHAR(100)[] DEFAULT '{}' NOT NULL,
+    PRIMARY KEY (import_id, seq)
+);
+
+COMMENT ON TABLE post_import IS 'Нежурналируемая промежуточная таблица массового импорта постов. Заполняется через COPY и после переноса в post, tag и post_tag очищается';
+COMMENT ON COLUMN post_import.import_id IS 'Идентификатор запуска импорта';
+COMMENT ON COLUMN post_import.seq IS 'Порядковый номер поста во входном потоке';
+COMMENT ON COLUMN post_import.post_id IS 'Идентификатор, выделенный посту при переносе в таблицу post';
+COMMENT ON COLUMN post_import.title IS 'Заголовок импортируемого поста';
+COMMENT ON COLUMN post_import.text IS 'Текст импортируемого поста в формате Markdown';
+COMMENT ON COLUMN post_import.tags IS 'Имена тегов импортируемого поста';
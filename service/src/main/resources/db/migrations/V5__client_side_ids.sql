@@ -0,0 +1,10 @@
+-- Идентификаторы постов и комментариев выделяет приложение (по умолчанию Snowflake, 53 бита).
+-- Identity последовательности сохраняются для стратегии sequence и записей, вставленных без идентификатора,
+-- но ограничиваются значением 2^40 - 1: идентификаторы Snowflake больше этого значения, поэтому диапазоны
+-- не пересекаются, а существующие идентификаторы остаются без изменений и меньше новых.
+ALTER TABLE post ALTER COLUMN id SET MAXVALUE 1099511627775;
+ALTER TABLE comment ALTER COLUMN id SET MAXVALUE 1099511627775;
+
+COMMENT ON COLUMN post.id IS 'Уникальный идентификатор поста: идентификатор Snowflake или значение identity последовательности не больше 2^40 - 1';
+COMMENT ON COLUMN comment.id IS 'Уникальный идентификатор комментария: идентификатор Snowflake или значение identity последовательности не больше 2^40 - 1';
+COMMENT ON COLUMN post_import.post_id IS 'Идентификатор поста, выделенный приложением при загрузке в промежуточную таблицу';
@@ -0,0 +1,25 @@
+-- История версий постов с дельта-сжатием
+CREATE TABLE IF NOT EXISTS post_revision (
+    post_id BIGINT NOT NULL REFERENCES post(id) ON DELETE CASCADE,
+    revision INTEGER NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    snapshot BOOLEAN NOT NULL,
+    data BYTEA NOT NULL,
+    text_bytes INTEGER NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (post_id, revision)
+);
+
+COMMENT ON TABLE post_revision IS 'Версии постов. Текст версии хранится дельтой относительно предыдущей версии, каждая N-я версия - полным снимком';
+COMMENT ON COLUMN post_revision.post_id IS 'Идентификатор поста, ссылка на post.id';
+COMMENT ON COLUMN post_revision.revision IS 'Номер версии поста, начиная с 1';
+COMMENT ON COLUMN post_revision.title IS 'Заголовок поста в этой версии';
+COMMENT ON COLUMN post_revision.snapshot IS 'Признак полного снимка: data содержит текст целиком, а не дельту';
+COMMENT ON COLUMN post_revision.data IS 'Текст версии в UTF-8 для снимка или двоичная дельта относительно текста предыдущей версии';
+COMMENT ON COLUMN post_revision.text_bytes IS 'Размер текста версии в UTF-8 в байтах';
+COMMENT ON COLUMN post_revision.created_at IS 'Дата и время сохранения версии';
+
+-- Первая версия существующих постов - полный снимок их текущего состояния
+INSERT INTO post_revision (post_id, revision, title, snapshot, data, text_bytes, created_at)
+SELECT id, 1, title, TRUE, convert_to(text, 'UTF8'), octet_length(text), updated_at
+FROM post;
@@ -0,0 +1,5 @@
+-- Составной индекс для постраничного чтения комментариев поста по ключу (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_comment_post_created_id ON comment (post_id, created_at, id);
+
+-- Поиск по post_id обслуживается префиксом составного индекса
+DROP INDEX IF EXISTS idx_comment_post_id;
@@ -0,0 +1,16 @@
+-- Ветки ответов на комментарии с материализованным путём
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS parent_id BIGINT;
+ALTER TABLE comment ADD COLUMN IF NOT EXISTS path TEXT COLLATE "C";
+
+COMMENT ON COLUMN comment.parent_id IS 'Идентификатор комментария, на который дан ответ; NULL для комментария верхнего уровня. Ответы удаляются вместе с комментарием по диапазону пути, поэтому внешний ключ не нужен';
+COMMENT ON COLUMN comment.path IS 'Материализованный путь: идентификаторы комментариев от корня ветки до текущего, каждый в 16 шестнадцатеричных цифрах. Сортировка по пути даёт ветку в порядке обхода в глубину';
+
+-- Существующие комментарии становятся комментариями верхнего уровня
+UPDATE comment SET path = lpad(to_hex(id), 16, '0') WHERE path IS NULL;
+ALTER TABLE comment ALTER COLUMN path SET NOT NULL;
+
+-- Ветка или несколько веток подряд читаются одним упорядоченным диапазоном по пути
+CREATE INDEX IF NOT EXISTS idx_comment_post_path ON comment (post_id, path);
+
+-- Постраничный перебор комментариев верхнего уровня без просмотра ответов
+CREATE INDEX IF NOT EXISTS idx_comment_post_root_path ON comment (post_id, path) WHERE parent_id IS NULL;